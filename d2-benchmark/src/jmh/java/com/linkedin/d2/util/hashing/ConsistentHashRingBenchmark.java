@@ -38,10 +38,13 @@ import java.util.stream.IntStream;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 
@@ -283,7 +286,60 @@ public class ConsistentHashRingBenchmark {
     return state._ringFull.get(state._key);
   }
 
+  /**
+   * Alternates between two memberships of 1000 hosts that differ by the given percentage of hosts, as when hosts
+   * are restarted or replaced.
+   */
+  @State(Scope.Benchmark)
+  public static class RingRebuild_1000Hosts_State {
+    @Param({"pointBased", "multiProbe"})
+    String _hashingAlgorithm;
+
+    @Param({"1", "10"})
+    int _churnPercent;
+
+    Map<URI, Integer> _pointsMap;
+    Map<URI, Integer> _churnedPointsMap;
+    RingFactory<URI> _fullFactory;
+    RingFactory<URI> _incrementalFactory;
+    Ring<URI> _incrementalRing;
+    boolean _churned;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      _pointsMap = buildPointsMap(1000, 100);
+      _churnedPointsMap = new HashMap<>(_pointsMap);
+      int churnedHosts = 1000 * _churnPercent / 100;
+      for (int i = 0; i < churnedHosts; i++) {
+        _churnedPointsMap.remove(URI.create(String.format("app-%04d.linkedin.com", i)));
+        _churnedPointsMap.put(URI.create(String.format("app-%04d.linkedin.com", 1000 + i)), 100);
+      }
+      _fullFactory = new DelegatingRingFactory<>(getConfig(_hashingAlgorithm, 21, 1));
+      _incrementalFactory = new DelegatingRingFactory<>(getConfig(_hashingAlgorithm, 21, 1));
+      _incrementalRing = _incrementalFactory.createRing(_pointsMap, Collections.emptyMap());
+    }
+
+    Map<URI, Integer> nextPointsMap() {
+      _churned = !_churned;
+      return _churned ? _churnedPointsMap : _pointsMap;
+    }
+  }
 
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public Ring<URI> measureRingRebuild_1000Hosts_full(RingRebuild_1000Hosts_State state) {
+    return state._fullFactory.createRing(state.nextPointsMap(), Collections.emptyMap());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public Ring<URI> measureRingRebuild_1000Hosts_incremental(RingRebuild_1000Hosts_State state) {
+    state._incrementalRing = state._incrementalFactory.updateRing(state._incrementalRing, state.nextPointsMap(),
+        Collections.emptyMap());
+    return state._incrementalRing;
+  }
 
   private static Map<URI, Integer> buildPointsMap(int numHosts, int numPointsPerHost) {
     return IntStream.range(0, numHosts).boxed().collect(
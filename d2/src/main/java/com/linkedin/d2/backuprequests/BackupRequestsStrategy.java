@@ -30,6 +30,10 @@ import java.util.Optional;
  * {@link #recordCompletion(long)} method.</li>
  * </ol>
  * <p>
+ * Requests that stand for more than one unit of work, e.g. batch requests, can be accounted for by their cost
+ * through {@link #getTimeUntilBackupRequestNano(int)} and {@link #isBackupRequestAllowed(int)}. Strategies that
+ * do not budget by cost treat them as single requests.
+ * <p>
  * Implementation of {@code BackupRequestsStrategy} has to be thread safe and can be instantiated multiple times
  * whenever backup requests configuration is changed.
  *
@@ -43,6 +47,16 @@ public interface BackupRequestsStrategy
    */
   Optional<Long> getTimeUntilBackupRequestNano();
 
+  /**
+   * Same as {@link #getTimeUntilBackupRequestNano()} for a request of the given cost.
+   * @param cost number of units of work the request stands for, e.g. the number of keys in a batch request
+   * @return time to wait before sending a backup requests in nanoseconds
+   */
+  default Optional<Long> getTimeUntilBackupRequestNano(int cost)
+  {
+    return getTimeUntilBackupRequestNano();
+  }
+
   /**
    * Records request's response time. This is an information that feeds backup requests strategy.
    * @param responseTime response time in nanoseconds
@@ -57,4 +71,14 @@ public interface BackupRequestsStrategy
    * @return true if backup request is supposed to be made
    */
   boolean isBackupRequestAllowed();
+
+  /**
+   * Same as {@link #isBackupRequestAllowed()} for a backup request of the given cost.
+   * @param cost number of units of work the backup request stands for, e.g. the number of keys in a batch request
+   * @return true if backup request is supposed to be made
+   */
+  default boolean isBackupRequestAllowed(int cost)
+  {
+    return isBackupRequestAllowed();
+  }
 }
@@ -30,6 +30,9 @@ import com.linkedin.d2.balancer.util.BurstyBarrier;
  * <p>
  * For discussion about {@code percent} and {@code maxBurst} parameters see {@link BurstyBarrier} class.
  * <p>
+ * The cost of a request is accounted for in units, e.g. a batch request of N keys arrives as N units and its backup
+ * request needs N units of the budget. A backup request that costs more than {@code maxBurst} units is never made.
+ * <p>
  * This class is thread safe.
  *
  * @author Jaroslaw Odzga (jodzga@linkedin.com)
@@ -101,13 +104,25 @@ public class BoundedCostBackupRequestsStrategy implements BackupRequestsStrategy
   @Override
   public boolean isBackupRequestAllowed()
   {
-    return _costLimiter.canPassThrough();
+    return isBackupRequestAllowed(1);
+  }
+
+  @Override
+  public boolean isBackupRequestAllowed(int cost)
+  {
+    return _costLimiter.canPassThrough(Math.max(1, cost));
   }
 
   @Override
   public Optional<Long> getTimeUntilBackupRequestNano()
   {
-    _costLimiter.arrive();
+    return getTimeUntilBackupRequestNano(1);
+  }
+
+  @Override
+  public Optional<Long> getTimeUntilBackupRequestNano(int cost)
+  {
+    _costLimiter.arrive(Math.max(1, cost));
 
     synchronized (_lock)
     {
@@ -56,6 +56,14 @@ public class TrackingBackupRequestsStrategy implements BackupRequestsStrategy, B
     return delay;
   }
 
+  @Override
+  public Optional<Long> getTimeUntilBackupRequestNano(int cost)
+  {
+    final Optional<Long> delay = _delegate.getTimeUntilBackupRequestNano(cost);
+    delay.ifPresent(this::recordDelay);
+    return delay;
+  }
+
   private void recordDelay(long delay)
   {
     while (true)
@@ -86,6 +94,17 @@ public class TrackingBackupRequestsStrategy implements BackupRequestsStrategy, B
     return allowed;
   }
 
+  @Override
+  public boolean isBackupRequestAllowed(int cost)
+  {
+    final boolean allowed = _delegate.isBackupRequestAllowed(cost);
+    if (allowed)
+    {
+      _totalAllowedCount.increment();
+    }
+    return allowed;
+  }
+
   public void backupRequestSuccess()
   {
     _totalSuccessCount.increment();
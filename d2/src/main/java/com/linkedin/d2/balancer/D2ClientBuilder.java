@@ -309,7 +309,8 @@ public class D2ClientBuilder
       }
       d2Client = new BackupRequestsClient(d2Client, loadBalancer, executor,
           _config.backupRequestsStrategyStatsConsumer, _config.backupRequestsLatencyNotificationInterval,
-          _config.backupRequestsLatencyNotificationIntervalUnit, _config.enableBackupRequestsClientAsync);
+          _config.backupRequestsLatencyNotificationIntervalUnit, _config.enableBackupRequestsClientAsync,
+          _config.backupRequestsMaxStreamingBufferBytes);
     }
 
     if (_config.retry)
@@ -581,6 +582,12 @@ public class D2ClientBuilder
     return this;
   }
 
+  public D2ClientBuilder setBackupRequestsMaxStreamingBufferBytes(int backupRequestsMaxStreamingBufferBytes)
+  {
+    _config.backupRequestsMaxStreamingBufferBytes = backupRequestsMaxStreamingBufferBytes;
+    return this;
+  }
+
   public D2ClientBuilder setRetryLimit(int retryLimit)
   {
     _config.retryLimit = retryLimit;
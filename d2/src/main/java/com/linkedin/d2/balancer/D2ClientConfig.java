@@ -156,6 +156,11 @@ public class D2ClientConfig
   TimeUnit backupRequestsLatencyNotificationIntervalUnit = TimeUnit.MINUTES;
   // TODO: Once the change is fully verified, we should always enable the async feature
   boolean enableBackupRequestsClientAsync = false;
+  /**
+   * Maximum number of bytes of a stream request's entity retained to replay it into a backup request. 0 disables
+   * backup requests for streams that are not marked as full requests.
+   */
+  int backupRequestsMaxStreamingBufferBytes = 0;
   EventEmitter eventEmitter = null;
   public PartitionAccessorRegistry partitionAccessorRegistry = null;
   public Map<String, LoadBalancerStrategyFactory<? extends LoadBalancerStrategy>> loadBalancerStrategyFactories = Collections.emptyMap();
@@ -139,6 +139,10 @@ public interface KeyMapper
   {
     private static final String TARGET_HOST_KEY_NAME = "D2-KeyMapper-TargetHost";
     private static final String OTHER_HOST_ACCEPTABLE = "Other-Host-Acceptable";
+    private static final RequestContext.Key<URI> TARGET_HOST_KEY =
+        RequestContext.Key.register(TARGET_HOST_KEY_NAME, URI.class);
+    private static final RequestContext.Key<Boolean> OTHER_HOST_ACCEPTABLE_KEY =
+        RequestContext.Key.register(OTHER_HOST_ACCEPTABLE, Boolean.class);
 
     /**
      * Inserts a hint in RequestContext instructing D2 to bypass normal hashing behavior
@@ -149,7 +153,7 @@ public interface KeyMapper
      */
     public static void setRequestContextTargetHost(RequestContext context, URI targetHost)
     {
-      context.putLocalAttr(TARGET_HOST_KEY_NAME, targetHost);
+      context.putLocalAttr(TARGET_HOST_KEY, targetHost);
     }
 
     /**
@@ -160,7 +164,7 @@ public interface KeyMapper
      */
     public static URI getRequestContextTargetHost(RequestContext context)
     {
-      return (URI)context.getLocalAttr(TARGET_HOST_KEY_NAME);
+      return context.getLocalAttr(TARGET_HOST_KEY);
     }
 
     /**
@@ -171,7 +175,7 @@ public interface KeyMapper
      */
     public static URI removeRequestContextTargetHost(RequestContext context)
     {
-      return (URI)context.removeLocalAttr(TARGET_HOST_KEY_NAME);
+      return context.removeLocalAttr(TARGET_HOST_KEY);
     }
 
     /**
@@ -184,7 +188,7 @@ public interface KeyMapper
      */
     public static void setRequestContextOtherHostAcceptable(RequestContext context, boolean acceptable)
     {
-      context.putLocalAttr(OTHER_HOST_ACCEPTABLE, acceptable);
+      context.putLocalAttr(OTHER_HOST_ACCEPTABLE_KEY, acceptable);
     }
 
     /**
@@ -194,7 +198,7 @@ public interface KeyMapper
      */
     public static Boolean getRequestContextOtherHostAcceptable(RequestContext context)
     {
-      return (Boolean) context.getLocalAttr(OTHER_HOST_ACCEPTABLE);
+      return context.getLocalAttr(OTHER_HOST_ACCEPTABLE_KEY);
     }
   }
 }
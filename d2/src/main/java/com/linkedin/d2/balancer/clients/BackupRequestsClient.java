@@ -43,6 +43,8 @@ import com.linkedin.r2.message.stream.StreamResponse;
 import com.linkedin.r2.message.stream.entitystream.ByteStringWriter;
 import com.linkedin.r2.message.stream.entitystream.EntityStreams;
 import com.linkedin.r2.message.stream.entitystream.FullEntityObserver;
+import com.linkedin.r2.message.stream.entitystream.ReplayableEntityObserver;
+import com.linkedin.r2.message.stream.entitystream.Writer;
 import com.linkedin.r2.util.NamedThreadFactory;
 import java.net.URI;
 import java.util.List;
@@ -80,6 +82,7 @@ public class BackupRequestsClient extends D2ClientDelegator
   private final ScheduledThreadPoolExecutor _latenciesNotifierExecutor;
   private final ScheduledFuture<?> _latenciesNotifier;
   private final boolean _isD2Async;
+  private final int _maxStreamingBufferBytes;
 
   // serviceName -> operation -> BackupRequestsStrategyFromConfig
   private final Map<String, Map<String, BackupRequestsStrategyFromConfig>> _strategies = new ConcurrentHashMap<>();
@@ -103,6 +106,19 @@ public class BackupRequestsClient extends D2ClientDelegator
   public BackupRequestsClient(D2Client d2Client, LoadBalancer loadBalancer, ScheduledExecutorService executorService,
       BackupRequestsStrategyStatsConsumer statsConsumer, long notifyLatencyInterval, TimeUnit notifyLatencyIntervalUnit,
       boolean isD2Async)
+  {
+    this(d2Client, loadBalancer, executorService, statsConsumer, notifyLatencyInterval, notifyLatencyIntervalUnit,
+        isD2Async, 0);
+  }
+
+  /**
+   * @param maxStreamingBufferBytes the maximum number of bytes of a stream request's entity that is retained to replay
+   *        it into a backup request. Backup requests for streams are only made for requests marked as
+   *        {@link R2Constants#IS_FULL_REQUEST} if it is 0.
+   */
+  public BackupRequestsClient(D2Client d2Client, LoadBalancer loadBalancer, ScheduledExecutorService executorService,
+      BackupRequestsStrategyStatsConsumer statsConsumer, long notifyLatencyInterval, TimeUnit notifyLatencyIntervalUnit,
+      boolean isD2Async, int maxStreamingBufferBytes)
   {
     super(d2Client);
     _loadBalancer = loadBalancer;
@@ -116,6 +132,7 @@ public class BackupRequestsClient extends D2ClientDelegator
     _latenciesNotifier = _latenciesNotifierExecutor.scheduleAtFixedRate(this::notifyLatencies, notifyLatencyInterval,
         notifyLatencyInterval, notifyLatencyIntervalUnit);
     _isD2Async = isD2Async;
+    _maxStreamingBufferBytes = maxStreamingBufferBytes;
   }
 
   private void notifyLatencies()
@@ -385,12 +402,15 @@ public class BackupRequestsClient extends D2ClientDelegator
   public void streamRequest(StreamRequest request, RequestContext requestContext, Callback<StreamResponse> callback)
   {
     // Buffering stream request raises concerns on memory usage and performance.
-    // Currently only support backup requests with IS_FULL_REQUEST.
+    // Requests with IS_FULL_REQUEST are buffered in full. Other streams are teed into the backup request as they are
+    // read, up to _maxStreamingBufferBytes, see decorateCallbackWithBackupRequest.
     if (!isFullRequest(requestContext)) {
-      _d2Client.streamRequest(request, requestContext, callback);
-      return;
+      if (_maxStreamingBufferBytes <= 0) {
+        _d2Client.streamRequest(request, requestContext, callback);
+        return;
+      }
     }
-    if (!isBuffered(requestContext)) {
+    else if (!isBuffered(requestContext)) {
       final FullEntityObserver observer = new FullEntityObserver(new Callback<ByteString>()
       {
         @Override
@@ -461,11 +481,19 @@ public class BackupRequestsClient extends D2ClientDelegator
     Boolean backupRequestAcceptable = KeyMapper.TargetHostHints.getRequestContextOtherHostAcceptable(requestContext);
     if (targetHostUri == null || (backupRequestAcceptable != null && backupRequestAcceptable))
     {
-      Optional<Long> delayNano = strategy.getTimeUntilBackupRequestNano();
+      int cost = getRequestCost(requestContext);
+      Optional<Long> delayNano = strategy.getTimeUntilBackupRequestNano(cost);
       if (delayNano.isPresent())
       {
+        ReplayableEntityObserver replayableEntity = null;
+        if (request instanceof StreamRequest && !isFullRequest(requestContext))
+        {
+          // The request has not been sent yet, so the observer sees the entity from its first chunk.
+          replayableEntity = new ReplayableEntityObserver(_maxStreamingBufferBytes);
+          ((StreamRequest) request).getEntityStream().addObserver(replayableEntity);
+        }
         return new DecoratedCallback<>(request, requestContext, client, callback, strategy, delayNano.get(),
-            _executorService, startNano, serviceName, operation);
+            _executorService, startNano, serviceName, operation, cost, replayableEntity);
       }
     }
     // return callback that updates backup strategy about latency if
@@ -531,10 +559,13 @@ public class BackupRequestsClient extends D2ClientDelegator
     private final long _startNano;
     private final String _serviceName;
     private final String _operation;
+    private final int _cost;
+    private final ReplayableEntityObserver _replayableEntity;
 
     public DecoratedCallback(R request, RequestContext requestContext, DecoratorClient<R, T> client,
         Callback<T> callback, TrackingBackupRequestsStrategy strategy, long delayNano,
-        ScheduledExecutorService executorService, long startNano, String serviceName, String operation)
+        ScheduledExecutorService executorService, long startNano, String serviceName, String operation, int cost,
+        ReplayableEntityObserver replayableEntity)
     {
       _startNano = startNano;
       _request = request;
@@ -548,6 +579,8 @@ public class BackupRequestsClient extends D2ClientDelegator
       _strategy = strategy;
       _serviceName = serviceName;
       _operation = operation;
+      _cost = cost;
+      _replayableEntity = replayableEntity;
       executorService.schedule(this::maybeSendBackupRequest, delayNano, TimeUnit.NANOSECONDS);
     }
 
@@ -560,23 +593,19 @@ public class BackupRequestsClient extends D2ClientDelegator
       if (exclusionSet != null)
       {
         exclusionSet.forEach(uri -> ExcludedHostHints.addRequestContextExcludedHost(_backupRequestContext, uri));
-        if (_request instanceof StreamRequest && !isBuffered(_requestContext)) {
+        if (_request instanceof StreamRequest && !isReplayable()) {
           return;
         }
-        if (!_done.get() && _strategy.isBackupRequestAllowed())
+        if (!_done.get() && _strategy.isBackupRequestAllowed(_cost))
         {
           R request = _request;
           if (_request instanceof StreamRequest) {
-            StreamRequest req = (StreamRequest)_request;
-            req = req.builder()
-                .build(EntityStreams.newEntityStream(new ByteStringWriter(
-                    (ByteString) _requestContext.getLocalAttr(R2Constants.BACKUP_REQUEST_BUFFERED_BODY)
-                )));
-            request = (R)req;
-            if (!isBuffered(_backupRequestContext)) {
-              _backupRequestContext.putLocalAttr(R2Constants.BACKUP_REQUEST_BUFFERED_BODY,
-                  _requestContext.getLocalAttr(R2Constants.BACKUP_REQUEST_BUFFERED_BODY));
+            StreamRequest req = replayStreamRequest((StreamRequest) _request);
+            if (req == null) {
+              // the entity outgrew the replay buffer after the check above
+              return;
             }
+            request = (R)req;
           }
           _client.doRequest(request, _backupRequestContext, new Callback<T>()
           {
@@ -594,8 +623,10 @@ public class BackupRequestsClient extends D2ClientDelegator
             public void onError(Throwable e)
             {
               // We don't fast fail if backup request failed because downstream is not available
-              // because the original request might have been made successfully
-              if (!(e instanceof ServiceUnavailableException) && _done.compareAndSet(false, true))
+              // because the original request might have been made successfully. The same holds if the replay of
+              // the entity was cut off because the entity outgrew the replay buffer after the backup was sent.
+              if (!(e instanceof ServiceUnavailableException) && !isReplayCutOff()
+                  && _done.compareAndSet(false, true))
               {
                 completeBackup();
                 _callback.onError(e);
@@ -613,6 +644,34 @@ public class BackupRequestsClient extends D2ClientDelegator
       }
     }
 
+    private boolean isReplayCutOff()
+    {
+      return _replayableEntity != null && !_replayableEntity.isReplayable();
+    }
+
+    private boolean isReplayable()
+    {
+      return _replayableEntity != null ? _replayableEntity.isReplayable() : isBuffered(_requestContext);
+    }
+
+    private StreamRequest replayStreamRequest(StreamRequest request)
+    {
+      if (_replayableEntity != null)
+      {
+        Writer writer = _replayableEntity.newReplayWriter();
+        return writer == null ? null : request.builder().build(EntityStreams.newEntityStream(writer));
+      }
+
+      if (!isBuffered(_backupRequestContext)) {
+        _backupRequestContext.putLocalAttr(R2Constants.BACKUP_REQUEST_BUFFERED_BODY,
+            _requestContext.getLocalAttr(R2Constants.BACKUP_REQUEST_BUFFERED_BODY));
+      }
+      return request.builder()
+          .build(EntityStreams.newEntityStream(new ByteStringWriter(
+              (ByteString) _requestContext.getLocalAttr(R2Constants.BACKUP_REQUEST_BUFFERED_BODY)
+          )));
+    }
+
     @Override
     public void onSuccess(T result)
     {
@@ -771,6 +830,12 @@ public class BackupRequestsClient extends D2ClientDelegator
     return isFullRequest != null && (Boolean)isFullRequest;
   }
 
+  private static int getRequestCost(RequestContext requestContext)
+  {
+    Integer cost = requestContext.getLocalAttr(R2Constants.REQUEST_COST_KEY);
+    return cost == null ? 1 : Math.max(1, cost);
+  }
+
   private static boolean isBuffered(RequestContext requestContext)
   {
     Object bufferedBody = requestContext.getLocalAttr(R2Constants.BACKUP_REQUEST_BUFFERED_BODY);
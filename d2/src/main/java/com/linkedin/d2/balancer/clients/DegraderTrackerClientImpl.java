@@ -26,6 +26,7 @@ import com.linkedin.d2.balancer.properties.PropertyKeys;
 import com.linkedin.r2.transport.common.bridge.client.TransportClient;
 import com.linkedin.util.clock.Clock;
 import com.linkedin.util.clock.SystemClock;
+import com.linkedin.util.degrader.CallTrackerImpl;
 import com.linkedin.util.degrader.Degrader;
 import com.linkedin.util.degrader.DegraderControl;
 import com.linkedin.util.degrader.DegraderImpl;
@@ -71,7 +72,8 @@ public class DegraderTrackerClientImpl extends TrackerClientImpl implements Degr
       boolean doNotSlowStart, boolean loadBalanceStreamException)
   {
     super(uri, partitionDataMap, wrappedClient, clock, interval,
-        (status) -> errorStatusPattern.matcher(Integer.toString(status)).matches(), true, doNotSlowStart, false);
+        (status) -> errorStatusPattern.matcher(Integer.toString(status)).matches(), getPercentileTracking(config),
+        doNotSlowStart, false);
 
     if (config == null)
     {
@@ -127,6 +129,17 @@ public class DegraderTrackerClientImpl extends TrackerClientImpl implements Degr
     _partitionStates = Collections.unmodifiableMap(partitionStates);
   }
 
+  /**
+   * The 99.9th percentile is only meaningful when every call is accounted for, so a degrader configured to use
+   * it gets a histogram-based call tracker. Otherwise the sampled percentiles are kept as before.
+   */
+  private static CallTrackerImpl.PercentileTracking getPercentileTracking(DegraderImpl.Config config)
+  {
+    return config != null && config.getLatencyToUse() == DegraderImpl.LatencyToUse.PCT999
+        ? CallTrackerImpl.PercentileTracking.HISTOGRAM
+        : CallTrackerImpl.PercentileTracking.SAMPLED;
+  }
+
   @Override
   public Degrader getDegrader(int partitionId)
   {
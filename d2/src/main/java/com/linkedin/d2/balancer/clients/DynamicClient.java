@@ -29,6 +29,7 @@ import com.linkedin.r2.filter.R2Constants;
 import com.linkedin.r2.message.Request;
 import com.linkedin.r2.message.RequestContext;
 import com.linkedin.r2.message.Response;
+import com.linkedin.r2.message.timing.FrameworkTimingKeys;
 import com.linkedin.r2.message.timing.TimingContextUtil;
 import com.linkedin.r2.message.timing.TimingKey;
 import com.linkedin.r2.message.rest.RestRequest;
@@ -86,6 +87,7 @@ public class DynamicClient extends AbstractClient implements D2Client
     {
       Callback<RestResponse> loggerCallback = decorateLoggingCallback(callback, request, "rest");
       TimingContextUtil.markTiming(requestContext, TIMING_KEY);
+      TimingContextUtil.beginTiming(requestContext, FrameworkTimingKeys.CLIENT_REQUEST_D2_SELECTION.key());
       _balancer.getClient(request, requestContext,
         getClientCallback(request, requestContext, false, callback, client -> client.restRequest(request, requestContext, loggerCallback))
       );
@@ -104,6 +106,7 @@ public class DynamicClient extends AbstractClient implements D2Client
   {
     Callback<StreamResponse> loggerCallback = decorateLoggingCallback(callback, request, "stream");
 
+    TimingContextUtil.beginTiming(requestContext, FrameworkTimingKeys.CLIENT_REQUEST_D2_SELECTION.key());
     _balancer.getClient(request, requestContext,
       getClientCallback(request, requestContext, true, callback, client -> client.streamRequest(request, requestContext, loggerCallback))
     );
@@ -118,6 +121,7 @@ public class DynamicClient extends AbstractClient implements D2Client
       public void onError(Throwable e)
       {
         TimingContextUtil.markTiming(requestContext, TIMING_KEY);
+        TimingContextUtil.endTiming(requestContext, FrameworkTimingKeys.CLIENT_REQUEST_D2_SELECTION.key());
         callback.onError(e);
 
         warn(_log, "unable to find service for: ", extractLogInfo(request));
@@ -127,6 +131,7 @@ public class DynamicClient extends AbstractClient implements D2Client
       public void onSuccess(TransportClient client)
       {
         TimingContextUtil.markTiming(requestContext, TIMING_KEY);
+        TimingContextUtil.endTiming(requestContext, FrameworkTimingKeys.CLIENT_REQUEST_D2_SELECTION.key());
         if (client != null)
         {
           clientSuccessCallback.onSuccess(new TransportClientAdapter(client, restOverStream));
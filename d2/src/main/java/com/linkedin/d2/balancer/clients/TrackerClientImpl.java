@@ -91,10 +91,19 @@ public class TrackerClientImpl implements TrackerClient
 
   public TrackerClientImpl(URI uri, Map<Integer, PartitionData> partitionDataMap, TransportClient transportClient,
       Clock clock, long interval, Predicate<Integer> isErrorStatus, boolean percentileTrackingEnabled, boolean doNotSlowStart, boolean doNotLoadBalance)
+  {
+    this(uri, partitionDataMap, transportClient, clock, interval, isErrorStatus,
+        percentileTrackingEnabled ? CallTrackerImpl.PercentileTracking.SAMPLED : CallTrackerImpl.PercentileTracking.DISABLED,
+        doNotSlowStart, doNotLoadBalance);
+  }
+
+  public TrackerClientImpl(URI uri, Map<Integer, PartitionData> partitionDataMap, TransportClient transportClient,
+      Clock clock, long interval, Predicate<Integer> isErrorStatus, CallTrackerImpl.PercentileTracking percentileTracking,
+      boolean doNotSlowStart, boolean doNotLoadBalance)
   {
     _uri = uri;
     _transportClient = transportClient;
-    _callTracker = new CallTrackerImpl(interval, clock, percentileTrackingEnabled);
+    _callTracker = new CallTrackerImpl(interval, clock, percentileTracking);
     _isErrorStatus = isErrorStatus;
     _partitionData = Collections.unmodifiableMap(partitionDataMap);
     _latestCallStats = _callTracker.getCallStats();
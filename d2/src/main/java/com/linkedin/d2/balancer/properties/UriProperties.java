@@ -18,13 +18,14 @@ package com.linkedin.d2.balancer.properties;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import java.net.URI;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
-@JsonIgnoreProperties({ "version" })
+@JsonIgnoreProperties({ "version", "delta" })
 public class UriProperties
 {
   private final String                              _clusterName;
@@ -40,6 +41,9 @@ public class UriProperties
 
   private long _version;
 
+  // how this snapshot differs from the one it was derived from, null if it was built from scratch
+  private final UriPropertiesDelta _delta;
+
   public UriProperties(String clusterName, Map<URI, Map<Integer, PartitionData>> partitionDescriptions)
   {
     this(clusterName, partitionDescriptions, Collections.<URI, Map<String, Object>>emptyMap());
@@ -109,6 +113,140 @@ public class UriProperties
 
     _uriSpecificProperties = (uriSpecificProperties == null) ? Collections.<URI, Map<String, Object>>emptyMap() :
         Collections.unmodifiableMap(uriSpecificProperties);
+    _delta = null;
+  }
+
+  private UriProperties(String clusterName,
+      Map<String, Map<Integer, Set<URI>>> urisBySchemeAndPartition,
+      Map<URI, Map<Integer, PartitionData>> partitionDesc,
+      Map<URI, Map<String, Object>> uriSpecificProperties,
+      long version,
+      UriPropertiesDelta delta)
+  {
+    _clusterName = clusterName;
+    _urisBySchemeAndPartition = urisBySchemeAndPartition;
+    _partitionDesc = partitionDesc;
+    _uriSpecificProperties = uriSpecificProperties;
+    _version = version;
+    _delta = delta;
+  }
+
+  /**
+   * Derives new properties from this snapshot by removing and then adding or replacing URIs. Unlike building the
+   * properties from scratch, the partition data of unchanged URIs is shared with this snapshot and only the
+   * scheme and partition groups of changed URIs are rebuilt.
+   *
+   * @param removedUris URIs to remove.
+   * @param updatedPartitionDesc partition descriptions of URIs to add or replace.
+   * @param updatedUriSpecificProperties URI specific properties of the updated URIs. An updated URI that is absent
+   *                                     from this map no longer has specific properties.
+   * @param version version of the new properties.
+   * @return new properties whose {@link #getDelta()} is relative to this snapshot.
+   */
+  public UriProperties applyDelta(Collection<URI> removedUris,
+      Map<URI, Map<Integer, PartitionData>> updatedPartitionDesc,
+      Map<URI, Map<String, Object>> updatedUriSpecificProperties,
+      long version)
+  {
+    Map<URI, Map<Integer, PartitionData>> partitionDesc = new HashMap<>(_partitionDesc);
+    Map<URI, Map<String, Object>> uriSpecificProperties = new HashMap<>(_uriSpecificProperties);
+    // copies of the scheme and partition groups that changed, the others are shared with this snapshot
+    Map<String, Map<Integer, Set<URI>>> changedGroups = new HashMap<>();
+
+    Set<URI> removed = new HashSet<>();
+    for (URI uri : removedUris)
+    {
+      Map<Integer, PartitionData> previous = partitionDesc.remove(uri);
+      uriSpecificProperties.remove(uri);
+      if (previous != null)
+      {
+        removed.add(uri);
+        for (Integer partitionId : previous.keySet())
+        {
+          getChangedGroup(changedGroups, uri.getScheme(), partitionId).remove(uri);
+        }
+      }
+    }
+
+    for (Map.Entry<URI, Map<Integer, PartitionData>> entry : updatedPartitionDesc.entrySet())
+    {
+      URI uri = entry.getKey();
+      Map<Integer, PartitionData> previous =
+          partitionDesc.put(uri, Collections.unmodifiableMap(new HashMap<>(entry.getValue())));
+      if (previous != null)
+      {
+        for (Integer partitionId : previous.keySet())
+        {
+          getChangedGroup(changedGroups, uri.getScheme(), partitionId).remove(uri);
+        }
+      }
+      for (Integer partitionId : entry.getValue().keySet())
+      {
+        getChangedGroup(changedGroups, uri.getScheme(), partitionId).add(uri);
+      }
+      removed.remove(uri);
+
+      Map<String, Object> specificProperties = updatedUriSpecificProperties.get(uri);
+      if (specificProperties == null)
+      {
+        uriSpecificProperties.remove(uri);
+      }
+      else
+      {
+        uriSpecificProperties.put(uri, specificProperties);
+      }
+    }
+
+    Map<String, Map<Integer, Set<URI>>> urisBySchemeAndPartition = new HashMap<>(_urisBySchemeAndPartition);
+    for (Map.Entry<String, Map<Integer, Set<URI>>> schemeEntry : changedGroups.entrySet())
+    {
+      String scheme = schemeEntry.getKey();
+      Map<Integer, Set<URI>> partitionUris = new HashMap<>();
+      Map<Integer, Set<URI>> previousPartitionUris = _urisBySchemeAndPartition.get(scheme);
+      if (previousPartitionUris != null)
+      {
+        partitionUris.putAll(previousPartitionUris);
+      }
+      for (Map.Entry<Integer, Set<URI>> partitionEntry : schemeEntry.getValue().entrySet())
+      {
+        if (partitionEntry.getValue().isEmpty())
+        {
+          partitionUris.remove(partitionEntry.getKey());
+        }
+        else
+        {
+          partitionUris.put(partitionEntry.getKey(), Collections.unmodifiableSet(partitionEntry.getValue()));
+        }
+      }
+      if (partitionUris.isEmpty())
+      {
+        urisBySchemeAndPartition.remove(scheme);
+      }
+      else
+      {
+        urisBySchemeAndPartition.put(scheme, Collections.unmodifiableMap(partitionUris));
+      }
+    }
+
+    UriPropertiesDelta delta = new UriPropertiesDelta(this, removed, new HashSet<>(updatedPartitionDesc.keySet()));
+    return new UriProperties(_clusterName,
+        Collections.unmodifiableMap(urisBySchemeAndPartition),
+        Collections.unmodifiableMap(partitionDesc),
+        Collections.unmodifiableMap(uriSpecificProperties),
+        version,
+        delta);
+  }
+
+  /**
+   * Returns a mutable copy of the URIs of the given scheme and partition, copying it from this snapshot on first use.
+   */
+  private Set<URI> getChangedGroup(Map<String, Map<Integer, Set<URI>>> changedGroups, String scheme, Integer partitionId)
+  {
+    return changedGroups.computeIfAbsent(scheme, k -> new HashMap<>()).computeIfAbsent(partitionId, k ->
+    {
+      Set<URI> uris = getUriBySchemeAndPartition(scheme, partitionId);
+      return uris == null ? new HashSet<>() : new HashSet<>(uris);
+    });
   }
 
   public String getClusterName()
@@ -146,6 +284,15 @@ public class UriProperties
     return _uriSpecificProperties;
   }
 
+  /**
+   * @return how these properties differ from the snapshot they were derived from by
+   *         {@link #applyDelta(Collection, Map, Map, long)}, or null if they were built from scratch.
+   */
+  public UriPropertiesDelta getDelta()
+  {
+    return _delta;
+  }
+
   public Map<String, Map<Integer, Set<URI>>> getUrisBySchemeAndPartition()
   {
     return _urisBySchemeAndPartition;
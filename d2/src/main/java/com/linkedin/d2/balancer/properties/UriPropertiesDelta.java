@@ -0,0 +1,74 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.d2.balancer.properties;
+
+import java.lang.ref.WeakReference;
+import java.net.URI;
+import java.util.Collections;
+import java.util.Set;
+
+
+/**
+ * Describes how a {@link UriProperties} differs from the snapshot it was derived from. Listeners that keep state
+ * per URI can use it to update only the URIs that changed, provided that the snapshot they processed last is the
+ * one the delta is relative to.
+ *
+ * <p>The previous snapshot is only weakly referenced so that a chain of deltas does not retain old snapshots.</p>
+ */
+public class UriPropertiesDelta
+{
+  private final WeakReference<UriProperties> _previous;
+  private final Set<URI> _removedUris;
+  private final Set<URI> _updatedUris;
+
+  UriPropertiesDelta(UriProperties previous, Set<URI> removedUris, Set<URI> updatedUris)
+  {
+    _previous = new WeakReference<>(previous);
+    _removedUris = Collections.unmodifiableSet(removedUris);
+    _updatedUris = Collections.unmodifiableSet(updatedUris);
+  }
+
+  /**
+   * @return true if this delta was computed against the given snapshot.
+   */
+  public boolean isRelativeTo(UriProperties previous)
+  {
+    return previous != null && _previous.get() == previous;
+  }
+
+  /**
+   * @return the URIs that were present in the previous snapshot and are absent from the new one.
+   */
+  public Set<URI> getRemovedUris()
+  {
+    return _removedUris;
+  }
+
+  /**
+   * @return the URIs that were added, or whose partition data or URI specific properties may have changed.
+   */
+  public Set<URI> getUpdatedUris()
+  {
+    return _updatedUris;
+  }
+
+  @Override
+  public String toString()
+  {
+    return "UriPropertiesDelta [_removedUris=" + _removedUris + ", _updatedUris=" + _updatedUris + "]";
+  }
+}
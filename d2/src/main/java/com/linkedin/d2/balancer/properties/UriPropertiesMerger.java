@@ -21,6 +21,7 @@ import com.linkedin.d2.discovery.stores.zk.ZooKeeperPropertyMerger;
 import java.net.URI;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import org.slf4j.Logger;
@@ -56,6 +57,70 @@ public class UriPropertiesMerger implements ZooKeeperPropertyMerger<UriPropertie
     return new UriProperties(clusterName, partitionData, uriSpecificProperties, maxVersion);
   }
 
+  /**
+   * Applies the removed and added children to the previous properties with {@link UriProperties#applyDelta}, so
+   * that the work done is proportional to the size of the change rather than the size of the cluster.
+   */
+  @Override
+  public UriProperties mergeDelta(String propertyName, UriProperties previous, Collection<UriProperties> removed,
+      Collection<UriProperties> added, Collection<UriProperties> propertiesToMerge)
+  {
+    if (previous == null || !propertyName.equals(previous.getClusterName()))
+    {
+      return merge(propertyName, propertiesToMerge);
+    }
+
+    Set<URI> removedUris = new HashSet<>();
+    for (UriProperties property : removed)
+    {
+      removedUris.addAll(property.Uris());
+    }
+
+    Map<URI, Map<Integer, PartitionData>> partitionData = new HashMap<>();
+    Map<URI, Map<String, Object>> uriSpecificProperties = new HashMap<>();
+    long maxVersion = previous.getVersion();
+    if (!removedUris.isEmpty())
+    {
+      // A removed uri may still be announced by another child, for instance while the ephemeral node of a restarted
+      // host has not expired yet, and the removed children may have contributed the max version. Both require a
+      // look at the remaining children, which is still far cheaper than merging them.
+      maxVersion = -1;
+      for (UriProperties property : propertiesToMerge)
+      {
+        maxVersion = Long.max(maxVersion, property.getVersion());
+        for (URI uri : property.Uris())
+        {
+          if (removedUris.contains(uri))
+          {
+            putUri(property, uri, partitionData, uriSpecificProperties);
+          }
+        }
+      }
+    }
+
+    for (UriProperties property : added)
+    {
+      maxVersion = Long.max(maxVersion, property.getVersion());
+      for (URI uri : property.Uris())
+      {
+        putUri(property, uri, partitionData, uriSpecificProperties);
+      }
+    }
+
+    return previous.applyDelta(removedUris, partitionData, uriSpecificProperties, maxVersion);
+  }
+
+  private static void putUri(UriProperties property, URI uri, Map<URI, Map<Integer, PartitionData>> partitionData,
+      Map<URI, Map<String, Object>> uriSpecificProperties)
+  {
+    partitionData.put(uri, property.getPartitionDataMap(uri));
+    Map<String, Object> specificProperties = property.getUriSpecificProperties().get(uri);
+    if (specificProperties != null)
+    {
+      uriSpecificProperties.put(uri, specificProperties);
+    }
+  }
+
   @Override
   public String unmerge(String propertyName,
                         UriProperties toDelete,
@@ -46,4 +46,11 @@ public class BoundedLoadConsistentHashRingFactory<T> implements RingFactory<T>
   public Ring<T> createRing(Map<T, Integer> pointsMap, Map<T, CallTracker> callTrackerMap) {
     return new BoundedLoadConsistentHashRing<>(_ringFactory, pointsMap, callTrackerMap, _boundedLoadBalancingFactor);
   }
+
+  @Override
+  public Ring<T> updateRing(Ring<T> previousRing, Map<T, Integer> pointsMap, Map<T, CallTracker> callTrackerMap) {
+    // The load information changes with every update, so only the underlying ring can be reused.
+    return new BoundedLoadConsistentHashRing<>(_ringFactory, previousRing, pointsMap, callTrackerMap,
+        _boundedLoadBalancingFactor);
+  }
 }
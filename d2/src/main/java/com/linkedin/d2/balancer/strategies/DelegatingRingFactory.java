@@ -120,6 +120,11 @@ public class DelegatingRingFactory<T> implements RingFactory<T>
     return _ringFactory.createRing(pointsMap, callTrackerMap);
   }
 
+  @Override
+  public Ring<T> updateRing(Ring<T> previousRing, Map<T, Integer> pointsMap, Map<T, CallTracker> callTrackerMap) {
+    return _ringFactory.updateRing(previousRing, pointsMap, callTrackerMap);
+  }
+
   private boolean isAffinityRoutingEnabled(HashMethod hashMethod) {
     return hashMethod == HashMethod.URI_REGEX;
   }
@@ -18,6 +18,7 @@ package com.linkedin.d2.balancer.strategies;
 
 import com.linkedin.d2.balancer.util.hashing.MPConsistentHashRing;
 import com.linkedin.d2.balancer.util.hashing.Ring;
+import com.linkedin.util.degrader.CallTracker;
 import java.util.Map;
 
 
@@ -42,4 +43,14 @@ public class MPConsistentHashRingFactory<T> implements RingFactory<T>
   {
     return new MPConsistentHashRing<>(points, _numProbes, _pointsPerHost);
   }
+
+  @Override
+  public Ring<T> updateRing(Ring<T> previousRing, Map<T, Integer> points, Map<T, CallTracker> callTrackerMap)
+  {
+    if (previousRing instanceof MPConsistentHashRing)
+    {
+      return new MPConsistentHashRing<>((MPConsistentHashRing<T>) previousRing, points, _numProbes, _pointsPerHost);
+    }
+    return createRing(points);
+  }
 }
@@ -20,6 +20,7 @@ import com.linkedin.d2.balancer.strategies.degrader.DegraderLoadBalancerStrategy
 import com.linkedin.d2.balancer.util.hashing.ConsistentHashRing;
 import com.linkedin.d2.balancer.util.hashing.ConsistentHashRing.Point;
 import com.linkedin.d2.balancer.util.hashing.Ring;
+import com.linkedin.util.degrader.CallTracker;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -27,9 +28,12 @@ import java.nio.charset.Charset;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,6 +47,9 @@ import org.slf4j.LoggerFactory;
  *    points for each update unless more Points are needed.
  * 2. Avoid re-invoking MD5 (or other expensive hashing mechanisms) for the point generation.
  *
+ * The factory also remembers the last ring it created, so that {@link #updateRing(Ring, Map, Map)} only
+ * needs to sort the points of the objects whose points changed and merge them into the previous ring.
+ *
  * Note: DegraderRingFactory is not thread safe. It is currently protected by partition lock
  *       from the caller. Make sure to have proper protection if it is used in other environment.
  */
@@ -59,6 +66,12 @@ public class PointBasedConsistentHashRingFactory<T> implements RingFactory<T>
   // the partition number of each hash value
   private final int HASH_PARTITION_NUM = 4;
   private final int POINT_SIZE_IN_BYTE = 4;
+  // rebuild the ring from scratch when more than this fraction of the objects changed
+  private final double MAX_INCREMENTAL_UPDATE_RATIO = 0.5;
+
+  // the last ring created by this factory and the points it was created with
+  private ConsistentHashRing<T> _lastRing;
+  private Map<T, Integer> _lastPointsMap;
 
   public PointBasedConsistentHashRingFactory(final DegraderLoadBalancerStrategyConfig config)
   {
@@ -97,7 +110,82 @@ public class PointBasedConsistentHashRingFactory<T> implements RingFactory<T>
     }
 
     _log.debug("Creating new hash ring with the following points {}", newRingPoints);
-    return new ConsistentHashRing<>(newRingPoints);
+    return remember(new ConsistentHashRing<>(newRingPoints), points);
+  }
+
+  @Override
+  public Ring<T> updateRing(Ring<T> previousRing, Map<T, Integer> points, Map<T, CallTracker> callTrackerMap)
+  {
+    if (previousRing == null || previousRing != _lastRing)
+    {
+      return createRing(points);
+    }
+
+    Set<T> changed = new HashSet<>();
+    for (Map.Entry<T, Integer> entry : points.entrySet())
+    {
+      if (!entry.getValue().equals(_lastPointsMap.get(entry.getKey())))
+      {
+        changed.add(entry.getKey());
+      }
+    }
+    for (T t : _lastPointsMap.keySet())
+    {
+      if (!points.containsKey(t))
+      {
+        changed.add(t);
+      }
+    }
+
+    if (changed.isEmpty())
+    {
+      return _lastRing;
+    }
+    if (changed.size() > points.size() * MAX_INCREMENTAL_UPDATE_RATIO)
+    {
+      return createRing(points);
+    }
+
+    clearPoints(points.size());
+    List<Point<T>> changedPoints = new ArrayList<>();
+    for (T t : changed)
+    {
+      Integer numDesiredPoints = points.get(t);
+      if (numDesiredPoints != null && numDesiredPoints > 0)
+      {
+        changedPoints.addAll(getPointList(t, numDesiredPoints).subList(0, numDesiredPoints));
+      }
+    }
+    Collections.sort(changedPoints);
+
+    // Merge the sorted points of the changed objects into the sorted points of the unchanged ones.
+    List<Point<T>> lastRingPoints = _lastRing.getPoints();
+    List<Point<T>> newRingPoints = new ArrayList<>(lastRingPoints.size() + changedPoints.size());
+    int changedIndex = 0;
+    for (Point<T> point : lastRingPoints)
+    {
+      if (changed.contains(point.getT()))
+      {
+        continue;
+      }
+      while (changedIndex < changedPoints.size() && changedPoints.get(changedIndex).compareTo(point) < 0)
+      {
+        newRingPoints.add(changedPoints.get(changedIndex++));
+      }
+      newRingPoints.add(point);
+    }
+    newRingPoints.addAll(changedPoints.subList(changedIndex, changedPoints.size()));
+
+    _log.debug("Updating hash ring for {} changed objects", changed.size());
+    // The points are already sorted, which makes the sort in the ring constructor linear.
+    return remember(new ConsistentHashRing<>(newRingPoints), points);
+  }
+
+  private Ring<T> remember(ConsistentHashRing<T> ring, Map<T, Integer> points)
+  {
+    _lastRing = ring;
+    _lastPointsMap = new HashMap<>(points);
+    return ring;
   }
 
   public Map<T, List<Point<T>>> getPointsMap()
@@ -20,6 +20,7 @@ import com.linkedin.util.degrader.CallTracker;
 import java.util.Map;
 
 import com.linkedin.d2.balancer.util.hashing.Ring;
+import javax.annotation.Nullable;
 
 
 /**
@@ -42,4 +43,21 @@ public interface RingFactory<T> {
   default Ring<T> createRing(Map<T, Integer> pointsMap, Map<T, CallTracker> callTrackerMap) {
     return createRing(pointsMap);
   }
+
+  /**
+   * Creates a hash ring with the given points and {@link CallTracker} for each object, reusing what is unchanged
+   * from a ring previously created by this factory. Most updates only move the points of a few objects, so
+   * implementations that can keep the points of the other objects avoid rebuilding the whole ring. The returned
+   * ring routes exactly like one returned by {@link #createRing(Map, Map)} for the same arguments.
+   *
+   * @param previousRing    A ring previously returned by this factory, or null. Rings this factory cannot reuse
+   *                        are ignored.
+   * @param pointsMap       A map between object to store in the ring and its points.
+   * @param callTrackerMap  A map between object to store in the ring and its {@link CallTracker}.
+   * @return  a {@link Ring}, which may be the previous ring when nothing has changed
+   */
+  default Ring<T> updateRing(@Nullable Ring<T> previousRing, Map<T, Integer> pointsMap,
+      Map<T, CallTracker> callTrackerMap) {
+    return createRing(pointsMap, callTrackerMap);
+  }
 }
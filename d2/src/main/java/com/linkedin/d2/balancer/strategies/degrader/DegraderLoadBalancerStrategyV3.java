@@ -879,7 +879,8 @@ public class DegraderLoadBalancerStrategyV3 implements LoadBalancerStrategy
                                                  quarantineMap,
                                                  quarantineHistory,
                                                  activeClients,
-                                                 unHealthyClients.size());
+                                                 unHealthyClients.size(),
+                                                 oldState.getRing());
 
       logState(oldState, newState, partitionId, config, unHealthyClients, clientDegraded);
     }
@@ -914,7 +915,8 @@ public class DegraderLoadBalancerStrategyV3 implements LoadBalancerStrategy
                                             quarantineMap,
                                             quarantineHistory,
                                             activeClients,
-                                            unHealthyClients.size());
+                                            unHealthyClients.size(),
+                                            oldState.getRing());
 
       logState(oldState, newState, partitionId, config, unHealthyClients, clientDegraded);
 
@@ -28,6 +28,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 
 
 /**
@@ -135,6 +136,36 @@ public class PartitionDegraderLoadBalancerState
       Map<DegraderTrackerClient, LoadBalancerQuarantine> quarantineHistory,
       Set<DegraderTrackerClient> trackerClients,
       int unHealthyClientNumber)
+  {
+    this(clusterGenerationId, lastUpdated, initState, ringFactory, pointsMap, strategy, currentOverrideDropRate,
+        currentAvgClusterLatency, recoveryMap, serviceName, degraderProperties, currentClusterCallCount,
+        currentClusterDropCount, currentClusterErrorCount, quarantineMap, quarantineHistory, trackerClients,
+        unHealthyClientNumber, null);
+  }
+
+  /**
+   * Same as the constructor above, but updates the ring from the given ring of a previous state instead of
+   * creating it from scratch, see {@link RingFactory#updateRing(Ring, Map, Map)}.
+   */
+  public PartitionDegraderLoadBalancerState(long clusterGenerationId,
+      long lastUpdated,
+      boolean initState,
+      RingFactory<URI> ringFactory,
+      Map<URI,Integer> pointsMap,
+      Strategy strategy,
+      double currentOverrideDropRate,
+      double currentAvgClusterLatency,
+      Map<DegraderTrackerClient, Double> recoveryMap,
+      String serviceName,
+      Map<String, String> degraderProperties,
+      long currentClusterCallCount,
+      long currentClusterDropCount,
+      long currentClusterErrorCount,
+      Map<DegraderTrackerClient, LoadBalancerQuarantine> quarantineMap,
+      Map<DegraderTrackerClient, LoadBalancerQuarantine> quarantineHistory,
+      Set<DegraderTrackerClient> trackerClients,
+      int unHealthyClientNumber,
+      @Nullable Ring<URI> previousRing)
   {
     _clusterGenerationId = clusterGenerationId;
     _ringFactory = ringFactory;
@@ -148,7 +179,7 @@ public class PartitionDegraderLoadBalancerState
                 .collect(Collectors.toMap(DegraderTrackerClient::getUri, DegraderTrackerClient::getCallTracker))) :
         Collections.<URI, CallTracker>emptyMap();
 
-    _ring = ringFactory.createRing(pointsMap, callTrackerMap);
+    _ring = ringFactory.updateRing(previousRing, pointsMap, callTrackerMap);
     _strategy = strategy;
     _currentOverrideDropRate = currentOverrideDropRate;
     _currentAvgClusterLatency = currentAvgClusterLatency;
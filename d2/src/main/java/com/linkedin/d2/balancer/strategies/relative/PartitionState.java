@@ -171,7 +171,7 @@ public class PartitionState
                 * entry.getKey().getPartitionWeight(_partitionId)
                 * entry.getKey().getSubsetWeight(_partitionId)
                 * _pointsPerWeight)));
-    _ring = _ringFactory.createRing(_pointsMap, callTrackerMap);
+    _ring = _ringFactory.updateRing(_ring, _pointsMap, callTrackerMap);
   }
 
   void setPartitionStats(double avgClusterLatency, long clusterCallCount, long clusterErrorCount)
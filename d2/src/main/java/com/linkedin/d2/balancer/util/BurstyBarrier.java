@@ -151,10 +151,20 @@ public class BurstyBarrier
    * Notifies the barrier that event has arrived. See class level documentation for detailed explanation of this method.
    */
   public void arrive()
+  {
+    arrive(1);
+  }
+
+  /**
+   * Notifies the barrier that {@code count} identical events have arrived, e.g. the keys of a batch request that
+   * is accounted for as a whole.
+   * @param count number of events that have arrived
+   */
+  public void arrive(int count)
   {
     synchronized (_lock)
     {
-      _arrivalsSoFar++;
+      _arrivalsSoFar += count;
       if (_arrivalsSoFar > MAX_ARRIVALS_WITH_PRECISION)
       {
         reset();
@@ -180,19 +190,43 @@ public class BurstyBarrier
    */
   public boolean canPassThrough()
   {
-    synchronized (_lock)
+    return canPassThrough(1);
+  }
+
+  /**
+   * Attempts to pass {@code count} events through the barrier at once. Either all of them are allowed to pass through
+   * or none is. Since at most {@code maxBurst} events can pass through in a burst, this method always returns
+   * {@code false} if {@code count} is greater than {@code maxBurst}.
+   * @param count number of events that attempt to pass through
+   * @return {@code true} if the events are allowed to pass through and {@code false} otherwise
+   */
+  public boolean canPassThrough(int count)
+  {
+    if (count <= 0)
     {
-      double nextAllowedToPass = _passThroughHistory[_oldestPassThroughIdx] + _windowSize;
+      throw new IllegalArgumentException("count parameter has to be a positive number, got: " + count);
+    }
+    if (count > _maxBurst)
+    {
+      return false;
+    }
 
-      if (_arrivalsSoFar >= nextAllowedToPass)
+    synchronized (_lock)
+    {
+      // Pass through history is ordered from the oldest slot, so the newest of the slots to be reused decides.
+      int newestIdx = (_oldestPassThroughIdx + count - 1) % _maxBurst;
+      if (_arrivalsSoFar >= _passThroughHistory[newestIdx] + _windowSize)
       {
-
-        _passThroughHistory[_oldestPassThroughIdx] = Math.max(nextAllowedToPass, _arrivalsSoFar - 1);
-
-        _oldestPassThroughIdx += 1;
-        if (_oldestPassThroughIdx == _maxBurst)
+        for (int i = 0; i < count; i++)
         {
-          _oldestPassThroughIdx = 0;
+          _passThroughHistory[_oldestPassThroughIdx] =
+              Math.max(_passThroughHistory[_oldestPassThroughIdx] + _windowSize, _arrivalsSoFar - 1);
+
+          _oldestPassThroughIdx += 1;
+          if (_oldestPassThroughIdx == _maxBurst)
+          {
+            _oldestPassThroughIdx = 0;
+          }
         }
 
         return true;
@@ -78,12 +78,30 @@ public class BoundedLoadConsistentHashRing<T> implements Ring<T>
    */
   public BoundedLoadConsistentHashRing(RingFactory<T> ringFactory, Map<T, Integer> pointsMap,
       Map<T, CallTracker> callTrackerMap, double boundedLoadBalancingFactor)
+  {
+    this(ringFactory, null, pointsMap, callTrackerMap, boundedLoadBalancingFactor);
+  }
+
+  /**
+   * Creates a bounded-load consistent hash ring whose underlying hash ring is updated from the underlying ring of
+   * a previous bounded-load ring, see {@link RingFactory#updateRing(Ring, Map, Map)}.
+   *
+   * @param ringFactory   The factory used to generate the underlying hash ring for bounded-load algorithm
+   * @param previousRing  A bounded-load ring previously created with the same factory, or null
+   * @param pointsMap     A map between object to store in the ring and its points.
+   * @param callTrackerMap A map between object to store in the ring and its {@link CallTracker}.
+   * @param boundedLoadBalancingFactor A double always greater than 1.
+   */
+  public BoundedLoadConsistentHashRing(RingFactory<T> ringFactory, @Nullable Ring<T> previousRing,
+      Map<T, Integer> pointsMap, Map<T, CallTracker> callTrackerMap, double boundedLoadBalancingFactor)
   {
     _pointsMap = pointsMap;
     _callTrackerMap = callTrackerMap;
     _hosts = new HashMap<>();
     _boundedLoadBalancingFactor = boundedLoadBalancingFactor;
-    _ring = ringFactory.createRing(pointsMap);
+    _ring = previousRing instanceof BoundedLoadConsistentHashRing
+        ? ringFactory.updateRing(((BoundedLoadConsistentHashRing<T>) previousRing)._ring, pointsMap, Collections.emptyMap())
+        : ringFactory.createRing(pointsMap);
     _lock = new ReentrantLock();
     _totalPoints = initHostCumulativePoints(pointsMap);
   }
@@ -19,6 +19,7 @@ package com.linkedin.d2.balancer.util.hashing;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -28,6 +29,7 @@ import java.util.NoSuchElementException;
 import java.util.Random;
 import java.util.Set;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import net.openhft.hashing.LongHashFunction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -67,10 +69,13 @@ public class MPConsistentHashRing<T> implements Ring<T>
   /* we will only use the lower 32 bit of the hash code to avoid overflow */
   private static final long MASK = 0x00000000FFFFFFFFL;
 
-  private final List<Bucket> _buckets;
+  private final List<Bucket<T>> _buckets;
   private final List<T> _hosts;
+  // index of the first of the _pointsPerHost consecutive buckets of each host
+  private final Map<T, Integer> _firstBucketIndexes;
   private final LongHashFunction[] _hashFunctions;
   private final int _numProbes;
+  private final int _pointsPerHost;
 
   /**
    * Creates a multi-probe consistent hash ring with DEFAULT_NUM_PROBES (21).
@@ -90,31 +95,77 @@ public class MPConsistentHashRing<T> implements Ring<T>
    */
   public MPConsistentHashRing(Map<T, Integer> pointsMap, int numProbes, int pointsPerHost)
   {
-    _buckets = new ArrayList<>(pointsMap.size());
+    this(null, pointsMap, numProbes, pointsPerHost);
+  }
+
+  /**
+   * Creates a multi-probe consistent hash ring with given points map and number of probes, reusing the buckets of
+   * the hosts that are also in the previous ring instead of hashing them again. The resulting ring is identical to
+   * one created without a previous ring.
+   *
+   * @param previousRing The ring to reuse buckets from, or null. Its buckets are only reused if it was created
+   *                     with the same number of points per host.
+   * @param pointsMap A map between object to store in the ring and its points.
+   * @param numProbes Number of probes need to perform.
+   */
+  public MPConsistentHashRing(@Nullable MPConsistentHashRing<T> previousRing, Map<T, Integer> pointsMap,
+      int numProbes, int pointsPerHost)
+  {
+    if (previousRing != null && previousRing._pointsPerHost != pointsPerHost)
+    {
+      previousRing = null;
+    }
+
+    _buckets = new ArrayList<>(pointsMap.size() * Math.max(pointsPerHost, 1));
     _hosts = new ArrayList<>(pointsMap.size());
+    _firstBucketIndexes = new HashMap<>(pointsMap.size() * 2);
     for (Map.Entry<T, Integer> entry : pointsMap.entrySet())
     {
       // ignore items whose point is equal to zero
       if (entry.getValue() > 0)
       {
-        byte[] bytesToHash = entry.getKey().toString().getBytes(UTF8);
+        T host = entry.getKey();
+        int points = entry.getValue();
+        Integer previousIndex = previousRing == null ? null : previousRing._firstBucketIndexes.get(host);
+        _firstBucketIndexes.put(host, _buckets.size());
+        _hosts.add(host);
+
+        if (previousIndex != null)
+        {
+          // The bucket hashes only depend on the host, so only the points may need to be updated.
+          for (int i = previousIndex, end = previousIndex + Math.max(pointsPerHost, 1); i < end; i++)
+          {
+            Bucket<T> bucket = previousRing._buckets.get(i);
+            _buckets.add(bucket.getPoints() == points ? bucket : new Bucket<>(host, bucket.getHash(), points));
+          }
+          continue;
+        }
+
+        byte[] bytesToHash = host.toString().getBytes(UTF8);
         long hash = HASH_FUNCTION_0.hashBytes(bytesToHash) & MASK;
-        _buckets.add(new Bucket(entry.getKey(), hash, entry.getValue()));
-        _hosts.add(entry.getKey());
+        _buckets.add(new Bucket<>(host, hash, points));
 
         long hashOfHash = hash;
         int duplicate = pointsPerHost - 1;
         while (duplicate-- > 0) {
           hashOfHash = HASH_FUNCTION_0.hashLong(hashOfHash) & MASK;
-          _buckets.add(new Bucket(entry.getKey(), hashOfHash, entry.getValue()));
+          _buckets.add(new Bucket<>(host, hashOfHash, points));
         }
       }
     }
     _numProbes = numProbes;
-    _hashFunctions = new LongHashFunction[_numProbes];
-    for (int i = 0; i < _numProbes; i++)
+    _pointsPerHost = pointsPerHost;
+    if (previousRing != null && previousRing._numProbes == numProbes)
+    {
+      _hashFunctions = previousRing._hashFunctions;
+    }
+    else
     {
-      _hashFunctions[i] = LongHashFunction.xx_r39(i);
+      _hashFunctions = new LongHashFunction[_numProbes];
+      for (int i = 0; i < _numProbes; i++)
+      {
+        _hashFunctions[i] = LongHashFunction.xx_r39(i);
+      }
     }
   }
 
@@ -182,7 +233,7 @@ public class MPConsistentHashRing<T> implements Ring<T>
       long hash = _hashFunctions[i].hashInt(key) & MASK;
       for (int j = 0; j < _buckets.size(); j++)
       {
-        Bucket bucket = _buckets.get(j);
+        Bucket<T> bucket = _buckets.get(j);
         if (!excludes.contains(bucket.getT()))
         {
           float distance = Math.abs(bucket.getHash() - hash) / (float) bucket.getPoints();
@@ -214,7 +265,7 @@ public class MPConsistentHashRing<T> implements Ring<T>
     return _hosts.isEmpty();
   }
 
-  private class Bucket
+  private static class Bucket<T>
   {
     private final T _t;
     private final long _hash;
@@ -823,6 +823,9 @@ public class ZooKeeperEphemeralStore<T> extends ZooKeeperStore<T>
     // map from child to its data
     private final Map<String, T> _childrenMap = new HashMap<>();
 
+    // property last merged from _childrenMap, null if the next change must be merged from scratch
+    private T _mergedProperty = null;
+
     // property that is being watched
     private final String _prop;
     private final String _propPath;
@@ -887,8 +890,10 @@ public class ZooKeeperEphemeralStore<T> extends ZooKeeperStore<T>
             _initialFetchStartAtNanosRef.set(Long.MAX_VALUE);
           }
           initCurrentNode(stat);
-          Set<String> newChildren = calculateChildrenDeltaAndUpdateState(children, isInitialFetch);
-          getChildrenData(path, newChildren, getChildrenDataCallback(path, init, property, isInitialFetch));
+          Map<String, T> removedChildren = new HashMap<>();
+          Set<String> newChildren = calculateChildrenDeltaAndUpdateState(children, isInitialFetch, removedChildren);
+          getChildrenData(path, newChildren,
+              getChildrenDataCallback(path, init, property, isInitialFetch, removedChildren.values()));
           break;
         }
         case NONODE:
@@ -898,6 +903,7 @@ public class ZooKeeperEphemeralStore<T> extends ZooKeeperStore<T>
             // don't need to reset initial fetch states, when exists watch is triggered, it's still an initial fetch.
           }
           _isInitialFetchRef.set(true); // set isInitialFetch to true so that when the exists watch is triggered, it's an initial fetch.
+          _mergedProperty = null;
           _initialFetchStartAtNanosRef.set(System.nanoTime());
           LOG.debug("{}: node is not present, calling exists", path);
           _zk.exists(path, this, this, false);
@@ -923,7 +929,8 @@ public class ZooKeeperEphemeralStore<T> extends ZooKeeperStore<T>
       }
     }
 
-    private Callback<Map<String, T>> getChildrenDataCallback(String path, boolean init, String property, boolean isInitialFetch)
+    private Callback<Map<String, T>> getChildrenDataCallback(String path, boolean init, String property,
+        boolean isInitialFetch, Collection<T> removedChildren)
     {
       return new Callback<Map<String, T>>()
       {
@@ -931,6 +938,8 @@ public class ZooKeeperEphemeralStore<T> extends ZooKeeperStore<T>
         public void onError(Throwable e)
         {
           LOG.error("Failed to merge children for path " + path, e);
+          // The removed children are gone from the children map but not from the last merged property
+          _mergedProperty = null;
           if (init)
           {
             _eventBus.publishInitialize(property, null);
@@ -947,7 +956,12 @@ public class ZooKeeperEphemeralStore<T> extends ZooKeeperStore<T>
             emitSDStatusUpdateReceiptEvents(result, true);
           }
           _childrenMap.putAll(result);
-          T mergedProperty = _merger.merge(property, _childrenMap.values());
+          // Apply only the change in membership when the previous merge is known, which keeps rolling deploys of
+          // large clusters from re-merging every child on every event
+          T mergedProperty = _mergedProperty == null
+              ? _merger.merge(property, _childrenMap.values())
+              : _merger.mergeDelta(property, _mergedProperty, removedChildren, result.values(), _childrenMap.values());
+          _mergedProperty = mergedProperty;
           reportDualReadData(property, mergedProperty);
 
           if (_fileStore != null)
@@ -977,6 +991,7 @@ public class ZooKeeperEphemeralStore<T> extends ZooKeeperStore<T>
         if (_czxid != 0)
         {
           _childrenMap.clear();
+          _mergedProperty = null;
           if (_ephemeralNodesFilePath != null)
           {
             // The file structure for each children saved is: myBasePath/nodeWatchedProp/zkNodeId123/ephemeral-2
@@ -999,7 +1014,12 @@ public class ZooKeeperEphemeralStore<T> extends ZooKeeperStore<T>
       }
     }
 
-    private Set<String> calculateChildrenDeltaAndUpdateState(List<String> children, boolean isInitialFetch)
+    /**
+     * Removes the children that are gone from the state and collects them into removedChildren.
+     * @return the children whose data has to be fetched
+     */
+    private Set<String> calculateChildrenDeltaAndUpdateState(List<String> children, boolean isInitialFetch,
+        Map<String, T> removedChildren)
     {
       // remove children that have been evicted from the map
       Set<String> oldChildren = new HashSet<>(_childrenMap.keySet());
@@ -1018,6 +1038,7 @@ public class ZooKeeperEphemeralStore<T> extends ZooKeeperStore<T>
       }
 
       oldChildren.forEach(_childrenMap::remove);
+      removedChildren.putAll(oldChildrenMap);
       if (_fileStore != null)
       {
         oldChildren.forEach(_fileStore::remove);
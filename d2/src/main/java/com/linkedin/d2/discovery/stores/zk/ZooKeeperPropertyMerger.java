@@ -29,6 +29,23 @@ public interface ZooKeeperPropertyMerger<T>
    */
   T merge(String propertyName, Collection<T> propertiesToMerge);
 
+  /**
+   * Merge a change of the children into the property previously merged from them. The result must be equivalent to
+   * merging all current children. The default implementation does exactly that; implementations may instead apply
+   * the removed and added children to the previous property.
+   *
+   * @param propertyName name of the property
+   * @param previous property merged from the children before the change
+   * @param removed children that have been removed since the previous merge
+   * @param added children that have been added since the previous merge
+   * @param propertiesToMerge all current children, including the added ones
+   */
+  default T mergeDelta(String propertyName, T previous, Collection<T> removed, Collection<T> added,
+      Collection<T> propertiesToMerge)
+  {
+    return merge(propertyName, propertiesToMerge);
+  }
+
   /**
    * unmerge should return the String key of the propertiesToMerge containing the value to delete
    */
@@ -16,6 +16,7 @@
 package com.linkedin.d2.backuprequests;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
 import java.util.concurrent.TimeUnit;
@@ -88,6 +89,27 @@ public class TestBoundedCostBackupRequestsStrategy
         + withBackup99 / 1000000 + "ms, without backup: " + withoutBackup99 / 1000000 + "ms");
   }
 
+  @Test
+  public void testBatchCost()
+  {
+    BoundedCostBackupRequestsStrategy strategy = new BoundedCostBackupRequestsStrategy(10, 64, 1024, 128, 0);
+    for (int i = 0; i < 128; i++)
+    {
+      strategy.recordCompletion(TimeUnit.MILLISECONDS.toNanos(10));
+    }
+
+    // 100 batch requests of 10 keys each make a budget for a burst of 64 keys
+    for (int i = 0; i < 100; i++)
+    {
+      assertTrue(strategy.getTimeUntilBackupRequestNano(10).isPresent());
+    }
+    assertFalse(strategy.isBackupRequestAllowed(65));
+    assertTrue(strategy.isBackupRequestAllowed(60));
+    assertFalse(strategy.isBackupRequestAllowed(5));
+    assertTrue(strategy.isBackupRequestAllowed(4));
+    assertFalse(strategy.isBackupRequestAllowed());
+  }
+
   @Test(expectedExceptions = { IllegalArgumentException.class })
   public void testZeroPercent()
   {
@@ -58,6 +58,8 @@ import com.linkedin.r2.message.stream.StreamResponseBuilder;
 import com.linkedin.r2.message.stream.entitystream.ByteStringWriter;
 import com.linkedin.r2.message.stream.entitystream.DrainReader;
 import com.linkedin.r2.message.stream.entitystream.EntityStreams;
+import com.linkedin.r2.message.stream.entitystream.WriteHandle;
+import com.linkedin.r2.message.stream.entitystream.Writer;
 import com.linkedin.r2.transport.common.bridge.client.TransportClient;
 import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
 import com.linkedin.r2.transport.common.bridge.common.TransportResponseImpl;
@@ -230,6 +232,133 @@ public class TestBackupRequestsClient
     }
   }
 
+  @Test(invocationCount = 3, dataProvider = "isD2Async")
+  public void testStreamRequestWithReplayBuffer(boolean isD2Async) throws Exception {
+    // without IS_FULL_REQUEST, backup requests replay the entity if it fits into the buffer
+    assertStreamRequestHosts(isD2Async, CONTENT.length(), 2);
+  }
+
+  @Test(invocationCount = 3, dataProvider = "isD2Async")
+  public void testStreamRequestExceedingReplayBuffer(boolean isD2Async) throws Exception {
+    assertStreamRequestHosts(isD2Async, CONTENT.length() - 1, 1);
+  }
+
+  @Test(invocationCount = 3, dataProvider = "isD2Async")
+  public void testStreamRequestOverflowingReplayBufferAfterBackup(boolean isD2Async) throws Exception {
+    int responseDelayNano = 100000000; //0.1s till response comes back
+    int backupDelayNano = 50000000; // make backup request after 0.05 second
+    Deque<URI> hostsReceivingRequest = new ConcurrentLinkedDeque<>();
+    BackupRequestsClient client =
+        createAlwaysBackupClientWithHosts(Arrays.asList("http://test1.com:123", "http://test2.com:123"),
+            hostsReceivingRequest, responseDelayNano, backupDelayNano, isD2Async, CONTENT.length());
+
+    // The first chunk fits into the replay buffer, the second one is only written once the backup request has
+    // started replaying the entity, and makes the entity outgrow the buffer.
+    Writer writer = new Writer() {
+      private WriteHandle _wh;
+      private boolean _started;
+
+      @Override
+      public void onInit(WriteHandle wh) {
+        _wh = wh;
+      }
+
+      @Override
+      public void onWritePossible() {
+        if (!_started) {
+          _started = true;
+          _wh.write(CONTENT);
+          new Thread(() -> {
+            waitUntilTrue(() -> hostsReceivingRequest.size() == 2);
+            _wh.write(CONTENT);
+            _wh.done();
+          }).start();
+        }
+      }
+
+      @Override
+      public void onAbort(Throwable e) {
+      }
+    };
+
+    URI uri = URI.create("d2://testService");
+    StreamRequest streamRequest = new StreamRequestBuilder(uri).build(EntityStreams.newEntityStream(writer));
+    RequestContext context = new RequestContext();
+    context.putLocalAttr(R2Constants.OPERATION, "get");
+
+    CountDownLatch latch = new CountDownLatch(1);
+    AtomicReference<AssertionError> failure = new AtomicReference<>();
+
+    client.streamRequest(streamRequest, context, new Callback<StreamResponse>() {
+      @Override
+      public void onError(Throwable e) {
+        failure.set(new AssertionError("Callback onError", e));
+        latch.countDown();
+      }
+
+      @Override
+      public void onSuccess(StreamResponse result) {
+        try {
+          assertEquals(result.getStatus(), 200);
+          assertEquals(hostsReceivingRequest.size(), 2);
+        } catch (AssertionError e) {
+          failure.set(e);
+        }
+        latch.countDown();
+      }
+    });
+
+    assertTrue(latch.await(2, TimeUnit.SECONDS));
+    if (failure.get() != null) {
+      throw failure.get();
+    }
+  }
+
+  private void assertStreamRequestHosts(boolean isD2Async, int maxStreamingBufferBytes, int expectedHosts)
+      throws Exception {
+    int responseDelayNano = 100000000; //1s till response comes back
+    int backupDelayNano = 50000000; // make backup request after 0.5 second
+    Deque<URI> hostsReceivingRequest = new ConcurrentLinkedDeque<>();
+    BackupRequestsClient client =
+        createAlwaysBackupClientWithHosts(Arrays.asList("http://test1.com:123", "http://test2.com:123"),
+            hostsReceivingRequest, responseDelayNano, backupDelayNano, isD2Async, maxStreamingBufferBytes);
+
+    URI uri = URI.create("d2://testService");
+    StreamRequest streamRequest =
+        new StreamRequestBuilder(uri).build(EntityStreams.newEntityStream(new ByteStringWriter(CONTENT)));
+    RequestContext context = new RequestContext();
+    context.putLocalAttr(R2Constants.OPERATION, "get");
+
+    CountDownLatch latch = new CountDownLatch(1);
+    AtomicReference<AssertionError> failure = new AtomicReference<>();
+
+    client.streamRequest(streamRequest, context, new Callback<StreamResponse>() {
+      @Override
+      public void onError(Throwable e) {
+        failure.set(new AssertionError("Callback onError"));
+        latch.countDown();
+      }
+
+      @Override
+      public void onSuccess(StreamResponse result) {
+        try {
+          assertEquals(result.getStatus(), 200);
+          assertEquals(result.getHeader(BUFFERED_HEADER), "false");
+          assertEquals(hostsReceivingRequest.size(), expectedHosts);
+          assertEquals(new HashSet<>(hostsReceivingRequest).size(), expectedHosts);
+        } catch (AssertionError e) {
+          failure.set(e);
+        }
+        latch.countDown();
+      }
+    });
+
+    latch.await(2, TimeUnit.SECONDS);
+    if (failure.get() != null) {
+      throw failure.get();
+    }
+  }
+
   /**
    * Backup Request should still work when a hint is given together with the flag indicating that the hint is only a preference, not requirement.
    */
@@ -710,6 +839,14 @@ public class TestBackupRequestsClient
   private BackupRequestsClient createAlwaysBackupClientWithHosts(List<String> uris, Deque<URI> hostsReceivingRequestList,
       int responseDelayNano, int backupDelayNano, boolean isD2Async)
       throws IOException
+  {
+    return createAlwaysBackupClientWithHosts(uris, hostsReceivingRequestList, responseDelayNano, backupDelayNano,
+        isD2Async, 0);
+  }
+
+  private BackupRequestsClient createAlwaysBackupClientWithHosts(List<String> uris, Deque<URI> hostsReceivingRequestList,
+      int responseDelayNano, int backupDelayNano, boolean isD2Async, int maxStreamingBufferBytes)
+      throws IOException
   {
     Map<URI,Map<Integer, PartitionData>> partitionDescriptions = new HashMap<>();
     uris.forEach(uri -> partitionDescriptions.put(URI.create(uri), Collections.singletonMap(0, new PartitionData(1))));
@@ -748,6 +885,10 @@ public class TestBackupRequestsClient
               return;
             }
             request.getEntityStream().setReader(new DrainReader(){
+              public void onError(Throwable e) {
+                callback.onResponse(TransportResponseImpl.error(e));
+              }
+
               public void onDone() {
                 // delay response to allow backup request to happen
                 _executor.schedule(
@@ -767,7 +908,8 @@ public class TestBackupRequestsClient
     LoadBalancer loadBalancer = new SimpleLoadBalancer(LbState, _executor);
     DynamicClient dynamicClient = new DynamicClient(loadBalancer, null);
 
-    return new BackupRequestsClient(dynamicClient, loadBalancer, _executor, null, 10, TimeUnit.SECONDS, isD2Async) {
+    return new BackupRequestsClient(dynamicClient, loadBalancer, _executor, null, 10, TimeUnit.SECONDS, isD2Async,
+        maxStreamingBufferBytes) {
       @Override
       Optional<TrackingBackupRequestsStrategy> getStrategyAfterUpdate(final String serviceName, final String operation)
       {
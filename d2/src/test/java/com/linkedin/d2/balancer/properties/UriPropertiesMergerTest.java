@@ -0,0 +1,118 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.d2.balancer.properties;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static com.linkedin.d2.util.TestDataHelper.*;
+
+
+public class UriPropertiesMergerTest
+{
+  private static final UriPropertiesMerger MERGER = new UriPropertiesMerger();
+
+  private static UriProperties child(URI uri, Map<Integer, PartitionData> partitions, long version,
+      Map<String, Object> specificProperties)
+  {
+    return new UriProperties(CLUSTER_NAME, Collections.singletonMap(uri, partitions),
+        specificProperties == null ? Collections.emptyMap() : Collections.singletonMap(uri, specificProperties),
+        version);
+  }
+
+  @Test
+  public void testMergeDeltaMatchesMerge()
+  {
+    UriProperties child1 = child(URI_1, MAP_1, 10, null);
+    UriProperties child2 = child(URI_2, MAP_2, 20, Collections.singletonMap("key", "value"));
+    UriProperties child3 = child(URI_3, MAP_3, 30, null);
+    UriProperties child4 = child(URI_4, MAP_4, 5, null);
+
+    List<UriProperties> children = new ArrayList<>(Arrays.asList(child1, child2, child3));
+    UriProperties previous = MERGER.merge(CLUSTER_NAME, children);
+    Assert.assertNull(previous.getDelta());
+
+    // remove the child holding the max version and add another one
+    children.remove(child3);
+    children.add(child4);
+    UriProperties merged = MERGER.mergeDelta(CLUSTER_NAME, previous, Collections.singletonList(child3),
+        Collections.singletonList(child4), children);
+    UriProperties expected = MERGER.merge(CLUSTER_NAME, children);
+    Assert.assertEquals(merged, expected);
+    Assert.assertEquals(merged.getVersion(), expected.getVersion());
+    Assert.assertEquals(merged.getUrisBySchemeAndPartition(), expected.getUrisBySchemeAndPartition());
+    Assert.assertNull(merged.getUriBySchemeAndPartition("https", 3));
+
+    UriPropertiesDelta delta = merged.getDelta();
+    Assert.assertTrue(delta.isRelativeTo(previous));
+    Assert.assertFalse(delta.isRelativeTo(expected));
+    Assert.assertEquals(delta.getRemovedUris(), Collections.singleton(URI_3));
+    Assert.assertEquals(delta.getUpdatedUris(), Collections.singleton(URI_4));
+
+    // unchanged partition data is shared with the previous snapshot
+    Assert.assertSame(merged.getPartitionDataMap(URI_1), previous.getPartitionDataMap(URI_1));
+
+    // removing the only child that carries uri specific properties
+    children.remove(child2);
+    UriProperties removed = MERGER.mergeDelta(CLUSTER_NAME, merged, Collections.singletonList(child2),
+        Collections.emptyList(), children);
+    Assert.assertEquals(removed, MERGER.merge(CLUSTER_NAME, children));
+    Assert.assertTrue(removed.getUriSpecificProperties().isEmpty());
+    Assert.assertEquals(removed.getUriBySchemeAndPartition("http", 1), Collections.singleton(URI_1));
+  }
+
+  @Test
+  public void testMergeDeltaKeepsDuplicateUri()
+  {
+    // a restarted host announces itself again before the ephemeral node of its previous session expires
+    UriProperties oldSession = child(URI_1, MAP_1, 10, null);
+    UriProperties newSession = child(URI_1, MAP_4, 20, null);
+    UriProperties other = child(URI_2, MAP_2, 15, null);
+
+    UriProperties previous = MERGER.merge(CLUSTER_NAME, Arrays.asList(oldSession, other));
+    UriProperties added = MERGER.mergeDelta(CLUSTER_NAME, previous, Collections.emptyList(),
+        Collections.singletonList(newSession), Arrays.asList(oldSession, other, newSession));
+    Assert.assertEquals(added.getPartitionDataMap(URI_1), MAP_4);
+
+    UriProperties expired = MERGER.mergeDelta(CLUSTER_NAME, added, Collections.singletonList(oldSession),
+        Collections.emptyList(), Arrays.asList(other, newSession));
+    Assert.assertEquals(expired, MERGER.merge(CLUSTER_NAME, Arrays.asList(other, newSession)));
+    Assert.assertEquals(expired.getVersion(), 20);
+    Assert.assertTrue(expired.getDelta().getRemovedUris().isEmpty());
+    Assert.assertEquals(expired.getDelta().getUpdatedUris(), Collections.singleton(URI_1));
+  }
+
+  @Test
+  public void testMergeDeltaWithoutPrevious()
+  {
+    List<UriProperties> children = Collections.singletonList(child(URI_1, MAP_1, 10, null));
+    UriProperties merged = MERGER.mergeDelta(CLUSTER_NAME, null, Collections.emptyList(), children, children);
+    Assert.assertEquals(merged, MERGER.merge(CLUSTER_NAME, children));
+    Assert.assertNull(merged.getDelta());
+
+    UriProperties otherCluster = new UriProperties("OtherCluster", new HashMap<>());
+    merged = MERGER.mergeDelta(CLUSTER_NAME, otherCluster, Collections.emptyList(), children, children);
+    Assert.assertNull(merged.getDelta());
+  }
+}
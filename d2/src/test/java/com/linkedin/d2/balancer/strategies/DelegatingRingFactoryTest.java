@@ -231,5 +231,48 @@ public class DelegatingRingFactoryTest
     assertTrue(ring instanceof DistributionNonDiscreteRing);
   }
 
+  @Test(groups = { "small", "back-end" })
+  public void testUpdateRingWithPointBased() {
+    testUpdateRingMatchesCreateRing("pointBased");
+  }
+
+  @Test(groups = { "small", "back-end" })
+  public void testUpdateRingWithMultiProbe() {
+    testUpdateRingMatchesCreateRing("multiProbe");
+  }
+
+  @Test(groups = { "small", "back-end" })
+  public void testUpdateRingWithoutChanges() {
+    RingFactory<String> factory = new DelegatingRingFactory<>(configBuilder("pointBased", null));
+    Map<String, Integer> pointsMp = buildPointsMap(10);
+    Ring<String> ring = factory.createRing(pointsMp, Collections.emptyMap());
+
+    assertTrue(factory.updateRing(ring, new HashMap<>(pointsMp), Collections.emptyMap()) == ring);
+  }
+
+  private void testUpdateRingMatchesCreateRing(String hashAlgorithm) {
+    RingFactory<String> factory = new DelegatingRingFactory<>(configBuilder(hashAlgorithm, null));
+    Map<String, Integer> pointsMp = buildPointsMap(50);
+    Ring<String> ring = factory.createRing(pointsMp, Collections.emptyMap());
+    Random random = new Random(1);
+
+    for (int i = 0; i < 20; ++i) {
+      // remove a host, add a host and move the points of two others
+      pointsMp.remove(pointsMp.keySet().iterator().next());
+      pointsMp.put("http://test.linkedin.com:" + (2000 + i), 100);
+      for (int j = 0; j < 2; ++j) {
+        String uri = pointsMp.keySet().stream().skip(random.nextInt(pointsMp.size())).findFirst().get();
+        pointsMp.put(uri, random.nextInt(200));
+      }
+
+      ring = factory.updateRing(ring, pointsMp, Collections.emptyMap());
+      Ring<String> expected = new DelegatingRingFactory<String>(configBuilder(hashAlgorithm, null))
+          .createRing(pointsMp, Collections.emptyMap());
+      for (int j = 0; j < 1000; ++j) {
+        int key = random.nextInt();
+        assertEquals(ring.get(key), expected.get(key));
+      }
+    }
+  }
 }
 
@@ -119,4 +119,39 @@ public class TestBurstyBarrier
     //65th can't be allowed
     assertFalse(barrier.canPassThrough());
   }
+
+  @Test
+  public void testCostLimitPrecision()
+  {
+    BurstyBarrier barrier = new BurstyBarrier(10, 64);
+    int passedThrough = 0;
+    for (int i = 0; i < ITERATIONS / 10; i++)
+    {
+      // batches of 10 events, each attempting to pass through as a whole
+      barrier.arrive(10);
+      if (barrier.canPassThrough(10))
+      {
+        passedThrough += 10;
+      }
+    }
+    // batches pass through as a whole, so they can't use up the last fraction of the budget
+    double percentPassedThrough = (100d * passedThrough) / ITERATIONS;
+    assertTrue(percentPassedThrough <= 10 && percentPassedThrough > 9, "result: " + percentPassedThrough);
+  }
+
+  @Test
+  public void testCostBurstiness()
+  {
+    BurstyBarrier barrier = new BurstyBarrier(10, 64);
+    for (int i = 0; i < 1000; i++)
+    {
+      barrier.arrive();
+    }
+    assertFalse(barrier.canPassThrough(65));
+    assertTrue(barrier.canPassThrough(60));
+    //only 4 events are left in the burst
+    assertFalse(barrier.canPassThrough(5));
+    assertTrue(barrier.canPassThrough(4));
+    assertFalse(barrier.canPassThrough());
+  }
 }
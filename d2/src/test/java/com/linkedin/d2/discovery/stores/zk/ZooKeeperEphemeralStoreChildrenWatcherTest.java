@@ -387,6 +387,9 @@ public class ZooKeeperEphemeralStoreChildrenWatcherTest
         false);
     _testData.remove(CHILD_PATH_1);
     Assert.assertEquals(_outputData, MERGER.merge(CLUSTER_NAME, _testData.values()));
+    // the removal was applied to the initial property instead of merging all children again
+    Assert.assertNotNull(_outputData.getDelta());
+    Assert.assertEquals(_outputData.getDelta().getRemovedUris(), Collections.singleton(URI_1));
     _eventBus.unregister(Collections.singleton(CLUSTER_NAME), subscriber);
     client.shutdown();
   }
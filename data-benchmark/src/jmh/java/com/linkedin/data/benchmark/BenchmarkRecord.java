@@ -0,0 +1,142 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.benchmark;
+
+import com.linkedin.data.DataMap;
+import com.linkedin.data.schema.RecordDataSchema;
+import com.linkedin.data.template.DataTemplateUtil;
+import com.linkedin.data.template.GetMode;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.data.template.SetMode;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.data.template.StringMap;
+
+
+/**
+ * Hand written equivalent of a generated record template, used by the benchmarks so that this module does not
+ * need the data template generator. The accessors delegate to the same {@link RecordTemplate} methods that
+ * generated code uses.
+ */
+public class BenchmarkRecord extends RecordTemplate
+{
+  public static final RecordDataSchema SCHEMA = (RecordDataSchema) DataTemplateUtil.parseSchema(
+      "{ \"type\" : \"record\", \"name\" : \"BenchmarkRecord\", \"namespace\" : \"com.linkedin.data.benchmark\", \"fields\" : [\n" +
+      "  { \"name\" : \"id\", \"type\" : \"long\" },\n" +
+      "  { \"name\" : \"name\", \"type\" : \"string\" },\n" +
+      "  { \"name\" : \"score\", \"type\" : \"double\", \"optional\" : true },\n" +
+      "  { \"name\" : \"active\", \"type\" : \"boolean\", \"default\" : true },\n" +
+      "  { \"name\" : \"tags\", \"type\" : { \"type\" : \"array\", \"items\" : \"string\" }, \"optional\" : true },\n" +
+      "  { \"name\" : \"attributes\", \"type\" : { \"type\" : \"map\", \"values\" : \"string\" }, \"optional\" : true },\n" +
+      "  { \"name\" : \"child\", \"type\" : \"BenchmarkRecord\", \"optional\" : true },\n" +
+      "  { \"name\" : \"children\", \"type\" : { \"type\" : \"array\", \"items\" : \"BenchmarkRecord\" }, \"optional\" : true }\n" +
+      "] }");
+
+  private static final RecordDataSchema.Field FIELD_Id = SCHEMA.getField("id");
+  private static final RecordDataSchema.Field FIELD_Name = SCHEMA.getField("name");
+  private static final RecordDataSchema.Field FIELD_Score = SCHEMA.getField("score");
+  private static final RecordDataSchema.Field FIELD_Active = SCHEMA.getField("active");
+  private static final RecordDataSchema.Field FIELD_Tags = SCHEMA.getField("tags");
+  private static final RecordDataSchema.Field FIELD_Attributes = SCHEMA.getField("attributes");
+  private static final RecordDataSchema.Field FIELD_Child = SCHEMA.getField("child");
+
+  public BenchmarkRecord()
+  {
+    super(new DataMap(), SCHEMA);
+  }
+
+  public BenchmarkRecord(DataMap data)
+  {
+    super(data, SCHEMA);
+  }
+
+  public Long getId()
+  {
+    return obtainDirect(FIELD_Id, Long.class, GetMode.STRICT);
+  }
+
+  public BenchmarkRecord setId(long value)
+  {
+    putDirect(FIELD_Id, Long.class, Long.class, value, SetMode.DISALLOW_NULL);
+    return this;
+  }
+
+  public String getName()
+  {
+    return obtainDirect(FIELD_Name, String.class, GetMode.STRICT);
+  }
+
+  public BenchmarkRecord setName(String value)
+  {
+    putDirect(FIELD_Name, String.class, String.class, value, SetMode.DISALLOW_NULL);
+    return this;
+  }
+
+  public Double getScore()
+  {
+    return obtainDirect(FIELD_Score, Double.class, GetMode.STRICT);
+  }
+
+  public BenchmarkRecord setScore(double value)
+  {
+    putDirect(FIELD_Score, Double.class, Double.class, value, SetMode.DISALLOW_NULL);
+    return this;
+  }
+
+  public Boolean isActive()
+  {
+    return obtainDirect(FIELD_Active, Boolean.class, GetMode.STRICT);
+  }
+
+  public BenchmarkRecord setActive(boolean value)
+  {
+    putDirect(FIELD_Active, Boolean.class, Boolean.class, value, SetMode.DISALLOW_NULL);
+    return this;
+  }
+
+  public StringArray getTags()
+  {
+    return obtainWrapped(FIELD_Tags, StringArray.class, GetMode.STRICT);
+  }
+
+  public BenchmarkRecord setTags(StringArray value)
+  {
+    putWrapped(FIELD_Tags, StringArray.class, value, SetMode.DISALLOW_NULL);
+    return this;
+  }
+
+  public StringMap getAttributes()
+  {
+    return obtainWrapped(FIELD_Attributes, StringMap.class, GetMode.STRICT);
+  }
+
+  public BenchmarkRecord setAttributes(StringMap value)
+  {
+    putWrapped(FIELD_Attributes, StringMap.class, value, SetMode.DISALLOW_NULL);
+    return this;
+  }
+
+  public BenchmarkRecord getChild()
+  {
+    return obtainWrapped(FIELD_Child, BenchmarkRecord.class, GetMode.STRICT);
+  }
+
+  public BenchmarkRecord setChild(BenchmarkRecord value)
+  {
+    putWrapped(FIELD_Child, BenchmarkRecord.class, value, SetMode.DISALLOW_NULL);
+    return this;
+  }
+}
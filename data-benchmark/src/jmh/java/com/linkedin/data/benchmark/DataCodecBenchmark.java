@@ -0,0 +1,122 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.benchmark;
+
+import com.linkedin.data.ByteString;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.DataCodec;
+import com.linkedin.data.codec.JacksonDataCodec;
+import com.linkedin.data.codec.JacksonLICORDataCodec;
+import com.linkedin.data.codec.JacksonSmileDataCodec;
+import com.linkedin.data.codec.ProtobufDataCodec;
+import com.linkedin.data.codec.PsonDataCodec;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Measures encoding and decoding of {@link DataMap}s with each of the byte array based {@link DataCodec}s.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DataCodecBenchmark
+{
+  public enum Codec
+  {
+    JSON(JacksonDataCodec::new),
+    PSON(PsonDataCodec::new),
+    SMILE(JacksonSmileDataCodec::new),
+    PROTOBUF(ProtobufDataCodec::new),
+    LICOR_TEXT(() -> new JacksonLICORDataCodec(false)),
+    LICOR_BINARY(() -> new JacksonLICORDataCodec(true));
+
+    private final Supplier<DataCodec> _factory;
+
+    Codec(Supplier<DataCodec> factory)
+    {
+      _factory = factory;
+    }
+
+    DataCodec create()
+    {
+      return _factory.get();
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class CodecState
+  {
+    @Param
+    Codec codec;
+
+    @Param
+    PayloadShape shape;
+
+    DataCodec _dataCodec;
+    DataMap _dataMap;
+    byte[] _bytes;
+    ByteString _byteString;
+
+    @Setup
+    public void setup() throws IOException
+    {
+      _dataCodec = codec.create();
+      _dataMap = shape.create();
+      _bytes = _dataCodec.mapToBytes(_dataMap);
+      _byteString = ByteString.unsafeWrap(_bytes);
+    }
+  }
+
+  @Benchmark
+  public byte[] measureMapToBytes(CodecState state) throws IOException
+  {
+    return state._dataCodec.mapToBytes(state._dataMap);
+  }
+
+  @Benchmark
+  public ByteString measureMapToByteString(CodecState state) throws IOException
+  {
+    return state._dataCodec.mapToByteString(state._dataMap);
+  }
+
+  @Benchmark
+  public DataMap measureBytesToMap(CodecState state) throws IOException
+  {
+    return state._dataCodec.bytesToMap(state._bytes);
+  }
+
+  @Benchmark
+  public DataMap measureReadMapFromByteString(CodecState state) throws IOException
+  {
+    return state._dataCodec.readMap(state._byteString);
+  }
+}
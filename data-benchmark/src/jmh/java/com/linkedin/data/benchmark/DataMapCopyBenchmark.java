@@ -0,0 +1,72 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.benchmark;
+
+import com.linkedin.data.DataMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Measures deep copies of {@link DataMap}s, which back template copies, response building and default filling.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DataMapCopyBenchmark
+{
+  @State(Scope.Benchmark)
+  public static class CopyState
+  {
+    @Param
+    PayloadShape shape;
+
+    DataMap _dataMap;
+
+    @Setup
+    public void setup()
+    {
+      _dataMap = shape.create();
+    }
+  }
+
+  @Benchmark
+  public DataMap measureCopy(CopyState state) throws CloneNotSupportedException
+  {
+    return state._dataMap.copy();
+  }
+
+  @Benchmark
+  public DataMap measureCopyReadOnly(CopyState state) throws CloneNotSupportedException
+  {
+    DataMap copy = state._dataMap.copy();
+    copy.makeReadOnly();
+    return copy;
+  }
+}
@@ -0,0 +1,118 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.benchmark;
+
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import java.util.Random;
+
+
+/**
+ * Payload shapes used across the data layer benchmarks. All payloads conform to {@link BenchmarkRecord#SCHEMA} and
+ * are generated from a fixed seed so that results are comparable between runs.
+ */
+public enum PayloadShape
+{
+  /**
+   * A single record with a handful of primitive fields, typical of a simple GET response.
+   */
+  SMALL
+  {
+    @Override
+    DataMap create(Random random)
+    {
+      return createRecord(random, 0, 3, 3);
+    }
+  },
+
+  /**
+   * A record with many tags and attributes and a long array of child records, typical of a collection response.
+   */
+  WIDE
+  {
+    @Override
+    DataMap create(Random random)
+    {
+      DataMap record = createRecord(random, 0, 50, 100);
+      DataList children = new DataList(WIDE_CHILDREN);
+      for (int i = 0; i < WIDE_CHILDREN; i++)
+      {
+        children.add(createRecord(random, i + 1, 5, 10));
+      }
+      record.put("children", children);
+      return record;
+    }
+  },
+
+  /**
+   * A chain of nested records, exercising the recursive paths of the codecs and traversals.
+   */
+  DEEP
+  {
+    @Override
+    DataMap create(Random random)
+    {
+      DataMap root = createRecord(random, 0, 3, 3);
+      DataMap current = root;
+      for (int i = 1; i < DEEP_LEVELS; i++)
+      {
+        DataMap child = createRecord(random, i, 3, 3);
+        current.put("child", child);
+        current = child;
+      }
+      return root;
+    }
+  };
+
+  private static final int WIDE_CHILDREN = 200;
+  private static final int DEEP_LEVELS = 64;
+  private static final long SEED = 42L;
+
+  abstract DataMap create(Random random);
+
+  /**
+   * @return a new payload of this shape. Each call returns an independent, equal copy.
+   */
+  public DataMap create()
+  {
+    return create(new Random(SEED));
+  }
+
+  private static DataMap createRecord(Random random, long id, int numTags, int numAttributes)
+  {
+    DataMap record = new DataMap();
+    record.put("id", id);
+    record.put("name", "record-" + id + "-" + Long.toHexString(random.nextLong()));
+    record.put("score", random.nextDouble());
+    record.put("active", random.nextBoolean());
+
+    DataList tags = new DataList(numTags);
+    for (int i = 0; i < numTags; i++)
+    {
+      tags.add("tag-" + random.nextInt(1000));
+    }
+    record.put("tags", tags);
+
+    DataMap attributes = new DataMap(numAttributes * 2);
+    for (int i = 0; i < numAttributes; i++)
+    {
+      attributes.put("attribute" + i, Long.toHexString(random.nextLong()));
+    }
+    record.put("attributes", attributes);
+    return record;
+  }
+}
@@ -0,0 +1,133 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.benchmark;
+
+import com.linkedin.data.DataMap;
+import com.linkedin.data.schema.PathSpec;
+import com.linkedin.data.transform.filter.CopyFilter;
+import com.linkedin.data.transform.filter.request.MaskOperation;
+import com.linkedin.data.transform.filter.request.MaskTree;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Measures {@link CopyFilter} projection of a {@link DataMap}, as done by the Rest.li server for projected responses.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProjectionBenchmark
+{
+  public enum Projection
+  {
+    /**
+     * Selects two top level primitive fields.
+     */
+    SPARSE
+    {
+      @Override
+      MaskTree create()
+      {
+        MaskTree maskTree = new MaskTree();
+        maskTree.addOperation(new PathSpec("id"), MaskOperation.POSITIVE_MASK_OP);
+        maskTree.addOperation(new PathSpec("name"), MaskOperation.POSITIVE_MASK_OP);
+        return maskTree;
+      }
+    },
+
+    /**
+     * Selects a few fields of the nested records as well as the top level record.
+     */
+    NESTED
+    {
+      @Override
+      MaskTree create()
+      {
+        MaskTree maskTree = new MaskTree();
+        maskTree.addOperation(new PathSpec("id"), MaskOperation.POSITIVE_MASK_OP);
+        maskTree.addOperation(new PathSpec("child", "id"), MaskOperation.POSITIVE_MASK_OP);
+        maskTree.addOperation(new PathSpec("child", "child", "name"), MaskOperation.POSITIVE_MASK_OP);
+        maskTree.addOperation(new PathSpec("children", PathSpec.WILDCARD, "name"), MaskOperation.POSITIVE_MASK_OP);
+        return maskTree;
+      }
+    },
+
+    /**
+     * Excludes the attributes, keeping everything else.
+     */
+    NEGATIVE
+    {
+      @Override
+      MaskTree create()
+      {
+        MaskTree maskTree = new MaskTree();
+        maskTree.addOperation(new PathSpec("attributes"), MaskOperation.NEGATIVE_MASK_OP);
+        return maskTree;
+      }
+    };
+
+    abstract MaskTree create();
+  }
+
+  @State(Scope.Benchmark)
+  public static class ProjectionState
+  {
+    @Param
+    PayloadShape shape;
+
+    @Param
+    Projection projection;
+
+    DataMap _dataMap;
+    DataMap _filter;
+    Set<String> _alwaysIncludedFields = Collections.singleton("id");
+
+    @Setup
+    public void setup()
+    {
+      _dataMap = shape.create();
+      _filter = projection.create().getDataMap();
+    }
+  }
+
+  @Benchmark
+  public Object measureCopyFilter(ProjectionState state)
+  {
+    return new CopyFilter().filter(state._dataMap, state._filter);
+  }
+
+  @Benchmark
+  public Object measureCopyFilterWithAlwaysIncludedFields(ProjectionState state)
+  {
+    return new CopyFilter(state._alwaysIncludedFields).filter(state._dataMap, state._filter);
+  }
+}
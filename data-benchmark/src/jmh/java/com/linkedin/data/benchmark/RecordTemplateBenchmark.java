@@ -0,0 +1,108 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.benchmark;
+
+import com.linkedin.data.DataMap;
+import com.linkedin.data.template.StringArray;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+
+/**
+ * Measures {@link com.linkedin.data.template.RecordTemplate} field access, covering direct (primitive) fields,
+ * wrapped fields served from the template cache and wrapped fields that have to construct a new template.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RecordTemplateBenchmark
+{
+  @State(Scope.Benchmark)
+  public static class TemplateState
+  {
+    DataMap _dataMap;
+    BenchmarkRecord _record;
+    StringArray _tags;
+
+    @Setup
+    public void setup()
+    {
+      _dataMap = PayloadShape.DEEP.create();
+      _record = new BenchmarkRecord(_dataMap);
+      _tags = new StringArray(Arrays.asList("a", "b", "c"));
+    }
+  }
+
+  @Benchmark
+  public void measureGetPrimitiveFields(TemplateState state, Blackhole blackhole)
+  {
+    BenchmarkRecord record = state._record;
+    blackhole.consume(record.getId());
+    blackhole.consume(record.getName());
+    blackhole.consume(record.getScore());
+    blackhole.consume(record.isActive());
+  }
+
+  @Benchmark
+  public void measureGetWrappedFieldsCached(TemplateState state, Blackhole blackhole)
+  {
+    BenchmarkRecord record = state._record;
+    blackhole.consume(record.getTags());
+    blackhole.consume(record.getAttributes());
+    blackhole.consume(record.getChild());
+  }
+
+  @Benchmark
+  public BenchmarkRecord measureGetWrappedFieldUncached(TemplateState state)
+  {
+    // A fresh template has an empty cache, so the nested template is constructed through reflection.
+    return new BenchmarkRecord(state._dataMap).getChild();
+  }
+
+  @Benchmark
+  public BenchmarkRecord measureSetPrimitiveFields()
+  {
+    return new BenchmarkRecord()
+        .setId(1L)
+        .setName("name")
+        .setScore(0.5)
+        .setActive(true);
+  }
+
+  @Benchmark
+  public BenchmarkRecord measureSetWrappedFields(TemplateState state)
+  {
+    return new BenchmarkRecord()
+        .setId(1L)
+        .setName("name")
+        .setTags(state._tags)
+        .setChild(new BenchmarkRecord().setId(2L).setName("child"));
+  }
+}
@@ -0,0 +1,177 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.benchmark;
+
+import com.linkedin.data.ByteString;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.entitystream.JacksonLICORStreamDataCodec;
+import com.linkedin.data.codec.entitystream.JacksonSmileStreamDataCodec;
+import com.linkedin.data.codec.entitystream.JacksonStreamDataCodec;
+import com.linkedin.data.codec.entitystream.ProtobufStreamDataCodec;
+import com.linkedin.data.codec.entitystream.StreamDataCodec;
+import com.linkedin.entitystream.CollectingReader;
+import com.linkedin.entitystream.EntityStream;
+import com.linkedin.entitystream.EntityStreams;
+import com.linkedin.entitystream.WriteHandle;
+import com.linkedin.entitystream.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Measures encoding and decoding of {@link DataMap}s with the {@link StreamDataCodec}s. Encoded output is drained
+ * without copying and decoder input is pre-chunked, so only the codec work is measured.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StreamDataCodecBenchmark
+{
+  public enum Codec
+  {
+    JSON(JacksonStreamDataCodec::new),
+    SMILE(JacksonSmileStreamDataCodec::new),
+    PROTOBUF(ProtobufStreamDataCodec::new),
+    LICOR_TEXT(bufferSize -> new JacksonLICORStreamDataCodec(bufferSize, false)),
+    LICOR_BINARY(bufferSize -> new JacksonLICORStreamDataCodec(bufferSize, true));
+
+    private final IntFunction<StreamDataCodec> _factory;
+
+    Codec(IntFunction<StreamDataCodec> factory)
+    {
+      _factory = factory;
+    }
+
+    StreamDataCodec create(int bufferSize)
+    {
+      return _factory.apply(bufferSize);
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class CodecState
+  {
+    @Param
+    Codec codec;
+
+    @Param
+    PayloadShape shape;
+
+    @Param({"4096"})
+    int bufferSize;
+
+    StreamDataCodec _streamDataCodec;
+    DataMap _dataMap;
+    List<ByteString> _chunks;
+
+    @Setup
+    public void setup() throws ExecutionException, InterruptedException
+    {
+      _streamDataCodec = codec.create(bufferSize);
+      _dataMap = shape.create();
+
+      CollectingReader<ByteString, ?, List<ByteString>> reader = new CollectingReader<>(Collectors.toList());
+      _streamDataCodec.encodeMap(_dataMap).setReader(reader);
+      ByteString.Builder builder = new ByteString.Builder();
+      reader.getResult().toCompletableFuture().get().forEach(builder::append);
+      ByteString encoded = builder.build();
+
+      _chunks = new ArrayList<>();
+      for (int offset = 0; offset < encoded.length(); offset += bufferSize)
+      {
+        _chunks.add(encoded.slice(offset, Math.min(bufferSize, encoded.length() - offset)));
+      }
+    }
+  }
+
+  @Benchmark
+  public Integer measureEncodeMap(CodecState state) throws ExecutionException, InterruptedException
+  {
+    CollectingReader<ByteString, ?, Integer> reader =
+        new CollectingReader<>(Collectors.summingInt(ByteString::length));
+    state._streamDataCodec.encodeMap(state._dataMap).setReader(reader);
+    return reader.getResult().toCompletableFuture().get();
+  }
+
+  @Benchmark
+  public DataMap measureDecodeMap(CodecState state) throws ExecutionException, InterruptedException
+  {
+    EntityStream<ByteString> entityStream = EntityStreams.newEntityStream(new ChunkWriter(state._chunks));
+    return state._streamDataCodec.decodeMap(entityStream).toCompletableFuture().get();
+  }
+
+  /**
+   * Writes a precomputed list of chunks to the stream.
+   */
+  private static class ChunkWriter implements Writer<ByteString>
+  {
+    private final List<ByteString> _chunks;
+    private WriteHandle<? super ByteString> _writeHandle;
+    private int _index;
+
+    ChunkWriter(List<ByteString> chunks)
+    {
+      _chunks = chunks;
+    }
+
+    @Override
+    public void onInit(WriteHandle<? super ByteString> wh)
+    {
+      _writeHandle = wh;
+    }
+
+    @Override
+    public void onWritePossible()
+    {
+      while (_writeHandle.remaining() > 0)
+      {
+        if (_index < _chunks.size())
+        {
+          _writeHandle.write(_chunks.get(_index++));
+        }
+        else
+        {
+          _writeHandle.done();
+          return;
+        }
+      }
+    }
+
+    @Override
+    public void onAbort(Throwable e)
+    {
+      // Nothing to clean up.
+    }
+  }
+}
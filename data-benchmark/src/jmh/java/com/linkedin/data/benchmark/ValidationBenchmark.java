@@ -0,0 +1,84 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.benchmark;
+
+import com.linkedin.data.DataMap;
+import com.linkedin.data.schema.validation.CoercionMode;
+import com.linkedin.data.schema.validation.RequiredMode;
+import com.linkedin.data.schema.validation.ValidateDataAgainstSchema;
+import com.linkedin.data.schema.validation.ValidationOptions;
+import com.linkedin.data.schema.validation.ValidationResult;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Measures {@link ValidateDataAgainstSchema#validate(Object, com.linkedin.data.schema.DataSchema, ValidationOptions)}
+ * with the options used for request validation and for read-only (no fixup) validation.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ValidationBenchmark
+{
+  private static final ValidationOptions NO_FIXUP_OPTIONS =
+      new ValidationOptions(RequiredMode.CAN_BE_ABSENT_IF_HAS_DEFAULT, CoercionMode.NORMAL);
+  private static final ValidationOptions FIXUP_OPTIONS =
+      new ValidationOptions(RequiredMode.FIXUP_ABSENT_WITH_DEFAULT, CoercionMode.STRING_TO_PRIMITIVE);
+
+  @State(Scope.Benchmark)
+  public static class ValidationState
+  {
+    @Param
+    PayloadShape shape;
+
+    DataMap _dataMap;
+
+    @Setup
+    public void setup()
+    {
+      _dataMap = shape.create();
+      _dataMap.makeReadOnly();
+    }
+  }
+
+  @Benchmark
+  public ValidationResult measureValidate(ValidationState state)
+  {
+    return ValidateDataAgainstSchema.validate(state._dataMap, BenchmarkRecord.SCHEMA, NO_FIXUP_OPTIONS);
+  }
+
+  @Benchmark
+  public ValidationResult measureValidateWithFixup(ValidationState state) throws CloneNotSupportedException
+  {
+    // Fixup mutates the input, so validate a fresh copy each time. Compare with DataMapCopyBenchmark to isolate
+    // the validation cost.
+    return ValidateDataAgainstSchema.validate(state._dataMap.copy(), BenchmarkRecord.SCHEMA, FIXUP_OPTIONS);
+  }
+}
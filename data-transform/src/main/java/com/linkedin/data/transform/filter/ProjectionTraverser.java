@@ -0,0 +1,192 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.transform.filter;
+
+
+import com.linkedin.data.Data;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.DataMapTraverser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * Traverses the projection of a {@link DataMap} without copying it. The traversal events are those that
+ * {@link Data#traverse(Object, Data.TraverseCallback)} would emit for the result of {@link CopyFilter} with the same
+ * filter and always included fields, so that {@link com.linkedin.data.codec.DataCodec#traversalToByteString} encodes
+ * the projected data directly from the original.
+ *
+ * <p>Entries of a map are emitted in the order given by {@link Data.TraverseCallback#orderMap(DataMap)}. Without
+ * such an order, they are emitted in the iteration order of the field operations computed by the filter, which is
+ * unspecified and need not match the iteration order of the original map. Data that is selected as a whole is
+ * traversed in place.</p>
+ */
+public class ProjectionTraverser implements DataMapTraverser
+{
+  private final DataMap _filter;
+  private final Set<String> _alwaysIncludedFields;
+
+  /**
+   * @param filter the filter to apply, in the same format as for {@link CopyFilter#filter(Object, DataMap)}.
+   */
+  public ProjectionTraverser(DataMap filter)
+  {
+    this(filter, null);
+  }
+
+  /**
+   * @param filter the filter to apply, in the same format as for {@link CopyFilter#filter(Object, DataMap)}.
+   * @param alwaysIncludedFields Fields to include in the filtered data, these fields override the operation specified
+   *                             by the filter data.
+   */
+  public ProjectionTraverser(DataMap filter, Set<String> alwaysIncludedFields)
+  {
+    _filter = filter;
+    _alwaysIncludedFields = alwaysIncludedFields;
+  }
+
+  @Override
+  public void traverse(DataMap map, Data.TraverseCallback callback) throws IOException
+  {
+    try
+    {
+      new TraverseFilter(_alwaysIncludedFields, callback).filter(map, _filter);
+    }
+    catch (UncheckedIOException e)
+    {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Emits the filtered data to the callback instead of copying it. The filter callbacks cannot throw
+   * {@link IOException}, so exceptions from the callback are rethrown unchecked and unwrapped by
+   * {@link #traverse(DataMap, Data.TraverseCallback)}.
+   */
+  private static class TraverseFilter extends AbstractFilter
+  {
+    private final Data.TraverseCallback _callback;
+
+    private TraverseFilter(Set<String> alwaysIncludedFields, Data.TraverseCallback callback)
+    {
+      super(alwaysIncludedFields);
+      _callback = callback;
+    }
+
+    @Override
+    protected Object onFilterDataList(DataList data, int start, int count, Object operation)
+    {
+      try
+      {
+        if (operation == FilterConstants.NEGATIVE || start >= data.size() || count <= 0)
+        {
+          _callback.emptyList();
+          return null;
+        }
+
+        count = Math.min(count, data.size() - start);
+        _callback.startList(data, count);
+        for (int i = 0; i < count; ++i)
+        {
+          _callback.index(i);
+          emitValue(data.get(start + i), operation);
+        }
+        _callback.endList();
+        return null;
+      }
+      catch (IOException e)
+      {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    protected Object onFilterDataMap(DataMap data, Map<String, Object> fieldToOperation)
+    {
+      try
+      {
+        if (fieldToOperation.isEmpty())
+        {
+          _callback.emptyMap();
+          return null;
+        }
+
+        _callback.startMap(data, fieldToOperation.size());
+        final Iterable<Map.Entry<String, Object>> orderedEntries = _callback.orderMap(data);
+        if (orderedEntries == null)
+        {
+          for (Map.Entry<String, Object> entry : fieldToOperation.entrySet())
+          {
+            emitEntry(entry.getKey(), data.get(entry.getKey()), entry.getValue());
+          }
+        }
+        else
+        {
+          for (Map.Entry<String, Object> entry : orderedEntries)
+          {
+            final Object operation = fieldToOperation.get(entry.getKey());
+            if (operation != null)
+            {
+              emitEntry(entry.getKey(), entry.getValue(), operation);
+            }
+          }
+        }
+        _callback.endMap();
+        return null;
+      }
+      catch (IOException e)
+      {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    protected Object onError(Object field, String format, Object... args)
+    {
+      throw new RuntimeException(String.format(format, args));
+    }
+
+    @Override
+    protected boolean isValidDataMapFieldOperation(Map<String, Object> result, String name, Object operation)
+    {
+      return operation != FilterConstants.NEGATIVE;
+    }
+
+    private void emitEntry(String key, Object value, Object operation) throws IOException
+    {
+      _callback.key(key);
+      emitValue(value, operation);
+      _callback.endKey(key);
+    }
+
+    private void emitValue(Object value, Object operation) throws IOException
+    {
+      if (operation.getClass() == DataMap.class)
+      {
+        filter(value, (DataMap) operation);
+      }
+      else
+      {
+        Data.traverse(value, _callback);
+      }
+    }
+  }
+}
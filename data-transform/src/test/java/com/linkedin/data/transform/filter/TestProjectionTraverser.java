@@ -0,0 +1,78 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.transform.filter;
+
+
+import com.linkedin.data.ByteString;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.BsonDataCodec;
+import com.linkedin.data.codec.DataCodec;
+import com.linkedin.data.codec.JacksonDataCodec;
+import com.linkedin.data.codec.ProtobufDataCodec;
+import com.linkedin.data.codec.PsonDataCodec;
+import com.linkedin.data.transform.DataProcessingException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+
+
+public class TestProjectionTraverser extends TestFilterOnData
+{
+  private static final JacksonDataCodec SORTED_JSON_CODEC = new JacksonDataCodec();
+  static
+  {
+    SORTED_JSON_CODEC.setSortKeys(true);
+  }
+
+  // BSON does not override DataCodec.traversalToByteString, which covers the default implementation.
+  private static final List<DataCodec> CODECS = Arrays.asList(
+      new JacksonDataCodec(),
+      new ProtobufDataCodec(),
+      new PsonDataCodec().setOptions(new PsonDataCodec.Options().setEncodeCollectionCount(true)),
+      new BsonDataCodec());
+
+  @Override
+  protected void genericFilterTest(DataMap data, DataMap filter, DataMap expected, Set<String> alwaysIncludedFields,
+      String description) throws DataProcessingException
+  {
+    final String dataBefore = data.toString();
+    final ProjectionTraverser traverser = new ProjectionTraverser(filter, alwaysIncludedFields);
+    try
+    {
+      for (DataCodec codec : CODECS)
+      {
+        final DataMap decoded = codec.readMap(codec.traversalToByteString(data, traverser));
+        assertEquals(decoded, expected, "The following test failed with " + codec + ": \n" + description +
+            "\nData: " + dataBefore + "\nFilter: " + filter + "\nAlwaysIncludedFields: " + alwaysIncludedFields +
+            "\nExpected: " + expected + "\nActual result: " + decoded);
+      }
+
+      // With sorted keys, the output does not depend on map iteration order and matches copy-then-encode exactly.
+      final ByteString projected = SORTED_JSON_CODEC.traversalToByteString(data, traverser);
+      final DataMap copied = (DataMap) new CopyFilter(alwaysIncludedFields).filter(data, filter);
+      assertEquals(projected, SORTED_JSON_CODEC.mapToByteString(copied), description);
+    }
+    catch (IOException e)
+    {
+      throw new AssertionError(e);
+    }
+    assertEquals(data.toString(), dataBefore, "Data must not be modified: " + description);
+  }
+}
@@ -398,6 +398,19 @@ public class Data
     {
     }
 
+    /**
+     * Invoked instead of {@link #startMap(DataMap)} when only some of the entries of the {@link DataMap} are
+     * traversed, such as when a projection is applied while encoding. Callbacks that use the size of the map
+     * must override this method.
+     *
+     * @param map provides the {@link DataMap} to be traversed.
+     * @param size the number of entries that will be traversed.
+     */
+    default void startMap(DataMap map, int size) throws IOException
+    {
+      startMap(map);
+    }
+
     /**
      * Invoked when the key of {@link DataMap} entry is traversed.
      * This callback is invoked before the value callback.
@@ -444,6 +457,19 @@ public class Data
     {
     }
 
+    /**
+     * Invoked instead of {@link #startList(DataList)} when only some of the elements of the {@link DataList} are
+     * traversed, such as when a projection is applied while encoding. Callbacks that use the size of the list
+     * must override this method.
+     *
+     * @param list provides the {@link DataList} to be traversed.
+     * @param size the number of elements that will be traversed.
+     */
+    default void startList(DataList list, int size) throws IOException
+    {
+      startList(list);
+    }
+
     /**
      * Invoked to provide the index of the next {@link DataList} entry.
      * This callback is invoked before the value callback.
@@ -590,6 +616,13 @@ public class Data
             cycleChecker.startList(list);
             callback.startList(list);
 
+            // Lists of numbers in primitive storage are traversed without boxing their elements.
+            if (list.traversePrimitives(callback))
+            {
+              callback.endList();
+              return;
+            }
+
             // Use Java 8 forEach to minimize intermediary object creation for better performance.
             final int[] index = {0};
             try
@@ -18,6 +18,8 @@ package com.linkedin.data;
 
 import com.linkedin.data.collections.CheckedList;
 import com.linkedin.data.collections.ListChecker;
+import com.linkedin.data.collections.PrimitiveList;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -49,6 +51,13 @@ import java.util.Map;
  * is lazy and may be delayed until the {@link DataList} is about to be modified.
  * <p>
  *
+ * A {@link DataList} of numbers of a single type may be stored in a primitive array instead of
+ * boxed objects. Such lists are constructed from primitive arrays, or built by the primitive
+ * add methods such as {@link #addInt(int)}, which codecs use when decoding. The primitive get
+ * methods such as {@link #getInt(int)} then read elements without boxing. The list switches to
+ * object storage as soon as an element of another type is stored.
+ * <p>
+ *
  * @author slim
  */
 public final class DataList extends CheckedList<Object> implements DataComplex
@@ -81,6 +90,46 @@ public final class DataList extends CheckedList<Object> implements DataComplex
     super(initialCapacity, _checker);
   }
 
+  /**
+   * Construct a {@link DataList} of {@link Integer}s stored in a primitive array.
+   *
+   * @param values provides the initial elements, which are copied.
+   */
+  public DataList(int[] values)
+  {
+    super(PrimitiveList.of(values), _checker);
+  }
+
+  /**
+   * Construct a {@link DataList} of {@link Long}s stored in a primitive array.
+   *
+   * @param values provides the initial elements, which are copied.
+   */
+  public DataList(long[] values)
+  {
+    super(PrimitiveList.of(values), _checker);
+  }
+
+  /**
+   * Construct a {@link DataList} of {@link Float}s stored in a primitive array.
+   *
+   * @param values provides the initial elements, which are copied.
+   */
+  public DataList(float[] values)
+  {
+    super(PrimitiveList.of(values), _checker);
+  }
+
+  /**
+   * Construct a {@link DataList} of {@link Double}s stored in a primitive array.
+   *
+   * @param values provides the initial elements, which are copied.
+   */
+  public DataList(double[] values)
+  {
+    super(PrimitiveList.of(values), _checker);
+  }
+
   @Override
   public Object get(int index)
   {
@@ -115,6 +164,10 @@ public final class DataList extends CheckedList<Object> implements DataComplex
    */
   public void copyReferencedObjects(DataComplexTable alreadyCopied) throws CloneNotSupportedException
   {
+    if (getPrimitiveList() != null)
+    {
+      return;
+    }
     int count = size();
     for (int i = 0; i < count; ++i)
     {
@@ -136,9 +189,12 @@ public final class DataList extends CheckedList<Object> implements DataComplex
   @Override
   public void makeReadOnly()
   {
-    for (Object o : this)
+    if (getPrimitiveList() == null)
     {
-      Data.makeReadOnly(o);
+      for (Object o : this)
+      {
+        Data.makeReadOnly(o);
+      }
     }
     setReadOnly();
     _madeReadOnly = true;
@@ -150,6 +206,142 @@ public final class DataList extends CheckedList<Object> implements DataComplex
     return _madeReadOnly;
   }
 
+  /**
+   * Returns the primitive class of the elements if this list stores them in a primitive array.
+   *
+   * @return one of {@code int.class}, {@code long.class}, {@code float.class} or {@code double.class}
+   *         if this list uses primitive storage, or null if it stores objects.
+   */
+  public Class<?> getPrimitiveElementClass()
+  {
+    PrimitiveList primitiveList = getPrimitiveList();
+    return primitiveList == null ? null : primitiveList.getElementClass();
+  }
+
+  /**
+   * Returns the element at the specified position as an int, without boxing if this list stores ints
+   * in a primitive array.
+   *
+   * @param index of the element to return.
+   * @return the element at the specified position.
+   * @throws ClassCastException if the element is not an {@link Integer}.
+   */
+  public int getInt(int index)
+  {
+    PrimitiveList primitiveList = getPrimitiveList();
+    if (primitiveList instanceof PrimitiveList.Ints)
+    {
+      instrumentAccess(index);
+      return ((PrimitiveList.Ints) primitiveList).getInt(index);
+    }
+    return (Integer) get(index);
+  }
+
+  /**
+   * Returns the element at the specified position as a long, without boxing if this list stores longs
+   * in a primitive array.
+   *
+   * @param index of the element to return.
+   * @return the element at the specified position.
+   * @throws ClassCastException if the element is not a {@link Long}.
+   */
+  public long getLong(int index)
+  {
+    PrimitiveList primitiveList = getPrimitiveList();
+    if (primitiveList instanceof PrimitiveList.Longs)
+    {
+      instrumentAccess(index);
+      return ((PrimitiveList.Longs) primitiveList).getLong(index);
+    }
+    return (Long) get(index);
+  }
+
+  /**
+   * Returns the element at the specified position as a float, without boxing if this list stores floats
+   * in a primitive array.
+   *
+   * @param index of the element to return.
+   * @return the element at the specified position.
+   * @throws ClassCastException if the element is not a {@link Float}.
+   */
+  public float getFloat(int index)
+  {
+    PrimitiveList primitiveList = getPrimitiveList();
+    if (primitiveList instanceof PrimitiveList.Floats)
+    {
+      instrumentAccess(index);
+      return ((PrimitiveList.Floats) primitiveList).getFloat(index);
+    }
+    return (Float) get(index);
+  }
+
+  /**
+   * Returns the element at the specified position as a double, without boxing if this list stores doubles
+   * in a primitive array.
+   *
+   * @param index of the element to return.
+   * @return the element at the specified position.
+   * @throws ClassCastException if the element is not a {@link Double}.
+   */
+  public double getDouble(int index)
+  {
+    PrimitiveList primitiveList = getPrimitiveList();
+    if (primitiveList instanceof PrimitiveList.Doubles)
+    {
+      instrumentAccess(index);
+      return ((PrimitiveList.Doubles) primitiveList).getDouble(index);
+    }
+    return (Double) get(index);
+  }
+
+  /**
+   * Appends an int. If this list is empty or already stores ints in a primitive array, the value is
+   * stored without boxing.
+   *
+   * @param value provides the value to be appended.
+   * @throws UnsupportedOperationException if the list is read-only.
+   */
+  public void addInt(int value)
+  {
+    addIntWithoutChecking(value);
+  }
+
+  /**
+   * Appends a long. If this list is empty or already stores longs in a primitive array, the value is
+   * stored without boxing.
+   *
+   * @param value provides the value to be appended.
+   * @throws UnsupportedOperationException if the list is read-only.
+   */
+  public void addLong(long value)
+  {
+    addLongWithoutChecking(value);
+  }
+
+  /**
+   * Appends a float. If this list is empty or already stores floats in a primitive array, the value is
+   * stored without boxing.
+   *
+   * @param value provides the value to be appended.
+   * @throws UnsupportedOperationException if the list is read-only.
+   */
+  public void addFloat(float value)
+  {
+    addFloatWithoutChecking(value);
+  }
+
+  /**
+   * Appends a double. If this list is empty or already stores doubles in a primitive array, the value is
+   * stored without boxing.
+   *
+   * @param value provides the value to be appended.
+   * @throws UnsupportedOperationException if the list is read-only.
+   */
+  public void addDouble(double value)
+  {
+    addDoubleWithoutChecking(value);
+  }
+
   /**
    * Returns the element at the specified position cast to a {@link DataList}.
    *
@@ -244,6 +436,61 @@ public final class DataList extends CheckedList<Object> implements DataComplex
     super._checker = null;
   }
 
+  /**
+   * Invokes the callback for the elements of this list without boxing them, if this list uses primitive storage.
+   * Traversal of objects stored in the list is left to the caller.
+   *
+   * @param callback provides the callback to be invoked for each element.
+   * @return true if the elements were traversed, false if this list stores objects.
+   */
+  boolean traversePrimitives(Data.TraverseCallback callback) throws IOException
+  {
+    PrimitiveList primitiveList = getPrimitiveList();
+    if (primitiveList == null)
+    {
+      return false;
+    }
+
+    int size = primitiveList.size();
+    if (primitiveList instanceof PrimitiveList.Ints)
+    {
+      PrimitiveList.Ints ints = (PrimitiveList.Ints) primitiveList;
+      for (int i = 0; i < size; i++)
+      {
+        callback.index(i);
+        callback.integerValue(ints.getInt(i));
+      }
+    }
+    else if (primitiveList instanceof PrimitiveList.Longs)
+    {
+      PrimitiveList.Longs longs = (PrimitiveList.Longs) primitiveList;
+      for (int i = 0; i < size; i++)
+      {
+        callback.index(i);
+        callback.longValue(longs.getLong(i));
+      }
+    }
+    else if (primitiveList instanceof PrimitiveList.Floats)
+    {
+      PrimitiveList.Floats floats = (PrimitiveList.Floats) primitiveList;
+      for (int i = 0; i < size; i++)
+      {
+        callback.index(i);
+        callback.floatValue(floats.getFloat(i));
+      }
+    }
+    else
+    {
+      PrimitiveList.Doubles doubles = (PrimitiveList.Doubles) primitiveList;
+      for (int i = 0; i < size; i++)
+      {
+        callback.index(i);
+        callback.doubleValue(doubles.getDouble(i));
+      }
+    }
+    return true;
+  }
+
   // Unit test use only
   List<Object> getUnderlying()
   {
@@ -29,6 +29,7 @@ import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
 import com.linkedin.data.DataMapBuilder;
 import com.linkedin.data.collections.CheckedUtil;
+import com.linkedin.data.schema.RecordDataSchema;
 import com.linkedin.util.FastByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -125,6 +126,33 @@ public abstract class AbstractJacksonDataCodec implements DataCodec
     writeObject(list, createJsonGenerator(out));
   }
 
+  @Override
+  public ByteString mapToByteString(DataMap map, RecordDataSchema schema) throws IOException
+  {
+    if (schema == null)
+    {
+      return mapToByteString(map);
+    }
+
+    FastByteArrayOutputStream out = new FastByteArrayOutputStream(DEFAULT_BUFFER_SIZE);
+    try (Data.TraverseCallback callback = createTraverseCallback(createJsonGenerator(out)))
+    {
+      RecordEncodingPlan.forSchema(schema).traverse(map, callback);
+    }
+    return out.toUnsafeByteString();
+  }
+
+  @Override
+  public ByteString traversalToByteString(DataMap map, DataMapTraverser traverser) throws IOException
+  {
+    FastByteArrayOutputStream out = new FastByteArrayOutputStream(DEFAULT_BUFFER_SIZE);
+    try (Data.TraverseCallback callback = createTraverseCallback(createJsonGenerator(out)))
+    {
+      traverser.traverse(map, callback);
+    }
+    return out.toUnsafeByteString();
+  }
+
   protected JsonGenerator createJsonGenerator(OutputStream out) throws IOException
   {
     return _factory.createGenerator(out);
@@ -723,7 +751,10 @@ public abstract class AbstractJacksonDataCodec implements DataCodec
           _nameStack.addLast(index);
           index++;
         }
-        parse(list, null, token);
+        if (!addNumber(list, token))
+        {
+          parse(list, null, token);
+        }
         if (_debug)
         {
           _nameStack.removeLast();
@@ -732,6 +763,42 @@ public abstract class AbstractJacksonDataCodec implements DataCodec
       return list;
     }
 
+    /**
+     * Appends a number token to the list without boxing it, so that lists of numbers use primitive storage.
+     *
+     * @return false if the token must be parsed as an object, because it is not a number of a supported type
+     *         or its location needs to be recorded.
+     */
+    private boolean addNumber(DataList list, JsonToken token) throws IOException
+    {
+      if (_locationMap != null || (token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT))
+      {
+        return false;
+      }
+      JsonParser.NumberType numberType = _parser.getNumberType();
+      if (numberType == null)
+      {
+        return false;
+      }
+      switch (numberType)
+      {
+        case INT:
+          list.addInt(_parser.getIntValue());
+          return true;
+        case LONG:
+          list.addLong(_parser.getLongValue());
+          return true;
+        case FLOAT:
+          list.addFloat(_parser.getFloatValue());
+          return true;
+        case DOUBLE:
+          list.addDouble(_parser.getDoubleValue());
+          return true;
+        default:
+          return false;
+      }
+    }
+
     private void error(JsonToken token, JsonParser.NumberType type) throws IOException
     {
       if (_errorBuilder == null)
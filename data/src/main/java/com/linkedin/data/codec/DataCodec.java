@@ -20,6 +20,7 @@ package com.linkedin.data.codec;
 import com.linkedin.data.ByteString;
 import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
+import com.linkedin.data.schema.RecordDataSchema;
 import com.linkedin.util.FastByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.IOException;
@@ -69,6 +70,43 @@ public interface DataCodec
     return outputStream.toUnsafeByteString();
   }
 
+  /**
+   * Serialize a {@link DataMap} that conforms to the given {@link RecordDataSchema} to a {@link ByteString}.
+   *
+   * <p>Codecs may use the schema to specialize encoding, but the output must be the same as that of
+   * {@link #mapToByteString(DataMap)}. Values that do not conform to the schema must still be encoded.
+   * The default implementation ignores the schema.</p>
+   *
+   * @param map to serialize.
+   * @param schema the schema that the map conforms to, may be null if unknown.
+   * @return the output serialized from the {@link DataMap}.
+   * @throws IOException if there is a serialization error.
+   */
+  default ByteString mapToByteString(DataMap map, RecordDataSchema schema) throws IOException
+  {
+    return mapToByteString(map);
+  }
+
+  /**
+   * Serialize the traversal of a {@link DataMap} produced by the given {@link DataMapTraverser} to a
+   * {@link ByteString}. This encodes a view of the map, such as a projection of it, without materializing it.
+   *
+   * <p>The default implementation builds the traversed data and serializes it with
+   * {@link #mapToByteString(DataMap)}. Codecs that encode {@link com.linkedin.data.Data.TraverseCallback} events
+   * override it to encode the traversal directly.</p>
+   *
+   * @param map to serialize.
+   * @param traverser produces the traversal events to encode for the map.
+   * @return the output serialized from the traversal.
+   * @throws IOException if there is a serialization error.
+   */
+  default ByteString traversalToByteString(DataMap map, DataMapTraverser traverser) throws IOException
+  {
+    MaterializingTraverseCallback callback = new MaterializingTraverseCallback();
+    traverser.traverse(map, callback);
+    return mapToByteString((DataMap) callback.getResult());
+  }
+
   /**
    * Serialize a {@link DataList} to a {@link ByteString}
    *
@@ -0,0 +1,47 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.codec;
+
+import com.linkedin.data.Data;
+import com.linkedin.data.DataMap;
+import java.io.IOException;
+
+
+/**
+ * Produces the traversal events that a {@link DataCodec} encodes for a {@link DataMap}, in place of
+ * {@link Data#traverse(Object, Data.TraverseCallback)}. This lets callers encode a view of the map, such as a
+ * projection of it, without first materializing that view as a separate {@link DataMap}.
+ *
+ * <p>Implementations must invoke the callback as {@link Data#traverse(Object, Data.TraverseCallback)} would for the
+ * data being encoded. When only some of the entries of a map or list are traversed,
+ * {@link Data.TraverseCallback#startMap(DataMap, int)} and {@link Data.TraverseCallback#startList(com.linkedin.data.DataList, int)}
+ * must be used to report the number of entries that follow.</p>
+ *
+ * @see DataCodec#traversalToByteString(DataMap, DataMapTraverser)
+ */
+@FunctionalInterface
+public interface DataMapTraverser
+{
+  /**
+   * Traverses the given map, invoking the callback with the events to encode.
+   *
+   * @param map the map to traverse.
+   * @param callback the callback to receive the traversal events.
+   * @throws IOException if the callback throws an {@link IOException}.
+   */
+  void traverse(DataMap map, Data.TraverseCallback callback) throws IOException;
+}
@@ -0,0 +1,176 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.codec;
+
+import com.linkedin.data.ByteString;
+import com.linkedin.data.Data;
+import com.linkedin.data.DataComplex;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.DataMapBuilder;
+import com.linkedin.data.collections.CheckedUtil;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+
+/**
+ * A {@link Data.TraverseCallback} that builds the data it is traversed with. It is used to encode a
+ * {@link DataMapTraverser} with codecs that cannot encode traversal events directly.
+ */
+class MaterializingTraverseCallback implements Data.TraverseCallback
+{
+  private final Deque<DataComplex> _containers = new ArrayDeque<>();
+  private final Deque<String> _keys = new ArrayDeque<>();
+  private Object _result;
+
+  /**
+   * Returns the data built from the traversal events, which is the value of the outermost event.
+   */
+  Object getResult()
+  {
+    return _result;
+  }
+
+  @Override
+  public void nullValue()
+  {
+    addValue(Data.NULL);
+  }
+
+  @Override
+  public void booleanValue(boolean value)
+  {
+    addValue(value);
+  }
+
+  @Override
+  public void integerValue(int value)
+  {
+    addValue(value);
+  }
+
+  @Override
+  public void longValue(long value)
+  {
+    addValue(value);
+  }
+
+  @Override
+  public void floatValue(float value)
+  {
+    addValue(value);
+  }
+
+  @Override
+  public void doubleValue(double value)
+  {
+    addValue(value);
+  }
+
+  @Override
+  public void stringValue(String value)
+  {
+    addValue(value);
+  }
+
+  @Override
+  public void byteStringValue(ByteString value)
+  {
+    addValue(value);
+  }
+
+  @Override
+  public void emptyMap()
+  {
+    addValue(new DataMap());
+  }
+
+  @Override
+  public void startMap(DataMap map)
+  {
+    startMap(map, map.size());
+  }
+
+  @Override
+  public void startMap(DataMap map, int size)
+  {
+    DataMap result = new DataMap(DataMapBuilder.getOptimumHashMapCapacityFromSize(size));
+    addValue(result);
+    _containers.push(result);
+  }
+
+  @Override
+  public void key(String key)
+  {
+    _keys.push(key);
+  }
+
+  @Override
+  public void endKey(String key)
+  {
+    _keys.pop();
+  }
+
+  @Override
+  public void endMap()
+  {
+    _containers.pop();
+  }
+
+  @Override
+  public void emptyList()
+  {
+    addValue(new DataList());
+  }
+
+  @Override
+  public void startList(DataList list)
+  {
+    startList(list, list.size());
+  }
+
+  @Override
+  public void startList(DataList list, int size)
+  {
+    DataList result = new DataList(size);
+    addValue(result);
+    _containers.push(result);
+  }
+
+  @Override
+  public void endList()
+  {
+    _containers.pop();
+  }
+
+  private void addValue(Object value)
+  {
+    DataComplex container = _containers.peek();
+    if (container == null)
+    {
+      _result = value;
+    }
+    else if (container instanceof DataMap)
+    {
+      CheckedUtil.putWithoutChecking((DataMap) container, _keys.peek(), value);
+    }
+    else
+    {
+      CheckedUtil.addWithoutChecking((DataList) container, value);
+    }
+  }
+}
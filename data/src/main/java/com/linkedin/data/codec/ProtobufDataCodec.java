@@ -26,6 +26,7 @@ import com.linkedin.data.codec.symbol.SymbolTable;
 import com.linkedin.data.collections.CheckedUtil;
 import com.linkedin.data.protobuf.ProtoReader;
 import com.linkedin.data.protobuf.ProtoWriter;
+import com.linkedin.data.schema.RecordDataSchema;
 import com.linkedin.util.FastByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -160,6 +161,33 @@ public class ProtobufDataCodec implements DataCodec
     }
   }
 
+  @Override
+  public ByteString mapToByteString(DataMap map, RecordDataSchema schema) throws IOException
+  {
+    if (schema == null)
+    {
+      return mapToByteString(map);
+    }
+
+    FastByteArrayOutputStream out = new FastByteArrayOutputStream(_options.getProtoWriterBufferSize());
+    try (TraverseCallback callback = createTraverseCallback(new ProtoWriter(out, _options.getProtoWriterBufferSize())))
+    {
+      RecordEncodingPlan.forSchema(schema).traverse(map, callback);
+    }
+    return out.toUnsafeByteString();
+  }
+
+  @Override
+  public ByteString traversalToByteString(DataMap map, DataMapTraverser traverser) throws IOException
+  {
+    FastByteArrayOutputStream out = new FastByteArrayOutputStream(_options.getProtoWriterBufferSize());
+    try (TraverseCallback callback = createTraverseCallback(new ProtoWriter(out, _options.getProtoWriterBufferSize())))
+    {
+      traverser.traverse(map, callback);
+    }
+    return out.toUnsafeByteString();
+  }
+
   @Override
   public DataMap bytesToMap(byte[] input) throws IOException
   {
@@ -237,7 +265,32 @@ public class ProtobufDataCodec implements DataCodec
     DataList dataList = new DataList(size);
     for (int i = 0; i < size; i++)
     {
-      CheckedUtil.addWithoutChecking(dataList, readValue(reader, null));
+      // Numbers are appended without boxing, so that lists of numbers use primitive storage.
+      byte ordinal = reader.readRawByte();
+      switch (ordinal)
+      {
+        case INTEGER_ORDINAL:
+          dataList.addInt(reader.readInt32());
+          break;
+        case LONG_ORDINAL:
+          dataList.addLong(reader.readInt64());
+          break;
+        case FLOAT_ORDINAL:
+          dataList.addFloat(Float.intBitsToFloat(reader.readInt32()));
+          break;
+        case FIXED_FLOAT_ORDINAL:
+          dataList.addFloat(Float.intBitsToFloat(reader.readFixedInt32()));
+          break;
+        case DOUBLE_ORDINAL:
+          dataList.addDouble(Double.longBitsToDouble(reader.readInt64()));
+          break;
+        case FIXED_DOUBLE_ORDINAL:
+          dataList.addDouble(Double.longBitsToDouble(reader.readFixedInt64()));
+          break;
+        default:
+          CheckedUtil.addWithoutChecking(dataList, readValue(ordinal, reader));
+          break;
+      }
     }
 
     return dataList;
@@ -284,6 +337,11 @@ public class ProtobufDataCodec implements DataCodec
       throw new DataDecodingException("Unable to find expected ordinal. Read: " + ordinal);
     }
 
+    return readValue(ordinal, reader);
+  }
+
+  private Object readValue(byte ordinal, ProtoReader reader) throws IOException
+  {
     switch (ordinal)
     {
       case MAP_ORDINAL: return readMap(reader);
@@ -517,9 +575,15 @@ public class ProtobufDataCodec implements DataCodec
      * @param map provides the {@link DataMap}to be traversed.
      */
     public void startMap(DataMap map) throws IOException
+    {
+      startMap(map, map.size());
+    }
+
+    @Override
+    public void startMap(DataMap map, int size) throws IOException
     {
       _protoWriter.writeByte(MAP_ORDINAL);
-      _protoWriter.writeUInt32(map.size());
+      _protoWriter.writeUInt32(size);
     }
 
     /**
@@ -551,9 +615,15 @@ public class ProtobufDataCodec implements DataCodec
      * @param list provides the {@link DataList}to be traversed.
      */
     public void startList(DataList list) throws IOException
+    {
+      startList(list, list.size());
+    }
+
+    @Override
+    public void startList(DataList list, int size) throws IOException
     {
       _protoWriter.writeByte(LIST_ORDINAL);
-      _protoWriter.writeUInt32(list.size());
+      _protoWriter.writeUInt32(size);
     }
 
     @Override
@@ -183,6 +183,23 @@ public class PsonDataCodec implements DataCodec
     }
   }
 
+  @Override
+  public ByteString traversalToByteString(DataMap map, DataMapTraverser traverser) throws IOException
+  {
+    try
+    {
+      PsonSerializer serializer = new PsonSerializer();
+      serializer.serialize(map, traverser);
+      return ByteString.unsafeWrap(serializer.toBytes());
+    }
+    catch (RuntimeException exc)
+    {
+      // do not want RuntimeException from BufferChain propagating
+      // as RuntimeException to client code.
+      throw new IOException("Unexpected RuntimeException", exc);
+    }
+  }
+
   protected <T extends DataComplex> T bytesToComplex(byte[] input, Class<T> clazz) throws IOException
   {
     try
@@ -414,11 +431,17 @@ public class PsonDataCodec implements DataCodec
 
     @Override
     public void startMap(DataMap map) throws CharacterCodingException
+    {
+      startMap(map, map.size());
+    }
+
+    @Override
+    public void startMap(DataMap map, int size) throws CharacterCodingException
     {
       if (_encodeCollectionCount)
       {
         start(PSON_OBJECT_WITH_COUNT);
-        _buffer.putVarUnsignedInt(map.size());
+        _buffer.putVarUnsignedInt(size);
       }
       else
       {
@@ -460,11 +483,17 @@ public class PsonDataCodec implements DataCodec
 
     @Override
     public void startList(DataList list) throws CharacterCodingException
+    {
+      startList(list, list.size());
+    }
+
+    @Override
+    public void startList(DataList list, int size) throws CharacterCodingException
     {
       if (_encodeCollectionCount)
       {
         start(PSON_ARRAY_WITH_COUNT);
-        _buffer.putVarUnsignedInt(list.size());
+        _buffer.putVarUnsignedInt(size);
       }
       else
       {
@@ -516,6 +545,12 @@ public class PsonDataCodec implements DataCodec
       Data.traverse(map, this);
     }
 
+    private void serialize(DataMap map, DataMapTraverser traverser) throws IOException
+    {
+      _buffer.put(HEADER, 0, HEADER.length);
+      traverser.traverse(map, this);
+    }
+
     private final byte[] toBytes()
     {
       return _buffer.toBytes();
@@ -574,7 +609,27 @@ public class PsonDataCodec implements DataCodec
       int count = 0;
       for (count = 0; ; count++)
       {
-        Object item = parseValue();
+        // Numbers are appended without boxing, so that lists of numbers use primitive storage.
+        byte psonType = _buffer.get();
+        switch (psonType)
+        {
+          case PSON_INT:
+            list.addInt(_buffer.getInt());
+            continue;
+          case PSON_LONG:
+            list.addLong(_buffer.getLong());
+            continue;
+          case PSON_FLOAT:
+            list.addFloat(_buffer.getFloat());
+            continue;
+          case PSON_DOUBLE:
+            list.addDouble(_buffer.getDouble());
+            continue;
+          default:
+            break;
+        }
+
+        Object item = parseValue(psonType);
         if (item == null)
         {
           break;
@@ -649,8 +704,11 @@ public class PsonDataCodec implements DataCodec
 
     Object parseValue() throws IOException
     {
-      byte psonType = _buffer.get();
+      return parseValue(_buffer.get());
+    }
 
+    private Object parseValue(byte psonType) throws IOException
+    {
       Object o = null;
       boolean valid = true;
       switch (psonType)
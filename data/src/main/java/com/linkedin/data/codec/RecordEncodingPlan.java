@@ -0,0 +1,339 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkedin.data.ByteString;
+import com.linkedin.data.Data;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.schema.ArrayDataSchema;
+import com.linkedin.data.schema.DataSchema;
+import com.linkedin.data.schema.MapDataSchema;
+import com.linkedin.data.schema.RecordDataSchema;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+
+/**
+ * A schema-specialized encoding plan for {@link DataMap}s that conform to a {@link RecordDataSchema}.
+ *
+ * <p>The plan is compiled once per schema. It resolves typerefs, the expected Java class of each field value and
+ * the pre-encoded JSON field names ahead of time, so that encoding dispatches on the schema instead of inspecting
+ * the class of every value. Values that do not match the schema, such as uncoerced numbers, unions or fields not
+ * declared in the schema, are handed to {@link Data#traverse(Object, Data.TraverseCallback)} unchanged. The events
+ * emitted to the {@link Data.TraverseCallback} are therefore identical to those of a generic traversal, and so is
+ * the encoded output.</p>
+ *
+ * <p>Like the generic traversal with the default cycle checker, the plan does not detect cycles.</p>
+ */
+final class RecordEncodingPlan
+{
+  private static final Cache<RecordDataSchema, RecordEncodingPlan> PLANS = Caffeine.newBuilder().weakKeys().build();
+
+  private enum Kind
+  {
+    BOOLEAN,
+    INTEGER,
+    LONG,
+    FLOAT,
+    DOUBLE,
+    STRING,
+    BYTES,
+    RECORD,
+    ARRAY,
+    MAP,
+    GENERIC
+  }
+
+  private static final class ValuePlan
+  {
+    private static final ValuePlan GENERIC = new ValuePlan(Kind.GENERIC, null, null);
+
+    private final Kind _kind;
+    private final RecordEncodingPlan _record;
+    private final ValuePlan _elements;
+
+    private ValuePlan(Kind kind, RecordEncodingPlan record, ValuePlan elements)
+    {
+      _kind = kind;
+      _record = record;
+      _elements = elements;
+    }
+  }
+
+  private static final class FieldPlan
+  {
+    private final SerializedString _jsonName;
+    private final ValuePlan _value;
+
+    private FieldPlan(String name, ValuePlan value)
+    {
+      _jsonName = new SerializedString(name);
+      _value = value;
+    }
+  }
+
+  private final Map<String, FieldPlan> _fields;
+
+  private RecordEncodingPlan(int fieldCount)
+  {
+    _fields = new HashMap<>(fieldCount * 2);
+  }
+
+  /**
+   * Returns the plan for the given schema, compiling it on first use. Plans are cached by schema identity and are
+   * released together with their schema.
+   */
+  static RecordEncodingPlan forSchema(RecordDataSchema schema)
+  {
+    RecordEncodingPlan plan = PLANS.getIfPresent(schema);
+    if (plan == null)
+    {
+      // Compiling is idempotent, so concurrent compilations of the same schema are harmless.
+      plan = compile(schema, new IdentityHashMap<>());
+      PLANS.put(schema, plan);
+    }
+    return plan;
+  }
+
+  private static RecordEncodingPlan compile(RecordDataSchema schema, Map<RecordDataSchema, RecordEncodingPlan> compiled)
+  {
+    RecordEncodingPlan plan = compiled.get(schema);
+    if (plan == null)
+    {
+      plan = new RecordEncodingPlan(schema.getFields().size());
+      // Register before compiling the fields to terminate recursive schemas.
+      compiled.put(schema, plan);
+      for (RecordDataSchema.Field field : schema.getFields())
+      {
+        plan._fields.put(field.getName(), new FieldPlan(field.getName(), compileValue(field.getType(), compiled)));
+      }
+    }
+    return plan;
+  }
+
+  private static ValuePlan compileValue(DataSchema schema, Map<RecordDataSchema, RecordEncodingPlan> compiled)
+  {
+    DataSchema dereferenced = schema.getDereferencedDataSchema();
+    switch (dereferenced.getType())
+    {
+      case BOOLEAN:
+        return new ValuePlan(Kind.BOOLEAN, null, null);
+      case INT:
+        return new ValuePlan(Kind.INTEGER, null, null);
+      case LONG:
+        return new ValuePlan(Kind.LONG, null, null);
+      case FLOAT:
+        return new ValuePlan(Kind.FLOAT, null, null);
+      case DOUBLE:
+        return new ValuePlan(Kind.DOUBLE, null, null);
+      case STRING:
+      case ENUM:
+        return new ValuePlan(Kind.STRING, null, null);
+      case BYTES:
+      case FIXED:
+        return new ValuePlan(Kind.BYTES, null, null);
+      case RECORD:
+        return new ValuePlan(Kind.RECORD, compile((RecordDataSchema) dereferenced, compiled), null);
+      case ARRAY:
+        return new ValuePlan(Kind.ARRAY, null, compileValue(((ArrayDataSchema) dereferenced).getItems(), compiled));
+      case MAP:
+        return new ValuePlan(Kind.MAP, null, compileValue(((MapDataSchema) dereferenced).getValues(), compiled));
+      default:
+        return ValuePlan.GENERIC;
+    }
+  }
+
+  /**
+   * Traverses the given record with this plan, invoking the callback exactly as
+   * {@link Data#traverse(Object, Data.TraverseCallback)} would.
+   *
+   * @param map the record data, which should conform to the schema this plan was compiled from.
+   * @param callback the callback to receive the traversal events.
+   */
+  void traverse(DataMap map, Data.TraverseCallback callback) throws IOException
+  {
+    // Field names can be written pre-encoded only when keys are known to go straight to the generator.
+    JsonGenerator generator = callback.getClass() == AbstractJacksonDataCodec.JacksonTraverseCallback.class
+        ? ((AbstractJacksonDataCodec.JacksonTraverseCallback) callback)._generator
+        : null;
+    traverseRecord(map, callback, generator);
+  }
+
+  private void traverseRecord(DataMap map, Data.TraverseCallback callback, JsonGenerator generator) throws IOException
+  {
+    if (map.isEmpty() || callback.orderMap(map) != null)
+    {
+      Data.traverse(map, callback);
+      return;
+    }
+
+    callback.startMap(map);
+    for (Map.Entry<String, Object> entry : map.entrySet())
+    {
+      String key = entry.getKey();
+      FieldPlan field = _fields.get(key);
+      if (field == null)
+      {
+        callback.key(key);
+        Data.traverse(entry.getValue(), callback);
+      }
+      else
+      {
+        if (generator != null)
+        {
+          generator.writeFieldName(field._jsonName);
+        }
+        else
+        {
+          callback.key(key);
+        }
+        traverseValue(entry.getValue(), field._value, callback, generator);
+      }
+      callback.endKey(key);
+    }
+    callback.endMap();
+  }
+
+  private static void traverseValue(Object value, ValuePlan plan, Data.TraverseCallback callback,
+      JsonGenerator generator) throws IOException
+  {
+    Class<?> valueClass = value.getClass();
+    switch (plan._kind)
+    {
+      case STRING:
+        if (valueClass == String.class)
+        {
+          callback.stringValue((String) value);
+          return;
+        }
+        break;
+      case INTEGER:
+        if (valueClass == Integer.class)
+        {
+          callback.integerValue((Integer) value);
+          return;
+        }
+        break;
+      case LONG:
+        if (valueClass == Long.class)
+        {
+          callback.longValue((Long) value);
+          return;
+        }
+        break;
+      case BOOLEAN:
+        if (valueClass == Boolean.class)
+        {
+          callback.booleanValue((Boolean) value);
+          return;
+        }
+        break;
+      case DOUBLE:
+        if (valueClass == Double.class)
+        {
+          callback.doubleValue((Double) value);
+          return;
+        }
+        break;
+      case FLOAT:
+        if (valueClass == Float.class)
+        {
+          callback.floatValue((Float) value);
+          return;
+        }
+        break;
+      case BYTES:
+        if (valueClass == ByteString.class)
+        {
+          callback.byteStringValue((ByteString) value);
+          return;
+        }
+        break;
+      case RECORD:
+        if (valueClass == DataMap.class)
+        {
+          plan._record.traverseRecord((DataMap) value, callback, generator);
+          return;
+        }
+        break;
+      case ARRAY:
+        if (valueClass == DataList.class)
+        {
+          traverseArray((DataList) value, plan._elements, callback, generator);
+          return;
+        }
+        break;
+      case MAP:
+        if (valueClass == DataMap.class)
+        {
+          traverseMap((DataMap) value, plan._elements, callback, generator);
+          return;
+        }
+        break;
+      default:
+        break;
+    }
+
+    Data.traverse(value, callback);
+  }
+
+  private static void traverseArray(DataList list, ValuePlan elements, Data.TraverseCallback callback,
+      JsonGenerator generator) throws IOException
+  {
+    if (list.isEmpty() || list.getPrimitiveElementClass() != null)
+    {
+      // Generic traversal handles empty lists and reads primitive storage without boxing.
+      Data.traverse(list, callback);
+      return;
+    }
+
+    callback.startList(list);
+    for (int i = 0, size = list.size(); i < size; i++)
+    {
+      callback.index(i);
+      traverseValue(list.get(i), elements, callback, generator);
+    }
+    callback.endList();
+  }
+
+  private static void traverseMap(DataMap map, ValuePlan values, Data.TraverseCallback callback,
+      JsonGenerator generator) throws IOException
+  {
+    if (map.isEmpty() || callback.orderMap(map) != null)
+    {
+      Data.traverse(map, callback);
+      return;
+    }
+
+    callback.startMap(map);
+    for (Map.Entry<String, Object> entry : map.entrySet())
+    {
+      String key = entry.getKey();
+      callback.key(key);
+      traverseValue(entry.getValue(), values, callback, generator);
+      callback.endKey(key);
+    }
+    callback.endMap();
+  }
+}
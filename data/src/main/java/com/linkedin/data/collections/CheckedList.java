@@ -33,7 +33,9 @@ import java.util.function.Consumer;
  *
  * The underlying list implementation is {@link ArrayList}. It delegates
  * list operations to the underlying [@link ArrayList} associated
- * with this {@link CheckedList}.
+ * with this {@link CheckedList}. Sub-classes may instead store numbers in a
+ * {@link PrimitiveList}, which is transparently replaced by an {@link ArrayList}
+ * when an element of a different type is stored.
  * <p>
  *
  * A {@link CheckedList} may be marked read-only to disable mutations,
@@ -116,11 +118,26 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
     _list = new InternalList<>(initialCapacity);
   }
 
+  /**
+   * Construct a new list backed by the specified {@link PrimitiveList} and
+   * specified {@link ListChecker}. The new list takes ownership of the primitive list.
+   *
+   * @param list provides the primitive list backing the new list, its element type must be assignable to E.
+   * @param checker provides the {@link ListChecker}.
+   */
+  @SuppressWarnings("unchecked")
+  protected CheckedList(PrimitiveList list, ListChecker<E> checker)
+  {
+    _checker = checker;
+    _list = (List<E>) list;
+  }
+
   @Override
   public boolean add(E e)
   {
     check(e);
     checkMutability();
+    ensureStorageAccepts(e);
     return _list.add(e);
   }
 
@@ -129,6 +146,7 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   {
     check(element);
     checkMutability();
+    ensureStorageAccepts(element);
     _list.add(index, element);
   }
 
@@ -137,6 +155,7 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   {
     checkAll(c);
     checkMutability();
+    ensureStorageAcceptsAll(c);
     return _list.addAll(c);
   }
 
@@ -145,6 +164,7 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   {
     checkAll(c);
     checkMutability();
+    ensureStorageAcceptsAll(c);
     return _list.addAll(index, c);
   }
 
@@ -160,7 +180,7 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   public CheckedList<E> clone() throws CloneNotSupportedException
   {
     CheckedList<E> o = (CheckedList<E>) super.clone();
-    o._list = (InternalList<E>) _list.clone();
+    o._list = cloneList(_list);
     o._readOnly = false;
     return o;
   }
@@ -245,7 +265,14 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   public void removeRange(int fromIndex, int toIndex)
   {
     checkMutability();
-    _list.removeRange(fromIndex, toIndex);
+    if (_list instanceof PrimitiveList)
+    {
+      ((PrimitiveList) _list).removeRange(fromIndex, toIndex);
+    }
+    else
+    {
+      ((InternalList<E>) _list).removeRange(fromIndex, toIndex);
+    }
   }
 
   @Override
@@ -253,6 +280,7 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   {
     check(element);
     checkMutability();
+    ensureStorageAccepts(element);
     return _list.set(index, element);
   }
 
@@ -316,6 +344,7 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   protected boolean addWithoutChecking(E element)
   {
     checkMutability();
+    ensureStorageAccepts(element);
     return _list.add(element);
   }
 
@@ -332,6 +361,7 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   protected void addWithoutChecking(int index, E element)
   {
     checkMutability();
+    ensureStorageAccepts(element);
     _list.add(index, element);
   }
 
@@ -347,9 +377,124 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   protected E setWithoutChecking(int index, E element)
   {
     checkMutability();
+    ensureStorageAccepts(element);
     return _list.set(index, element);
   }
 
+  /**
+   * Append an int without boxing it, use with caution. Only for sub-classes whose element type admits
+   * {@link Integer}s.
+   *
+   * If this list is empty, it switches to {@link PrimitiveList.Ints} storage. If this list already uses
+   * that storage, the value is appended to it. Otherwise the value is boxed and appended.
+   *
+   * @param value provides the value to be appended.
+   * @throws UnsupportedOperationException if the list is read-only.
+   */
+  @SuppressWarnings("unchecked")
+  protected void addIntWithoutChecking(int value)
+  {
+    checkMutability();
+    if (!(_list instanceof PrimitiveList.Ints) && _list.isEmpty())
+    {
+      _list = (List<E>) new PrimitiveList.Ints(capacityHint());
+    }
+    if (_list instanceof PrimitiveList.Ints)
+    {
+      ((PrimitiveList.Ints) _list).addInt(value);
+    }
+    else
+    {
+      addWithoutChecking((E) Integer.valueOf(value));
+    }
+  }
+
+  /**
+   * Append a long without boxing it, use with caution. Only for sub-classes whose element type admits
+   * {@link Long}s.
+   *
+   * @see #addIntWithoutChecking(int)
+   * @param value provides the value to be appended.
+   * @throws UnsupportedOperationException if the list is read-only.
+   */
+  @SuppressWarnings("unchecked")
+  protected void addLongWithoutChecking(long value)
+  {
+    checkMutability();
+    if (!(_list instanceof PrimitiveList.Longs) && _list.isEmpty())
+    {
+      _list = (List<E>) new PrimitiveList.Longs(capacityHint());
+    }
+    if (_list instanceof PrimitiveList.Longs)
+    {
+      ((PrimitiveList.Longs) _list).addLong(value);
+    }
+    else
+    {
+      addWithoutChecking((E) Long.valueOf(value));
+    }
+  }
+
+  /**
+   * Append a float without boxing it, use with caution. Only for sub-classes whose element type admits
+   * {@link Float}s.
+   *
+   * @see #addIntWithoutChecking(int)
+   * @param value provides the value to be appended.
+   * @throws UnsupportedOperationException if the list is read-only.
+   */
+  @SuppressWarnings("unchecked")
+  protected void addFloatWithoutChecking(float value)
+  {
+    checkMutability();
+    if (!(_list instanceof PrimitiveList.Floats) && _list.isEmpty())
+    {
+      _list = (List<E>) new PrimitiveList.Floats(capacityHint());
+    }
+    if (_list instanceof PrimitiveList.Floats)
+    {
+      ((PrimitiveList.Floats) _list).addFloat(value);
+    }
+    else
+    {
+      addWithoutChecking((E) Float.valueOf(value));
+    }
+  }
+
+  /**
+   * Append a double without boxing it, use with caution. Only for sub-classes whose element type admits
+   * {@link Double}s.
+   *
+   * @see #addIntWithoutChecking(int)
+   * @param value provides the value to be appended.
+   * @throws UnsupportedOperationException if the list is read-only.
+   */
+  @SuppressWarnings("unchecked")
+  protected void addDoubleWithoutChecking(double value)
+  {
+    checkMutability();
+    if (!(_list instanceof PrimitiveList.Doubles) && _list.isEmpty())
+    {
+      _list = (List<E>) new PrimitiveList.Doubles(capacityHint());
+    }
+    if (_list instanceof PrimitiveList.Doubles)
+    {
+      ((PrimitiveList.Doubles) _list).addDouble(value);
+    }
+    else
+    {
+      addWithoutChecking((E) Double.valueOf(value));
+    }
+  }
+
+  /**
+   * @return the {@link PrimitiveList} backing this list, or null if this list stores objects.
+   */
+  protected final PrimitiveList getPrimitiveList()
+  {
+    return _list instanceof PrimitiveList ? (PrimitiveList) _list : null;
+  }
+
   boolean addWithAssertChecking(E element)
   {
     assert(assertCheck(element)) : "Check is failed";
@@ -376,6 +521,45 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
     }
   }
 
+  /**
+   * Replace primitive storage by object storage if it cannot hold the given element.
+   */
+  private void ensureStorageAccepts(Object element)
+  {
+    if (_list instanceof PrimitiveList && !((PrimitiveList) _list).accepts(element))
+    {
+      _list = new InternalList<>(_list);
+    }
+  }
+
+  private void ensureStorageAcceptsAll(Collection<?> c)
+  {
+    if (_list instanceof PrimitiveList)
+    {
+      for (Object element : c)
+      {
+        if (!((PrimitiveList) _list).accepts(element))
+        {
+          _list = new InternalList<>(_list);
+          return;
+        }
+      }
+    }
+  }
+
+  private int capacityHint()
+  {
+    return _list instanceof InternalList ? ((InternalList<E>) _list)._initialCapacity : 0;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <E> List<E> cloneList(List<E> list)
+  {
+    return list instanceof PrimitiveList
+        ? (List<E>) ((PrimitiveList) list).clone()
+        : (List<E>) ((InternalList<E>) list).clone();
+  }
+
   private final void check(E e)
   {
     if (_checker != null)
@@ -423,23 +607,29 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   {
     public InternalList()
     {
+      _initialCapacity = 0;
     }
     public InternalList(List<? extends E> l)
     {
       super(l);
+      _initialCapacity = 0;
     }
     public InternalList(int initialCapacity)
     {
       super(initialCapacity);
+      _initialCapacity = initialCapacity;
     }
     @Override
     public void removeRange(int fromIndex, int toIndex)
     {
       super.removeRange(fromIndex, toIndex);
     }
+
+    // Retained to size primitive storage if the list switches to it before any element is added.
+    private final int _initialCapacity;
   }
 
   protected ListChecker<E> _checker;
   private boolean _readOnly = false;
-  private InternalList<E> _list;
+  private List<E> _list;
 }
@@ -39,14 +39,15 @@ import java.util.function.Predicate;
  * keys and values being stored into the {@link CheckedMap}.
  * <p>
  *
- * The underlying map implementation is {@link HashMap}. It delegates
- * map operations to the underlying {@link HashMap} associated
+ * The underlying map implementation is {@link HashMap}, or a compact
+ * open-addressed map if enabled through {@link #setCompactBackingStore(boolean)}.
+ * It delegates map operations to the underlying map associated
  * with this {@link CheckedMap}.
  * <P>
  *
  * A {@link CheckedMap} may be marked read-only to disable mutations,
  * and to avoid unintentional changes. It may also be invalidated
- * to release its reference the underlying {@link HashMap}.
+ * to release its reference the underlying map.
  * <p>
  *
  * The {@link #entrySet}, {@link #keySet} and {@link #values}
@@ -56,13 +57,42 @@ import java.util.function.Predicate;
  */
 public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
 {
+  /**
+   * Whether newly constructed maps use the compact open-addressed backing store instead of {@link HashMap}.
+   */
+  private static boolean USE_COMPACT_BACKING_STORE = false;
+
+  /**
+   * Select the backing store of maps constructed after this call. Existing maps keep their backing store.
+   *
+   * <p>The compact backing store keeps keys and values in a single flat array instead of allocating a
+   * {@link HashMap} node per entry, which reduces the retained size of small maps such as records. Iteration
+   * order differs from {@link HashMap}, so applications that depend on the iteration order of a map, for example
+   * to compare serialized output without sorting keys, should not enable it. Applications are expected to set
+   * this once during startup.</p>
+   *
+   * @param enabled true to use the compact backing store, false to use {@link HashMap}.
+   */
+  public static void setCompactBackingStore(boolean enabled)
+  {
+    USE_COMPACT_BACKING_STORE = enabled;
+  }
+
+  /**
+   * @return true if newly constructed maps use the compact backing store.
+   */
+  public static boolean isCompactBackingStore()
+  {
+    return USE_COMPACT_BACKING_STORE;
+  }
+
   /**
    * Construct an empty map.
    */
   public CheckedMap()
   {
     _checker = null;
-    _map = new HashMap<>();
+    _map = newMap();
   }
 
   /**
@@ -74,7 +104,7 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
   {
     _checker = null;
     checkAll(map);
-    _map = new HashMap<>(map);
+    _map = newMap(map);
   }
 
   /**
@@ -87,7 +117,7 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
   public CheckedMap(int initialCapacity)
   {
     _checker = null;
-    _map = new HashMap<>(initialCapacity);
+    _map = newMap(initialCapacity);
   }
 
   /**
@@ -101,7 +131,7 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
   public CheckedMap(int initialCapacity, float loadFactor)
   {
     _checker = null;
-    _map = new HashMap<>(initialCapacity, loadFactor);
+    _map = newMap(initialCapacity, loadFactor);
   }
 
   /**
@@ -112,7 +142,7 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
   public CheckedMap(MapChecker<K,V> checker)
   {
     _checker = checker;
-    _map = new HashMap<>();
+    _map = newMap();
   }
 
   /**
@@ -128,7 +158,7 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
   {
     _checker = checker;
     checkAll(map);
-    _map = new HashMap<>(map);
+    _map = newMap(map);
   }
 
   /**
@@ -143,7 +173,7 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
   public CheckedMap(int initialCapacity, MapChecker<K,V> checker)
   {
     _checker = checker;
-    _map = new HashMap<>(initialCapacity);
+    _map = newMap(initialCapacity);
   }
 
   /**
@@ -158,7 +188,7 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
   public CheckedMap(int initialCapacity, float loadFactor, MapChecker<K,V> checker)
   {
     _checker = checker;
-    _map = new HashMap<>(initialCapacity, loadFactor);
+    _map = newMap(initialCapacity, loadFactor);
   }
 
   @Override
@@ -182,7 +212,7 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
   public CheckedMap<K,V> clone() throws CloneNotSupportedException
   {
     CheckedMap<K,V> o = (CheckedMap<K,V>) super.clone();
-    o._map = (HashMap<K,V>) _map.clone();
+    o._map = cloneMap(_map);
     o._readOnly = false;
     o._changeListenerHead = null;
     o._changeListenerReferenceQueue = null;
@@ -341,6 +371,36 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
     _map = null;
   }
 
+  private static <K,V> Map<K,V> newMap()
+  {
+    return USE_COMPACT_BACKING_STORE ? new CompactHashMap<>() : new HashMap<>();
+  }
+
+  private static <K,V> Map<K,V> newMap(Map<? extends K,? extends V> map)
+  {
+    return USE_COMPACT_BACKING_STORE ? new CompactHashMap<>(map) : new HashMap<>(map);
+  }
+
+  private static <K,V> Map<K,V> newMap(int initialCapacity)
+  {
+    return USE_COMPACT_BACKING_STORE ? new CompactHashMap<>(initialCapacity) : new HashMap<>(initialCapacity);
+  }
+
+  private static <K,V> Map<K,V> newMap(int initialCapacity, float loadFactor)
+  {
+    return USE_COMPACT_BACKING_STORE
+        ? new CompactHashMap<>(initialCapacity, loadFactor)
+        : new HashMap<>(initialCapacity, loadFactor);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <K,V> Map<K,V> cloneMap(Map<K,V> map)
+  {
+    return map instanceof CompactHashMap
+        ? ((CompactHashMap<K,V>) map).clone()
+        : (Map<K,V>) ((HashMap<K,V>) map).clone();
+  }
+
   private final void checkMutability()
   {
     if (_readOnly)
@@ -597,7 +657,7 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
   // Reference queue holds any change listener weak references finalized by GC. It being non-empty is a signal
   // to purge change listeners of stale entries.
   private ReferenceQueue<ChangeListener<K, V>> _changeListenerReferenceQueue;
-  private HashMap<K,V> _map;
+  private Map<K,V> _map;
 
   /**
    * A singly-linked list node that holds weak references to objects.
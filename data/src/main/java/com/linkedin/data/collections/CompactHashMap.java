@@ -0,0 +1,676 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+
+package com.linkedin.data.collections;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+
+/**
+ * Compact open-addressed hash map used as an alternative backing store for {@link CheckedMap}.
+ * <p>
+ *
+ * Keys and values are stored interleaved in a single flat array and collisions are resolved
+ * with linear probing, so an entry costs two array slots instead of a {@link java.util.HashMap}
+ * node. Keys are stored by reference, so field names shared by schemas and codecs stay shared.
+ * Removed entries leave a tombstone that is reclaimed on the next rehash, which keeps iterators
+ * stable across {@link Iterator#remove()}.
+ * <p>
+ *
+ * Like {@link java.util.HashMap}, this map permits null keys and values, is not thread-safe,
+ * and its iterators are fail-fast.
+ */
+final class CompactHashMap<K,V> extends AbstractMap<K,V> implements Cloneable
+{
+  private static final int MINIMUM_CAPACITY = 4;
+  private static final int MAXIMUM_CAPACITY = 1 << 29;
+  private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+  private static final float MAXIMUM_LOAD_FACTOR = 0.875f;
+  private static final Object NULL_KEY = new Object();
+  private static final Object TOMBSTONE = new Object();
+
+  CompactHashMap()
+  {
+    this(0, DEFAULT_LOAD_FACTOR);
+  }
+
+  CompactHashMap(int initialCapacity)
+  {
+    this(initialCapacity, DEFAULT_LOAD_FACTOR);
+  }
+
+  /**
+   * Construct an empty map.
+   *
+   * @param initialCapacity provides the initial capacity, with the same meaning as for {@link java.util.HashMap}.
+   * @param loadFactor provides the load factor. Load factors above {@value #MAXIMUM_LOAD_FACTOR} are capped
+   *                   because an open-addressed table cannot be full.
+   */
+  CompactHashMap(int initialCapacity, float loadFactor)
+  {
+    if (initialCapacity < 0)
+    {
+      throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+    }
+    if (loadFactor <= 0 || Float.isNaN(loadFactor))
+    {
+      throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+    }
+    _loadFactor = Math.min(loadFactor, MAXIMUM_LOAD_FACTOR);
+    _initialCapacity = tableSizeFor(initialCapacity);
+  }
+
+  CompactHashMap(Map<? extends K, ? extends V> map)
+  {
+    this((int) (map.size() / DEFAULT_LOAD_FACTOR) + 1, DEFAULT_LOAD_FACTOR);
+    putAll(map);
+  }
+
+  @Override
+  public int size()
+  {
+    return _size;
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return _size == 0;
+  }
+
+  @Override
+  public boolean containsKey(Object key)
+  {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public boolean containsValue(Object value)
+  {
+    Object[] table = _table;
+    if (table != null)
+    {
+      for (int i = 0; i < table.length; i += 2)
+      {
+        Object key = table[i];
+        if (key != null && key != TOMBSTONE && (value == null ? table[i + 1] == null : value.equals(table[i + 1])))
+        {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V get(Object key)
+  {
+    int index = indexOf(key);
+    return index < 0 ? null : (V) _table[index + 1];
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V put(K key, V value)
+  {
+    if (_table == null)
+    {
+      _table = new Object[_initialCapacity * 2];
+      _threshold = threshold(_initialCapacity);
+    }
+
+    Object maskedKey = maskNull(key);
+    Object[] table = _table;
+    int mask = table.length - 1;
+    int index = hash(maskedKey, table.length);
+    int tombstone = -1;
+    Object current;
+    while ((current = table[index]) != null)
+    {
+      if (current == TOMBSTONE)
+      {
+        if (tombstone < 0)
+        {
+          tombstone = index;
+        }
+      }
+      else if (current == maskedKey || current.equals(maskedKey))
+      {
+        V oldValue = (V) table[index + 1];
+        table[index + 1] = value;
+        return oldValue;
+      }
+      index = (index + 2) & mask;
+    }
+
+    _modCount++;
+    if (tombstone >= 0)
+    {
+      index = tombstone;
+      _tombstones--;
+    }
+    table[index] = maskedKey;
+    table[index + 1] = value;
+    _size++;
+    if (_size + _tombstones > _threshold)
+    {
+      // Grow if live entries dominate, otherwise rehash in place to reclaim tombstones.
+      rehash(_size > _threshold / 2 ? table.length * 2 : table.length);
+    }
+    return null;
+  }
+
+  @Override
+  public void putAll(Map<? extends K, ? extends V> map)
+  {
+    for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+    {
+      put(entry.getKey(), entry.getValue());
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V remove(Object key)
+  {
+    int index = indexOf(key);
+    if (index < 0)
+    {
+      return null;
+    }
+    V oldValue = (V) _table[index + 1];
+    removeAt(index);
+    return oldValue;
+  }
+
+  @Override
+  public void clear()
+  {
+    if (_table != null && (_size > 0 || _tombstones > 0))
+    {
+      _modCount++;
+      Arrays.fill(_table, null);
+      _size = 0;
+      _tombstones = 0;
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void forEach(BiConsumer<? super K, ? super V> action)
+  {
+    Object[] table = _table;
+    if (table == null)
+    {
+      return;
+    }
+    int modCount = _modCount;
+    for (int i = 0; i < table.length && modCount == _modCount; i += 2)
+    {
+      Object key = table[i];
+      if (key != null && key != TOMBSTONE)
+      {
+        action.accept((K) unmaskNull(key), (V) table[i + 1]);
+      }
+    }
+    if (modCount != _modCount)
+    {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  @Override
+  public int hashCode()
+  {
+    int hashCode = 0;
+    Object[] table = _table;
+    if (table != null)
+    {
+      for (int i = 0; i < table.length; i += 2)
+      {
+        Object key = table[i];
+        if (key != null && key != TOMBSTONE)
+        {
+          Object value = table[i + 1];
+          hashCode += (key == NULL_KEY ? 0 : key.hashCode()) ^ (value == null ? 0 : value.hashCode());
+        }
+      }
+    }
+    return hashCode;
+  }
+
+  @Override
+  public Set<Entry<K,V>> entrySet()
+  {
+    Set<Entry<K,V>> entrySet = _entrySet;
+    if (entrySet == null)
+    {
+      entrySet = new EntrySet();
+      _entrySet = entrySet;
+    }
+    return entrySet;
+  }
+
+  @Override
+  public Set<K> keySet()
+  {
+    Set<K> keySet = _keySet;
+    if (keySet == null)
+    {
+      keySet = new KeySet();
+      _keySet = keySet;
+    }
+    return keySet;
+  }
+
+  @Override
+  public Collection<V> values()
+  {
+    Collection<V> values = _values;
+    if (values == null)
+    {
+      values = new Values();
+      _values = values;
+    }
+    return values;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public CompactHashMap<K,V> clone()
+  {
+    CompactHashMap<K,V> o;
+    try
+    {
+      o = (CompactHashMap<K,V>) super.clone();
+    }
+    catch (CloneNotSupportedException e)
+    {
+      throw new AssertionError(e);
+    }
+    o._table = _table == null ? null : _table.clone();
+    o._modCount = 0;
+    o._entrySet = null;
+    o._keySet = null;
+    o._values = null;
+    return o;
+  }
+
+  private int indexOf(Object key)
+  {
+    Object[] table = _table;
+    if (table == null)
+    {
+      return -1;
+    }
+    Object maskedKey = maskNull(key);
+    int mask = table.length - 1;
+    int index = hash(maskedKey, table.length);
+    Object current;
+    while ((current = table[index]) != null)
+    {
+      if (current == maskedKey || (current != TOMBSTONE && current.equals(maskedKey)))
+      {
+        return index;
+      }
+      index = (index + 2) & mask;
+    }
+    return -1;
+  }
+
+  private void removeAt(int index)
+  {
+    _modCount++;
+    _table[index] = TOMBSTONE;
+    _table[index + 1] = null;
+    _size--;
+    _tombstones++;
+  }
+
+  private void rehash(int newLength)
+  {
+    if (newLength / 2 > MAXIMUM_CAPACITY)
+    {
+      throw new IllegalStateException("Map capacity exceeded");
+    }
+    Object[] oldTable = _table;
+    Object[] newTable = new Object[newLength];
+    int mask = newLength - 1;
+    for (int i = 0; i < oldTable.length; i += 2)
+    {
+      Object key = oldTable[i];
+      if (key != null && key != TOMBSTONE)
+      {
+        int index = hash(key, newLength);
+        while (newTable[index] != null)
+        {
+          index = (index + 2) & mask;
+        }
+        newTable[index] = key;
+        newTable[index + 1] = oldTable[i + 1];
+      }
+    }
+    _table = newTable;
+    _tombstones = 0;
+    _threshold = threshold(newLength / 2);
+  }
+
+  private int threshold(int capacity)
+  {
+    return Math.min((int) (capacity * _loadFactor), capacity - 1);
+  }
+
+  /**
+   * Returns the even table index of the key slot for the given key. The key hash code is mixed
+   * with a multiplicative hash because keys with sequential hash codes, such as {@code "field1"}
+   * and {@code "field2"}, would otherwise form long probe sequences.
+   */
+  private static int hash(Object key, int length)
+  {
+    int h = key.hashCode() * 0x9E3779B9;
+    return (h ^ (h >>> 16)) & (length - 2);
+  }
+
+  private static int tableSizeFor(int capacity)
+  {
+    int size = MINIMUM_CAPACITY;
+    while (size < capacity && size < MAXIMUM_CAPACITY)
+    {
+      size <<= 1;
+    }
+    return size;
+  }
+
+  private static Object maskNull(Object key)
+  {
+    return key == null ? NULL_KEY : key;
+  }
+
+  private static Object unmaskNull(Object key)
+  {
+    return key == NULL_KEY ? null : key;
+  }
+
+  private abstract class TableIterator<T> implements Iterator<T>
+  {
+    TableIterator()
+    {
+      _expectedModCount = _modCount;
+      _next = advance(0);
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+      return _next >= 0;
+    }
+
+    @Override
+    public T next()
+    {
+      if (_expectedModCount != _modCount)
+      {
+        throw new ConcurrentModificationException();
+      }
+      if (_next < 0)
+      {
+        throw new NoSuchElementException();
+      }
+      _current = _next;
+      _next = advance(_current + 2);
+      return valueAt(_current);
+    }
+
+    @Override
+    public void remove()
+    {
+      if (_current < 0)
+      {
+        throw new IllegalStateException();
+      }
+      if (_expectedModCount != _modCount)
+      {
+        throw new ConcurrentModificationException();
+      }
+      removeAt(_current);
+      _current = -1;
+      _expectedModCount = _modCount;
+    }
+
+    abstract T valueAt(int index);
+
+    private int advance(int index)
+    {
+      Object[] table = _table;
+      if (table != null)
+      {
+        for (; index < table.length; index += 2)
+        {
+          Object key = table[index];
+          if (key != null && key != TOMBSTONE)
+          {
+            return index;
+          }
+        }
+      }
+      return -1;
+    }
+
+    private int _next;
+    private int _current = -1;
+    private int _expectedModCount;
+  }
+
+  private final class TableEntry implements Entry<K,V>
+  {
+    TableEntry(int index)
+    {
+      _index = index;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public K getKey()
+    {
+      return (K) unmaskNull(_table[_index]);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getValue()
+    {
+      return (V) _table[_index + 1];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V setValue(V value)
+    {
+      V oldValue = (V) _table[_index + 1];
+      _table[_index + 1] = value;
+      return oldValue;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+      if (!(o instanceof Map.Entry))
+      {
+        return false;
+      }
+      Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+      K key = getKey();
+      V value = getValue();
+      return (key == null ? e.getKey() == null : key.equals(e.getKey()))
+          && (value == null ? e.getValue() == null : value.equals(e.getValue()));
+    }
+
+    @Override
+    public int hashCode()
+    {
+      K key = getKey();
+      V value = getValue();
+      return (key == null ? 0 : key.hashCode()) ^ (value == null ? 0 : value.hashCode());
+    }
+
+    @Override
+    public String toString()
+    {
+      return getKey() + "=" + getValue();
+    }
+
+    private final int _index;
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<K,V>>
+  {
+    @Override
+    public Iterator<Entry<K,V>> iterator()
+    {
+      return new TableIterator<Entry<K,V>>()
+      {
+        @Override
+        Entry<K,V> valueAt(int index)
+        {
+          return new TableEntry(index);
+        }
+      };
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+      if (!(o instanceof Map.Entry))
+      {
+        return false;
+      }
+      Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+      int index = indexOf(e.getKey());
+      if (index < 0)
+      {
+        return false;
+      }
+      Object value = _table[index + 1];
+      return value == null ? e.getValue() == null : value.equals(e.getValue());
+    }
+
+    @Override
+    public int size()
+    {
+      return _size;
+    }
+
+    @Override
+    public void clear()
+    {
+      CompactHashMap.this.clear();
+    }
+  }
+
+  private final class KeySet extends AbstractSet<K>
+  {
+    @Override
+    public Iterator<K> iterator()
+    {
+      return new TableIterator<K>()
+      {
+        @Override
+        @SuppressWarnings("unchecked")
+        K valueAt(int index)
+        {
+          return (K) unmaskNull(_table[index]);
+        }
+      };
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+      return containsKey(o);
+    }
+
+    @Override
+    public int size()
+    {
+      return _size;
+    }
+
+    @Override
+    public void clear()
+    {
+      CompactHashMap.this.clear();
+    }
+  }
+
+  private final class Values extends AbstractCollection<V>
+  {
+    @Override
+    public Iterator<V> iterator()
+    {
+      return new TableIterator<V>()
+      {
+        @Override
+        @SuppressWarnings("unchecked")
+        V valueAt(int index)
+        {
+          return (V) _table[index + 1];
+        }
+      };
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+      return containsValue(o);
+    }
+
+    @Override
+    public int size()
+    {
+      return _size;
+    }
+
+    @Override
+    public void clear()
+    {
+      CompactHashMap.this.clear();
+    }
+  }
+
+  private final float _loadFactor;
+  private final int _initialCapacity;
+  // Keys at even indexes, values at the following odd index. Allocated lazily on first put.
+  private Object[] _table;
+  private int _size;
+  private int _tombstones;
+  private int _threshold;
+  private int _modCount;
+  private Set<Entry<K,V>> _entrySet;
+  private Set<K> _keySet;
+  private Collection<V> _values;
+}
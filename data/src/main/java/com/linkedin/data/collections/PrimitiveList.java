@@ -0,0 +1,576 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+
+package com.linkedin.data.collections;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+
+/**
+ * List of numbers backed by a primitive array, used as an alternative backing store for {@link CheckedList}.
+ * <p>
+ *
+ * Each variant only holds elements of its exact boxed type, for example {@link Ints} only holds
+ * {@link Integer}s. Elements are unboxed when added and boxed again when read through the {@link java.util.List}
+ * interface. The primitive accessors of each variant, such as {@link Ints#getInt(int)}, read without boxing.
+ * {@link CheckedList} replaces this store with an object list as soon as an element of any other type is added.
+ */
+public abstract class PrimitiveList extends AbstractList<Object> implements RandomAccess, Cloneable
+{
+  private static final int DEFAULT_CAPACITY = 10;
+
+  PrimitiveList()
+  {
+  }
+
+  /**
+   * @return a new list holding a copy of the given values.
+   */
+  public static Ints of(int[] values)
+  {
+    return new Ints(values);
+  }
+
+  /**
+   * @return a new list holding a copy of the given values.
+   */
+  public static Longs of(long[] values)
+  {
+    return new Longs(values);
+  }
+
+  /**
+   * @return a new list holding a copy of the given values.
+   */
+  public static Floats of(float[] values)
+  {
+    return new Floats(values);
+  }
+
+  /**
+   * @return a new list holding a copy of the given values.
+   */
+  public static Doubles of(double[] values)
+  {
+    return new Doubles(values);
+  }
+
+  /**
+   * @return the primitive class of the elements, one of {@code int.class}, {@code long.class}, {@code float.class}
+   *         or {@code double.class}.
+   */
+  public abstract Class<?> getElementClass();
+
+  @Override
+  public int size()
+  {
+    return _size;
+  }
+
+  @Override
+  public Object set(int index, Object element)
+  {
+    checkIndex(index);
+    checkAccepts(element);
+    Object oldValue = get(index);
+    store(index, element);
+    return oldValue;
+  }
+
+  @Override
+  public void add(int index, Object element)
+  {
+    if (index < 0 || index > _size)
+    {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + _size);
+    }
+    checkAccepts(element);
+    ensureCapacity(_size + 1);
+    Object array = array();
+    System.arraycopy(array, index, array, index + 1, _size - index);
+    store(index, element);
+    _size++;
+    modCount++;
+  }
+
+  @Override
+  public Object remove(int index)
+  {
+    checkIndex(index);
+    Object oldValue = get(index);
+    Object array = array();
+    System.arraycopy(array, index + 1, array, index, _size - index - 1);
+    _size--;
+    modCount++;
+    return oldValue;
+  }
+
+  @Override
+  public void removeRange(int fromIndex, int toIndex)
+  {
+    Object array = array();
+    System.arraycopy(array, toIndex, array, fromIndex, _size - toIndex);
+    _size -= toIndex - fromIndex;
+    modCount++;
+  }
+
+  @Override
+  public void clear()
+  {
+    _size = 0;
+    modCount++;
+  }
+
+  @Override
+  public PrimitiveList clone()
+  {
+    try
+    {
+      PrimitiveList o = (PrimitiveList) super.clone();
+      o.copyArray();
+      o.modCount = 0;
+      return o;
+    }
+    catch (CloneNotSupportedException e)
+    {
+      throw new AssertionError(e);
+    }
+  }
+
+  /**
+   * @return true if the given element can be stored without changing its type.
+   */
+  abstract boolean accepts(Object element);
+
+  /**
+   * Stores an element that is known to be accepted, without bounds checking.
+   */
+  abstract void store(int index, Object element);
+
+  abstract Object array();
+
+  abstract int capacity();
+
+  abstract void resize(int capacity);
+
+  abstract void copyArray();
+
+  final void checkIndex(int index)
+  {
+    if (index < 0 || index >= _size)
+    {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + _size);
+    }
+  }
+
+  private void checkAccepts(Object element)
+  {
+    if (!accepts(element))
+    {
+      throw new ClassCastException("Cannot store " + element + " in a list of " + getElementClass());
+    }
+  }
+
+  final void ensureCapacity(int minCapacity)
+  {
+    int capacity = capacity();
+    if (minCapacity > capacity)
+    {
+      resize(Math.max(Math.max(capacity + (capacity >> 1), minCapacity), DEFAULT_CAPACITY));
+    }
+  }
+
+  int _size;
+
+  /**
+   * {@link PrimitiveList} of {@link Integer}s backed by an {@code int[]}.
+   */
+  public static final class Ints extends PrimitiveList
+  {
+    Ints(int capacity)
+    {
+      _values = new int[capacity];
+    }
+
+    Ints(int[] values)
+    {
+      _values = values.clone();
+      _size = values.length;
+    }
+
+    /**
+     * Returns the element at the specified position without boxing it.
+     *
+     * @param index of the element to return.
+     * @return the element at the specified position.
+     */
+    public int getInt(int index)
+    {
+      checkIndex(index);
+      return _values[index];
+    }
+
+    /**
+     * @return a copy of the elements of this list.
+     */
+    public int[] toIntArray()
+    {
+      return Arrays.copyOf(_values, _size);
+    }
+
+    void addInt(int value)
+    {
+      ensureCapacity(_size + 1);
+      _values[_size++] = value;
+      modCount++;
+    }
+
+    @Override
+    public Object get(int index)
+    {
+      return getInt(index);
+    }
+
+    @Override
+    public Class<?> getElementClass()
+    {
+      return int.class;
+    }
+
+    @Override
+    boolean accepts(Object element)
+    {
+      return element != null && element.getClass() == Integer.class;
+    }
+
+    @Override
+    void store(int index, Object element)
+    {
+      _values[index] = (Integer) element;
+    }
+
+    @Override
+    Object array()
+    {
+      return _values;
+    }
+
+    @Override
+    int capacity()
+    {
+      return _values.length;
+    }
+
+    @Override
+    void resize(int capacity)
+    {
+      _values = Arrays.copyOf(_values, capacity);
+    }
+
+    @Override
+    void copyArray()
+    {
+      _values = Arrays.copyOf(_values, _size);
+    }
+
+    private int[] _values;
+  }
+
+  /**
+   * {@link PrimitiveList} of {@link Long}s backed by a {@code long[]}.
+   */
+  public static final class Longs extends PrimitiveList
+  {
+    Longs(int capacity)
+    {
+      _values = new long[capacity];
+    }
+
+    Longs(long[] values)
+    {
+      _values = values.clone();
+      _size = values.length;
+    }
+
+    /**
+     * Returns the element at the specified position without boxing it.
+     *
+     * @param index of the element to return.
+     * @return the element at the specified position.
+     */
+    public long getLong(int index)
+    {
+      checkIndex(index);
+      return _values[index];
+    }
+
+    /**
+     * @return a copy of the elements of this list.
+     */
+    public long[] toLongArray()
+    {
+      return Arrays.copyOf(_values, _size);
+    }
+
+    void addLong(long value)
+    {
+      ensureCapacity(_size + 1);
+      _values[_size++] = value;
+      modCount++;
+    }
+
+    @Override
+    public Object get(int index)
+    {
+      return getLong(index);
+    }
+
+    @Override
+    public Class<?> getElementClass()
+    {
+      return long.class;
+    }
+
+    @Override
+    boolean accepts(Object element)
+    {
+      return element != null && element.getClass() == Long.class;
+    }
+
+    @Override
+    void store(int index, Object element)
+    {
+      _values[index] = (Long) element;
+    }
+
+    @Override
+    Object array()
+    {
+      return _values;
+    }
+
+    @Override
+    int capacity()
+    {
+      return _values.length;
+    }
+
+    @Override
+    void resize(int capacity)
+    {
+      _values = Arrays.copyOf(_values, capacity);
+    }
+
+    @Override
+    void copyArray()
+    {
+      _values = Arrays.copyOf(_values, _size);
+    }
+
+    private long[] _values;
+  }
+
+  /**
+   * {@link PrimitiveList} of {@link Float}s backed by a {@code float[]}.
+   */
+  public static final class Floats extends PrimitiveList
+  {
+    Floats(int capacity)
+    {
+      _values = new float[capacity];
+    }
+
+    Floats(float[] values)
+    {
+      _values = values.clone();
+      _size = values.length;
+    }
+
+    /**
+     * Returns the element at the specified position without boxing it.
+     *
+     * @param index of the element to return.
+     * @return the element at the specified position.
+     */
+    public float getFloat(int index)
+    {
+      checkIndex(index);
+      return _values[index];
+    }
+
+    /**
+     * @return a copy of the elements of this list.
+     */
+    public float[] toFloatArray()
+    {
+      return Arrays.copyOf(_values, _size);
+    }
+
+    void addFloat(float value)
+    {
+      ensureCapacity(_size + 1);
+      _values[_size++] = value;
+      modCount++;
+    }
+
+    @Override
+    public Object get(int index)
+    {
+      return getFloat(index);
+    }
+
+    @Override
+    public Class<?> getElementClass()
+    {
+      return float.class;
+    }
+
+    @Override
+    boolean accepts(Object element)
+    {
+      return element != null && element.getClass() == Float.class;
+    }
+
+    @Override
+    void store(int index, Object element)
+    {
+      _values[index] = (Float) element;
+    }
+
+    @Override
+    Object array()
+    {
+      return _values;
+    }
+
+    @Override
+    int capacity()
+    {
+      return _values.length;
+    }
+
+    @Override
+    void resize(int capacity)
+    {
+      _values = Arrays.copyOf(_values, capacity);
+    }
+
+    @Override
+    void copyArray()
+    {
+      _values = Arrays.copyOf(_values, _size);
+    }
+
+    private float[] _values;
+  }
+
+  /**
+   * {@link PrimitiveList} of {@link Double}s backed by a {@code double[]}.
+   */
+  public static final class Doubles extends PrimitiveList
+  {
+    Doubles(int capacity)
+    {
+      _values = new double[capacity];
+    }
+
+    Doubles(double[] values)
+    {
+      _values = values.clone();
+      _size = values.length;
+    }
+
+    /**
+     * Returns the element at the specified position without boxing it.
+     *
+     * @param index of the element to return.
+     * @return the element at the specified position.
+     */
+    public double getDouble(int index)
+    {
+      checkIndex(index);
+      return _values[index];
+    }
+
+    /**
+     * @return a copy of the elements of this list.
+     */
+    public double[] toDoubleArray()
+    {
+      return Arrays.copyOf(_values, _size);
+    }
+
+    void addDouble(double value)
+    {
+      ensureCapacity(_size + 1);
+      _values[_size++] = value;
+      modCount++;
+    }
+
+    @Override
+    public Object get(int index)
+    {
+      return getDouble(index);
+    }
+
+    @Override
+    public Class<?> getElementClass()
+    {
+      return double.class;
+    }
+
+    @Override
+    boolean accepts(Object element)
+    {
+      return element != null && element.getClass() == Double.class;
+    }
+
+    @Override
+    void store(int index, Object element)
+    {
+      _values[index] = (Double) element;
+    }
+
+    @Override
+    Object array()
+    {
+      return _values;
+    }
+
+    @Override
+    int capacity()
+    {
+      return _values.length;
+    }
+
+    @Override
+    void resize(int capacity)
+    {
+      _values = Arrays.copyOf(_values, capacity);
+    }
+
+    @Override
+    void copyArray()
+    {
+      _values = Arrays.copyOf(_values, _size);
+    }
+
+    private double[] _values;
+  }
+}
@@ -117,6 +117,60 @@ public final class ValidateDataAgainstSchema
     return state;
   }
 
+  /**
+   * Coerces a primitive value that is not backed by the class of the given primitive type.
+   *
+   * @return the coerced value, or the given value if it cannot be coerced.
+   */
+  static Object coercePrimitive(DataSchema.Type type, Object object, CoercionMode coercionMode)
+  {
+    try
+    {
+      switch (type)
+      {
+        case INT:
+        return (object instanceof String && coercionMode == CoercionMode.STRING_TO_PRIMITIVE) ?
+            (new BigDecimal((String) object)).intValue() :
+            DataTemplateUtil.coerceIntOutput(object);
+        case LONG:
+        return (object instanceof String && coercionMode == CoercionMode.STRING_TO_PRIMITIVE) ?
+            (new BigDecimal((String) object)).longValue() :
+            DataTemplateUtil.coerceLongOutput(object);
+        case FLOAT:
+          return (object instanceof String && coercionMode == CoercionMode.STRING_TO_PRIMITIVE) ?
+              Float.valueOf((String) object) :
+              DataTemplateUtil.coerceFloatOutput(object);
+        case DOUBLE:
+          return (object instanceof String && coercionMode == CoercionMode.STRING_TO_PRIMITIVE) ?
+              Double.valueOf((String) object) :
+              DataTemplateUtil.coerceDoubleOutput(object);
+        case BOOLEAN:
+          // Note that Boolean#parseBoolean cannot be used because it coerces invalid strings into "false"
+          if (object.getClass() == String.class && coercionMode == CoercionMode.STRING_TO_PRIMITIVE)
+          {
+            String string = (String) object;
+            if ("true".equalsIgnoreCase(string))
+            {
+              return Boolean.TRUE;
+            }
+            if ("false".equalsIgnoreCase(string))
+            {
+              return Boolean.FALSE;
+            }
+          }
+          return object;
+        case STRING:
+        case NULL:
+        default:
+          return object;
+      }
+    }
+    catch (NumberFormatException | TemplateOutputCastException exc)
+    {
+      return object;
+    }
+  }
+
   private static class State implements ValidationResult
   {
     private boolean _recursive;
@@ -142,7 +196,7 @@ public final class ValidateDataAgainstSchema
       {
         validateRecursive(element);
       }
-      else
+      else if (!validateCompiled(element))
       {
         validateIterative(element);
       }
@@ -162,6 +216,43 @@ public final class ValidateDataAgainstSchema
       _fixed = validate(element, element.getSchema(), element.getValue());
     }
 
+    /**
+     * Validates with the {@link ValidationPlan} of the element's schema. This only succeeds if the interpreter would
+     * report no message, in which case the outcome is the same as that of {@link #validateIterative(DataElement)}.
+     *
+     * @return true if the element has been validated, false if it has to be validated by the interpreter instead.
+     */
+    private boolean validateCompiled(DataElement element)
+    {
+      DataSchema schema = element.getSchema();
+      if (schema == null)
+      {
+        return false;
+      }
+      ValidationPlan plan = ValidationPlan.forSchema(schema);
+      ValidationPlan.Check check = plan.check(element, _options);
+      if (check == null)
+      {
+        return false;
+      }
+
+      _recursive = false;
+      _fixed = element.getValue();
+      if (check.hasCoercions())
+      {
+        _hasFix = true;
+        check.applyCoercions();
+      }
+      if (_validator != null)
+      {
+        plan.visitPostOrder(element, validatorElement -> {
+          _context._dataElement = validatorElement;
+          _validator.validate(_context);
+        });
+      }
+      return true;
+    }
+
     protected void validateIterative(DataElement element)
     {
       _recursive = false;
@@ -771,53 +862,7 @@ public final class ValidateDataAgainstSchema
 
     protected Object fixupPrimitive(DataSchema schema, Object object)
     {
-      DataSchema.Type schemaType = schema.getType();
-
-      try
-      {
-        switch (schemaType)
-        {
-          case INT:
-          return (object instanceof String && _options.getCoercionMode() == CoercionMode.STRING_TO_PRIMITIVE) ?
-              (new BigDecimal((String) object)).intValue() :
-              DataTemplateUtil.coerceIntOutput(object);
-          case LONG:
-          return (object instanceof String && _options.getCoercionMode() == CoercionMode.STRING_TO_PRIMITIVE) ?
-              (new BigDecimal((String) object)).longValue() :
-              DataTemplateUtil.coerceLongOutput(object);
-          case FLOAT:
-            return (object instanceof String && _options.getCoercionMode() == CoercionMode.STRING_TO_PRIMITIVE) ?
-                Float.valueOf((String) object) :
-                DataTemplateUtil.coerceFloatOutput(object);
-          case DOUBLE:
-            return (object instanceof String && _options.getCoercionMode() == CoercionMode.STRING_TO_PRIMITIVE) ?
-                Double.valueOf((String) object) :
-                DataTemplateUtil.coerceDoubleOutput(object);
-          case BOOLEAN:
-            // Note that Boolean#parseBoolean cannot be used because it coerces invalid strings into "false"
-            if (object.getClass() == String.class && _options.getCoercionMode() == CoercionMode.STRING_TO_PRIMITIVE)
-            {
-              String string = (String) object;
-              if ("true".equalsIgnoreCase(string))
-              {
-                return Boolean.TRUE;
-              }
-              if ("false".equalsIgnoreCase(string))
-              {
-                return Boolean.FALSE;
-              }
-            }
-            return object;
-          case STRING:
-          case NULL:
-          default:
-            return object;
-        }
-      }
-      catch (NumberFormatException | TemplateOutputCastException exc)
-      {
-        return object;
-      }
+      return coercePrimitive(schema.getType(), object, _options.getCoercionMode());
     }
 
     protected void addMessage(DataElement element, String format, Object... args)
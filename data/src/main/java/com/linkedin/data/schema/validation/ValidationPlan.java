@@ -0,0 +1,540 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.schema.validation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkedin.data.ByteString;
+import com.linkedin.data.Data;
+import com.linkedin.data.DataComplex;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.Null;
+import com.linkedin.data.element.DataElement;
+import com.linkedin.data.element.MutableDataElement;
+import com.linkedin.data.element.SimpleDataElement;
+import com.linkedin.data.it.Predicate;
+import com.linkedin.data.it.Predicates;
+import com.linkedin.data.schema.ArrayDataSchema;
+import com.linkedin.data.schema.DataSchema;
+import com.linkedin.data.schema.DataSchemaConstants;
+import com.linkedin.data.schema.EnumDataSchema;
+import com.linkedin.data.schema.FixedDataSchema;
+import com.linkedin.data.schema.MapDataSchema;
+import com.linkedin.data.schema.RecordDataSchema;
+import com.linkedin.data.schema.UnionDataSchema;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+
+/**
+ * A validation plan compiled once per {@link DataSchema} for {@link ValidateDataAgainstSchema}.
+ *
+ * <p>The plan resolves typerefs, the expected Java class of primitive values, the field table and required field
+ * counts of each record and the member table of each union ahead of time. Checking a value against the plan does not
+ * allocate messages, and only allocates data elements if {@link ValidationOptions#getTreatOptional()} is set, to
+ * evaluate it on missing required fields. It only accepts values for which the interpreter in
+ * {@link ValidateDataAgainstSchema} would report no message: values that conform to the schema, possibly after
+ * coercions that can be applied in place. For anything else, such as missing required fields that are not treated as
+ * optional, unrecognized fields in a mode other than {@link UnrecognizedFieldMode#IGNORE} or values that cannot be
+ * coerced, the check gives up and the interpreter, which remains the reference implementation, validates the value
+ * from scratch. The check never modifies the value, so giving up is always safe.</p>
+ */
+final class ValidationPlan
+{
+  private static final Cache<DataSchema, ValidationPlan> PLANS = Caffeine.newBuilder().weakKeys().build();
+
+  private static final Object INVALID = new Object();
+
+  private enum Kind
+  {
+    RECORD,
+    UNION,
+    ARRAY,
+    MAP,
+    ENUM,
+    FIXED,
+    BYTES,
+    PRIMITIVE
+  }
+
+  private static final class FieldPlan
+  {
+    private final String _name;
+    private final ValidationPlan _value;
+    private final boolean _required;
+    private final boolean _requiredWithoutDefault;
+
+    private FieldPlan(RecordDataSchema.Field field, ValidationPlan value)
+    {
+      _name = field.getName();
+      _value = value;
+      _required = !field.getOptional();
+      _requiredWithoutDefault = _required && field.getDefault() == null;
+    }
+  }
+
+  // The declared schema, which is the schema of the data elements handed to validators.
+  private final DataSchema _schema;
+  private final DataSchema _dereferenced;
+  private final Kind _kind;
+  private final Class<?> _primitiveClass;
+
+  private Map<String, FieldPlan> _fields;
+  private int _requiredCount;
+  private int _requiredWithoutDefaultCount;
+  private Map<String, ValidationPlan> _members;
+  private ValidationPlan _items;
+
+  private ValidationPlan(DataSchema schema, DataSchema dereferenced, Kind kind, Class<?> primitiveClass)
+  {
+    _schema = schema;
+    _dereferenced = dereferenced;
+    _kind = kind;
+    _primitiveClass = primitiveClass;
+  }
+
+  /**
+   * Returns the plan for the given schema, compiling it on first use. Plans are cached by schema identity and are
+   * released together with their schema.
+   */
+  static ValidationPlan forSchema(DataSchema schema)
+  {
+    return PLANS.get(schema, key -> compile(key, new IdentityHashMap<>()));
+  }
+
+  private static ValidationPlan compile(DataSchema schema, Map<DataSchema, ValidationPlan> compiled)
+  {
+    ValidationPlan plan = compiled.get(schema);
+    if (plan != null)
+    {
+      return plan;
+    }
+
+    DataSchema dereferenced = schema.getDereferencedDataSchema();
+    switch (dereferenced.getType())
+    {
+      case RECORD:
+        plan = new ValidationPlan(schema, dereferenced, Kind.RECORD, null);
+        // Register before compiling the fields to terminate recursive schemas.
+        compiled.put(schema, plan);
+        List<RecordDataSchema.Field> fields = ((RecordDataSchema) dereferenced).getFields();
+        plan._fields = new HashMap<>(fields.size() * 2);
+        for (RecordDataSchema.Field field : fields)
+        {
+          FieldPlan fieldPlan = new FieldPlan(field, compile(field.getType(), compiled));
+          plan._fields.put(field.getName(), fieldPlan);
+          plan._requiredCount += fieldPlan._required ? 1 : 0;
+          plan._requiredWithoutDefaultCount += fieldPlan._requiredWithoutDefault ? 1 : 0;
+        }
+        return plan;
+      case UNION:
+        plan = new ValidationPlan(schema, dereferenced, Kind.UNION, null);
+        compiled.put(schema, plan);
+        List<UnionDataSchema.Member> members = ((UnionDataSchema) dereferenced).getMembers();
+        plan._members = new HashMap<>(members.size() * 2);
+        for (UnionDataSchema.Member member : members)
+        {
+          plan._members.put(member.getUnionMemberKey(), compile(member.getType(), compiled));
+        }
+        return plan;
+      case ARRAY:
+        plan = new ValidationPlan(schema, dereferenced, Kind.ARRAY, null);
+        compiled.put(schema, plan);
+        plan._items = compile(((ArrayDataSchema) dereferenced).getItems(), compiled);
+        return plan;
+      case MAP:
+        plan = new ValidationPlan(schema, dereferenced, Kind.MAP, null);
+        compiled.put(schema, plan);
+        plan._items = compile(((MapDataSchema) dereferenced).getValues(), compiled);
+        return plan;
+      case ENUM:
+        plan = new ValidationPlan(schema, dereferenced, Kind.ENUM, null);
+        break;
+      case FIXED:
+        plan = new ValidationPlan(schema, dereferenced, Kind.FIXED, null);
+        break;
+      case BYTES:
+        plan = new ValidationPlan(schema, dereferenced, Kind.BYTES, null);
+        break;
+      default:
+        plan = new ValidationPlan(schema, dereferenced, Kind.PRIMITIVE, primitiveClass(dereferenced.getType()));
+        break;
+    }
+    compiled.put(schema, plan);
+    return plan;
+  }
+
+  private static Class<?> primitiveClass(DataSchema.Type type)
+  {
+    switch (type)
+    {
+      case INT:
+        return Integer.class;
+      case LONG:
+        return Long.class;
+      case FLOAT:
+        return Float.class;
+      case DOUBLE:
+        return Double.class;
+      case STRING:
+        return String.class;
+      case BOOLEAN:
+        return Boolean.class;
+      case NULL:
+        return Null.class;
+      default:
+        throw new IllegalArgumentException("Unexpected primitive type " + type);
+    }
+  }
+
+  /**
+   * Checks the given value against this plan without modifying it.
+   *
+   * @param element the element of the value to check, which is validated against the schema this plan was compiled
+   *                from.
+   * @param options the validation options.
+   * @return the outcome of the check, holding the coercions to apply, or null if the value has to be validated by
+   *         the interpreter.
+   */
+  Check check(DataElement element, ValidationOptions options)
+  {
+    Object value = element.getValue();
+    if (value == null)
+    {
+      return null;
+    }
+    Check check = new Check(options, element);
+    // Coercing the root value itself is left to the interpreter, since it replaces the fixed value of the result.
+    return check(value, check) == value ? check : null;
+  }
+
+  private Object check(Object value, Check check)
+  {
+    Class<?> valueClass = value.getClass();
+    switch (_kind)
+    {
+      case RECORD:
+        return valueClass == DataMap.class && checkRecord((DataMap) value, check) ? value : INVALID;
+      case UNION:
+        return checkUnion(value, check) ? value : INVALID;
+      case ARRAY:
+        return valueClass == DataList.class && checkArray((DataList) value, check) ? value : INVALID;
+      case MAP:
+        return valueClass == DataMap.class && checkMap((DataMap) value, check) ? value : INVALID;
+      case ENUM:
+        return valueClass == String.class && ((EnumDataSchema) _dereferenced).contains((String) value) ? value : INVALID;
+      case FIXED:
+        int size = ((FixedDataSchema) _dereferenced).getSize();
+        if (valueClass == ByteString.class)
+        {
+          return ((ByteString) value).length() == size ? value : INVALID;
+        }
+        return valueClass == String.class && ((String) value).length() == size ? check.coerceBytes((String) value) : INVALID;
+      case BYTES:
+        if (valueClass == ByteString.class)
+        {
+          return value;
+        }
+        return valueClass == String.class ? check.coerceBytes((String) value) : INVALID;
+      default:
+        return valueClass == _primitiveClass ? value : check.coercePrimitive(_dereferenced.getType(), value);
+    }
+  }
+
+  private boolean checkRecord(DataMap map, Check check)
+  {
+    int required = 0;
+    int requiredWithoutDefault = 0;
+    for (Map.Entry<String, Object> entry : map.entrySet())
+    {
+      FieldPlan field = _fields.get(entry.getKey());
+      if (field == null)
+      {
+        if (check._unrecognizedFieldMode != UnrecognizedFieldMode.IGNORE)
+        {
+          return false;
+        }
+      }
+      else
+      {
+        if (!field._value.checkChild(map, entry.getKey(), entry.getValue(), check))
+        {
+          return false;
+        }
+        required += field._required ? 1 : 0;
+        requiredWithoutDefault += field._requiredWithoutDefault ? 1 : 0;
+      }
+    }
+
+    // Keys are unique, so counting the required fields that are present tells whether any of them is missing.
+    switch (check._requiredMode)
+    {
+      case IGNORE:
+        return true;
+      case CAN_BE_ABSENT_IF_HAS_DEFAULT:
+        return requiredWithoutDefault == _requiredWithoutDefaultCount || areMissingFieldsOptional(map, check, true);
+      default:
+        return required == _requiredCount || areMissingFieldsOptional(map, check, false);
+    }
+  }
+
+  /**
+   * Returns whether every required field missing from the given record is treated as optional by the options, such
+   * as the read-only fields of a create request.
+   */
+  private boolean areMissingFieldsOptional(DataMap map, Check check, boolean withoutDefaultOnly)
+  {
+    if (check._treatOptional == null)
+    {
+      return false;
+    }
+    for (FieldPlan field : _fields.values())
+    {
+      if ((withoutDefaultOnly ? field._requiredWithoutDefault : field._required) && !map.containsKey(field._name)
+          && !check._treatOptional.evaluate(new SimpleDataElement(null, field._name, field._value._schema, check._element)))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean checkUnion(Object value, Check check)
+  {
+    if (value == Data.NULL)
+    {
+      return _members.containsKey(DataSchemaConstants.NULL_TYPE);
+    }
+    if (value.getClass() != DataMap.class)
+    {
+      return false;
+    }
+    DataMap map = (DataMap) value;
+    if (map.isEmpty())
+    {
+      return ((UnionDataSchema) _dereferenced).isPartialSchema();
+    }
+    if (map.size() > 1)
+    {
+      return false;
+    }
+    Map.Entry<String, Object> entry = map.entrySet().iterator().next();
+    ValidationPlan member = _members.get(entry.getKey());
+    return member != null && member.checkChild(map, entry.getKey(), entry.getValue(), check);
+  }
+
+  private boolean checkArray(DataList list, Check check)
+  {
+    for (int i = 0, size = list.size(); i < size; i++)
+    {
+      if (!_items.checkChild(list, i, list.get(i), check))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean checkMap(DataMap map, Check check)
+  {
+    for (Map.Entry<String, Object> entry : map.entrySet())
+    {
+      if (!_items.checkChild(map, entry.getKey(), entry.getValue(), check))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean checkChild(DataComplex parent, Object name, Object value, Check check)
+  {
+    Object checked;
+    if (check._treatOptional == null)
+    {
+      checked = check(value, check);
+    }
+    else
+    {
+      // The predicate of missing fields is evaluated against the element of their record.
+      DataElement parentElement = check._element;
+      check._element = new SimpleDataElement(value, name, _schema, parentElement);
+      checked = check(value, check);
+      check._element = parentElement;
+    }
+    if (checked == value)
+    {
+      return true;
+    }
+    if (checked == INVALID || parent.isReadOnly())
+    {
+      return false;
+    }
+    check.addCoercion(parent, name, checked);
+    return true;
+  }
+
+  /**
+   * Visits the given element and its descendants that have a schema in post-order, which is the order in which
+   * the interpreter invokes validators. Like {@link com.linkedin.data.it.ObjectIterator}, children are visited
+   * through a {@link MutableDataElement} that is shared by the siblings.
+   *
+   * @param element the element to visit, whose value has passed {@link #check(Object, ValidationOptions)}.
+   * @param visitor the visitor to invoke on each element.
+   */
+  void visitPostOrder(DataElement element, Consumer<DataElement> visitor)
+  {
+    Object value = element.getValue();
+    Class<?> valueClass = value.getClass();
+    if (valueClass == DataMap.class)
+    {
+      DataMap map = (DataMap) value;
+      if (!map.isEmpty())
+      {
+        MutableDataElement childElement = new MutableDataElement(element);
+        for (Map.Entry<String, Object> entry : map.entrySet())
+        {
+          ValidationPlan child = childPlan(entry.getKey());
+          if (child != null)
+          {
+            childElement.setValueNameSchema(entry.getValue(), entry.getKey(), child._schema);
+            child.visitPostOrder(childElement, visitor);
+          }
+        }
+      }
+    }
+    else if (valueClass == DataList.class)
+    {
+      DataList list = (DataList) value;
+      if (!list.isEmpty())
+      {
+        MutableDataElement childElement = new MutableDataElement(element);
+        for (int i = 0, size = list.size(); i < size; i++)
+        {
+          childElement.setValueNameSchema(list.get(i), i, _items._schema);
+          _items.visitPostOrder(childElement, visitor);
+        }
+      }
+    }
+    visitor.accept(element);
+  }
+
+  private ValidationPlan childPlan(String key)
+  {
+    switch (_kind)
+    {
+      case RECORD:
+        FieldPlan field = _fields.get(key);
+        // Unrecognized fields have no schema, and validators are not invoked on them.
+        return field == null ? null : field._value;
+      case UNION:
+        return _members.get(key);
+      default:
+        return _items;
+    }
+  }
+
+  /**
+   * The state of a single check: the options it runs with and the coercions to apply once the whole value has been
+   * accepted.
+   */
+  static final class Check
+  {
+    private final CoercionMode _coercionMode;
+    private final RequiredMode _requiredMode;
+    private final UnrecognizedFieldMode _unrecognizedFieldMode;
+    // Null if no field is treated as optional.
+    private final Predicate _treatOptional;
+    // The element of the value being checked, only tracked if fields may be treated as optional.
+    private DataElement _element;
+    // Triples of parent, name and coerced value.
+    private List<Object> _coercions;
+
+    private Check(ValidationOptions options, DataElement element)
+    {
+      _coercionMode = options.getCoercionMode();
+      _requiredMode = options.getRequiredMode();
+      _unrecognizedFieldMode = options.getUnrecognizedFieldMode();
+      _treatOptional = options.getTreatOptional() == Predicates.alwaysFalse() ? null : options.getTreatOptional();
+      _element = element;
+    }
+
+    boolean hasCoercions()
+    {
+      return _coercions != null;
+    }
+
+    /**
+     * Replaces the coerced values in their parents.
+     */
+    void applyCoercions()
+    {
+      if (_coercions == null)
+      {
+        return;
+      }
+      for (int i = 0; i < _coercions.size(); i += 3)
+      {
+        Object parent = _coercions.get(i);
+        if (parent.getClass() == DataMap.class)
+        {
+          ((DataMap) parent).put((String) _coercions.get(i + 1), _coercions.get(i + 2));
+        }
+        else
+        {
+          ((DataList) parent).set((Integer) _coercions.get(i + 1), _coercions.get(i + 2));
+        }
+      }
+    }
+
+    private void addCoercion(DataComplex parent, Object name, Object coerced)
+    {
+      if (_coercions == null)
+      {
+        _coercions = new ArrayList<>();
+      }
+      _coercions.add(parent);
+      _coercions.add(name);
+      _coercions.add(coerced);
+    }
+
+    private Object coerceBytes(String value)
+    {
+      if (_coercionMode == CoercionMode.OFF)
+      {
+        return Data.validStringAsBytes(value) ? value : INVALID;
+      }
+      ByteString bytes = ByteString.copyAvroString(value, true);
+      return bytes == null ? INVALID : bytes;
+    }
+
+    private Object coercePrimitive(DataSchema.Type type, Object value)
+    {
+      if (_coercionMode == CoercionMode.OFF)
+      {
+        return INVALID;
+      }
+      Object coerced = ValidateDataAgainstSchema.coercePrimitive(type, value, _coercionMode);
+      return coerced == value ? INVALID : coerced;
+    }
+  }
+}
@@ -150,30 +150,7 @@ public class DataTemplateUtil
   public static <T extends DataTemplate<?>> T wrap(Object object, Class<T> wrapperClass)
     throws TemplateOutputCastException
   {
-    try
-    {
-      return templateConstructor(wrapperClass).newInstance(object);
-    }
-    catch (IllegalArgumentException e)
-    {
-      throw new TemplateOutputCastException("Could not create new instance of " + wrapperClass.getName() + " with argument " + object, e);
-    }
-    catch (InstantiationException e)
-    {
-      throw new TemplateOutputCastException("Could not create new instance of " + wrapperClass.getName() + ": cannot initialize an abstract class", e);
-    }
-    catch (IllegalAccessException e)
-    {
-      throw new TemplateOutputCastException("Could not create new instance of " + wrapperClass.getName() + ": access control denies access to constructor", e);
-    }
-    catch (InvocationTargetException e)
-    {
-      throw new TemplateOutputCastException("Could not create new instance of " + wrapperClass.getName() + ": constructor throws an exception", e);
-    }
-    catch (ClassCastException e)
-    {
-      throw new TemplateOutputCastException("Could not create new instance of " + wrapperClass.getName() + " with argument " + object, e);
-    }
+    return TemplateFactory.forClass(wrapperClass).create(object);
   }
 
   /**
@@ -241,30 +218,7 @@ public class DataTemplateUtil
   public static <T extends DataTemplate<?>> T wrap(Object object, DataSchema schema, Class<T> wrapperClass)
     throws TemplateOutputCastException
   {
-    try
-    {
-      return templateConstructor(wrapperClass, schema).newInstance(object);
-    }
-    catch (IllegalArgumentException e)
-    {
-      throw new TemplateOutputCastException("Could not create new instance of " + wrapperClass.getName() + " with argument " + object, e);
-    }
-    catch (InstantiationException e)
-    {
-      throw new TemplateOutputCastException("Could not create new instance of " + wrapperClass.getName() + ": cannot initialize an abstract class", e);
-    }
-    catch (IllegalAccessException e)
-    {
-      throw new TemplateOutputCastException("Could not create new instance of " + wrapperClass.getName() + ": access control denies access to constructor", e);
-    }
-    catch (InvocationTargetException e)
-    {
-      throw new TemplateOutputCastException("Could not create new instance of " + wrapperClass.getName() + ": constructor throws an exception", e);
-    }
-    catch (ClassCastException e)
-    {
-      throw new TemplateOutputCastException("Could not create new instance of " + wrapperClass.getName() + " with argument " + object, e);
-    }
+    return TemplateFactory.forSchema(wrapperClass, schema).create(object);
   }
 
   /**
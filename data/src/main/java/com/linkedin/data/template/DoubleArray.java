@@ -46,11 +46,49 @@ public final class DoubleArray extends DirectArrayTemplate<Double>
     addAll(c);
   }
 
+  /**
+   * Constructs an array of the given values, stored in a primitive array.
+   *
+   * @param values provides the initial elements, which are copied.
+   */
+  public DoubleArray(double[] values)
+  {
+    this(new DataList(values));
+  }
+
   public DoubleArray(DataList list)
   {
     super(list, SCHEMA, Double.class, Double.class);
   }
 
+  /**
+   * Returns the element at the specified position as a double. The element is not boxed if the underlying
+   * {@link DataList} stores doubles in a primitive array.
+   *
+   * @param index of the element to return.
+   * @return the element at the specified position.
+   * @throws TemplateOutputCastException if the element cannot be coerced to a double.
+   */
+  public double getDouble(int index) throws TemplateOutputCastException
+  {
+    return _list.getPrimitiveElementClass() == double.class ? _list.getDouble(index) : get(index);
+  }
+
+  /**
+   * @return a new double array holding the elements of this array.
+   * @throws TemplateOutputCastException if an element cannot be coerced to a double.
+   */
+  public double[] toDoubleArray() throws TemplateOutputCastException
+  {
+    int size = size();
+    double[] values = new double[size];
+    for (int i = 0; i < size; i++)
+    {
+      values[i] = getDouble(i);
+    }
+    return values;
+  }
+
   public DoubleArray(Double first, Double... rest)
   {
     this(new DataList(rest.length + 1));
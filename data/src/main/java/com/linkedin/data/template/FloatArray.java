@@ -46,11 +46,49 @@ public final class FloatArray extends DirectArrayTemplate<Float>
     addAll(c);
   }
 
+  /**
+   * Constructs an array of the given values, stored in a primitive array.
+   *
+   * @param values provides the initial elements, which are copied.
+   */
+  public FloatArray(float[] values)
+  {
+    this(new DataList(values));
+  }
+
   public FloatArray(DataList list)
   {
     super(list, SCHEMA, Float.class, Float.class);
   }
 
+  /**
+   * Returns the element at the specified position as a float. The element is not boxed if the underlying
+   * {@link DataList} stores floats in a primitive array.
+   *
+   * @param index of the element to return.
+   * @return the element at the specified position.
+   * @throws TemplateOutputCastException if the element cannot be coerced to a float.
+   */
+  public float getFloat(int index) throws TemplateOutputCastException
+  {
+    return _list.getPrimitiveElementClass() == float.class ? _list.getFloat(index) : get(index);
+  }
+
+  /**
+   * @return a new float array holding the elements of this array.
+   * @throws TemplateOutputCastException if an element cannot be coerced to a float.
+   */
+  public float[] toFloatArray() throws TemplateOutputCastException
+  {
+    int size = size();
+    float[] values = new float[size];
+    for (int i = 0; i < size; i++)
+    {
+      values[i] = getFloat(i);
+    }
+    return values;
+  }
+
   public FloatArray(Float first, Float... rest)
   {
     this(new DataList(rest.length + 1));
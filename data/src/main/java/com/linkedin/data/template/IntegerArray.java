@@ -45,11 +45,49 @@ public final class IntegerArray extends DirectArrayTemplate<Integer>
     addAll(c);
   }
 
+  /**
+   * Constructs an array of the given values, stored in a primitive array.
+   *
+   * @param values provides the initial elements, which are copied.
+   */
+  public IntegerArray(int[] values)
+  {
+    this(new DataList(values));
+  }
+
   public IntegerArray(DataList list)
   {
     super(list, SCHEMA, Integer.class, Integer.class);
   }
 
+  /**
+   * Returns the element at the specified position as a int. The element is not boxed if the underlying
+   * {@link DataList} stores ints in a primitive array.
+   *
+   * @param index of the element to return.
+   * @return the element at the specified position.
+   * @throws TemplateOutputCastException if the element cannot be coerced to a int.
+   */
+  public int getInt(int index) throws TemplateOutputCastException
+  {
+    return _list.getPrimitiveElementClass() == int.class ? _list.getInt(index) : get(index);
+  }
+
+  /**
+   * @return a new int array holding the elements of this array.
+   * @throws TemplateOutputCastException if an element cannot be coerced to a int.
+   */
+  public int[] toIntArray() throws TemplateOutputCastException
+  {
+    int size = size();
+    int[] values = new int[size];
+    for (int i = 0; i < size; i++)
+    {
+      values[i] = getInt(i);
+    }
+    return values;
+  }
+
   @Override
   public IntegerArray clone() throws CloneNotSupportedException
   {
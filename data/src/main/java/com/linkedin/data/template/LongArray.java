@@ -46,11 +46,49 @@ public final class LongArray extends DirectArrayTemplate<Long>
     addAll(c);
   }
 
+  /**
+   * Constructs an array of the given values, stored in a primitive array.
+   *
+   * @param values provides the initial elements, which are copied.
+   */
+  public LongArray(long[] values)
+  {
+    this(new DataList(values));
+  }
+
   public LongArray(DataList list)
   {
     super(list, SCHEMA, Long.class, Long.class);
   }
 
+  /**
+   * Returns the element at the specified position as a long. The element is not boxed if the underlying
+   * {@link DataList} stores longs in a primitive array.
+   *
+   * @param index of the element to return.
+   * @return the element at the specified position.
+   * @throws TemplateOutputCastException if the element cannot be coerced to a long.
+   */
+  public long getLong(int index) throws TemplateOutputCastException
+  {
+    return _list.getPrimitiveElementClass() == long.class ? _list.getLong(index) : get(index);
+  }
+
+  /**
+   * @return a new long array holding the elements of this array.
+   * @throws TemplateOutputCastException if an element cannot be coerced to a long.
+   */
+  public long[] toLongArray() throws TemplateOutputCastException
+  {
+    int size = size();
+    long[] values = new long[size];
+    for (int i = 0; i < size; i++)
+    {
+      values[i] = getLong(i);
+    }
+    return values;
+  }
+
   public LongArray(Long first, Long... rest)
   {
     this(new DataList(rest.length + 1));
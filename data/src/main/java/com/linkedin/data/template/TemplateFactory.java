@@ -0,0 +1,226 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.template;
+
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.schema.DataSchema;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+
+/**
+ * Creates instances of a {@link DataTemplate} class that wrap Data objects.
+ *
+ * <p>Factories are cached per template class and constructor argument type. A factory calls the constructor through
+ * a {@link MethodHandle}, which avoids looking up the {@link Constructor} on every call and the cost of reflective
+ * invocation. Constructors that are not publicly accessible are invoked reflectively, as they were before.</p>
+ *
+ * @param <T> the concrete {@link DataTemplate} type.
+ */
+final class TemplateFactory<T extends DataTemplate<?>>
+{
+  private static final int DATA_MAP = 0;
+  private static final int DATA_LIST = 1;
+  private static final int OBJECT = 2;
+  private static final Class<?>[] ARGUMENT_CLASSES = { DataMap.class, DataList.class, Object.class };
+
+  private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  private static final ClassValue<TemplateFactory<?>[]> FACTORIES = new ClassValue<TemplateFactory<?>[]>()
+  {
+    @Override
+    protected TemplateFactory<?>[] computeValue(Class<?> type)
+    {
+      return new TemplateFactory<?>[ARGUMENT_CLASSES.length];
+    }
+  };
+
+  private final Class<T> _templateClass;
+  private final Class<?> _argumentClass;
+  private final MethodHandle _handle;
+  private final Constructor<T> _constructor;
+
+  private TemplateFactory(Class<T> templateClass, Constructor<T> constructor)
+  {
+    _templateClass = templateClass;
+    _argumentClass = constructor.getParameterTypes()[0];
+    _constructor = constructor;
+
+    MethodHandle handle;
+    try
+    {
+      handle = MethodHandles.publicLookup().unreflectConstructor(constructor).asType(FACTORY_TYPE);
+    }
+    catch (IllegalAccessException e)
+    {
+      handle = null;
+    }
+    _handle = handle;
+  }
+
+  /**
+   * Returns the factory for the given template class, choosing the constructor by the kind of template class as
+   * {@link DataTemplateUtil#templateConstructor(Class)} does.
+   *
+   * @throws TemplateOutputCastException if the template class does not have an appropriate constructor.
+   */
+  static <T extends DataTemplate<?>> TemplateFactory<T> forClass(Class<T> templateClass)
+      throws TemplateOutputCastException
+  {
+    final int argument;
+    if (RecordTemplate.class.isAssignableFrom(templateClass) || AbstractMapTemplate.class.isAssignableFrom(templateClass))
+    {
+      argument = DATA_MAP;
+    }
+    else if (AbstractArrayTemplate.class.isAssignableFrom(templateClass))
+    {
+      argument = DATA_LIST;
+    }
+    else if (FixedTemplate.class.isAssignableFrom(templateClass) || UnionTemplate.class.isAssignableFrom(templateClass))
+    {
+      argument = OBJECT;
+    }
+    else
+    {
+      // Let templateConstructor report the error.
+      DataTemplateUtil.templateConstructor(templateClass);
+      throw new IllegalStateException("Unreachable: " + templateClass.getName());
+    }
+
+    TemplateFactory<T> factory = get(templateClass, argument);
+    if (factory == null)
+    {
+      factory = put(templateClass, argument, DataTemplateUtil.templateConstructor(templateClass));
+    }
+    return factory;
+  }
+
+  /**
+   * Returns the factory for the given template class, choosing the constructor by the type of the schema as
+   * {@link DataTemplateUtil#templateConstructor(Class, DataSchema)} does.
+   *
+   * @throws TemplateOutputCastException if the template class does not have an appropriate constructor.
+   */
+  static <T extends DataTemplate<?>> TemplateFactory<T> forSchema(Class<T> templateClass, DataSchema schema)
+      throws TemplateOutputCastException
+  {
+    final int argument;
+    switch (schema.getDereferencedType())
+    {
+      case MAP:
+      case RECORD:
+        argument = DATA_MAP;
+        break;
+      case ARRAY:
+        argument = DATA_LIST;
+        break;
+      case FIXED:
+      case UNION:
+        argument = OBJECT;
+        break;
+      default:
+        // Let templateConstructor report the error.
+        DataTemplateUtil.templateConstructor(templateClass, schema);
+        throw new IllegalStateException("Unreachable: " + schema.getDereferencedType());
+    }
+
+    TemplateFactory<T> factory = get(templateClass, argument);
+    if (factory == null)
+    {
+      factory = put(templateClass, argument, DataTemplateUtil.templateConstructor(templateClass, schema));
+    }
+    return factory;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T extends DataTemplate<?>> TemplateFactory<T> get(Class<T> templateClass, int argument)
+  {
+    return (TemplateFactory<T>) FACTORIES.get(templateClass)[argument];
+  }
+
+  private static <T extends DataTemplate<?>> TemplateFactory<T> put(Class<T> templateClass, int argument,
+      Constructor<T> constructor)
+  {
+    // Creating a factory is idempotent, so a race between threads at most creates it twice.
+    TemplateFactory<T> factory = new TemplateFactory<>(templateClass, constructor);
+    FACTORIES.get(templateClass)[argument] = factory;
+    return factory;
+  }
+
+  /**
+   * Creates an instance of the template class that wraps the given Data object.
+   *
+   * @throws TemplateOutputCastException if the object cannot be wrapped by the template class.
+   */
+  @SuppressWarnings("unchecked")
+  T create(Object object) throws TemplateOutputCastException
+  {
+    if (_handle == null)
+    {
+      return createReflectively(object);
+    }
+
+    if (object != null && !_argumentClass.isInstance(object))
+    {
+      throw new TemplateOutputCastException("Could not create new instance of " + _templateClass.getName() + " with argument " + object);
+    }
+
+    final Object instance;
+    try
+    {
+      // The call site type must match the handle type exactly, so the result is cast separately.
+      instance = (Object) _handle.invokeExact(object);
+    }
+    catch (Throwable e)
+    {
+      throw new TemplateOutputCastException("Could not create new instance of " + _templateClass.getName() + ": constructor throws an exception", new InvocationTargetException(e));
+    }
+    return (T) instance;
+  }
+
+  private T createReflectively(Object object) throws TemplateOutputCastException
+  {
+    try
+    {
+      return _constructor.newInstance(object);
+    }
+    catch (IllegalArgumentException e)
+    {
+      throw new TemplateOutputCastException("Could not create new instance of " + _templateClass.getName() + " with argument " + object, e);
+    }
+    catch (InstantiationException e)
+    {
+      throw new TemplateOutputCastException("Could not create new instance of " + _templateClass.getName() + ": cannot initialize an abstract class", e);
+    }
+    catch (IllegalAccessException e)
+    {
+      throw new TemplateOutputCastException("Could not create new instance of " + _templateClass.getName() + ": access control denies access to constructor", e);
+    }
+    catch (InvocationTargetException e)
+    {
+      throw new TemplateOutputCastException("Could not create new instance of " + _templateClass.getName() + ": constructor throws an exception", e);
+    }
+    catch (ClassCastException e)
+    {
+      throw new TemplateOutputCastException("Could not create new instance of " + _templateClass.getName() + " with argument " + object, e);
+    }
+  }
+}
@@ -159,14 +159,14 @@ public class WrappingArrayTemplate<E extends DataTemplate<?>> extends AbstractAr
 
   protected E coerceOutput(Object value) throws TemplateOutputCastException
   {
-    if (_constructor == null)
+    if (_factory == null)
     {
-      _constructor = DataTemplateUtil.templateConstructor(_elementClass, schema().getItems());
+      _factory = TemplateFactory.forSchema(_elementClass, schema().getItems());
     }
 
-    return DataTemplateUtil.wrap(value, _constructor);
+    return _factory.create(value);
   }
 
-  private Constructor<E> _constructor;
+  private TemplateFactory<E> _factory;
   protected DataObjectToObjectCache<E> _cache;
 }
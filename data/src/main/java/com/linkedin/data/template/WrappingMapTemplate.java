@@ -178,12 +178,12 @@ public abstract class WrappingMapTemplate<V extends DataTemplate<?>> extends Abs
 
   protected V coerceOutput(Object value) throws TemplateOutputCastException
   {
-    if (_constructor == null)
+    if (_factory == null)
     {
-      _constructor = DataTemplateUtil.templateConstructor(valueClass(), schema().getValues());
+      _factory = TemplateFactory.forSchema(valueClass(), schema().getValues());
     }
 
-    return DataTemplateUtil.wrap(value, _constructor);
+    return _factory.create(value);
   }
 
   protected class EntrySet extends AbstractMapTemplate<V>.AbstractEntrySet
@@ -320,7 +320,7 @@ public abstract class WrappingMapTemplate<V extends DataTemplate<?>> extends Abs
 
   }
 
-  private Constructor<V> _constructor;
+  private TemplateFactory<V> _factory;
   protected EntrySet _entrySet;
   protected DataObjectToObjectCache<V> _cache;
 }
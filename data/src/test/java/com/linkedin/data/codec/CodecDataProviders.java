@@ -149,6 +149,23 @@ public class CodecDataProviders
       inputs.put("List of 100 doubles", map1);
     }
 
+    {
+      int[] ints = new int[100];
+      long[] longs = new long[100];
+      double[] doubles = new double[100];
+      for (int i = 0; i < 100; ++i)
+      {
+        ints[i] = i - 50;
+        longs[i] = Integer.MAX_VALUE + (long) i;
+        doubles[i] = i + 0.25;
+      }
+      DataMap map1 = new DataMap();
+      map1.put("ints", new DataList(ints));
+      map1.put("longs", new DataList(longs));
+      map1.put("doubles", new DataList(doubles));
+      inputs.put("Map of primitive-backed numeric lists", map1);
+    }
+
     {
       DataMap map1 = new DataMap();
       for (int i = 0; i < 100; ++i)
@@ -0,0 +1,158 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.codec;
+
+import com.linkedin.data.ByteString;
+import com.linkedin.data.Data;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.schema.RecordDataSchema;
+import com.linkedin.data.template.DataTemplateUtil;
+import java.io.IOException;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+public class TestSchemaSpecializedEncoding
+{
+  private static final RecordDataSchema SCHEMA = (RecordDataSchema) DataTemplateUtil.parseSchema(
+      "{ \"type\" : \"record\", \"name\" : \"Node\", \"namespace\" : \"com.linkedin.data.codec\", \"fields\" : [\n" +
+      "  { \"name\" : \"int\", \"type\" : \"int\" },\n" +
+      "  { \"name\" : \"long\", \"type\" : \"long\" },\n" +
+      "  { \"name\" : \"float\", \"type\" : \"float\" },\n" +
+      "  { \"name\" : \"double\", \"type\" : \"double\" },\n" +
+      "  { \"name\" : \"boolean\", \"type\" : \"boolean\" },\n" +
+      "  { \"name\" : \"string\", \"type\" : \"string\" },\n" +
+      "  { \"name\" : \"bytes\", \"type\" : \"bytes\" },\n" +
+      "  { \"name\" : \"enum\", \"type\" : { \"type\" : \"enum\", \"name\" : \"Color\", \"symbols\" : [ \"RED\", \"BLUE\" ] } },\n" +
+      "  { \"name\" : \"typeref\", \"type\" : { \"type\" : \"typeref\", \"name\" : \"Url\", \"ref\" : \"string\" } },\n" +
+      "  { \"name\" : \"union\", \"type\" : [ \"int\", \"string\" ] },\n" +
+      "  { \"name\" : \"intArray\", \"type\" : { \"type\" : \"array\", \"items\" : \"int\" } },\n" +
+      "  { \"name\" : \"longMap\", \"type\" : { \"type\" : \"map\", \"values\" : \"long\" } },\n" +
+      "  { \"name\" : \"child\", \"type\" : \"Node\", \"optional\" : true },\n" +
+      "  { \"name\" : \"children\", \"type\" : { \"type\" : \"array\", \"items\" : \"Node\" }, \"optional\" : true }\n" +
+      "] }");
+
+  @DataProvider
+  public Object[][] codecs()
+  {
+    JacksonDataCodec sortingCodec = new JacksonDataCodec();
+    sortingCodec.setSortKeys(true);
+
+    return new Object[][]
+        {
+            { new JacksonDataCodec() },
+            { sortingCodec },
+            { new JacksonSmileDataCodec() },
+            { new JacksonLICORDataCodec(false) },
+            { new JacksonLICORDataCodec(true) },
+            { new ProtobufDataCodec() },
+            { new PsonDataCodec() }
+        };
+  }
+
+  @Test(dataProvider = "codecs")
+  public void testConformingRecord(DataCodec codec) throws IOException
+  {
+    DataMap record = createRecord(1);
+    DataMap child = createRecord(2);
+    child.put("child", createRecord(3));
+    record.put("child", child);
+    record.put("children", new DataList());
+    record.getDataList("children").add(createRecord(4));
+    record.getDataList("children").add(createRecord(5));
+
+    assertSameEncoding(codec, record);
+  }
+
+  @Test(dataProvider = "codecs")
+  public void testNonConformingValues(DataCodec codec) throws IOException
+  {
+    DataMap record = createRecord(1);
+    // Values that have not been coerced to the schema type are encoded as is.
+    record.put("long", 1);
+    record.put("float", 2.5d);
+    record.put("double", 3);
+    record.put("intArray", new DataList());
+    record.getDataList("intArray").add(4L);
+    record.getDataList("intArray").add("five");
+    record.put("string", Data.NULL);
+    record.put("child", "not a record");
+    // Fields that are not in the schema are encoded as is.
+    record.put("unknown", new DataMap());
+    record.getDataMap("unknown").put("nested", 6);
+
+    assertSameEncoding(codec, record);
+  }
+
+  @Test(dataProvider = "codecs")
+  public void testEmptyRecord(DataCodec codec) throws IOException
+  {
+    assertSameEncoding(codec, new DataMap());
+  }
+
+  @Test
+  public void testNullSchema() throws IOException
+  {
+    DataCodec codec = new JacksonDataCodec();
+    DataMap record = createRecord(1);
+    Assert.assertEquals(codec.mapToByteString(record, null), codec.mapToByteString(record));
+  }
+
+  @Test
+  public void testPlanIsCached()
+  {
+    Assert.assertSame(RecordEncodingPlan.forSchema(SCHEMA), RecordEncodingPlan.forSchema(SCHEMA));
+  }
+
+  private static void assertSameEncoding(DataCodec codec, DataMap record) throws IOException
+  {
+    ByteString expected = codec.mapToByteString(record);
+    ByteString actual = codec.mapToByteString(record, SCHEMA);
+    Assert.assertEquals(actual, expected);
+  }
+
+  private static DataMap createRecord(int seed)
+  {
+    DataMap record = new DataMap();
+    record.put("int", seed);
+    record.put("long", seed * 1000L);
+    record.put("float", seed + 0.5f);
+    record.put("double", seed + 0.25d);
+    record.put("boolean", seed % 2 == 0);
+    record.put("string", "string" + seed);
+    record.put("bytes", ByteString.copy(new byte[] { (byte) seed, 0, -1 }));
+    record.put("enum", "BLUE");
+    record.put("typeref", "http://www.linkedin.com/" + seed);
+
+    DataMap union = new DataMap();
+    union.put("string", "member" + seed);
+    record.put("union", union);
+
+    DataList intArray = new DataList();
+    intArray.add(seed);
+    intArray.add(seed + 1);
+    record.put("intArray", intArray);
+
+    DataMap longMap = new DataMap();
+    longMap.put("a", (long) seed);
+    longMap.put("b", seed + 1L);
+    record.put("longMap", longMap);
+    return record;
+  }
+}
@@ -25,6 +25,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
@@ -309,7 +310,8 @@ public class TestCommonMap
   {
     return new Object[][] {
       { new CowMapFactory() },
-      { new CheckedMapFactory() }
+      { new CheckedMapFactory() },
+      { new CompactCheckedMapFactory() }
     };
   }
 
@@ -378,4 +380,50 @@ public class TestCommonMap
       return new CheckedMap<>(map, checker);
     }
   }
+
+  public static class CompactCheckedMapFactory implements CommonMapFactory
+  {
+    private final CheckedMapFactory _factory = new CheckedMapFactory();
+
+    public <K,V> CommonMap<K,V> create()
+    {
+      return withCompactBackingStore(_factory::create);
+    }
+    public <K,V> CommonMap<K,V> create(int initialCapacity)
+    {
+      return withCompactBackingStore(() -> _factory.create(initialCapacity));
+    }
+    public <K,V> CommonMap<K,V> create(int initialCapacity, float factor)
+    {
+      return withCompactBackingStore(() -> _factory.create(initialCapacity, factor));
+    }
+    public <K,V> CommonMap<K,V> create(Map<K,V> map)
+    {
+      return withCompactBackingStore(() -> _factory.create(map));
+    }
+    public <K,V> CommonMap<K,V> create(MapChecker<K,V> checker)
+    {
+      return withCompactBackingStore(() -> _factory.create(checker));
+    }
+    public <K,V> CommonMap<K,V> create(Map<K,V> map, MapChecker<K,V> checker)
+    {
+      return withCompactBackingStore(() -> _factory.create(map, checker));
+    }
+
+    private static <K,V> CommonMap<K,V> withCompactBackingStore(Supplier<CommonMap<K,V>> supplier)
+    {
+      boolean enabled = CheckedMap.isCompactBackingStore();
+      CheckedMap.setCompactBackingStore(true);
+      try
+      {
+        CommonMap<K,V> map = supplier.get();
+        assertTrue(((CheckedMap<K,V>) map).getObject() instanceof CompactHashMap);
+        return map;
+      }
+      finally
+      {
+        CheckedMap.setCompactBackingStore(enabled);
+      }
+    }
+  }
 }
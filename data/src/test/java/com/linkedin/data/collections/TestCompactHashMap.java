@@ -0,0 +1,159 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+
+package com.linkedin.data.collections;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+public class TestCompactHashMap
+{
+  @Test
+  public void testAgainstHashMap()
+  {
+    Random random = new Random(42);
+    for (int round = 0; round < 200; round++)
+    {
+      CompactHashMap<String, Integer> map = new CompactHashMap<>(random.nextInt(20));
+      Map<String, Integer> reference = new HashMap<>();
+      int numKeys = 1 + random.nextInt(100);
+      for (int op = 0; op < 1000; op++)
+      {
+        String key = random.nextInt(50) == 0 ? null : "key" + random.nextInt(numKeys);
+        int action = random.nextInt(10);
+        if (action < 5)
+        {
+          Integer value = random.nextInt(5) == 0 ? null : random.nextInt();
+          assertEquals(map.put(key, value), reference.put(key, value));
+        }
+        else if (action < 8)
+        {
+          assertEquals(map.remove(key), reference.remove(key));
+        }
+        else
+        {
+          assertEquals(map.containsKey(key), reference.containsKey(key));
+          assertEquals(map.get(key), reference.get(key));
+        }
+        assertEquals(map.size(), reference.size());
+      }
+      assertEquals(map, reference);
+      assertEquals(reference, map);
+      assertEquals(map.hashCode(), reference.hashCode());
+      assertEquals(map.keySet(), reference.keySet());
+      assertEquals(map.entrySet(), reference.entrySet());
+    }
+  }
+
+  @Test
+  public void testIteratorRemove()
+  {
+    CompactHashMap<String, Integer> map = new CompactHashMap<>();
+    for (int i = 0; i < 100; i++)
+    {
+      map.put("key" + i, i);
+    }
+
+    Iterator<Integer> iterator = map.values().iterator();
+    int visited = 0;
+    while (iterator.hasNext())
+    {
+      if (iterator.next() % 2 == 0)
+      {
+        iterator.remove();
+      }
+      visited++;
+    }
+    assertEquals(visited, 100);
+    assertEquals(map.size(), 50);
+
+    assertTrue(map.entrySet().removeIf(e -> e.getValue() < 50));
+    assertEquals(map.size(), 25);
+    for (int i = 0; i < 100; i++)
+    {
+      assertEquals(map.containsKey("key" + i), i >= 50 && i % 2 == 1);
+    }
+  }
+
+  @Test
+  public void testNullKeyAndValue()
+  {
+    CompactHashMap<String, Integer> map = new CompactHashMap<>();
+    assertNull(map.put(null, 1));
+    assertNull(map.put("a", null));
+    assertTrue(map.containsKey(null));
+    assertTrue(map.containsKey("a"));
+    assertTrue(map.containsValue(null));
+    assertEquals(map.get(null), Integer.valueOf(1));
+    assertTrue(map.keySet().contains(null));
+    assertEquals(map.remove(null), Integer.valueOf(1));
+    assertFalse(map.containsKey(null));
+  }
+
+  @Test
+  public void testClone()
+  {
+    CompactHashMap<String, Integer> map = new CompactHashMap<>();
+    map.put("a", 1);
+    map.put("b", 2);
+    CompactHashMap<String, Integer> clone = map.clone();
+    clone.put("c", 3);
+    clone.remove("a");
+    assertEquals(map.keySet(), new HashSet<>(Arrays.asList("a", "b")));
+    assertEquals(clone.keySet(), new HashSet<>(Arrays.asList("b", "c")));
+  }
+
+  @Test
+  public void testHighLoadFactor()
+  {
+    CompactHashMap<Integer, Integer> map = new CompactHashMap<>(2, 10f);
+    for (int i = 0; i < 1000; i++)
+    {
+      map.put(i, i);
+    }
+    for (int i = 0; i < 1000; i++)
+    {
+      assertTrue(Objects.equals(map.get(i), i));
+    }
+    assertNull(map.get(1000));
+  }
+
+  @Test(expectedExceptions = ConcurrentModificationException.class)
+  public void testFailFastIterator()
+  {
+    CompactHashMap<String, Integer> map = new CompactHashMap<>();
+    map.put("a", 1);
+    map.put("b", 2);
+    for (String key : map.keySet())
+    {
+      map.put(key + "x", 0);
+    }
+  }
+}
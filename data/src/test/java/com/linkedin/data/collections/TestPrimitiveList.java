@@ -0,0 +1,202 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+
+package com.linkedin.data.collections;
+
+import com.linkedin.data.DataList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+public class TestPrimitiveList
+{
+  @Test
+  public void testPrimitiveLists()
+  {
+    PrimitiveList.Ints ints = PrimitiveList.of(new int[] {1, 2, 3});
+    assertEquals(ints.getElementClass(), int.class);
+    assertEquals(ints, Arrays.asList(1, 2, 3));
+    assertEquals(ints.hashCode(), Arrays.asList(1, 2, 3).hashCode());
+
+    ints.add(4);
+    ints.add(0, 0);
+    ints.set(2, 20);
+    assertEquals(ints.remove(1), 1);
+    assertEquals(ints.toIntArray(), new int[] {0, 20, 3, 4});
+    assertEquals(ints.getInt(3), 4);
+
+    PrimitiveList.Longs longs = PrimitiveList.of(new long[] {1L, Long.MAX_VALUE});
+    assertEquals(longs, Arrays.asList(1L, Long.MAX_VALUE));
+    assertEquals(longs.getLong(1), Long.MAX_VALUE);
+
+    PrimitiveList.Floats floats = PrimitiveList.of(new float[] {1.5f});
+    assertEquals(floats, Arrays.asList(1.5f));
+    assertEquals(floats.getFloat(0), 1.5f);
+
+    PrimitiveList.Doubles doubles = PrimitiveList.of(new double[] {1.5, 2.5});
+    assertEquals(doubles, Arrays.asList(1.5, 2.5));
+    assertEquals(doubles.toDoubleArray(), new double[] {1.5, 2.5});
+  }
+
+  @Test
+  public void testRejectsOtherElementClasses()
+  {
+    PrimitiveList.Ints ints = PrimitiveList.of(new int[] {1});
+    for (Object element : Arrays.asList(1L, 1.0f, 1.0, "1", null))
+    {
+      try
+      {
+        ints.add(element);
+        fail("Expected ClassCastException for " + element);
+      }
+      catch (ClassCastException e)
+      {
+        // expected
+      }
+      try
+      {
+        ints.set(0, element);
+        fail("Expected ClassCastException for " + element);
+      }
+      catch (ClassCastException e)
+      {
+        // expected
+      }
+    }
+    assertEquals(ints, Arrays.asList(1));
+  }
+
+  @Test
+  public void testCloneIsIndependent()
+  {
+    PrimitiveList.Doubles doubles = PrimitiveList.of(new double[] {1.0, 2.0});
+    PrimitiveList clone = doubles.clone();
+    clone.set(0, 10.0);
+    clone.add(3.0);
+    assertEquals(doubles, Arrays.asList(1.0, 2.0));
+    assertEquals(clone, Arrays.asList(10.0, 2.0, 3.0));
+  }
+
+  @Test
+  public void testDataListStorage()
+  {
+    assertEquals(new DataList(new int[] {1}).getPrimitiveElementClass(), int.class);
+    assertEquals(new DataList(new long[] {1L}).getPrimitiveElementClass(), long.class);
+    assertEquals(new DataList(new float[] {1.0f}).getPrimitiveElementClass(), float.class);
+    assertEquals(new DataList(new double[] {1.0}).getPrimitiveElementClass(), double.class);
+    assertNull(new DataList(Arrays.asList(1, 2)).getPrimitiveElementClass());
+
+    DataList list = new DataList();
+    list.addInt(1);
+    list.addInt(2);
+    assertEquals(list.getPrimitiveElementClass(), int.class);
+    assertEquals(list.getInt(1), 2);
+    assertEquals(list, new DataList(Arrays.asList(1, 2)));
+    assertEquals(new DataList(Arrays.asList(1, 2)), list);
+    assertEquals(list.hashCode(), new DataList(Arrays.asList(1, 2)).hashCode());
+
+    // Adding a value of the same class keeps the primitive storage.
+    list.add(3);
+    assertEquals(list.getPrimitiveElementClass(), int.class);
+
+    // Mismatching primitives are boxed into the list, which falls back to object storage.
+    list.addLong(4L);
+    assertNull(list.getPrimitiveElementClass());
+    assertEquals(list, Arrays.asList(1, 2, 3, 4L));
+    assertEquals(list.getInt(0), 1);
+    assertEquals(list.getLong(3), 4L);
+  }
+
+  @Test
+  public void testDataListInflates()
+  {
+    List<Object> expected = new ArrayList<>(Arrays.asList(1.0, 2.0, 3.0));
+
+    DataList added = new DataList(new double[] {1.0, 2.0, 3.0});
+    added.add("x");
+    expected.add("x");
+    assertNull(added.getPrimitiveElementClass());
+    assertEquals(added, expected);
+
+    DataList set = new DataList(new double[] {1.0, 2.0, 3.0});
+    set.set(1, 2);
+    assertNull(set.getPrimitiveElementClass());
+    assertEquals(set, Arrays.asList(1.0, 2, 3.0));
+
+    DataList addedAll = new DataList(new double[] {1.0});
+    addedAll.addAll(Arrays.asList(2.0, 3.0));
+    assertEquals(addedAll.getPrimitiveElementClass(), double.class);
+    addedAll.addAll(1, Arrays.asList(1.5, 1.5f));
+    assertNull(addedAll.getPrimitiveElementClass());
+    assertEquals(addedAll, Arrays.asList(1.0, 1.5, 1.5f, 2.0, 3.0));
+
+    try
+    {
+      new DataList(new int[] {1}).add(new Object());
+      fail("Expected IllegalArgumentException");
+    }
+    catch (IllegalArgumentException e)
+    {
+      // The checker rejects the element before storage is inflated.
+    }
+  }
+
+  @Test
+  public void testDataListOperations() throws CloneNotSupportedException
+  {
+    DataList list = new DataList(new long[] {0L, 1L, 2L, 3L, 4L, 5L});
+    list.subList(1, 3).clear();
+    assertEquals(list, Arrays.asList(0L, 3L, 4L, 5L));
+    assertTrue(list.removeIf(value -> (Long) value % 2 == 1));
+    assertEquals(list, Arrays.asList(0L, 4L));
+    assertEquals(list.getPrimitiveElementClass(), long.class);
+
+    DataList copy = list.clone();
+    assertNotSame(copy, list);
+    copy.addLong(6L);
+    assertEquals(list, Arrays.asList(0L, 4L));
+    assertEquals(copy, Arrays.asList(0L, 4L, 6L));
+    assertEquals(copy.getPrimitiveElementClass(), long.class);
+
+    list.makeReadOnly();
+    assertTrue(list.isReadOnly());
+    try
+    {
+      list.addLong(8L);
+      fail("Expected UnsupportedOperationException");
+    }
+    catch (UnsupportedOperationException e)
+    {
+      // expected
+    }
+    assertEquals(list, Arrays.asList(0L, 4L));
+
+    list = new DataList(new float[] {1.0f});
+    list.clear();
+    assertTrue(list.isEmpty());
+    assertFalse(list.contains(1.0f));
+  }
+}
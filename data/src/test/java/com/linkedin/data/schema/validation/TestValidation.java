@@ -21,6 +21,8 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 
 import com.linkedin.data.ByteString;
 import com.linkedin.data.Data;
@@ -29,6 +31,9 @@ import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
 import com.linkedin.data.element.DataElement;
 import com.linkedin.data.element.DataElementUtil;
+import com.linkedin.data.element.SimpleDataElement;
+import com.linkedin.data.it.PathMatchesPatternPredicate;
+import com.linkedin.data.it.Wildcard;
 import com.linkedin.data.message.Message;
 import com.linkedin.data.message.MessageUtil;
 import com.linkedin.data.schema.DataSchema;
@@ -40,6 +45,7 @@ import org.testng.annotations.Test;
 
 import static com.linkedin.data.TestUtil.asList;
 import static com.linkedin.data.TestUtil.asMap;
+import static com.linkedin.data.TestUtil.asReadOnlyDataMap;
 import static com.linkedin.data.TestUtil.dataMapFromString;
 import static com.linkedin.data.TestUtil.dataSchemaFromString;
 
@@ -2448,4 +2454,120 @@ public class TestValidation
     Assert.assertTrue(result.getMessages().toString().contains("ERROR :: /fixedField :: \"~@#4\" length (4) is " +
         "inconsistent with expected fixed size of 16. Base64 decoding failed."));
   }
+
+  @Test
+  public void testCompiledValidationPlan() throws IOException
+  {
+    String schemaText =
+        "{ \"type\" : \"record\", \"name\" : \"Foo\", \"fields\" : [\n" +
+        "  { \"name\" : \"id\", \"type\" : { \"type\" : \"typeref\", \"name\" : \"Id\", \"ref\" : \"long\" } },\n" +
+        "  { \"name\" : \"name\", \"type\" : \"string\", \"optional\" : true },\n" +
+        "  { \"name\" : \"count\", \"type\" : \"int\", \"default\" : 0 },\n" +
+        "  { \"name\" : \"value\", \"type\" : [ \"null\", \"int\", \"string\" ], \"optional\" : true },\n" +
+        "  { \"name\" : \"children\", \"type\" : { \"type\" : \"array\", \"items\" : \"Foo\" }, \"optional\" : true }\n" +
+        "] }";
+    DataSchema schema = dataSchemaFromString(schemaText);
+    ValidationOptions options = new ValidationOptions();
+
+    // Conforming data is accepted by the plan without coercions.
+    DataMap child = new DataMap(asMap("id", 2L, "value", new DataMap(asMap("string", "x"))));
+    DataMap map = new DataMap(asMap("id", 1L, "name", "foo", "count", 3, "value", Data.NULL,
+        "children", new DataList(asList(child))));
+    ValidationPlan.Check check = ValidationPlan.forSchema(schema).check(new SimpleDataElement(map, schema), options);
+    Assert.assertNotNull(check);
+    Assert.assertFalse(check.hasCoercions());
+
+    // Validators are invoked in post-order, once per element that has a schema.
+    VisitedTrackingValidator visitedTrackingValidator = new VisitedTrackingValidator(null);
+    ValidationResult result = ValidateDataAgainstSchema.validate(map, schema, options, visitedTrackingValidator);
+    Assert.assertTrue(result.isValid());
+    Assert.assertFalse(result.hasFix());
+    Assert.assertSame(result.getFixed(), map);
+    List<String> visited = visitedTrackingValidator.getVisited();
+    Assert.assertEquals(new HashSet<>(visited), new HashSet<>(asList(
+        "/id", "/name", "/count", "/value",
+        "/children/0/id", "/children/0/value/string", "/children/0/value", "/children/0", "/children", "")));
+    Assert.assertEquals(visited.size(), 10);
+    Assert.assertEquals(visited.get(9), "");
+    Assert.assertTrue(visited.indexOf("/children/0/value/string") < visited.indexOf("/children/0/value"));
+    Assert.assertTrue(visited.indexOf("/children/0/value") < visited.indexOf("/children/0"));
+    Assert.assertTrue(visited.indexOf("/children/0/id") < visited.indexOf("/children/0"));
+    Assert.assertTrue(visited.indexOf("/children/0") < visited.indexOf("/children"));
+
+    // Coercible values are fixed in place once the whole value has been accepted.
+    DataMap coercible = new DataMap(asMap("id", 1,
+        "children", new DataList(asList(new DataMap(asMap("id", 2, "count", 4L))))));
+    check = ValidationPlan.forSchema(schema).check(new SimpleDataElement(coercible, schema), options);
+    Assert.assertNotNull(check);
+    Assert.assertTrue(check.hasCoercions());
+    Assert.assertEquals(coercible.get("id"), 1);
+    result = validate(coercible, schema, options);
+    Assert.assertTrue(result.isValid());
+    Assert.assertTrue(result.hasFix());
+    Assert.assertEquals(coercible.get("id"), 1L);
+    DataMap coercedChild = coercible.getDataList("children").getDataMap(0);
+    Assert.assertEquals(coercedChild.get("id"), 2L);
+    Assert.assertEquals(coercedChild.get("count"), 4);
+
+    // Anything the interpreter reports on is left to the interpreter, and the check does not modify the value.
+    DataMap missingRequired = new DataMap(asMap("count", 1L));
+    Assert.assertNull(ValidationPlan.forSchema(schema).check(new SimpleDataElement(missingRequired, schema), options));
+    Assert.assertEquals(missingRequired.get("count"), 1L);
+    result = validate(missingRequired, schema, options);
+    Assert.assertFalse(result.isValid());
+    Assert.assertTrue(result.getMessages().toString().contains(
+        "ERROR :: /id :: field is required but not found and has no default value"));
+
+    DataMap unrecognized = new DataMap(asMap("id", 1L, "other", 1));
+    Assert.assertNotNull(ValidationPlan.forSchema(schema).check(new SimpleDataElement(unrecognized, schema), options));
+    Assert.assertNull(ValidationPlan.forSchema(schema).check(new SimpleDataElement(unrecognized, schema), disallowUnrecognizedFieldOption()));
+    result = validate(unrecognized, schema, disallowUnrecognizedFieldOption());
+    Assert.assertFalse(result.isValid());
+    Assert.assertTrue(result.getMessages().toString().contains("ERROR :: /other :: unrecognized field found but not allowed"));
+
+    DataMap readOnly = asReadOnlyDataMap("id", 1);
+    Assert.assertNull(ValidationPlan.forSchema(schema).check(new SimpleDataElement(readOnly, schema), options));
+    result = validate(readOnly, schema, options);
+    Assert.assertFalse(result.isValid());
+    Assert.assertTrue(result.hasFixupReadOnlyError());
+
+    DataMap badUnion = new DataMap(asMap("id", 1L, "value", new DataMap(asMap("int", 1, "string", "x"))));
+    Assert.assertNull(ValidationPlan.forSchema(schema).check(new SimpleDataElement(badUnion, schema), options));
+    result = validate(badUnion, schema, options);
+    Assert.assertFalse(result.isValid());
+    Assert.assertTrue(result.getMessages().toString().contains(
+        "ERROR :: /value :: DataMap should have no more than one entry for a union type"));
+  }
+
+  @Test
+  public void testCompiledValidationPlanTreatOptional() throws IOException
+  {
+    String schemaText =
+        "{ \"type\" : \"record\", \"name\" : \"Foo\", \"fields\" : [\n" +
+        "  { \"name\" : \"id\", \"type\" : \"long\" },\n" +
+        "  { \"name\" : \"name\", \"type\" : \"string\" },\n" +
+        "  { \"name\" : \"children\", \"type\" : { \"type\" : \"array\", \"items\" : \"Foo\" }, \"optional\" : true }\n" +
+        "] }";
+    DataSchema schema = dataSchemaFromString(schemaText);
+    ValidationOptions options = new ValidationOptions();
+    options.setTreatOptional(new PathMatchesPatternPredicate("children", Wildcard.ANY_ONE, "id"));
+
+    // Required fields that are missing are accepted by the plan if they are treated as optional.
+    DataMap map = new DataMap(asMap("id", 1L, "name", "foo",
+        "children", new DataList(asList(new DataMap(asMap("name", "bar"))))));
+    Assert.assertNotNull(ValidationPlan.forSchema(schema).check(new SimpleDataElement(map, schema), options));
+    Assert.assertTrue(validate(map, schema, options).isValid());
+
+    // The predicate is evaluated against the path of the missing field, so the same field elsewhere is required.
+    DataMap missingRootId = new DataMap(asMap("name", "foo"));
+    Assert.assertNull(ValidationPlan.forSchema(schema).check(new SimpleDataElement(missingRootId, schema), options));
+    ValidationResult result = validate(missingRootId, schema, options);
+    Assert.assertFalse(result.isValid());
+    Assert.assertTrue(result.getMessages().toString().contains("ERROR :: /id :: field is required but not found"));
+
+    DataMap missingChildName = new DataMap(asMap("id", 1L, "name", "foo",
+        "children", new DataList(asList(new DataMap(asMap("id", 2L))))));
+    Assert.assertNull(ValidationPlan.forSchema(schema).check(new SimpleDataElement(missingChildName, schema), options));
+    Assert.assertFalse(validate(missingChildName, schema, options).isValid());
+  }
 }
@@ -855,6 +855,38 @@ public class TestArrayTemplate
     testNumberArray(DoubleArray.class, schema, input, castFrom);
   }
 
+  @Test
+  public void testPrimitiveArrayAccessors()
+  {
+    IntegerArray integers = new IntegerArray(new int[] {1, 3, 5});
+    assertEquals(integers.data().getPrimitiveElementClass(), int.class);
+    assertEquals(integers, Arrays.asList(1, 3, 5));
+    assertEquals(integers.getInt(1), 3);
+    integers.add(7);
+    assertEquals(integers.toIntArray(), new int[] {1, 3, 5, 7});
+
+    LongArray longs = new LongArray(new long[] {1L, 3L});
+    assertEquals(longs.getLong(1), 3L);
+    assertEquals(longs.toLongArray(), new long[] {1L, 3L});
+
+    FloatArray floats = new FloatArray(new float[] {1.5f, 3.5f});
+    assertEquals(floats.getFloat(0), 1.5f);
+    assertEquals(floats.toFloatArray(), new float[] {1.5f, 3.5f});
+
+    DoubleArray doubles = new DoubleArray(new double[] {1.5, 3.5});
+    assertEquals(doubles.getDouble(1), 3.5);
+    assertEquals(doubles.toDoubleArray(), new double[] {1.5, 3.5});
+
+    // Accessors coerce values whose storage does not match the item type.
+    FloatArray coercedFloats = new FloatArray(new DataList(new double[] {1.5, 3.5}));
+    assertEquals(coercedFloats.getFloat(1), 3.5f);
+    assertEquals(coercedFloats.toFloatArray(), new float[] {1.5f, 3.5f});
+
+    LongArray coercedLongs = new LongArray(new DataList(Arrays.asList(1, 3)));
+    assertEquals(coercedLongs.getLong(0), 1L);
+    assertEquals(coercedLongs.toLongArray(), new long[] {1L, 3L});
+  }
+
   @Test
   public void testStringArray()
   {
@@ -297,4 +297,63 @@ public class TestDataTemplateUtil
     Set<?> negativeCache = (Set<?>) cacheField.get(null);
     assertTrue(negativeCache.contains(ClassWithoutSchemaField.class));
   }
+
+  public static class WrappableRecord extends RecordTemplate
+  {
+    public WrappableRecord(DataMap map)
+    {
+      super(map, RecordWithSchemaField.SCHEMA);
+    }
+  }
+
+  public static class ThrowingRecord extends RecordTemplate
+  {
+    public ThrowingRecord(DataMap map)
+    {
+      super(map, RecordWithSchemaField.SCHEMA);
+      throw new IllegalStateException("thrown by constructor");
+    }
+  }
+
+  private static class NonPublicRecord extends RecordTemplate
+  {
+    public NonPublicRecord(DataMap map)
+    {
+      super(map, RecordWithSchemaField.SCHEMA);
+    }
+  }
+
+  @Test
+  public void testWrap()
+  {
+    DataMap map = new DataMap();
+    assertSame(DataTemplateUtil.wrap(map, WrappableRecord.class).data(), map);
+    assertSame(DataTemplateUtil.wrap(map, RecordWithSchemaField.SCHEMA, WrappableRecord.class).data(), map);
+    // Repeated calls are served by the cached factory.
+    assertSame(DataTemplateUtil.wrap(map, WrappableRecord.class).data(), map);
+
+    try
+    {
+      DataTemplateUtil.wrap("not a map", WrappableRecord.class);
+      fail("Expected TemplateOutputCastException");
+    }
+    catch (TemplateOutputCastException e)
+    {
+      assertTrue(e.getMessage().endsWith(" with argument not a map"), e.getMessage());
+    }
+
+    try
+    {
+      DataTemplateUtil.wrap(map, ThrowingRecord.class);
+      fail("Expected TemplateOutputCastException");
+    }
+    catch (TemplateOutputCastException e)
+    {
+      assertTrue(e.getCause() instanceof InvocationTargetException);
+      assertTrue(e.getCause().getCause() instanceof IllegalStateException);
+    }
+
+    // Not publicly accessible, so wrapped through the reflective fallback.
+    assertSame(DataTemplateUtil.wrap(map, NonPublicRecord.class).data(), map);
+  }
 }
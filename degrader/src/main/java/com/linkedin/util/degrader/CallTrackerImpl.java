@@ -19,6 +19,7 @@
  */
 package com.linkedin.util.degrader;
 
+import com.linkedin.common.stats.HistogramLongTracking;
 import com.linkedin.common.stats.LongTracker;
 import com.linkedin.common.stats.LongTracking;
 import com.linkedin.common.stats.SimpleLongTracking;
@@ -27,8 +28,12 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.linkedin.common.stats.LongStats;
 import com.linkedin.util.clock.Clock;
@@ -43,7 +48,13 @@ import com.linkedin.util.clock.SystemClock;
  * periodically.
  * 3.) CallTrackerImpl.CallTrackerStats is the actual data that is being moved around. You can think of
  * CallTrackerStats as an immutable DTO.
- * 4.) LongTracking is used in CallTrackerImpl.Tracker to calculate the statistics of the call.
+ * 4.) LongTracking is used in CallTrackerImpl.Tracker to calculate the statistics of the call. See
+ * {@link PercentileTracking} for the alternatives.
+ *
+ * Starting and ending calls does not take a tracker-wide lock. Totals and concurrency are kept in atomic
+ * counters, and the events of the current interval are accumulated in stripes selected by the calling thread,
+ * each guarded by its own monitor. _lock is only taken to roll over to a new interval, which merges the stripes
+ * into the published {@link CallTrackerStats}, and to reset the tracker or change its listeners.
  *
  * @author Dave Messink
  * @author Chris Pettitt
@@ -55,6 +66,12 @@ import com.linkedin.util.clock.SystemClock;
 public class CallTrackerImpl implements CallTracker
 {
   private static final Clock DEFAULT_CLOCK = SystemClock.instance();
+  private static final int MAX_STRIPES = 64;
+  private static final int NUM_STRIPES = numStripes(Runtime.getRuntime().availableProcessors());
+  // The sampled call times of a stripe are merged into a buffer of LongTracking.DEFAULT_MAX_CAPACITY on rollover,
+  // so the stripes share that capacity instead of each holding a full buffer.
+  private static final int MIN_STRIPE_SAMPLES = 256;
+  private static final int STRIPE_SAMPLES = Math.max(MIN_STRIPE_SAMPLES, LongTracking.DEFAULT_MAX_CAPACITY / NUM_STRIPES);
 
   private final Object _lock = new Object();
 
@@ -65,13 +82,13 @@ public class CallTrackerImpl implements CallTracker
 
   private volatile long _lastStartTime;
   private volatile long _lastResetTime;
-  private long _callCountTotal;
-  private long _callStartCountTotal;
-  private long _errorCountTotal;
-  private int _concurrency;
-  private long _sumOfOutstandingStartTimes;
+  private final LongAdder _callCountTotal = new LongAdder();
+  private final LongAdder _callStartCountTotal = new LongAdder();
+  private final LongAdder _errorCountTotal = new LongAdder();
+  private final AtomicInteger _concurrency = new AtomicInteger();
+  private final LongAdder _sumOfOutstandingStartTimes = new LongAdder();
   //Total counts of specific types of error like RemoteInvocation error, 400 errors, 500 errors
-  private Map<ErrorType, Integer> _errorTypeCountsTotal;
+  private final Map<ErrorType, LongAdder> _errorTypeCountsTotal;
 
   private Pending _pending = null;
 
@@ -89,38 +106,63 @@ public class CallTrackerImpl implements CallTracker
   }
 
   public CallTrackerImpl(long interval, Clock clock, boolean percentileTrackingEnabled) {
+    this(interval, clock, percentileTrackingEnabled ? PercentileTracking.SAMPLED : PercentileTracking.DISABLED);
+  }
+
+  public CallTrackerImpl(long interval, Clock clock, PercentileTracking percentileTracking)
+  {
     _clock = clock;
     _interval = interval;
     _lastStartTime = -1;
     _lastResetTime = _clock.currentTimeMillis();
-    _errorTypeCountsTotal = new HashMap<>();
+    _errorTypeCountsTotal = new ConcurrentHashMap<>();
     /* create trackers for each resolution */
-    _tracker = new Tracker(percentileTrackingEnabled);
+    _tracker = new Tracker(percentileTracking);
+  }
+
+  /**
+   * How the percentiles of the call times are calculated.
+   */
+  public enum PercentileTracking
+  {
+    /**
+     * Percentiles are not tracked and reported as -1, see {@link SimpleLongTracking}.
+     */
+    DISABLED,
+    /**
+     * Percentiles are calculated from a bounded sample of the call times, see {@link LongTracking}.
+     */
+    SAMPLED,
+    /**
+     * Percentiles are calculated from a fixed-size histogram of all call times, see {@link HistogramLongTracking}.
+     * This is cheaper than {@link #SAMPLED} at high call rates, accurate to two significant digits and also
+     * reports the 99.9th percentile.
+     */
+    HISTOGRAM
   }
 
   @Override
   public CallCompletion startCall()
   {
-    long currentTime;
-    Pending pending;
-    synchronized (_lock)
+    long currentTime = _clock.currentTimeMillis();
+    getStatsWithCurrentTime(currentTime);
+
+    _callStartCountTotal.increment();
+    _sumOfOutstandingStartTimes.add(currentTime);
+    int concurrency = _concurrency.incrementAndGet();
+    if (_lastStartTime != currentTime)
     {
-      currentTime = _clock.currentTimeMillis();
-      _tracker.getStatsWithCurrentTime(currentTime);
-      _callStartCountTotal++;
-      _tracker._callStartCount++;
-      _concurrency++;
-      if (_concurrency > _tracker._concurrentMax)
-      {
-        _tracker._concurrentMax = _concurrency;
-      }
       _lastStartTime = currentTime;
-      _sumOfOutstandingStartTimes += currentTime;
-      pending = checkForPending();
     }
-    if (pending != null)
+
+    Stripe stripe = _tracker.getStripe();
+    synchronized (stripe)
     {
-      pending.deliver();
+      stripe._callStartCount++;
+      if (concurrency > stripe._concurrentMax)
+      {
+        stripe._concurrentMax = concurrency;
+      }
     }
     return new CallCompletionImpl(currentTime);
   }
@@ -196,31 +238,41 @@ public class CallTrackerImpl implements CallTracker
   @Override
   public long getCurrentCallCountTotal()
   {
-    return _callCountTotal;
+    return _callCountTotal.sum();
   }
 
   @Override
   public long getCurrentCallStartCountTotal()
   {
-    return _callStartCountTotal;
+    return _callStartCountTotal.sum();
   }
 
   @Override
   public long getCurrentErrorCountTotal()
   {
-    return _errorCountTotal;
+    return _errorCountTotal.sum();
   }
 
   @Override
   public Map<ErrorType, Integer> getCurrentErrorTypeCountsTotal()
   {
-    return Collections.unmodifiableMap(new HashMap<>(_errorTypeCountsTotal));
+    return Collections.unmodifiableMap(getErrorTypeCountsTotal());
+  }
+
+  private Map<ErrorType, Integer> getErrorTypeCountsTotal()
+  {
+    Map<ErrorType, Integer> errorTypeCountsTotal = new HashMap<>();
+    for (Map.Entry<ErrorType, LongAdder> entry : _errorTypeCountsTotal.entrySet())
+    {
+      errorTypeCountsTotal.put(entry.getKey(), entry.getValue().intValue());
+    }
+    return errorTypeCountsTotal;
   }
 
   @Override
   public int getCurrentConcurrency()
   {
-    return _concurrency;
+    return _concurrency.get();
   }
 
   @Override
@@ -238,9 +290,9 @@ public class CallTrackerImpl implements CallTracker
     {
       _lastStartTime = -1;
       _lastResetTime = _clock.currentTimeMillis();
-      _callCountTotal = 0;
-      _callStartCountTotal = 0;
-      _errorCountTotal = 0;
+      _callCountTotal.reset();
+      _callStartCountTotal.reset();
+      _errorCountTotal.reset();
       _tracker.reset();
       _errorTypeCountsTotal.clear();
       pending = checkForPending();
@@ -341,35 +393,25 @@ public class CallTrackerImpl implements CallTracker
     {
       if (_done.compareAndSet(false, true))
       {
-        Pending pending;
-        synchronized (_lock)
-        {
-          _endTime.compareAndSet(0, _clock.currentTimeMillis());
-          long duration = _endTime.get() - _start;
-
-          if (_start >= _lastResetTime)
-          {
-            addCallData(duration, hasError, _endTime.get(), errorType);
-          }
+        _endTime.compareAndSet(0, _clock.currentTimeMillis());
+        long duration = _endTime.get() - _start;
 
-          // Concurrency is not reset
-          if (_concurrency > 0)
-          {
-            _concurrency--;
-          }
+        if (_start >= _lastResetTime)
+        {
+          addCallData(duration, hasError, _endTime.get(), errorType);
+        }
 
-          // Sum of outstanding start times is not reset
-          _sumOfOutstandingStartTimes -= _start;
-          if (_concurrency == 0 && _sumOfOutstandingStartTimes != 0)
+        // Concurrency is not reset. Sum of outstanding start times is not reset either, and only tracks the
+        // calls counted in concurrency.
+        int concurrency = _concurrency.get();
+        while (concurrency > 0)
+        {
+          if (_concurrency.compareAndSet(concurrency, concurrency - 1))
           {
-            _sumOfOutstandingStartTimes = 0;
+            _sumOfOutstandingStartTimes.add(-_start);
+            break;
           }
-          pending = checkForPending();
-        }
-        // Always deliver events without holding _lock to avoid deadlocks.
-        if (pending != null)
-        {
-          pending.deliver();
+          concurrency = _concurrency.get();
         }
       }
     }
@@ -383,38 +425,19 @@ public class CallTrackerImpl implements CallTracker
     // Has to be after addNewData
     if (hasError)
     {
-      _errorCountTotal++;
+      _errorCountTotal.increment();
       if (errorType != null)
       {
-        Integer count = _errorTypeCountsTotal.get(errorType);
-        if (count == null)
-        {
-          _errorTypeCountsTotal.put(errorType, 1);
-        }
-        else
-        {
-          _errorTypeCountsTotal.put(errorType, count + 1);
-        }
+        _errorTypeCountsTotal.computeIfAbsent(errorType, type -> new LongAdder()).increment();
       }
     }
 
-    _callCountTotal++;
+    _callCountTotal.increment();
   }
 
   private void trackCall(long duration, boolean hasError)
   {
-    Pending pending;
-    synchronized (_lock)
-    {
-      addCallData(duration, hasError, _clock.currentTimeMillis(), null);
-      pending = checkForPending();
-    }
-
-    // Always deliver events without holding _lock to avoid deadlocks.
-    if (pending != null)
-    {
-      pending.deliver();
-    }
+    addCallData(duration, hasError, _clock.currentTimeMillis(), null);
   }
 
   @Override
@@ -429,6 +452,44 @@ public class CallTrackerImpl implements CallTracker
     trackCall(duration, true);
   }
 
+  private static int numStripes(int processors)
+  {
+    int stripes = 1;
+    while (stripes < processors && stripes < MAX_STRIPES)
+    {
+      stripes <<= 1;
+    }
+    return stripes;
+  }
+
+  /**
+   * The events of the current interval recorded by the threads mapped to one stripe. A stripe is only accessed
+   * while holding its own monitor, which is rarely contended because threads are spread over the stripes.
+   */
+  private static final class Stripe
+  {
+    private int _callStartCount;
+    private int _errorCount;
+    private int _concurrentMax;
+    private final LongTracker _callTimeTracking;
+    private final Map<ErrorType, Integer> _errorTypeCounts;
+
+    private Stripe(LongTracker callTimeTracking)
+    {
+      _callTimeTracking = callTimeTracking;
+      _errorTypeCounts = new HashMap<>();
+    }
+
+    private void reset()
+    {
+      _callStartCount = 0;
+      _errorCount = 0;
+      _concurrentMax = 0;
+      _callTimeTracking.reset();
+      _errorTypeCounts.clear();
+    }
+  }
+
   /**
    * Tracker is used to track the statistics of calls in one interval. Notice that this class is an inner class
    * of CallTrackerImpl. This means some instance variables like totalCall refers to the outer class. This is
@@ -436,40 +497,72 @@ public class CallTrackerImpl implements CallTracker
    * Tracker uses the helper class LongTracking for keeping track of statistics like percentage error rate,
    * 95 percentile, max value, etc.
    * Tracker also rollover the call stats every interval to listeners.
+   *
+   * The events of the interval are recorded in {@link Stripe}s without holding _lock. Stripes are created
+   * lazily, so a tracker only pays for the stripes of the threads that use it, and are merged while holding
+   * _lock when the interval is rolled over.
    */
   private class Tracker
   {
     private volatile CallStats _stats;
 
+    private final PercentileTracking _percentileTracking;
+    private final AtomicReferenceArray<Stripe> _stripes;
+    private final LongTracker _mergedCallTimeTracking;
+
     private long _startTime;
-    private int _callStartCount;
-    private int _errorCount;
+    // concurrency at the start of the interval, which counts towards the max of the interval
     private int _concurrentMax;
-    private final LongTracker _callTimeTracking;
-    //this map is used to store the number of specific errors that happened in one interval only
-    private final Map<ErrorType, Integer> _errorTypeCounts;
 
-    private Tracker(boolean percentileTrackingEnabled)
+    private Tracker(PercentileTracking percentileTracking)
+    {
+      _percentileTracking = percentileTracking;
+      _stripes = new AtomicReferenceArray<>(NUM_STRIPES);
+      _mergedCallTimeTracking = createCallTimeTracking(LongTracking.DEFAULT_MAX_CAPACITY);
+      reset();
+    }
+
+    private LongTracker createCallTimeTracking(int maxSamples)
     {
-      if (percentileTrackingEnabled)
+      switch (_percentileTracking)
       {
-        _callTimeTracking = new LongTracking();
-      } else
+        case SAMPLED:
+          // Start small since each stripe has its own buffer, and grow up to the given capacity as needed.
+          return new LongTracking(maxSamples, 64, 2.0);
+        case HISTOGRAM:
+          return new HistogramLongTracking();
+        default:
+          return new SimpleLongTracking();
+      }
+    }
+
+    private Stripe getStripe()
+    {
+      int index = (int) Thread.currentThread().getId() & (NUM_STRIPES - 1);
+      Stripe stripe = _stripes.get(index);
+      if (stripe == null)
       {
-        _callTimeTracking = new SimpleLongTracking();
+        Stripe newStripe = new Stripe(createCallTimeTracking(STRIPE_SAMPLES));
+        stripe = _stripes.compareAndSet(index, null, newStripe) ? newStripe : _stripes.get(index);
       }
-      _errorTypeCounts = new HashMap<>();
-      reset();
+      return stripe;
     }
 
     private void resetStats(long startTime)
     {
       _startTime = startTime;
-      _callStartCount = 0;
-      _errorCount = 0;
-      _concurrentMax = _concurrency;
-      _callTimeTracking.reset();
-      _errorTypeCounts.clear();
+      _concurrentMax = _concurrency.get();
+      for (int i = 0; i < NUM_STRIPES; i++)
+      {
+        Stripe stripe = _stripes.get(i);
+        if (stripe != null)
+        {
+          synchronized (stripe)
+          {
+            stripe.reset();
+          }
+        }
+      }
     }
 
     private void reset()
@@ -483,49 +576,87 @@ public class CallTrackerImpl implements CallTracker
      */
     private void rolloverStats(long endTime, boolean reset)
     {
+      int callStartCount = 0;
+      int errorCount = 0;
+      int concurrentMax = _concurrentMax;
+      Map<ErrorType, Integer> errorTypeCounts = new HashMap<>();
+      _mergedCallTimeTracking.reset();
+      for (int i = 0; i < NUM_STRIPES; i++)
+      {
+        Stripe stripe = _stripes.get(i);
+        if (stripe == null)
+        {
+          continue;
+        }
+        synchronized (stripe)
+        {
+          callStartCount += stripe._callStartCount;
+          errorCount += stripe._errorCount;
+          concurrentMax = Math.max(concurrentMax, stripe._concurrentMax);
+          for (Map.Entry<ErrorType, Integer> entry : stripe._errorTypeCounts.entrySet())
+          {
+            errorTypeCounts.merge(entry.getKey(), entry.getValue(), Integer::sum);
+          }
+          mergeCallTimeTracking(stripe._callTimeTracking);
+          stripe.reset();
+        }
+      }
+
+      int concurrency = _concurrency.get();
       _stats = new CallTrackerStats(
         _interval,
         _startTime,
         endTime,
-        _callCountTotal,
-        _callStartCount,
-        _callStartCountTotal,
-        _errorCount,
-        _errorCountTotal,
-        _concurrentMax,
-        _concurrency == 0 ? 0 : (_sumOfOutstandingStartTimes / _concurrency),
-        _concurrency,
-        _callTimeTracking.getStats(), _errorTypeCounts, _errorTypeCountsTotal);
+        _callCountTotal.sum(),
+        callStartCount,
+        _callStartCountTotal.sum(),
+        errorCount,
+        _errorCountTotal.sum(),
+        concurrentMax,
+        concurrency == 0 ? 0 : (_sumOfOutstandingStartTimes.sum() / concurrency),
+        concurrency,
+        _mergedCallTimeTracking.getStats(), errorTypeCounts, getErrorTypeCountsTotal());
 
       resetStats(endTime);
 
       addPending(_stats, reset);
     }
 
+    private void mergeCallTimeTracking(LongTracker callTimeTracking)
+    {
+      switch (_percentileTracking)
+      {
+        case SAMPLED:
+          ((LongTracking) _mergedCallTimeTracking).merge((LongTracking) callTimeTracking);
+          break;
+        case HISTOGRAM:
+          ((HistogramLongTracking) _mergedCallTimeTracking).merge((HistogramLongTracking) callTimeTracking);
+          break;
+        default:
+          ((SimpleLongTracking) _mergedCallTimeTracking).merge((SimpleLongTracking) callTimeTracking);
+      }
+    }
+
     /**
      * this method is called to track the number of calls made during this interval
      */
     private void addNewData(long currentTime, boolean hasError, long duration, ErrorType errorType)
     {
-      getStatsWithCurrentTime(currentTime);
-      _callTimeTracking.addValue(duration);
-      if (hasError)
-      {
-        _errorCount++;
-      }
-      if (errorType != null)
+      CallTrackerImpl.this.getStatsWithCurrentTime(currentTime);
+      Stripe stripe = getStripe();
+      synchronized (stripe)
       {
-        Integer count = _errorTypeCounts.get(errorType);
-        if (count == null)
+        stripe._callTimeTracking.addValue(duration);
+        if (hasError)
         {
-          _errorTypeCounts.put(errorType, 1);
+          stripe._errorCount++;
         }
-        else
+        if (errorType != null)
         {
-          _errorTypeCounts.put(errorType, count + 1);
+          stripe._errorTypeCounts.merge(errorType, 1, Integer::sum);
         }
+        //we don't have to track the error if errorType is null
       }
-      //we don't have to track the error if errorType is null
     }
 
     private CallStats getMostRecentStats()
@@ -533,6 +664,9 @@ public class CallTrackerImpl implements CallTracker
       return _stats;
     }
 
+    /**
+     * Must be called while holding _lock.
+     */
     public CallStats getStatsWithCurrentTime(long currentTime)
     {
       if (_stats.stale(currentTime))
@@ -833,6 +967,7 @@ public class CallTrackerImpl implements CallTracker
           ", CallTime90Pct=" + callTimeStats.get90Pct() +
           ", CallTime95Pct=" + callTimeStats.get95Pct() +
           ", CallTime99Pct=" + callTimeStats.get99Pct() +
+          ", CallTime999Pct=" + callTimeStats.get999Pct() +
           ", ErrorTypeCounts=" + this.getErrorTypeCounts() +
           ", ErrorTypeCountsTotal=" + this.getErrorTypeCountsTotal()
         );
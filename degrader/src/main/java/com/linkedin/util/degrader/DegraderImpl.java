@@ -116,7 +116,8 @@ import com.linkedin.common.util.ConfigHelper;
  *
  * The latency metric from CallTracker that compared against highLatency and lowLatency
  * is determined by the latencyToUse configuration parameter. It can be the average,
- * 50, 90, 95, 99th percentile latency.
+ * 50, 90, 95, 99 or 99.9th percentile latency. The 99.9th percentile is best tracked by a
+ * CallTrackerImpl with {@link CallTrackerImpl.PercentileTracking#HISTOGRAM}.
  */
 public class DegraderImpl implements Degrader
 {
@@ -465,6 +466,7 @@ public class DegraderImpl implements Degrader
       case PCT90   : _latency = stats.getCallTimeStats().get90Pct(); break;
       case PCT95   : _latency = stats.getCallTimeStats().get95Pct(); break;
       case PCT99   : _latency = stats.getCallTimeStats().get99Pct(); break;
+      case PCT999  : _latency = stats.getCallTimeStats().get999Pct(); break;
       case AVERAGE : _latency = Math.round(stats.getCallTimeStats().getAverage()); break;
       default      : throw new IllegalArgumentException("Latency to use " + _config._latencyToUse + " is unknown");
     }
@@ -542,7 +544,8 @@ public class DegraderImpl implements Degrader
     PCT50,
     PCT90,
     PCT95,
-    PCT99
+    PCT99,
+    PCT999
   }
 
   @Override
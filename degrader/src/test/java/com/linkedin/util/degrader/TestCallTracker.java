@@ -20,12 +20,17 @@ package com.linkedin.util.degrader;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import java.util.Map;
 import org.testng.Assert;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 
+import com.linkedin.common.stats.LongStats;
 import com.linkedin.util.clock.SettableClock;
 import com.linkedin.util.clock.Time;
 import org.testng.annotations.Test;
@@ -1275,6 +1280,86 @@ public class TestCallTracker
                         "Interval standard deviation is incorrect");
   }
 
+  @org.testng.annotations.Test public void testHistogramPercentileTracking()
+  {
+    _callTracker = new CallTrackerImpl(_interval, _clock, CallTrackerImpl.PercentileTracking.HISTOGRAM);
+    long startTime = _clock.currentTimeMillis();
+
+    // The i-th call takes i ms.
+    List<CallCompletion> dones = startCall(_callTracker, 1000);
+    for (int i = 0; i < 1000; i++)
+    {
+      _clock.addDuration(1);
+      endCall(dones, 1);
+    }
+
+    _clock.setCurrentTimeMillis(INTERVAL + startTime);
+
+    LongStats callTimeStats = _callTracker.getCallStats().getCallTimeStats();
+    Assert.assertEquals(callTimeStats.getCount(), 1000, "Interval call count is incorrect");
+    Assert.assertEquals(callTimeStats.getAverage(), 500.5, "Interval average time is incorrect");
+    Assert.assertEquals(callTimeStats.getMinimum(), 1, "Interval minimum call time is incorrect");
+    Assert.assertEquals(callTimeStats.getMaximum(), 1000, "Interval maximum call time is incorrect");
+    // percentiles are accurate to two significant digits
+    Assert.assertEquals(callTimeStats.get50Pct(), 500, 5, "Interval 50 percentile call time is incorrect");
+    Assert.assertEquals(callTimeStats.get90Pct(), 900, 9, "Interval 90 percentile call time is incorrect");
+    Assert.assertEquals(callTimeStats.get99Pct(), 990, 10, "Interval 99 percentile call time is incorrect");
+    Assert.assertEquals(callTimeStats.get999Pct(), 999, 10, "Interval 99.9 percentile call time is incorrect");
+  }
+
+  @org.testng.annotations.Test public void testConcurrentCalls() throws Exception
+  {
+    final int threads = 8;
+    final int callsPerThread = 10000;
+    long startTime = _clock.currentTimeMillis();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int t = 0; t < threads; t++)
+    {
+      futures.add(executor.submit(() -> {
+        start.await();
+        for (int x = 0; x < callsPerThread; x++)
+        {
+          CallCompletion done = _callTracker.startCall();
+          if (x % 10 == 0)
+          {
+            done.endCallWithError(ErrorType.REMOTE_INVOCATION_EXCEPTION);
+          }
+          else
+          {
+            done.endCall();
+          }
+        }
+        return null;
+      }));
+    }
+    start.countDown();
+    for (Future<?> future : futures)
+    {
+      future.get();
+    }
+    executor.shutdown();
+
+    int calls = threads * callsPerThread;
+    Assert.assertEquals(_callTracker.getCurrentCallCountTotal(), calls, "Total call count is incorrect");
+    Assert.assertEquals(_callTracker.getCurrentCallStartCountTotal(), calls, "Total call start count is incorrect");
+    Assert.assertEquals(_callTracker.getCurrentErrorCountTotal(), calls / 10, "Total error count is incorrect");
+    Assert.assertEquals(_callTracker.getCurrentConcurrency(), 0, "Concurrency is incorrect");
+    Assert.assertEquals((int) _callTracker.getCurrentErrorTypeCountsTotal().get(ErrorType.REMOTE_INVOCATION_EXCEPTION),
+                        calls / 10, "Total error type count is incorrect");
+
+    _clock.setCurrentTimeMillis(startTime + INTERVAL);
+    CallTracker.CallStats stats = _callTracker.getCallStats();
+    Assert.assertEquals(stats.getCallCount(), calls, "Interval call count is incorrect");
+    Assert.assertEquals(stats.getCallStartCount(), calls, "Interval call start count is incorrect");
+    Assert.assertEquals(stats.getErrorCount(), calls / 10, "Interval error count is incorrect");
+    Assert.assertTrue(stats.getConcurrentMax() >= 1 && stats.getConcurrentMax() <= threads,
+                      "Interval max concurrent is incorrect");
+    Assert.assertEquals(stats.getOutstandingCount(), 0, "Outstanding count is incorrect");
+    Assert.assertEquals(stats.getCallTimeStats().getAverage(), 0.0, "Interval average time is incorrect");
+  }
+
    private List<CallCompletion> startCall(CallTracker callTracker, int count)
   {
     List<CallCompletion> dones = new ArrayList<>();
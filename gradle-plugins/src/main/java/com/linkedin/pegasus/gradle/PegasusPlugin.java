@@ -595,6 +595,8 @@ public class PegasusPlugin implements Plugin<Project>
   private static final String TRANSLATED_SCHEMAS_DIR = "legacyPegasusSchemas";
   // Enable the use of argFiles for the tasks that support them
   private static final String ENABLE_ARG_FILE = "pegasusPlugin.enableArgFile";
+  // Enable the generation of the Rest.li resource index, which lets servers skip classpath scanning
+  private static final String ENABLE_RESOURCE_INDEX = "pegasusPlugin.enableResourceIndex";
   // Enable the generation of fluent APIs
   private static final String ENABLE_FLUENT_API = "pegasusPlugin.enableFluentApi";
 
@@ -1299,6 +1301,10 @@ public class PegasusPlugin implements Plugin<Project>
             // we need all the artifacts from runtime for any private implementation classes the server code might need.
             task.setSnapshotDestinationDir(project.file(destinationDirPrefix + "snapshot"));
             task.setIdlDestinationDir(project.file(destinationDirPrefix + "idl"));
+            if (isPropertyTrue(project, ENABLE_RESOURCE_INDEX))
+            {
+              task.setResourceIndexDestinationDir(project.file(destinationDirPrefix + "resourceIndex"));
+            }
 
             @SuppressWarnings("unchecked")
             Map<String, PegasusOptions> pegasusOptions = (Map<String, PegasusOptions>) project
@@ -1447,6 +1453,12 @@ public class PegasusPlugin implements Plugin<Project>
       jarTask.from(SharedFileUtils.getIdlFiles(project, destinationDirPrefix));
       // add generated .restspec.json files as resources to the jar
       jarTask.dependsOn(publishRestliSnapshotTask, publishRestliIdlTask);
+      if (isPropertyTrue(project, ENABLE_RESOURCE_INDEX))
+      {
+        // add the generated resource index to the jar, for the server to load resource classes without scanning
+        jarTask.from(project.file(destinationDirPrefix + "resourceIndex"));
+        jarTask.dependsOn(generateRestModelTask);
+      }
 
       ChangedFileReportTask changedFileReportTask = (ChangedFileReportTask) project.getTasks()
           .getByName("changedFilesReport");
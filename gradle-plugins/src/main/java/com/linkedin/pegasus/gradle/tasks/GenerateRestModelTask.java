@@ -19,6 +19,7 @@ import org.gradle.api.tasks.Classpath;
 import org.gradle.api.tasks.Input;
 import org.gradle.api.tasks.InputFiles;
 import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.Optional;
 import org.gradle.api.tasks.OutputDirectory;
 import org.gradle.api.tasks.PathSensitive;
 import org.gradle.api.tasks.PathSensitivity;
@@ -51,6 +52,7 @@ public class GenerateRestModelTask extends DefaultTask
   private FileCollection _resolverPath;
   private File _idlDestinationDir;
   private File _snapshotDestinationDir;
+  private File _resourceIndexDestinationDir;
   private PegasusOptions.IdlOptions _idlOptions;
   private FileCollection _pathedCodegenClasspath;
   private boolean _enableArgFile;
@@ -71,6 +73,13 @@ public class GenerateRestModelTask extends DefaultTask
     getProject().getLogger().debug("GenerateRestModel using destination dir {}", _idlDestinationDir.getPath());
     _snapshotDestinationDir.mkdirs();
     _idlDestinationDir.mkdirs();
+    if (_resourceIndexDestinationDir != null)
+    {
+      // the exporter merges into an existing index so that every idl item of this run can contribute to it, which
+      // means the index of a previous run must be removed first or deleted resources would stay indexed.
+      getProject().delete(_resourceIndexDestinationDir);
+      _resourceIndexDestinationDir.mkdirs();
+    }
 
     @SuppressWarnings("unchecked")
     List<String> includedSourceTypes = (List<String>) getProject().findProperty(INCLUDED_SOURCE_TYPES_PROPERTY);
@@ -184,6 +193,22 @@ public class GenerateRestModelTask extends DefaultTask
     _snapshotDestinationDir = snapshotDestinationDir;
   }
 
+  /**
+   * Directory in which the resource exporter writes the resource index listing the exported resource classes.
+   * If null, no resource index is generated.
+   */
+  @Optional
+  @OutputDirectory
+  public File getResourceIndexDestinationDir()
+  {
+    return _resourceIndexDestinationDir;
+  }
+
+  public void setResourceIndexDestinationDir(File resourceIndexDestinationDir)
+  {
+    _resourceIndexDestinationDir = resourceIndexDestinationDir;
+  }
+
   @Internal
   public PegasusOptions.IdlOptions getIdlOptions()
   {
@@ -290,6 +315,10 @@ public class GenerateRestModelTask extends DefaultTask
       {
         javaExecSpec.args("-loadAdditionalDocProviders");
       }
+      if (_resourceIndexDestinationDir != null)
+      {
+        javaExecSpec.args("-resourceindexdir", _resourceIndexDestinationDir.getPath());
+      }
     });
   }
 
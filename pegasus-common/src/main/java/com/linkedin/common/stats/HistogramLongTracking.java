@@ -0,0 +1,136 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.common.stats;
+
+import org.HdrHistogram.IntCountsHistogram;
+
+
+/**
+ * A {@link LongTracker} that calculates percentiles from a fixed-size HdrHistogram instead of a buffer of samples.
+ *
+ * Unlike {@link LongTracking}, every value added is accounted for in the percentiles, memory does not depend on
+ * the number of values and no sorting is needed to read the percentiles. Percentiles are accurate to the given
+ * number of significant decimal digits. Values outside of [0, highestTrackableValue] are clamped into that range
+ * for the percentiles; the count, average, standard deviation, minimum and maximum are exact.
+ *
+ * This class implementation is not synchronized. If concurrent access is required, it
+ * must be synchronized externally.
+ */
+public class HistogramLongTracking implements LongTracker
+{
+  // One hour, when tracking latencies in milliseconds.
+  public static final long    DEFAULT_HIGHEST_TRACKABLE_VALUE  = 3600000L;
+  public static final int     DEFAULT_SIGNIFICANT_VALUE_DIGITS = 2;
+
+  private final long               _highestTrackableValue;
+  private final IntCountsHistogram _histogram;
+  private final SimpleLongTracking _simpleLongTracking;
+
+  public HistogramLongTracking()
+  {
+    this(DEFAULT_HIGHEST_TRACKABLE_VALUE, DEFAULT_SIGNIFICANT_VALUE_DIGITS);
+  }
+
+  /**
+   * @param highestTrackableValue the highest value that is tracked accurately for the percentiles, must be at least 2.
+   * @param numberOfSignificantValueDigits the precision of the percentiles, between 0 and 5.
+   */
+  public HistogramLongTracking(long highestTrackableValue, int numberOfSignificantValueDigits)
+  {
+    _highestTrackableValue = highestTrackableValue;
+    _histogram = new IntCountsHistogram(highestTrackableValue, numberOfSignificantValueDigits);
+    _simpleLongTracking = new SimpleLongTracking();
+  }
+
+  @Override
+  public void reset()
+  {
+    _simpleLongTracking.reset();
+    _histogram.reset();
+  }
+
+  @Override
+  public void addValue(long value)
+  {
+    _simpleLongTracking.addValue(value);
+    _histogram.recordValue(clamp(value));
+  }
+
+  /**
+   * Adds the values tracked by the given tracker to this tracker, as if they had been added to this tracker
+   * with {@link #addValue(long)}.
+   *
+   * @param other the tracker to merge into this one, which is left unchanged. It must not track a higher
+   *              range of values than this tracker.
+   */
+  public void merge(HistogramLongTracking other)
+  {
+    _simpleLongTracking.merge(other._simpleLongTracking);
+    _histogram.add(other._histogram);
+  }
+
+  @Override
+  public LongStats getStats()
+  {
+    return new LongStats(_simpleLongTracking.getCount(), _simpleLongTracking.getAverage(),
+        _simpleLongTracking.getStandardDeviation(),
+        _simpleLongTracking.getMinimum(), _simpleLongTracking.getMaximum(),
+        getPercentile(0.50), getPercentile(0.90), getPercentile(0.95), getPercentile(0.99), getPercentile(0.999));
+  }
+
+  public long getHighestTrackableValue()
+  {
+    return _highestTrackableValue;
+  }
+
+  public int getNumberOfSignificantValueDigits()
+  {
+    return _histogram.getNumberOfSignificantValueDigits();
+  }
+
+  /**
+   * @param pct the percentile to get, between 0.0 and 1.0.
+   * @return the value at the given percentile, or 0 if no values have been added.
+   */
+  public long getPercentile(double pct)
+  {
+    if (_simpleLongTracking.getCount() == 0)
+    {
+      return 0;
+    }
+    if (pct < 0.0)
+    {
+      pct = 0;
+    }
+    else if (pct > 1.0)
+    {
+      pct = 1.0;
+    }
+    // The histogram reports the highest value equivalent to the bucket, which may lie outside of the values added.
+    long value = _histogram.getValueAtPercentile(pct * 100.0);
+    return Math.max(_simpleLongTracking.getMinimum(), Math.min(value, _simpleLongTracking.getMaximum()));
+  }
+
+  private long clamp(long value)
+  {
+    if (value < 0)
+    {
+      return 0;
+    }
+    return Math.min(value, _highestTrackableValue);
+  }
+}
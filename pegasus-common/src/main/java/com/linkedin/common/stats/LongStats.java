@@ -38,6 +38,7 @@ public class LongStats
   private final long   _90Pct;
   private final long   _95Pct;
   private final long   _99Pct;
+  private final long   _999Pct;
 
   public LongStats()
   {
@@ -50,6 +51,7 @@ public class LongStats
     _90Pct = 0;
     _95Pct = 0;
     _99Pct = 0;
+    _999Pct = 0;
   }
 
   public LongStats(final LongStats stats)
@@ -64,6 +66,7 @@ public class LongStats
     _90Pct = stats.get90Pct();
     _95Pct = stats.get95Pct();
     _99Pct = stats.get99Pct();
+    _999Pct = stats.get999Pct();
   }
 
   public LongStats(final int count,
@@ -75,6 +78,23 @@ public class LongStats
                    final long pct90,
                    final long pct95,
                    final long pct99)
+  {
+    this(count, average, standardDeviation, minimum, maximum, pct50, pct90, pct95, pct99, -1L);
+  }
+
+  /**
+   * @param pct999 the 99.9th percentile, or -1 if it is not tracked.
+   */
+  public LongStats(final int count,
+                   final double average,
+                   final double standardDeviation,
+                   final long minimum,
+                   final long maximum,
+                   final long pct50,
+                   final long pct90,
+                   final long pct95,
+                   final long pct99,
+                   final long pct999)
   {
     _count = count;
     _average = average;
@@ -86,6 +106,7 @@ public class LongStats
     _90Pct = pct90;
     _95Pct = pct95;
     _99Pct = pct99;
+    _999Pct = pct999;
   }
 
   public final int getCount()
@@ -132,5 +153,9 @@ public class LongStats
   {
     return _99Pct;
   }
-}
 
+  public final long get999Pct()
+  {
+    return _999Pct;
+  }
+}
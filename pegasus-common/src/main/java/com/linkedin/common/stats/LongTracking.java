@@ -24,7 +24,8 @@ import java.util.Arrays;
  *
  * To calculate the percentiles, all values added are recorded in a resizable
  * long array buffer. For memory efficiency, use {@link SimpleLongTracking}
- * when percentile information is nonessential.
+ * when percentile information is nonessential, or {@link HistogramLongTracking}
+ * for percentiles that account for every value in constant memory.
  *
  * This class implementation is not synchronized. If concurrent access is required, it
  * must be synchronized externally.
@@ -33,7 +34,7 @@ public class LongTracking implements LongTracker
 {
   private static final int    DEFAULT_INITIAL_CAPACITY = 1000;
   private static final double DEFAULT_GROWTH_FACTOR    = 2.0;
-  private static final int    DEFAULT_MAX_CAPACITY     = 4000;
+  public static final int     DEFAULT_MAX_CAPACITY     = 4000;
 
   private long[]              _buffer;
   private int                 _bufferSize;
@@ -93,6 +94,36 @@ public class LongTracking implements LongTracker
       return;
     }
 
+    addSample(value);
+  }
+
+  /**
+   * Adds the values tracked by the given tracker to this tracker. The count, average, standard deviation, minimum
+   * and maximum are the same as if the values had been added to this tracker with {@link #addValue(long)}. The
+   * percentiles are calculated from the values both trackers kept for percentiles, weighted by the share of values
+   * each tracker kept, so that a tracker which saw few values does not outweigh one that had to drop samples.
+   *
+   * @param other the tracker to merge into this one, which is left unchanged.
+   */
+  public void merge(LongTracking other)
+  {
+    _simpleLongTracking.merge(other._simpleLongTracking);
+
+    // Every kept sample stands for _keepRatio values. Both ratios are powers of two, so thin out this tracker until
+    // its samples stand for at least as many values as the samples of the other one, then take every n-th sample of
+    // the other tracker to match this tracker's ratio.
+    while (_keepRatio < other._keepRatio)
+    {
+      dropHalf();
+    }
+    for (int i = 0; i < other._nextIndex; i += _keepRatio / other._keepRatio)
+    {
+      addSample(other._buffer[i]);
+    }
+  }
+
+  private void addSample(long value)
+  {
     if (_nextIndex >= _bufferSize)
     {
       if (_bufferSize < _maxCapacity)
@@ -114,7 +145,7 @@ public class LongTracking implements LongTracker
     return new LongStats(_simpleLongTracking.getCount(), _simpleLongTracking.getAverage(),
         _simpleLongTracking.getStandardDeviation(),
         _simpleLongTracking.getMinimum(), _simpleLongTracking.getMaximum(),
-        get50Pct(), get90Pct(), get95Pct(), get99Pct());
+        get50Pct(), get90Pct(), get95Pct(), get99Pct(), get999Pct());
   }
 
   public int getBufferSize()
@@ -157,6 +188,11 @@ public class LongTracking implements LongTracker
     return getPercentile(0.99);
   }
 
+  private long get999Pct()
+  {
+    return getPercentile(0.999);
+  }
+
   public long getPercentile(double pct)
   {
     if (_simpleLongTracking.getCount() == 0)
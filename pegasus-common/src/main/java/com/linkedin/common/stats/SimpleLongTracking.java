@@ -54,12 +54,39 @@ public class SimpleLongTracking implements LongTracker
     _count++;
   }
 
+  /**
+   * Adds the values tracked by the given tracker to this tracker, as if they had been added to this tracker
+   * with {@link #addValue(long)}.
+   *
+   * @param other the tracker to merge into this one, which is left unchanged.
+   */
+  public void merge(SimpleLongTracking other)
+  {
+    if (other._count == 0)
+    {
+      return;
+    }
+    if (_count == 0)
+    {
+      _min = other._min;
+      _max = other._max;
+    }
+    else
+    {
+      _min = Math.min(_min, other._min);
+      _max = Math.max(_max, other._max);
+    }
+    _sum += other._sum;
+    _sumOfSquares += other._sumOfSquares;
+    _count += other._count;
+  }
+
   @Override
   public LongStats getStats()
   {
     return new LongStats(getCount(), getAverage(), getStandardDeviation(),
         getMinimum(), getMaximum(),
-        -1L, -1L, -1L, -1L);
+        -1L, -1L, -1L, -1L, -1L);
   }
 
   @Override
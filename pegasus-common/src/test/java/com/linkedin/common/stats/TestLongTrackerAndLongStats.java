@@ -20,7 +20,10 @@
 package com.linkedin.common.stats;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.Random;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -261,4 +264,157 @@ public class TestLongTrackerAndLongStats
     assertEquals(stats.getMinimum(), 0L);
     assertEquals(stats.getStandardDeviation(), 0.0D);
   }
+
+  @Test public void testMerge()
+  {
+    LongTracking first = new LongTracking();
+    LongTracking second = new LongTracking();
+    SimpleLongTracking simpleFirst = new SimpleLongTracking();
+    SimpleLongTracking simpleSecond = new SimpleLongTracking();
+    for (long i = 1; i <= 1000; ++i)
+    {
+      _tracking.addValue(i);
+      _simpleTracking.addValue(i);
+      (i % 3 == 0 ? first : second).addValue(i);
+      (i % 3 == 0 ? simpleFirst : simpleSecond).addValue(i);
+    }
+
+    LongTracking merged = new LongTracking();
+    merged.merge(first);
+    merged.merge(second);
+    merged.merge(new LongTracking());
+    SimpleLongTracking simpleMerged = new SimpleLongTracking();
+    simpleMerged.merge(new SimpleLongTracking());
+    simpleMerged.merge(simpleFirst);
+    simpleMerged.merge(simpleSecond);
+
+    // all values are kept for percentiles, so merging is exact
+    assertStatsEqual(merged.getStats(), _tracking.getStats());
+    assertStatsEqual(simpleMerged.getStats(), _simpleTracking.getStats());
+    assertEquals(first.getStats().getCount(), 333, "Merged tracker must be left unchanged");
+  }
+
+  @Test public void testMergeWeightsByKeptSamples()
+  {
+    // the busy tracker has to drop most of its samples, while the quiet one keeps all of them
+    LongTracking busy = new LongTracking(256, 64, 2.0);
+    LongTracking quiet = new LongTracking(256, 64, 2.0);
+    for (int i = 0; i < 20000; ++i)
+    {
+      busy.addValue(10);
+    }
+    for (int i = 0; i < 100; ++i)
+    {
+      quiet.addValue(1000);
+    }
+
+    LongTracking quietFirst = new LongTracking();
+    quietFirst.merge(quiet);
+    quietFirst.merge(busy);
+    LongTracking busyFirst = new LongTracking();
+    busyFirst.merge(busy);
+    busyFirst.merge(quiet);
+
+    // the quiet values are only 0.5% of all values, and must not show up in the 99th percentile
+    for (LongTracking merged : Arrays.asList(quietFirst, busyFirst))
+    {
+      LongStats stats = merged.getStats();
+      assertEquals(stats.getCount(), 20100);
+      assertEquals(stats.getMaximum(), 1000L);
+      assertEquals(stats.get50Pct(), 10L);
+      assertEquals(stats.get99Pct(), 10L);
+    }
+  }
+
+  @Test public void testHistogramTracking()
+  {
+    HistogramLongTracking tracking = new HistogramLongTracking();
+    assertEquals(tracking.getStats().getCount(), 0);
+    assertEquals(tracking.getStats().get999Pct(), 0L);
+
+    // Far more values than LongTracking keeps, so every percentile must still account for all of them.
+    Random random = new Random(42);
+    final int count = 100000;
+    long[] values = new long[count];
+    for (int i = 0; i < count; ++i)
+    {
+      values[i] = random.nextInt(100000);
+      tracking.addValue(values[i]);
+      _simpleTracking.addValue(values[i]);
+    }
+    Arrays.sort(values);
+
+    LongStats stats = tracking.getStats();
+    LongStats simpleStats = _simpleTracking.getStats();
+    assertEquals(stats.getCount(), count);
+    assertEquals(stats.getAverage(), simpleStats.getAverage());
+    assertEquals(stats.getStandardDeviation(), simpleStats.getStandardDeviation());
+    assertEquals(stats.getMinimum(), values[0]);
+    assertEquals(stats.getMaximum(), values[count - 1]);
+    assertPercentile(stats.get50Pct(), values, 0.50);
+    assertPercentile(stats.get90Pct(), values, 0.90);
+    assertPercentile(stats.get95Pct(), values, 0.95);
+    assertPercentile(stats.get99Pct(), values, 0.99);
+    assertPercentile(stats.get999Pct(), values, 0.999);
+    assertEquals(tracking.getPercentile(1.0), values[count - 1]);
+
+    tracking.reset();
+    assertEquals(tracking.getStats().getCount(), 0);
+    assertEquals(tracking.getStats().get50Pct(), 0L);
+  }
+
+  @Test public void testHistogramTrackingClampsValues()
+  {
+    HistogramLongTracking tracking = new HistogramLongTracking(1000, 2);
+    tracking.addValue(-5);
+    tracking.addValue(5000);
+    LongStats stats = tracking.getStats();
+    assertEquals(stats.getMinimum(), -5L);
+    assertEquals(stats.getMaximum(), 5000L);
+    assertEquals(stats.get50Pct(), 0L);
+    assertTrue(stats.get99Pct() >= 1000 && stats.get99Pct() <= 5000, "99 percentile is " + stats.get99Pct());
+  }
+
+  @Test public void testHistogramMerge()
+  {
+    HistogramLongTracking first = new HistogramLongTracking();
+    HistogramLongTracking second = new HistogramLongTracking();
+    HistogramLongTracking all = new HistogramLongTracking();
+    for (long i = 1; i <= 1000; ++i)
+    {
+      all.addValue(i);
+      (i % 3 == 0 ? first : second).addValue(i);
+    }
+
+    HistogramLongTracking merged = new HistogramLongTracking();
+    merged.merge(first);
+    merged.merge(second);
+    merged.merge(new HistogramLongTracking());
+
+    // histograms are merged bucket by bucket, so merging is exact
+    assertStatsEqual(merged.getStats(), all.getStats());
+    assertEquals(first.getStats().getCount(), 333, "Merged tracker must be left unchanged");
+  }
+
+  private static void assertPercentile(long actual, long[] sortedValues, double pct)
+  {
+    long expected = sortedValues[(int) Math.ceil(pct * sortedValues.length) - 1];
+    // two significant digits
+    assertTrue(Math.abs(actual - expected) <= expected / 100 + 1,
+        pct + " percentile is " + actual + ", expected " + expected);
+  }
+
+  private static void assertStatsEqual(LongStats actual, LongStats expected)
+  {
+    assertEquals(actual.getCount(), expected.getCount(), "Count is incorrect");
+    assertEquals(actual.getAverage(), expected.getAverage(), "Average is incorrect");
+    assertEquals(actual.getStandardDeviation(), expected.getStandardDeviation(), "Standard deviation is incorrect");
+    assertEquals(actual.getMinimum(), expected.getMinimum(), "Minimum is incorrect");
+    assertEquals(actual.getMaximum(), expected.getMaximum(), "Maximum is incorrect");
+    assertEquals(actual.get50Pct(), expected.get50Pct(), "50 percentile is incorrect");
+    assertEquals(actual.get90Pct(), expected.get90Pct(), "90 percentile is incorrect");
+    assertEquals(actual.get95Pct(), expected.get95Pct(), "95 percentile is incorrect");
+    assertEquals(actual.get99Pct(), expected.get99Pct(), "99 percentile is incorrect");
+    assertEquals(actual.get999Pct(), expected.get999Pct(), "99.9 percentile is incorrect");
+  }
 }
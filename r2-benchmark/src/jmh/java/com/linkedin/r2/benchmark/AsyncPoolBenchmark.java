@@ -0,0 +1,148 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.benchmark;
+
+import com.linkedin.common.callback.Callback;
+import com.linkedin.common.callback.FutureCallback;
+import com.linkedin.common.stats.NoopLongTracker;
+import com.linkedin.common.util.None;
+import com.linkedin.r2.transport.http.client.AsyncPool;
+import com.linkedin.r2.transport.http.client.AsyncPoolImpl;
+import com.linkedin.r2.transport.http.client.ConcurrentAsyncPoolImpl;
+import com.linkedin.r2.transport.http.client.NoopRateLimiter;
+import com.linkedin.r2.transport.http.client.PoolStats;
+import com.linkedin.util.clock.SystemClock;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Measures a checkout and return of a pooled object while many threads share the same pool, comparing
+ * {@link AsyncPoolImpl} with {@link ConcurrentAsyncPoolImpl}. Objects are created synchronously and up front, so the
+ * benchmark isolates the cost of the pool bookkeeping. A pool smaller than the number of threads also exercises the
+ * waiter queue. Run with {@code -t} to vary the number of threads.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Threads(8)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AsyncPoolBenchmark
+{
+  public enum PoolType
+  {
+    LOCKING,
+    LOCK_FREE
+  }
+
+  @State(Scope.Benchmark)
+  public static class PoolState
+  {
+    @Param
+    PoolType poolType;
+
+    @Param({"4", "64"})
+    int poolSize;
+
+    @Param
+    AsyncPoolImpl.Strategy strategy;
+
+    ScheduledExecutorService _executor;
+    AsyncPool<Object> _pool;
+
+    @Setup
+    public void setup()
+    {
+      _executor = Executors.newSingleThreadScheduledExecutor();
+      _pool = poolType == PoolType.LOCKING
+          ? new AsyncPoolImpl<>("benchmark", new ObjectLifecycle(), poolSize, 0, Integer.MAX_VALUE, _executor,
+              Integer.MAX_VALUE, strategy, poolSize, new NoopRateLimiter(), SystemClock.instance(),
+              NoopLongTracker.instance())
+          : new ConcurrentAsyncPoolImpl<>("benchmark", new ObjectLifecycle(), poolSize, 0, Integer.MAX_VALUE,
+              _executor, Integer.MAX_VALUE, strategy, poolSize, new NoopRateLimiter(), SystemClock.instance(),
+              NoopLongTracker.instance());
+      _pool.start();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception
+    {
+      FutureCallback<None> callback = new FutureCallback<>();
+      _pool.shutdown(callback);
+      callback.get(10, TimeUnit.SECONDS);
+      _executor.shutdown();
+    }
+  }
+
+  @Benchmark
+  public Object measureCheckout(PoolState state) throws Exception
+  {
+    FutureCallback<Object> callback = new FutureCallback<>();
+    state._pool.get(callback);
+    Object obj = callback.get();
+    state._pool.put(obj);
+    return obj;
+  }
+
+  private static class ObjectLifecycle implements AsyncPool.Lifecycle<Object>
+  {
+    @Override
+    public void create(Callback<Object> callback)
+    {
+      callback.onSuccess(new Object());
+    }
+
+    @Override
+    public boolean validateGet(Object obj)
+    {
+      return true;
+    }
+
+    @Override
+    public boolean validatePut(Object obj)
+    {
+      return true;
+    }
+
+    @Override
+    public void destroy(Object obj, boolean error, Callback<Object> callback)
+    {
+      callback.onSuccess(obj);
+    }
+
+    @Override
+    public PoolStats.LifecycleStats getStats()
+    {
+      return null;
+    }
+  }
+}
@@ -16,6 +16,8 @@
 
 package com.linkedin.r2.filter;
 
+import com.linkedin.r2.message.RequestContext;
+
 
 /**
  * @author kparikh
@@ -54,6 +56,28 @@ public class R2Constants
   public static final String FORCE_QUERY_TUNNEL = "FORCE_QUERY_TUNNEL";
   public static final String RESPONSE_DECOMPRESSION_OFF = "RESPONSE_DECOMPRESSION_OFF";
   public static final String IS_FULL_REQUEST = "IS_FULL_REQUEST";
+
+  /**
+   * The number of units of work a request stands for, such as the number of keys of a batch request. Backup requests
+   * are budgeted by this cost. Requests without it count as a single unit.
+   */
+  public static final String REQUEST_COST = "REQUEST_COST";
+
+  /**
+   * Typed keys of the attributes above that are accessed on every request.
+   *
+   * @see RequestContext.Key
+   */
+  public static final RequestContext.Key<String> OPERATION_KEY = RequestContext.Key.register(OPERATION, String.class);
+  public static final RequestContext.Key<Boolean> IS_QUERY_TUNNELED_KEY =
+      RequestContext.Key.register(IS_QUERY_TUNNELED, Boolean.class);
+  public static final RequestContext.Key<Boolean> FORCE_QUERY_TUNNEL_KEY =
+      RequestContext.Key.register(FORCE_QUERY_TUNNEL, Boolean.class);
+  public static final RequestContext.Key<Boolean> IS_FULL_REQUEST_KEY =
+      RequestContext.Key.register(IS_FULL_REQUEST, Boolean.class);
+  public static final RequestContext.Key<Integer> REQUEST_COST_KEY =
+      RequestContext.Key.register(REQUEST_COST, Integer.class);
+
   public static final int DEFAULT_DATA_CHUNK_SIZE = 8192;
   public static final boolean DEFAULT_REST_OVER_STREAM = false;
   public static final String RETRY_MESSAGE_ATTRIBUTE_KEY = "RETRY";
@@ -0,0 +1,197 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.limiter;
+
+import com.linkedin.r2.filter.NextFilter;
+import com.linkedin.r2.filter.message.rest.RestFilter;
+import com.linkedin.r2.filter.message.stream.StreamFilter;
+import com.linkedin.r2.message.Messages;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.rest.RestException;
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.message.rest.RestStatus;
+import com.linkedin.r2.message.stream.StreamException;
+import com.linkedin.r2.message.stream.StreamRequest;
+import com.linkedin.r2.message.stream.StreamResponse;
+import com.linkedin.util.ArgumentUtil;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+
+/**
+ * Base class of the filters that limit the number of requests in flight with an {@link AdaptiveConcurrencyLimiter}.
+ * Requests beyond the limit fail right away with a 503. The permit of an admitted request is released when its
+ * response or error comes back through the filter; for streams, that is when the response headers arrive.
+ */
+abstract class AbstractConcurrencyLimitFilter implements RestFilter, StreamFilter
+{
+  private static final int TOO_MANY_REQUESTS = 429;
+
+  private final AdaptiveConcurrencyLimiter _limiter;
+  private final RequestContext.Key<AdaptiveConcurrencyLimiter.Permit> _permitKey;
+
+  AbstractConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter,
+      RequestContext.Key<AdaptiveConcurrencyLimiter.Permit> permitKey)
+  {
+    ArgumentUtil.notNull(limiter, "limiter");
+    _limiter = limiter;
+    _permitKey = permitKey;
+  }
+
+  /**
+   * @return the limiter of this filter, e.g. to register it with an MBeanServer.
+   */
+  public AdaptiveConcurrencyLimiter getLimiter()
+  {
+    return _limiter;
+  }
+
+  /**
+   * Creates the exception to fail a rejected request with. The exception must carry a 503 response.
+   */
+  protected abstract RestException createRejection(int limit);
+
+  @Override
+  public void onRestRequest(RestRequest req,
+      RequestContext requestContext,
+      Map<String, String> wireAttrs,
+      NextFilter<RestRequest, RestResponse> nextFilter)
+  {
+    AdaptiveConcurrencyLimiter.Permit permit = _limiter.tryAcquire();
+    if (permit == null)
+    {
+      nextFilter.onError(createRejection(_limiter.getLimit()), requestContext, wireAttrs);
+      return;
+    }
+    requestContext.putLocalAttr(_permitKey, permit);
+    nextFilter.onRequest(req, requestContext, wireAttrs);
+  }
+
+  @Override
+  public void onRestResponse(RestResponse res,
+      RequestContext requestContext,
+      Map<String, String> wireAttrs,
+      NextFilter<RestRequest, RestResponse> nextFilter)
+  {
+    releaseOnResponse(requestContext);
+    nextFilter.onResponse(res, requestContext, wireAttrs);
+  }
+
+  @Override
+  public void onRestError(Throwable ex,
+      RequestContext requestContext,
+      Map<String, String> wireAttrs,
+      NextFilter<RestRequest, RestResponse> nextFilter)
+  {
+    releaseOnError(ex, requestContext);
+    nextFilter.onError(ex, requestContext, wireAttrs);
+  }
+
+  @Override
+  public void onStreamRequest(StreamRequest req,
+      RequestContext requestContext,
+      Map<String, String> wireAttrs,
+      NextFilter<StreamRequest, StreamResponse> nextFilter)
+  {
+    AdaptiveConcurrencyLimiter.Permit permit = _limiter.tryAcquire();
+    if (permit == null)
+    {
+      nextFilter.onError(Messages.toStreamException(createRejection(_limiter.getLimit())), requestContext, wireAttrs);
+      return;
+    }
+    requestContext.putLocalAttr(_permitKey, permit);
+    nextFilter.onRequest(req, requestContext, wireAttrs);
+  }
+
+  @Override
+  public void onStreamResponse(StreamResponse res,
+      RequestContext requestContext,
+      Map<String, String> wireAttrs,
+      NextFilter<StreamRequest, StreamResponse> nextFilter)
+  {
+    releaseOnResponse(requestContext);
+    nextFilter.onResponse(res, requestContext, wireAttrs);
+  }
+
+  @Override
+  public void onStreamError(Throwable ex,
+      RequestContext requestContext,
+      Map<String, String> wireAttrs,
+      NextFilter<StreamRequest, StreamResponse> nextFilter)
+  {
+    releaseOnError(ex, requestContext);
+    nextFilter.onError(ex, requestContext, wireAttrs);
+  }
+
+  private void releaseOnResponse(RequestContext requestContext)
+  {
+    AdaptiveConcurrencyLimiter.Permit permit = requestContext.removeLocalAttr(_permitKey);
+    if (permit != null)
+    {
+      permit.onSuccess();
+    }
+  }
+
+  private void releaseOnError(Throwable ex, RequestContext requestContext)
+  {
+    // Rejected requests have no permit, since their error is raised by this filter.
+    AdaptiveConcurrencyLimiter.Permit permit = requestContext.removeLocalAttr(_permitKey);
+    if (permit == null)
+    {
+      return;
+    }
+    if (isOverload(ex))
+    {
+      permit.onDropped();
+    }
+    else
+    {
+      permit.onIgnore();
+    }
+  }
+
+  /**
+   * Determines whether an error indicates that the request failed because of overload, i.e. it timed out or was
+   * rejected with a 503 or 429.
+   */
+  static boolean isOverload(Throwable ex)
+  {
+    int status = 0;
+    if (ex instanceof RestException)
+    {
+      status = ((RestException) ex).getResponse().getStatus();
+    }
+    else if (ex instanceof StreamException)
+    {
+      status = ((StreamException) ex).getResponse().getStatus();
+    }
+    if (status == RestStatus.SERVICE_UNAVAILABLE || status == TOO_MANY_REQUESTS)
+    {
+      return true;
+    }
+
+    for (Throwable cause = ex; cause != null; cause = cause.getCause())
+    {
+      if (cause instanceof TimeoutException)
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+}
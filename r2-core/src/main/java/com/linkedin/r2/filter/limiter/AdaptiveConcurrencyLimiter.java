@@ -0,0 +1,167 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.limiter;
+
+import com.linkedin.util.ArgumentUtil;
+import com.linkedin.util.clock.Clock;
+import com.linkedin.util.clock.SystemClock;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Admits requests while the number of requests in flight is below a {@link ConcurrencyLimit}, and feeds the round trip
+ * time of every admitted request back into the limit. Requests beyond the limit are rejected immediately rather than
+ * queued, so that an overloaded service sheds load instead of building up latency.
+ *
+ * Register an instance with an MBeanServer to read the limit and the rejections over JMX.
+ */
+public class AdaptiveConcurrencyLimiter implements AdaptiveConcurrencyLimiterMBean
+{
+  private final ConcurrencyLimit _limit;
+  private final Clock _clock;
+  private final AtomicInteger _inflight = new AtomicInteger();
+  private final LongAdder _accepted = new LongAdder();
+  private final LongAdder _rejected = new LongAdder();
+  private final LongAdder _dropped = new LongAdder();
+
+  public AdaptiveConcurrencyLimiter(ConcurrencyLimit limit)
+  {
+    this(limit, SystemClock.instance());
+  }
+
+  public AdaptiveConcurrencyLimiter(ConcurrencyLimit limit, Clock clock)
+  {
+    ArgumentUtil.notNull(limit, "limit");
+    ArgumentUtil.notNull(clock, "clock");
+    _limit = limit;
+    _clock = clock;
+  }
+
+  /**
+   * Admits a request if the limit allows.
+   *
+   * @return a permit that must be released exactly once when the request completes, or null if the request is
+   *         rejected.
+   */
+  public Permit tryAcquire()
+  {
+    int limit = _limit.getLimit();
+    int inflight;
+    do
+    {
+      inflight = _inflight.get();
+      if (inflight >= limit)
+      {
+        _rejected.increment();
+        return null;
+      }
+    }
+    while (!_inflight.compareAndSet(inflight, inflight + 1));
+
+    _accepted.increment();
+    return new Permit(_clock.currentTimeNanos(), inflight + 1);
+  }
+
+  @Override
+  public int getLimit()
+  {
+    return _limit.getLimit();
+  }
+
+  @Override
+  public int getInflight()
+  {
+    return _inflight.get();
+  }
+
+  @Override
+  public long getAcceptedCount()
+  {
+    return _accepted.sum();
+  }
+
+  @Override
+  public long getRejectedCount()
+  {
+    return _rejected.sum();
+  }
+
+  @Override
+  public long getDroppedCount()
+  {
+    return _dropped.sum();
+  }
+
+  /**
+   * Tracks an admitted request. Only the first release of a permit has an effect.
+   */
+  public final class Permit
+  {
+    private final long _startNanos;
+    private final int _inflightOnAcquire;
+    private final AtomicBoolean _released = new AtomicBoolean();
+
+    private Permit(long startNanos, int inflight)
+    {
+      _startNanos = startNanos;
+      _inflightOnAcquire = inflight;
+    }
+
+    /**
+     * Releases the permit of a request that completed normally, and samples its round trip time.
+     */
+    public void onSuccess()
+    {
+      release(false, true);
+    }
+
+    /**
+     * Releases the permit of a request that failed because of overload, which lowers the limit.
+     */
+    public void onDropped()
+    {
+      release(true, true);
+    }
+
+    /**
+     * Releases the permit of a request whose outcome says nothing about load, e.g. one that failed with an
+     * application error, without sampling it.
+     */
+    public void onIgnore()
+    {
+      release(false, false);
+    }
+
+    private void release(boolean dropped, boolean sample)
+    {
+      if (_released.compareAndSet(false, true))
+      {
+        _inflight.decrementAndGet();
+        if (dropped)
+        {
+          _dropped.increment();
+        }
+        if (sample)
+        {
+          _limit.onSample(_clock.currentTimeNanos() - _startNanos, _inflightOnAcquire, dropped);
+        }
+      }
+    }
+  }
+}
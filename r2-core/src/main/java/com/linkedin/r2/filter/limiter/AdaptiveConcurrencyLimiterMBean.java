@@ -0,0 +1,48 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.limiter;
+
+/**
+ * JMX view of an {@link AdaptiveConcurrencyLimiter}.
+ */
+public interface AdaptiveConcurrencyLimiterMBean
+{
+  /**
+   * @return the current limit on the number of requests in flight.
+   */
+  int getLimit();
+
+  /**
+   * @return the number of requests in flight.
+   */
+  int getInflight();
+
+  /**
+   * @return the number of requests admitted since the limiter was created.
+   */
+  long getAcceptedCount();
+
+  /**
+   * @return the number of requests rejected because the limit was reached.
+   */
+  long getRejectedCount();
+
+  /**
+   * @return the number of admitted requests that were dropped, e.g. timed out or failed with a 503.
+   */
+  long getDroppedCount();
+}
@@ -0,0 +1,91 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.limiter;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * A {@link ConcurrencyLimit} with additive increase and multiplicative decrease. The limit grows by one for every
+ * successful request sent while at least half of the limit was in use, and shrinks by the backoff ratio for every
+ * dropped request or request slower than the timeout.
+ */
+public class AimdConcurrencyLimit implements ConcurrencyLimit
+{
+  public static final int DEFAULT_INITIAL_LIMIT = 20;
+  public static final int DEFAULT_MIN_LIMIT = 1;
+  public static final int DEFAULT_MAX_LIMIT = 1000;
+  public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+  public static final long DEFAULT_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+  private final int _minLimit;
+  private final int _maxLimit;
+  private final double _backoffRatio;
+  private final long _timeoutNanos;
+
+  private volatile int _limit;
+
+  public AimdConcurrencyLimit()
+  {
+    this(DEFAULT_INITIAL_LIMIT, DEFAULT_MIN_LIMIT, DEFAULT_MAX_LIMIT, DEFAULT_BACKOFF_RATIO, DEFAULT_TIMEOUT_NANOS);
+  }
+
+  /**
+   * @param initialLimit limit before any request has completed
+   * @param minLimit lower bound of the limit, at least 1
+   * @param maxLimit upper bound of the limit
+   * @param backoffRatio factor in (0, 1) to multiply the limit by when a request is dropped
+   * @param timeoutNanos round trip time above which a request counts as dropped
+   */
+  public AimdConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio, long timeoutNanos)
+  {
+    if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit)
+    {
+      throw new IllegalArgumentException("Expected 1 <= minLimit <= initialLimit <= maxLimit, got minLimit=" + minLimit
+          + ", initialLimit=" + initialLimit + ", maxLimit=" + maxLimit);
+    }
+    if (backoffRatio <= 0 || backoffRatio >= 1)
+    {
+      throw new IllegalArgumentException("Backoff ratio must be in (0, 1), got " + backoffRatio);
+    }
+    _minLimit = minLimit;
+    _maxLimit = maxLimit;
+    _backoffRatio = backoffRatio;
+    _timeoutNanos = timeoutNanos;
+    _limit = initialLimit;
+  }
+
+  @Override
+  public int getLimit()
+  {
+    return _limit;
+  }
+
+  @Override
+  public synchronized void onSample(long rttNanos, int inflight, boolean dropped)
+  {
+    int limit = _limit;
+    if (dropped || rttNanos > _timeoutNanos)
+    {
+      _limit = Math.max(_minLimit, (int) (limit * _backoffRatio));
+    }
+    else if (inflight * 2 >= limit)
+    {
+      _limit = Math.min(_maxLimit, limit + 1);
+    }
+  }
+}
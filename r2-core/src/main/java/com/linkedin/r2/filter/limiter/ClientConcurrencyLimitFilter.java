@@ -0,0 +1,54 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.limiter;
+
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.rest.RestException;
+import com.linkedin.r2.message.rest.RestStatus;
+
+
+/**
+ * Client filter that limits the number of requests in flight to a downstream service with an
+ * {@link AdaptiveConcurrencyLimiter}. Requests beyond the limit fail locally with a 503 instead of piling onto an
+ * overloaded service. Timeouts and 503 or 429 responses from the service lower the limit.
+ *
+ * The limit applies to all requests that go through the filter chain of a client, so each client should have its
+ * own filter instance.
+ */
+public class ClientConcurrencyLimitFilter extends AbstractConcurrencyLimitFilter
+{
+  private static final RequestContext.Key<AdaptiveConcurrencyLimiter.Permit> PERMIT_KEY =
+      RequestContext.Key.register("clientConcurrencyLimitPermit", AdaptiveConcurrencyLimiter.Permit.class);
+
+  public ClientConcurrencyLimitFilter()
+  {
+    this(new AdaptiveConcurrencyLimiter(new GradientConcurrencyLimit()));
+  }
+
+  public ClientConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter)
+  {
+    super(limiter, PERMIT_KEY);
+  }
+
+  @Override
+  protected RestException createRejection(int limit)
+  {
+    String message = "Client concurrency limit of " + limit + " requests reached";
+    return new RestException(RestStatus.responseForStatus(RestStatus.SERVICE_UNAVAILABLE, message), message, null,
+        false);
+  }
+}
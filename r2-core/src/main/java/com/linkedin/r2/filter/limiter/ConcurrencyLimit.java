@@ -0,0 +1,38 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.limiter;
+
+/**
+ * Estimates how many requests may be in flight at once from the round trip times observed for completed requests.
+ * Implementations must be thread-safe.
+ */
+public interface ConcurrencyLimit
+{
+  /**
+   * @return the current limit on the number of requests in flight, at least 1.
+   */
+  int getLimit();
+
+  /**
+   * Updates the limit with a completed request.
+   *
+   * @param rttNanos round trip time of the request in nanoseconds
+   * @param inflight number of requests in flight when the request was sent, including itself
+   * @param dropped true if the request failed in a way that indicates overload, such as a timeout or a 503
+   */
+  void onSample(long rttNanos, int inflight, boolean dropped);
+}
@@ -0,0 +1,135 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.limiter;
+
+/**
+ * A {@link ConcurrencyLimit} that follows the gradient between a long-term and a short-term average of the round trip
+ * time. While latency stays at its long-term level the limit grows by a queue allowance of {@code sqrt(limit)}; when
+ * latency rises, because requests queue up somewhere, the limit shrinks in proportion, by at most half per sample.
+ * Dropped requests shrink the limit by half. Changes are smoothed to absorb noise in single samples.
+ *
+ * The long-term average slowly forgets old samples, and drifts down quickly when latency improves a lot, so that the
+ * limit recovers after a change in the baseline latency of the service.
+ */
+public class GradientConcurrencyLimit implements ConcurrencyLimit
+{
+  public static final int DEFAULT_INITIAL_LIMIT = 20;
+  public static final int DEFAULT_MIN_LIMIT = 1;
+  public static final int DEFAULT_MAX_LIMIT = 1000;
+  public static final double DEFAULT_RTT_TOLERANCE = 1.5;
+  public static final double DEFAULT_SMOOTHING = 0.2;
+  public static final int DEFAULT_LONG_WINDOW = 600;
+  public static final int DEFAULT_SHORT_WINDOW = 10;
+
+  private static final double MIN_GRADIENT = 0.5;
+
+  private final int _minLimit;
+  private final int _maxLimit;
+  private final double _rttTolerance;
+  private final double _smoothing;
+  private final int _longWindow;
+  private final int _shortWindow;
+
+  private double _estimatedLimit;
+  private double _longRtt = -1;
+  private double _shortRtt = -1;
+  private volatile int _limit;
+
+  public GradientConcurrencyLimit()
+  {
+    this(DEFAULT_INITIAL_LIMIT, DEFAULT_MIN_LIMIT, DEFAULT_MAX_LIMIT, DEFAULT_RTT_TOLERANCE, DEFAULT_SMOOTHING,
+        DEFAULT_LONG_WINDOW, DEFAULT_SHORT_WINDOW);
+  }
+
+  /**
+   * @param initialLimit limit before any request has completed
+   * @param minLimit lower bound of the limit, at least 1
+   * @param maxLimit upper bound of the limit
+   * @param rttTolerance ratio by which the short-term round trip time may exceed the long-term one before the limit
+   *                     shrinks, at least 1
+   * @param smoothing weight in (0, 1] of a new estimate in the limit
+   * @param longWindow number of samples averaged by the long-term round trip time
+   * @param shortWindow number of samples averaged by the short-term round trip time
+   */
+  public GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double rttTolerance, double smoothing,
+      int longWindow, int shortWindow)
+  {
+    if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit)
+    {
+      throw new IllegalArgumentException("Expected 1 <= minLimit <= initialLimit <= maxLimit, got minLimit=" + minLimit
+          + ", initialLimit=" + initialLimit + ", maxLimit=" + maxLimit);
+    }
+    if (rttTolerance < 1 || smoothing <= 0 || smoothing > 1 || shortWindow < 1 || longWindow < shortWindow)
+    {
+      throw new IllegalArgumentException("Invalid gradient settings: rttTolerance=" + rttTolerance + ", smoothing="
+          + smoothing + ", longWindow=" + longWindow + ", shortWindow=" + shortWindow);
+    }
+    _minLimit = minLimit;
+    _maxLimit = maxLimit;
+    _rttTolerance = rttTolerance;
+    _smoothing = smoothing;
+    _longWindow = longWindow;
+    _shortWindow = shortWindow;
+    _estimatedLimit = initialLimit;
+    _limit = initialLimit;
+  }
+
+  @Override
+  public int getLimit()
+  {
+    return _limit;
+  }
+
+  @Override
+  public synchronized void onSample(long rttNanos, int inflight, boolean dropped)
+  {
+    double newLimit;
+    if (dropped)
+    {
+      newLimit = _estimatedLimit * MIN_GRADIENT;
+    }
+    else
+    {
+      double rtt = Math.max(rttNanos, 1L);
+      _shortRtt = average(_shortRtt, rtt, _shortWindow);
+      _longRtt = average(_longRtt, rtt, _longWindow);
+      if (_longRtt > _shortRtt * 2)
+      {
+        // Latency improved a lot, e.g. after a slow dependency recovered. Let the baseline catch up.
+        _longRtt *= 0.95;
+      }
+
+      if (inflight * 2 < _estimatedLimit)
+      {
+        // The limit was not what held requests back, so the sample says nothing about whether it is too low.
+        return;
+      }
+
+      double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, _rttTolerance * _longRtt / _shortRtt));
+      newLimit = _estimatedLimit * gradient + Math.sqrt(_estimatedLimit);
+    }
+
+    newLimit = _estimatedLimit * (1 - _smoothing) + newLimit * _smoothing;
+    _estimatedLimit = Math.max(_minLimit, Math.min(_maxLimit, newLimit));
+    _limit = (int) _estimatedLimit;
+  }
+
+  private static double average(double average, double sample, int window)
+  {
+    return average < 0 ? sample : average + (sample - average) / window;
+  }
+}
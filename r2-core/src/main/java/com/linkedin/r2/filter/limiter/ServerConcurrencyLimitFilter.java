@@ -0,0 +1,56 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.limiter;
+
+import com.linkedin.r2.RetriableRequestException;
+import com.linkedin.r2.filter.transport.ServerRetryFilter;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.rest.RestException;
+import com.linkedin.r2.message.rest.RestStatus;
+
+
+/**
+ * Server filter that limits the number of requests being processed with an {@link AdaptiveConcurrencyLimiter}.
+ * Requests beyond the limit are answered right away with a 503 instead of queueing behind the requests in flight.
+ *
+ * The 503 is caused by a {@link RetriableRequestException}, so that when a {@link ServerRetryFilter} precedes this
+ * filter in the chain, clients are asked to retry the request on another host.
+ */
+public class ServerConcurrencyLimitFilter extends AbstractConcurrencyLimitFilter
+{
+  private static final RequestContext.Key<AdaptiveConcurrencyLimiter.Permit> PERMIT_KEY =
+      RequestContext.Key.register("serverConcurrencyLimitPermit", AdaptiveConcurrencyLimiter.Permit.class);
+
+  public ServerConcurrencyLimitFilter()
+  {
+    this(new AdaptiveConcurrencyLimiter(new GradientConcurrencyLimit()));
+  }
+
+  public ServerConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter)
+  {
+    super(limiter, PERMIT_KEY);
+  }
+
+  @Override
+  protected RestException createRejection(int limit)
+  {
+    String message = "Server concurrency limit of " + limit + " requests reached";
+    RetriableRequestException cause = new RetriableRequestException(message, null, false);
+    return new RestException(RestStatus.responseForStatus(RestStatus.SERVICE_UNAVAILABLE, message), message, cause,
+        false);
+  }
+}
@@ -26,7 +26,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
 import java.util.regex.Pattern;
 
 
@@ -45,7 +44,7 @@ public abstract class BaseMessageBuilder<B extends BaseMessageBuilder<B>>
 
   private static final String CANONICAL_REPLACEMENT = " ";
 
-  private TreeMap<String, String> _headers;
+  private CaseInsensitiveHeaders.Builder _headers;
 
   private List<String> _cookies;
 
@@ -136,10 +135,15 @@ public abstract class BaseMessageBuilder<B extends BaseMessageBuilder<B>>
     return thisBuilder();
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * The returned headers are a snapshot, which shares storage with this builder until either is modified.
+   */
   @Override
   public Map<String, String> getHeaders()
   {
-    return Collections.unmodifiableSortedMap(_headers);
+    return _headers.build();
   }
 
   @Override
@@ -216,8 +220,9 @@ public abstract class BaseMessageBuilder<B extends BaseMessageBuilder<B>>
    */
   public B unsafeSetHeaders(Map<String, String> headers)
   {
-    _headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-    return unsafeOverwriteHeaders(headers);
+    // Headers of a message or another builder are shared rather than copied.
+    _headers = new CaseInsensitiveHeaders.Builder(CaseInsensitiveHeaders.copyOf(headers));
+    return thisBuilder();
   }
 
   /**
@@ -0,0 +1,387 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.message;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+
+/**
+ * An immutable map of message headers whose names are compared case-insensitively, as by
+ * {@link String#CASE_INSENSITIVE_ORDER}.
+ *
+ * Headers are kept in arrays in the order they were added, together with the case-folded hash of every name, and
+ * are looked up in an open-addressed table of indices into those arrays. Iteration follows
+ * {@link String#CASE_INSENSITIVE_ORDER}, like the {@link java.util.TreeMap} headers used to be copied into, and the
+ * name of a header keeps the case it was first added with.
+ *
+ * A {@link Builder} shares the arrays of the headers it is created from and of the headers it builds, and only copies
+ * them when it is modified while they are shared. Rebuilding a message without changing its headers therefore does
+ * not copy them.
+ */
+final class CaseInsensitiveHeaders extends AbstractMap<String, String>
+{
+  static final CaseInsensitiveHeaders EMPTY = new CaseInsensitiveHeaders(new String[0], new String[0], new int[0],
+      new int[1], 0);
+
+  private static final int[] NO_ORDER = new int[0];
+
+  private final String[] _names;
+  private final String[] _values;
+  private final int[] _hashes;
+  // Slots hold the index of an entry plus one; zero marks an empty slot. The length is a power of two.
+  private final int[] _table;
+  private final int _size;
+  // Indices of the entries in iteration order, computed on first iteration.
+  private volatile int[] _order;
+
+  private CaseInsensitiveHeaders(String[] names, String[] values, int[] hashes, int[] table, int size)
+  {
+    _names = names;
+    _values = values;
+    _hashes = hashes;
+    _table = table;
+    _size = size;
+  }
+
+  /**
+   * Returns the given headers as {@link CaseInsensitiveHeaders}, copying them only if they are not already.
+   */
+  static CaseInsensitiveHeaders copyOf(Map<String, String> headers)
+  {
+    if (headers instanceof CaseInsensitiveHeaders)
+    {
+      return (CaseInsensitiveHeaders) headers;
+    }
+    if (headers.isEmpty())
+    {
+      return EMPTY;
+    }
+    Builder builder = new Builder(EMPTY);
+    builder.putAll(headers);
+    return builder.build();
+  }
+
+  @Override
+  public String get(Object name)
+  {
+    if (!(name instanceof String))
+    {
+      return null;
+    }
+    int index = find(_names, _hashes, _table, (String) name);
+    return index < 0 ? null : _values[index];
+  }
+
+  @Override
+  public boolean containsKey(Object name)
+  {
+    return name instanceof String && find(_names, _hashes, _table, (String) name) >= 0;
+  }
+
+  @Override
+  public int size()
+  {
+    return _size;
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return _size == 0;
+  }
+
+  @Override
+  public Set<Entry<String, String>> entrySet()
+  {
+    return new AbstractSet<Entry<String, String>>()
+    {
+      @Override
+      public Iterator<Entry<String, String>> iterator()
+      {
+        return new EntryIterator(getOrder());
+      }
+
+      @Override
+      public int size()
+      {
+        return _size;
+      }
+    };
+  }
+
+  private int[] getOrder()
+  {
+    int[] order = _order;
+    if (order == null)
+    {
+      if (_size == 0)
+      {
+        order = NO_ORDER;
+      }
+      else
+      {
+        Integer[] indices = new Integer[_size];
+        for (int i = 0; i < _size; i++)
+        {
+          indices[i] = i;
+        }
+        Arrays.sort(indices, (a, b) -> String.CASE_INSENSITIVE_ORDER.compare(_names[a], _names[b]));
+        order = new int[_size];
+        for (int i = 0; i < _size; i++)
+        {
+          order[i] = indices[i];
+        }
+      }
+      _order = order;
+    }
+    return order;
+  }
+
+  /**
+   * Computes the hash of a header name with its characters folded the same way as
+   * {@link String#equalsIgnoreCase(String)}, taking a shortcut for ASCII characters.
+   */
+  static int hash(String name)
+  {
+    int hash = 0;
+    for (int i = 0; i < name.length(); i++)
+    {
+      char ch = name.charAt(i);
+      if (ch < 128)
+      {
+        if (ch >= 'A' && ch <= 'Z')
+        {
+          ch += 'a' - 'A';
+        }
+      }
+      else
+      {
+        ch = Character.toLowerCase(Character.toUpperCase(ch));
+      }
+      hash = 31 * hash + ch;
+    }
+    return hash ^ (hash >>> 16);
+  }
+
+  private static int find(String[] names, int[] hashes, int[] table, String name)
+  {
+    int hash = hash(name);
+    int mask = table.length - 1;
+    for (int slot = hash & mask; ; slot = (slot + 1) & mask)
+    {
+      int entry = table[slot];
+      if (entry == 0)
+      {
+        return -1;
+      }
+      entry--;
+      if (hashes[entry] == hash && names[entry].equalsIgnoreCase(name))
+      {
+        return entry;
+      }
+    }
+  }
+
+  private static int[] buildTable(int[] hashes, int size, int capacity)
+  {
+    int length = Integer.highestOneBit(Math.max(capacity, 2) * 2 - 1) << 1;
+    int[] table = new int[length];
+    int mask = length - 1;
+    for (int entry = 0; entry < size; entry++)
+    {
+      int slot = hashes[entry] & mask;
+      while (table[slot] != 0)
+      {
+        slot = (slot + 1) & mask;
+      }
+      table[slot] = entry + 1;
+    }
+    return table;
+  }
+
+  private class EntryIterator implements Iterator<Entry<String, String>>
+  {
+    private final int[] _order;
+    private int _next = 0;
+
+    private EntryIterator(int[] order)
+    {
+      _order = order;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+      return _next < _order.length;
+    }
+
+    @Override
+    public Entry<String, String> next()
+    {
+      if (!hasNext())
+      {
+        throw new NoSuchElementException();
+      }
+      int index = _order[_next++];
+      return new SimpleImmutableEntry<>(_names[index], _values[index]);
+    }
+  }
+
+  /**
+   * A mutable, copy-on-write counterpart of {@link CaseInsensitiveHeaders}. Builders are not thread-safe.
+   */
+  static final class Builder
+  {
+    private String[] _names;
+    private String[] _values;
+    private int[] _hashes;
+    private int[] _table;
+    private int _size;
+    // Whether the arrays are shared with some CaseInsensitiveHeaders and must be copied before they are modified.
+    private boolean _shared;
+    // The headers last built from the current arrays, returned again until this builder is modified.
+    private CaseInsensitiveHeaders _built;
+
+    /**
+     * Creates a builder initialized with the given headers, sharing their storage.
+     */
+    Builder(CaseInsensitiveHeaders headers)
+    {
+      _names = headers._names;
+      _values = headers._values;
+      _hashes = headers._hashes;
+      _table = headers._table;
+      _size = headers._size;
+      _shared = true;
+      _built = headers;
+    }
+
+    String get(String name)
+    {
+      int index = find(_names, _hashes, _table, name);
+      return index < 0 ? null : _values[index];
+    }
+
+    /**
+     * Sets the value of a header. If a header with the same name exists, its value is replaced and its name keeps
+     * the case it was first added with.
+     */
+    void put(String name, String value)
+    {
+      int index = find(_names, _hashes, _table, name);
+      if (index >= 0)
+      {
+        if (Objects.equals(_values[index], value))
+        {
+          return;
+        }
+        prepareWrite(_size);
+        _values[index] = value;
+        return;
+      }
+
+      prepareWrite(_size + 1);
+      int hash = hash(name);
+      _names[_size] = name;
+      _values[_size] = value;
+      _hashes[_size] = hash;
+      int mask = _table.length - 1;
+      int slot = hash & mask;
+      while (_table[slot] != 0)
+      {
+        slot = (slot + 1) & mask;
+      }
+      _table[slot] = ++_size;
+    }
+
+    void putAll(Map<String, String> headers)
+    {
+      for (Map.Entry<String, String> entry : headers.entrySet())
+      {
+        put(entry.getKey(), entry.getValue());
+      }
+    }
+
+    void remove(String name)
+    {
+      int index = find(_names, _hashes, _table, name);
+      if (index < 0)
+      {
+        return;
+      }
+      prepareWrite(_size);
+      int moved = _size - index - 1;
+      System.arraycopy(_names, index + 1, _names, index, moved);
+      System.arraycopy(_values, index + 1, _values, index, moved);
+      System.arraycopy(_hashes, index + 1, _hashes, index, moved);
+      _size--;
+      _names[_size] = null;
+      _values[_size] = null;
+      _table = buildTable(_hashes, _size, _names.length);
+    }
+
+    void clear()
+    {
+      _names = EMPTY._names;
+      _values = EMPTY._values;
+      _hashes = EMPTY._hashes;
+      _table = EMPTY._table;
+      _size = 0;
+      _shared = true;
+      _built = EMPTY;
+    }
+
+    /**
+     * Returns the current headers. The returned headers share storage with this builder, and are not affected by
+     * later changes to it.
+     */
+    CaseInsensitiveHeaders build()
+    {
+      if (_built == null)
+      {
+        _built = _size == 0 ? EMPTY : new CaseInsensitiveHeaders(_names, _values, _hashes, _table, _size);
+        _shared = true;
+      }
+      return _built;
+    }
+
+    /**
+     * Makes the arrays safe to modify and large enough to hold the given number of headers.
+     */
+    private void prepareWrite(int size)
+    {
+      _built = null;
+      if (!_shared && size <= _names.length)
+      {
+        return;
+      }
+      int capacity = size <= _names.length ? _names.length : Math.max(size, _names.length * 2);
+      _names = Arrays.copyOf(_names, Math.max(capacity, 4));
+      _values = Arrays.copyOf(_values, _names.length);
+      _hashes = Arrays.copyOf(_hashes, _names.length);
+      _table = _table.length >= _names.length * 2 ? _table.clone() : buildTable(_hashes, _size, _names.length);
+      _shared = false;
+    }
+  }
+}
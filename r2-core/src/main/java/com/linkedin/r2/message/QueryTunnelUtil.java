@@ -42,8 +42,6 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.TreeMap;
-import java.util.Map;
 
 
 /**
@@ -140,8 +138,7 @@ public class QueryTunnelUtil
 
     String query = uri.getRawQuery();
 
-    boolean forceQueryTunnel = requestContext.getLocalAttr(R2Constants.FORCE_QUERY_TUNNEL) != null
-        && (Boolean) requestContext.getLocalAttr(R2Constants.FORCE_QUERY_TUNNEL);
+    boolean forceQueryTunnel = Boolean.TRUE.equals(requestContext.getLocalAttr(R2Constants.FORCE_QUERY_TUNNEL_KEY));
 
     if (query == null
         || query.length() == 0
@@ -230,8 +227,7 @@ public class QueryTunnelUtil
 
     String query = uri.getRawQuery();
 
-    boolean forceQueryTunnel = requestContext.getLocalAttr(R2Constants.FORCE_QUERY_TUNNEL) != null
-        && (Boolean) requestContext.getLocalAttr(R2Constants.FORCE_QUERY_TUNNEL);
+    boolean forceQueryTunnel = Boolean.TRUE.equals(requestContext.getLocalAttr(R2Constants.FORCE_QUERY_TUNNEL_KEY));
 
     if (query == null
         || query.length() == 0
@@ -315,23 +311,21 @@ public class QueryTunnelUtil
 
     RestRequestBuilder requestBuilder = request.builder();
 
-    // Get copy of headers and remove the override
-    Map<String, String> h = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-    h.putAll(request.getHeaders());
-    h.remove(HEADER_METHOD_OVERRIDE);
+    // Remove the override. The builder shares the headers of the request until they are modified.
+    requestBuilder.removeHeader(HEADER_METHOD_OVERRIDE);
 
     // Simple case, just extract query params from entity, append to query, and clear entity
     if (contentType.getBaseType().equals(FORM_URL_ENCODED))
     {
       query = request.getEntity().asString(Data.UTF_8_CHARSET);
-      h.remove(HEADER_CONTENT_TYPE);
-      h.remove(CONTENT_LENGTH);
+      requestBuilder.removeHeader(HEADER_CONTENT_TYPE);
+      requestBuilder.removeHeader(CONTENT_LENGTH);
     }
     else if (contentType.getBaseType().equals(MULTIPART))
     {
       // Clear these in case there is no body part
-      h.remove(HEADER_CONTENT_TYPE);
-      h.remove(CONTENT_LENGTH);
+      requestBuilder.removeHeader(HEADER_CONTENT_TYPE);
+      requestBuilder.removeHeader(CONTENT_LENGTH);
 
       MimeMultipart multi = new MimeMultipart(new DataSource()
       {
@@ -385,8 +379,8 @@ public class QueryTunnelUtil
           {
             entity = IOUtil.toByteArray((InputStream) content);
           }
-          h.put(CONTENT_LENGTH, Integer.toString(entity.length));
-          h.put(HEADER_CONTENT_TYPE, part.getContentType());
+          requestBuilder.setHeader(CONTENT_LENGTH, Integer.toString(entity.length));
+          requestBuilder.setHeader(HEADER_CONTENT_TYPE, part.getContentType());
         }
         else
         {
@@ -422,10 +416,9 @@ public class QueryTunnelUtil
       requestBuilder.setURI(new URI(request.getURI().toString() + separator + query));
     }
     requestBuilder.setEntity(entity);
-    requestBuilder.setHeaders(h);
     requestBuilder.setMethod(validateOverride(request, request.getHeader(HEADER_METHOD_OVERRIDE)));
 
-    requestContext.putLocalAttr(R2Constants.IS_QUERY_TUNNELED, true);
+    requestContext.putLocalAttr(R2Constants.IS_QUERY_TUNNELED_KEY, true);
 
     return requestBuilder.build();
   }
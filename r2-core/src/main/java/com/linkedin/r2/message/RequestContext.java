@@ -20,30 +20,140 @@
 
 package com.linkedin.r2.message;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * RequestContext should not be shared across requests.
  *
+ * Attributes can be accessed by name or by a typed {@link Key}. Attributes of registered keys are kept in an
+ * array indexed by the key, and attributes of other names in a concurrent map, so that neither reads nor writes
+ * take a lock. Accessing an attribute by the name of a registered key is the same as accessing it by the key.
+ *
  * @author Josh Walker
  * @version $Revision: $
  */
 public class RequestContext
 {
-  private final Map<String, Object> _localAttrs;
+  // Stands in for null attribute values, since null marks absent values and ConcurrentHashMap does not allow null.
+  private static final Object NULL_VALUE = new Object();
+  private static final AtomicReferenceArray<Object> NO_VALUES = new AtomicReferenceArray<>(0);
+  private static final AtomicReferenceFieldUpdater<RequestContext, Object> NULL_NAME_ATTR =
+      AtomicReferenceFieldUpdater.newUpdater(RequestContext.class, Object.class, "_nullNameAttr");
+
+  // Attributes of registered keys, indexed by Key#getIndex(). Absent attributes are null.
+  private volatile AtomicReferenceArray<Object> _values;
+  // Attributes of names that have no registered key.
+  private final ConcurrentHashMap<String, Object> _otherAttrs;
+  // Attribute of the null name, which ConcurrentHashMap does not allow. Null when absent.
+  private volatile Object _nullNameAttr;
+  // Synchronized map view of all attributes, created on first use.
+  private volatile Map<String, Object> _localAttrs;
+
+  /**
+   * A typed attribute key. Keys are registered once, typically in a static field, and are assigned consecutive
+   * slots in the attributes of every {@link RequestContext}.
+   *
+   * @param <T> the type of the attribute value.
+   */
+  public static final class Key<T>
+  {
+    private static final ConcurrentHashMap<String, Key<?>> KEYS_BY_NAME = new ConcurrentHashMap<>();
+    private static final List<Key<?>> KEYS_BY_INDEX = new CopyOnWriteArrayList<>();
+
+    private final String _name;
+    private final Class<T> _type;
+    private final int _index;
+
+    private Key(String name, Class<T> type, int index)
+    {
+      _name = name;
+      _type = type;
+      _index = index;
+    }
+
+    /**
+     * Registers the key for the given attribute name. Registering the same name and type again returns the same key.
+     *
+     * @param name the attribute name, which can still be used with the name-based methods of {@link RequestContext}.
+     * @param type the type of the attribute value.
+     * @return the key.
+     * @throws IllegalArgumentException if the name is already registered with another type.
+     */
+    public static synchronized <T> Key<T> register(String name, Class<T> type)
+    {
+      Key<?> key = KEYS_BY_NAME.get(name);
+      if (key == null)
+      {
+        key = new Key<>(name, type, KEYS_BY_INDEX.size());
+        KEYS_BY_INDEX.add(key);
+        KEYS_BY_NAME.put(name, key);
+      }
+      else if (key._type != type)
+      {
+        throw new IllegalArgumentException(
+            "Request context key " + name + " is already registered with type " + key._type.getName());
+      }
+      @SuppressWarnings("unchecked")
+      Key<T> typedKey = (Key<T>) key;
+      return typedKey;
+    }
+
+    public String getName()
+    {
+      return _name;
+    }
+
+    public Class<T> getType()
+    {
+      return _type;
+    }
+
+    int getIndex()
+    {
+      return _index;
+    }
+
+    private static Key<?> forName(String name)
+    {
+      return KEYS_BY_NAME.get(name);
+    }
+
+    private static Key<?> forIndex(int index)
+    {
+      return KEYS_BY_INDEX.get(index);
+    }
+
+    private static int count()
+    {
+      return KEYS_BY_INDEX.size();
+    }
+
+    @Override
+    public String toString()
+    {
+      return _name;
+    }
+  }
 
   /**
    * Construct a new instance with an empty set of attributes.
    */
   public RequestContext()
   {
-    // We use Collections.synchronizedMap() instead of ConcurrentHashMap because
-    // this class publicly exposes the _localAttrs through getLocalAttrs() and
-    // returned Map that must support null values because there is plenty of code
-    // that is using this property.
-    _localAttrs = Collections.synchronizedMap(new HashMap<>());
+    int count = Key.count();
+    _values = count == 0 ? NO_VALUES : new AtomicReferenceArray<>(count);
+    _otherAttrs = new ConcurrentHashMap<>();
   }
 
   /**
@@ -54,24 +164,52 @@ public class RequestContext
    */
   public RequestContext(RequestContext other)
   {
-    synchronized (other._localAttrs) {
-      _localAttrs = Collections.synchronizedMap(new HashMap<>(other._localAttrs));
+    AtomicReferenceArray<Object> otherValues = other._values;
+    int length = Math.max(otherValues.length(), Key.count());
+    if (length == 0)
+    {
+      _values = NO_VALUES;
     }
-  }
-
-  private RequestContext(Map<String, Object> localAttrs)
-  {
-    _localAttrs = Collections.synchronizedMap(localAttrs);
+    else
+    {
+      Object[] values = new Object[length];
+      for (int i = 0; i < otherValues.length(); i++)
+      {
+        values[i] = otherValues.get(i);
+      }
+      _values = new AtomicReferenceArray<>(values);
+    }
+    _otherAttrs = new ConcurrentHashMap<>(other._otherAttrs);
+    _nullNameAttr = other._nullNameAttr;
   }
 
   /**
-   * Return the attributes from this object.
+   * Return the attributes from this object. The returned map is a live view of the attributes, which supports
+   * null keys and values, and whose entries write through to the attributes on {@link Map.Entry#setValue(Object)}.
+   * It is synchronized like {@link Collections#synchronizedMap(Map)}: every call of the view holds the view's
+   * monitor, and callers must hold it while iterating the view or its collections. The attribute methods of this
+   * class do not take the monitor, so compound operations on the view, such as
+   * {@link Map#putIfAbsent(Object, Object)}, are only atomic with respect to other users of the view.
    *
    * @return the attributes contained by this object.
    */
   public Map<String, Object> getLocalAttrs()
   {
-    return _localAttrs;
+    Map<String, Object> localAttrs = _localAttrs;
+    if (localAttrs == null)
+    {
+      // All callers must share one view, since its monitor guards the view.
+      synchronized (this)
+      {
+        localAttrs = _localAttrs;
+        if (localAttrs == null)
+        {
+          localAttrs = Collections.synchronizedMap(new LocalAttrs());
+          _localAttrs = localAttrs;
+        }
+      }
+    }
+    return localAttrs;
   }
 
   /**
@@ -82,7 +220,38 @@ public class RequestContext
    */
   public Object getLocalAttr(String key)
   {
-    return _localAttrs.get(key);
+    if (key == null)
+    {
+      return decode(_nullNameAttr);
+    }
+    Key<?> registeredKey = Key.forName(key);
+    if (registeredKey != null)
+    {
+      Object value = getValue(registeredKey.getIndex());
+      if (value != null)
+      {
+        return decode(value);
+      }
+    }
+    // Names may have been used before their key was registered.
+    return decode(_otherAttrs.get(key));
+  }
+
+  /**
+   * Return a specific attribute from this object.
+   *
+   * @param key the key for the attribute to be obtained.
+   * @return the value of the specified attribute, or null if the attribute does not exist.
+   * @throws ClassCastException if the attribute was set by name to a value of another type.
+   */
+  public <T> T getLocalAttr(Key<T> key)
+  {
+    Object value = getValue(key.getIndex());
+    if (value == null && !_otherAttrs.isEmpty())
+    {
+      value = _otherAttrs.get(key.getName());
+    }
+    return key.getType().cast(decode(value));
   }
 
   /**
@@ -93,7 +262,18 @@ public class RequestContext
    */
   public void putLocalAttr(String key, Object value)
   {
-    _localAttrs.put(key, value);
+    put(key, value);
+  }
+
+  /**
+   * Set the value of a specific attribute in this object.
+   *
+   * @param key the key for the attribute to be set.
+   * @param value the value for the attribute to be set.
+   */
+  public <T> void putLocalAttr(Key<T> key, T value)
+  {
+    putValue(key, encode(value));
   }
 
   /**
@@ -104,33 +284,310 @@ public class RequestContext
    */
   public Object removeLocalAttr(String key)
   {
-    return _localAttrs.remove(key);
+    return remove(key);
+  }
+
+  /**
+   * Remove a specific attribute from this object.
+   *
+   * @param key the key for the attribute to be removed.
+   * @return the previous value of the attribute, or null if the attribute does not exist.
+   */
+  public <T> T removeLocalAttr(Key<T> key)
+  {
+    return key.getType().cast(decode(putValue(key, null)));
   }
 
   @Override
   public RequestContext clone()
   {
-    Map<String, Object> localAttrs = new HashMap<>();
-    localAttrs.putAll(this._localAttrs);
-    return new RequestContext(Collections.synchronizedMap(localAttrs));
+    return new RequestContext(this);
   }
 
   @Override
   public boolean equals(Object o)
   {
     return (o instanceof RequestContext) &&
-        ((RequestContext)o)._localAttrs.equals(this._localAttrs);
+        ((RequestContext)o).getLocalAttrs().equals(this.getLocalAttrs());
   }
 
   @Override
   public int hashCode()
   {
-    return _localAttrs.hashCode();
+    return getLocalAttrs().hashCode();
   }
 
   @Override
   public String toString()
   {
-    return _localAttrs.toString();
+    return getLocalAttrs().toString();
+  }
+
+  private Object put(String name, Object value)
+  {
+    if (name == null)
+    {
+      return decode(NULL_NAME_ATTR.getAndSet(this, encode(value)));
+    }
+    Key<?> registeredKey = Key.forName(name);
+    if (registeredKey != null)
+    {
+      return decode(putValue(registeredKey, encode(value)));
+    }
+    return decode(_otherAttrs.put(name, encode(value)));
+  }
+
+  private Object remove(String name)
+  {
+    if (name == null)
+    {
+      return decode(NULL_NAME_ATTR.getAndSet(this, null));
+    }
+    Key<?> registeredKey = Key.forName(name);
+    if (registeredKey != null)
+    {
+      return decode(putValue(registeredKey, null));
+    }
+    return decode(_otherAttrs.remove(name));
+  }
+
+  private Object getValue(int index)
+  {
+    AtomicReferenceArray<Object> values = _values;
+    return index < values.length() ? values.get(index) : null;
+  }
+
+  /**
+   * Sets the encoded value of the key, or removes it if the value is null, and returns the previous encoded value.
+   */
+  private Object putValue(Key<?> key, Object value)
+  {
+    int index = key.getIndex();
+    Object previous;
+    while (true)
+    {
+      AtomicReferenceArray<Object> values = _values;
+      if (index >= values.length())
+      {
+        if (value == null)
+        {
+          previous = null;
+          break;
+        }
+        values = grow(index);
+      }
+      previous = values.getAndSet(index, value);
+      // Retry if the values were copied while setting, or the value may be lost.
+      if (_values == values)
+      {
+        break;
+      }
+    }
+    if (!_otherAttrs.isEmpty())
+    {
+      Object other = _otherAttrs.remove(key.getName());
+      if (previous == null)
+      {
+        previous = other;
+      }
+    }
+    return previous;
+  }
+
+  /**
+   * Grows the values to hold keys registered after this context was created.
+   */
+  private synchronized AtomicReferenceArray<Object> grow(int index)
+  {
+    AtomicReferenceArray<Object> values = _values;
+    if (index < values.length())
+    {
+      return values;
+    }
+    AtomicReferenceArray<Object> grown = new AtomicReferenceArray<>(Math.max(index + 1, Key.count()));
+    for (int i = 0; i < values.length(); i++)
+    {
+      grown.set(i, values.get(i));
+    }
+    _values = grown;
+    return grown;
+  }
+
+  private static Object encode(Object value)
+  {
+    return value == null ? NULL_VALUE : value;
+  }
+
+  private static Object decode(Object value)
+  {
+    return value == NULL_VALUE ? null : value;
+  }
+
+  /**
+   * Map view of the attributes, with the attributes of registered keys first.
+   */
+  private class LocalAttrs extends AbstractMap<String, Object>
+  {
+    @Override
+    public Object get(Object key)
+    {
+      return key == null || key instanceof String ? getLocalAttr((String) key) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+      if (key == null)
+      {
+        return _nullNameAttr != null;
+      }
+      if (!(key instanceof String))
+      {
+        return false;
+      }
+      Key<?> registeredKey = Key.forName((String) key);
+      return (registeredKey != null && getValue(registeredKey.getIndex()) != null) || _otherAttrs.containsKey(key);
+    }
+
+    @Override
+    public int size()
+    {
+      int size = _nullNameAttr == null ? _otherAttrs.size() : _otherAttrs.size() + 1;
+      AtomicReferenceArray<Object> values = _values;
+      for (int i = 0; i < values.length(); i++)
+      {
+        if (values.get(i) != null)
+        {
+          size++;
+        }
+      }
+      return size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+      if (!_otherAttrs.isEmpty() || _nullNameAttr != null)
+      {
+        return false;
+      }
+      AtomicReferenceArray<Object> values = _values;
+      for (int i = 0; i < values.length(); i++)
+      {
+        if (values.get(i) != null)
+        {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public Object put(String key, Object value)
+    {
+      return RequestContext.this.put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key)
+    {
+      return key == null || key instanceof String ? RequestContext.this.remove((String) key) : null;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet()
+    {
+      return new AbstractSet<Entry<String, Object>>()
+      {
+        @Override
+        public Iterator<Entry<String, Object>> iterator()
+        {
+          return new LocalAttrsIterator(snapshot().iterator());
+        }
+
+        @Override
+        public int size()
+        {
+          return LocalAttrs.this.size();
+        }
+      };
+    }
+
+    private List<Entry<String, Object>> snapshot()
+    {
+      List<Entry<String, Object>> entries = new ArrayList<>();
+      AtomicReferenceArray<Object> values = _values;
+      for (int i = 0; i < values.length(); i++)
+      {
+        Object value = values.get(i);
+        if (value != null)
+        {
+          entries.add(new LocalAttrEntry(Key.forIndex(i).getName(), decode(value)));
+        }
+      }
+      for (Entry<String, Object> entry : _otherAttrs.entrySet())
+      {
+        entries.add(new LocalAttrEntry(entry.getKey(), decode(entry.getValue())));
+      }
+      Object nullNameValue = _nullNameAttr;
+      if (nullNameValue != null)
+      {
+        entries.add(new LocalAttrEntry(null, decode(nullNameValue)));
+      }
+      return entries;
+    }
+  }
+
+  /**
+   * Entry of a snapshot of the attributes, which writes through to the attributes.
+   */
+  private class LocalAttrEntry extends AbstractMap.SimpleEntry<String, Object>
+  {
+    private LocalAttrEntry(String name, Object value)
+    {
+      super(name, value);
+    }
+
+    @Override
+    public Object setValue(Object value)
+    {
+      super.setValue(value);
+      return RequestContext.this.put(getKey(), value);
+    }
+  }
+
+  private class LocalAttrsIterator implements Iterator<Map.Entry<String, Object>>
+  {
+    private final Iterator<Map.Entry<String, Object>> _entries;
+    private Map.Entry<String, Object> _last;
+
+    private LocalAttrsIterator(Iterator<Map.Entry<String, Object>> entries)
+    {
+      _entries = entries;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+      return _entries.hasNext();
+    }
+
+    @Override
+    public Map.Entry<String, Object> next()
+    {
+      _last = _entries.next();
+      return _last;
+    }
+
+    @Override
+    public void remove()
+    {
+      if (_last == null)
+      {
+        throw new IllegalStateException();
+      }
+      RequestContext.this.remove(_last.getKey());
+      _last = null;
+    }
   }
 }
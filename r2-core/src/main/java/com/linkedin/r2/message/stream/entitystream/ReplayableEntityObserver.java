@@ -0,0 +1,229 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.message.stream.entitystream;
+
+import com.linkedin.data.ByteString;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Observes an {@link EntityStream} and retains the chunks read from it, so that the entity can be replayed into
+ * other entity streams through {@link #newReplayWriter()}.
+ *
+ * <p>Replay writers do not wait for the observed stream to finish. They write the chunks retained so far and then
+ * follow the observed stream, writing each new chunk as soon as the reader of the observed stream has read it.
+ * The chunks are shared, not copied. At most {@code maxBufferedBytes} are retained; once the entity grows beyond
+ * that, the retained chunks are released, replay writers in progress fail and no new replays can be started.</p>
+ *
+ * <p>This class is thread safe.</p>
+ */
+public class ReplayableEntityObserver implements Observer
+{
+  private final int _maxBufferedBytes;
+  private final List<ByteString> _chunks = new ArrayList<>();
+  private final List<ReplayWriter> _writers = new ArrayList<>();
+  private int _bufferedBytes;
+  private boolean _done;
+  private Throwable _error;
+  private boolean _overflowed;
+
+  /**
+   * @param maxBufferedBytes the maximum number of bytes of the entity to retain for replay
+   */
+  public ReplayableEntityObserver(int maxBufferedBytes)
+  {
+    if (maxBufferedBytes < 0)
+    {
+      throw new IllegalArgumentException("maxBufferedBytes must not be negative, got: " + maxBufferedBytes);
+    }
+    _maxBufferedBytes = maxBufferedBytes;
+  }
+
+  @Override
+  public void onDataAvailable(ByteString data)
+  {
+    synchronized (this)
+    {
+      if (_overflowed)
+      {
+        return;
+      }
+      if (data.length() > _maxBufferedBytes - _bufferedBytes)
+      {
+        _overflowed = true;
+        _chunks.clear();
+        _bufferedBytes = 0;
+      }
+      else
+      {
+        _chunks.add(data);
+        _bufferedBytes += data.length();
+      }
+    }
+    pumpWriters();
+  }
+
+  @Override
+  public void onDone()
+  {
+    synchronized (this)
+    {
+      _done = true;
+    }
+    pumpWriters();
+  }
+
+  @Override
+  public void onError(Throwable e)
+  {
+    synchronized (this)
+    {
+      _error = e;
+    }
+    pumpWriters();
+  }
+
+  /**
+   * @return whether the entity can still be replayed, i.e. it has not exceeded the buffer limit and the observed
+   *         stream has not failed.
+   */
+  public synchronized boolean isReplayable()
+  {
+    return !_overflowed && _error == null;
+  }
+
+  /**
+   * Creates a writer that replays the observed entity into a new {@link EntityStream}.
+   *
+   * @return the writer, or {@code null} if the entity is no longer replayable.
+   */
+  public synchronized Writer newReplayWriter()
+  {
+    if (!isReplayable())
+    {
+      return null;
+    }
+    ReplayWriter writer = new ReplayWriter();
+    if (!_done)
+    {
+      _writers.add(writer);
+    }
+    return writer;
+  }
+
+  private void pumpWriters()
+  {
+    List<ReplayWriter> writers;
+    synchronized (this)
+    {
+      if (_writers.isEmpty())
+      {
+        return;
+      }
+      writers = new ArrayList<>(_writers);
+      if (_done || _error != null || _overflowed)
+      {
+        _writers.clear();
+      }
+    }
+    // Writers are invoked without holding the observer lock, which would otherwise be held while the readers of
+    // the replayed streams process the data.
+    for (ReplayWriter writer : writers)
+    {
+      writer.pump();
+    }
+  }
+
+  private synchronized void removeWriter(ReplayWriter writer)
+  {
+    _writers.remove(writer);
+  }
+
+  private class ReplayWriter implements Writer
+  {
+    private WriteHandle _wh;
+    private int _next;
+    private boolean _finished;
+
+    @Override
+    public synchronized void onInit(WriteHandle wh)
+    {
+      _wh = wh;
+    }
+
+    @Override
+    public void onWritePossible()
+    {
+      pump();
+    }
+
+    @Override
+    public synchronized void onAbort(Throwable e)
+    {
+      _finished = true;
+      removeWriter(this);
+    }
+
+    private synchronized void pump()
+    {
+      while (_wh != null && !_finished && _wh.remaining() > 0)
+      {
+        ByteString chunk = null;
+        Throwable error = null;
+        synchronized (ReplayableEntityObserver.this)
+        {
+          if (_overflowed)
+          {
+            error = new IllegalStateException(
+                "Entity exceeded " + _maxBufferedBytes + " bytes and can no longer be replayed");
+          }
+          else if (_next < _chunks.size())
+          {
+            chunk = _chunks.get(_next++);
+          }
+          else if (_error != null)
+          {
+            error = _error;
+          }
+          else if (!_done)
+          {
+            // Wait for the observed stream to produce more data.
+            return;
+          }
+        }
+
+        if (chunk != null)
+        {
+          _wh.write(chunk);
+        }
+        else
+        {
+          _finished = true;
+          if (error != null)
+          {
+            _wh.error(error);
+          }
+          else
+          {
+            _wh.done();
+          }
+        }
+      }
+    }
+  }
+}
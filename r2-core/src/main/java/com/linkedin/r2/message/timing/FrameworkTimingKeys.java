@@ -61,6 +61,10 @@ public enum FrameworkTimingKeys
   SERVER_REQUEST_RESTLI_URI_PARSE_2("server/request/restli/uri_parse_2", TimingImportance.LOW),
   CLIENT_REQUEST_RESTLI_URI_ENCODE("client/request/restli/uri_encode", TimingImportance.LOW),
 
+  // Routing metrics
+  SERVER_REQUEST_RESTLI_ROUTING("server/request/restli/routing", TimingImportance.LOW),
+  CLIENT_REQUEST_D2_SELECTION("client/request/d2_selection", TimingImportance.MEDIUM),
+
   // Projection operation metrics
   SERVER_REQUEST_RESTLI_PROJECTION_DECODE("server/request/restli/projection_decode", TimingImportance.LOW),
   SERVER_RESPONSE_RESTLI_PROJECTION_APPLY("server/request/restli/projection_apply", TimingImportance.LOW),
@@ -74,7 +78,7 @@ public enum FrameworkTimingKeys
 
   FrameworkTimingKeys(String name, TimingImportance timingImportance)
   {
-    _timingKey = TimingKey.registerNewKey(KEY_PREFIX + name, timingImportance);
+    _timingKey = TimingKey.registerNewSlottedKey(KEY_PREFIX + name, timingImportance);
   }
 
   public TimingKey key()
@@ -0,0 +1,218 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.message.timing;
+
+import com.linkedin.r2.message.timing.TimingContextUtil.TimingContext;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+/**
+ * The timing records of a single request, as returned by {@link TimingContextUtil#getTimingsMap}.
+ *
+ * Records of {@link FrameworkTimingKeys} are kept in an array indexed by the key's slot, so that the framework code
+ * paths record their timings without hashing or allocating map entries. Records of other keys are kept in a
+ * concurrent map that is only created once such a key is recorded. Like the {@link ConcurrentHashMap} it replaces,
+ * this map is safe for concurrent use, does not allow null keys or values, and its iterators never throw
+ * {@link java.util.ConcurrentModificationException}.
+ */
+public final class RequestTimings extends AbstractMap<TimingKey, TimingContext>
+{
+  private static final TimingKey[] SLOTTED_KEYS = new TimingKey[FrameworkTimingKeys.values().length];
+  private static final int SLOT_COUNT = SLOTTED_KEYS.length;
+
+  static
+  {
+    for (FrameworkTimingKeys frameworkTimingKey : FrameworkTimingKeys.values())
+    {
+      SLOTTED_KEYS[frameworkTimingKey.key().getSlot()] = frameworkTimingKey.key();
+    }
+  }
+
+  private final AtomicReferenceArray<TimingContext> _slots = new AtomicReferenceArray<>(SLOT_COUNT);
+  private volatile ConcurrentHashMap<TimingKey, TimingContext> _otherTimings;
+
+  @Override
+  public TimingContext get(Object key)
+  {
+    if (!(key instanceof TimingKey))
+    {
+      return null;
+    }
+    TimingKey timingKey = (TimingKey) key;
+    int slot = timingKey.getSlot();
+    if (slot >= 0 && slot < SLOT_COUNT)
+    {
+      return _slots.get(slot);
+    }
+    Map<TimingKey, TimingContext> otherTimings = _otherTimings;
+    return otherTimings == null ? null : otherTimings.get(timingKey);
+  }
+
+  @Override
+  public boolean containsKey(Object key)
+  {
+    return get(key) != null;
+  }
+
+  @Override
+  public TimingContext put(TimingKey key, TimingContext value)
+  {
+    if (key == null || value == null)
+    {
+      throw new NullPointerException();
+    }
+    int slot = key.getSlot();
+    if (slot >= 0 && slot < SLOT_COUNT)
+    {
+      return _slots.getAndSet(slot, value);
+    }
+    return getOrCreateOtherTimings().put(key, value);
+  }
+
+  @Override
+  public TimingContext remove(Object key)
+  {
+    if (!(key instanceof TimingKey))
+    {
+      return null;
+    }
+    TimingKey timingKey = (TimingKey) key;
+    int slot = timingKey.getSlot();
+    if (slot >= 0 && slot < SLOT_COUNT)
+    {
+      return _slots.getAndSet(slot, null);
+    }
+    Map<TimingKey, TimingContext> otherTimings = _otherTimings;
+    return otherTimings == null ? null : otherTimings.remove(timingKey);
+  }
+
+  @Override
+  public void clear()
+  {
+    for (int i = 0; i < SLOT_COUNT; i++)
+    {
+      _slots.set(i, null);
+    }
+    Map<TimingKey, TimingContext> otherTimings = _otherTimings;
+    if (otherTimings != null)
+    {
+      otherTimings.clear();
+    }
+  }
+
+  @Override
+  public Set<Entry<TimingKey, TimingContext>> entrySet()
+  {
+    return new AbstractSet<Entry<TimingKey, TimingContext>>()
+    {
+      @Override
+      public Iterator<Entry<TimingKey, TimingContext>> iterator()
+      {
+        return new TimingsIterator(snapshot().iterator());
+      }
+
+      @Override
+      public int size()
+      {
+        return snapshot().size();
+      }
+    };
+  }
+
+  private ConcurrentHashMap<TimingKey, TimingContext> getOrCreateOtherTimings()
+  {
+    ConcurrentHashMap<TimingKey, TimingContext> otherTimings = _otherTimings;
+    if (otherTimings == null)
+    {
+      synchronized (this)
+      {
+        otherTimings = _otherTimings;
+        if (otherTimings == null)
+        {
+          otherTimings = new ConcurrentHashMap<>();
+          _otherTimings = otherTimings;
+        }
+      }
+    }
+    return otherTimings;
+  }
+
+  private List<Entry<TimingKey, TimingContext>> snapshot()
+  {
+    List<Entry<TimingKey, TimingContext>> entries = new ArrayList<>();
+    for (int i = 0; i < SLOT_COUNT; i++)
+    {
+      TimingContext timingContext = _slots.get(i);
+      if (timingContext != null)
+      {
+        entries.add(new SimpleImmutableEntry<>(SLOTTED_KEYS[i], timingContext));
+      }
+    }
+    Map<TimingKey, TimingContext> otherTimings = _otherTimings;
+    if (otherTimings != null)
+    {
+      for (Entry<TimingKey, TimingContext> entry : otherTimings.entrySet())
+      {
+        entries.add(new SimpleImmutableEntry<>(entry.getKey(), entry.getValue()));
+      }
+    }
+    return entries;
+  }
+
+  private class TimingsIterator implements Iterator<Entry<TimingKey, TimingContext>>
+  {
+    private final Iterator<Entry<TimingKey, TimingContext>> _entries;
+    private Entry<TimingKey, TimingContext> _last;
+
+    private TimingsIterator(Iterator<Entry<TimingKey, TimingContext>> entries)
+    {
+      _entries = entries;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+      return _entries.hasNext();
+    }
+
+    @Override
+    public Entry<TimingKey, TimingContext> next()
+    {
+      _last = _entries.next();
+      return _last;
+    }
+
+    @Override
+    public void remove()
+    {
+      if (_last == null)
+      {
+        throw new IllegalStateException();
+      }
+      RequestTimings.this.remove(_last.getKey());
+      _last = null;
+    }
+  }
+}
@@ -18,7 +18,6 @@ package com.linkedin.r2.message.timing;
 
 import com.linkedin.r2.message.RequestContext;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,19 +39,52 @@ public class TimingContextUtil
   // Used to temporarily disable latency instrumentation for scatter-gather requests
   public static final String TIMINGS_DISABLED_KEY_NAME = "timingsDisabled";
 
+  @SuppressWarnings("unchecked")
+  static final RequestContext.Key<Map<TimingKey, TimingContext>> TIMINGS_KEY =
+      (RequestContext.Key<Map<TimingKey, TimingContext>>) (RequestContext.Key<?>) RequestContext.Key.register(
+          TIMINGS_KEY_NAME, Map.class);
+  private static final RequestContext.Key<TimingImportance> TIMING_IMPORTANCE_THRESHOLD_KEY =
+      RequestContext.Key.register(TIMING_IMPORTANCE_THRESHOLD_KEY_NAME, TimingImportance.class);
+  // Callers set this attribute by name, so its value is not necessarily a Boolean.
+  private static final RequestContext.Key<Object> TIMINGS_DISABLED_KEY =
+      RequestContext.Key.register(TIMINGS_DISABLED_KEY_NAME, Object.class);
+
+  // Process-wide settings, checked before any request context lookup so that filtered timings cost a volatile read.
+  private static volatile boolean _timingsGloballyDisabled = false;
+  private static volatile TimingImportance _globalTimingImportanceThreshold = null;
+
+  /**
+   * Disables or re-enables latency instrumentation for all requests in this process.
+   * @param disabled true to disable timings for all requests
+   */
+  public static void setTimingsGloballyDisabled(boolean disabled)
+  {
+    _timingsGloballyDisabled = disabled;
+  }
+
+  /**
+   * Sets a {@link TimingImportance} threshold that applies to all requests in this process, in addition to any
+   * threshold set in the {@link RequestContext} of a request. Timings of keys below the threshold are neither
+   * recorded nor allocated.
+   * @param timingImportanceThreshold the threshold, or null to record timings of all importances
+   */
+  public static void setGlobalTimingImportanceThreshold(TimingImportance timingImportanceThreshold)
+  {
+    _globalTimingImportanceThreshold = timingImportanceThreshold;
+  }
+
   /**
    * Looks for all timing records in the RequestContext, initiate one if not present.
    * @param context RequestContext for the request
    * @return URI for target service hint, or null if no hint is present in the RequestContext
    */
-  @SuppressWarnings("unchecked")
   public static Map<TimingKey, TimingContext> getTimingsMap(RequestContext context)
   {
-    Map<TimingKey, TimingContext> timings = (Map<TimingKey, TimingContext>)context.getLocalAttr(TIMINGS_KEY_NAME);
+    Map<TimingKey, TimingContext> timings = context.getLocalAttr(TIMINGS_KEY);
     if (timings == null)
     {
-      timings = new ConcurrentHashMap<>();
-      context.putLocalAttr(TIMINGS_KEY_NAME, timings);
+      timings = new RequestTimings();
+      context.putLocalAttr(TIMINGS_KEY, timings);
     }
 
     return timings;
@@ -70,21 +102,21 @@ public class TimingContextUtil
    */
   public static void markTiming(RequestContext requestContext, TimingKey timingKey)
   {
-    if (areTimingsDisabled(requestContext))
+    if (areTimingsDisabled(requestContext, timingKey))
     {
       return;
     }
 
-    Map<TimingKey, TimingContext> timings = getTimingsMap(requestContext);
-    if (timings.containsKey(timingKey))
+    TimingContext timingContext = getExistingTiming(requestContext, timingKey);
+    if (timingContext != null)
     {
-      timings.get(timingKey).complete();
+      timingContext.complete();
     }
     else
     {
       if (checkTimingImportanceThreshold(requestContext, timingKey))
       {
-        timings.put(timingKey, new TimingContext(timingKey));
+        getTimingsMap(requestContext).put(timingKey, new TimingContext(timingKey));
       }
     }
   }
@@ -99,13 +131,12 @@ public class TimingContextUtil
    */
   public static void markTiming(RequestContext requestContext, TimingKey timingKey, long durationNano)
   {
-    if (areTimingsDisabled(requestContext))
+    if (areTimingsDisabled(requestContext, timingKey))
     {
       return;
     }
 
-    Map<TimingKey, TimingContext> timings = getTimingsMap(requestContext);
-    if (timings.containsKey(timingKey))
+    if (getExistingTiming(requestContext, timingKey) != null)
     {
       logWarning("Could not mark timing for a key that already exists: " + timingKey);
     }
@@ -113,7 +144,7 @@ public class TimingContextUtil
     {
       if (checkTimingImportanceThreshold(requestContext, timingKey))
       {
-        timings.put(timingKey, new TimingContext(timingKey, durationNano));
+        getTimingsMap(requestContext).put(timingKey, new TimingContext(timingKey, durationNano));
       }
     }
   }
@@ -126,7 +157,7 @@ public class TimingContextUtil
    */
   public static void beginTiming(RequestContext requestContext, TimingKey timingKey)
   {
-    if (areTimingsDisabled(requestContext))
+    if (areTimingsDisabled(requestContext, timingKey))
     {
       return;
     }
@@ -153,15 +184,15 @@ public class TimingContextUtil
    */
   public static void endTiming(RequestContext requestContext, TimingKey timingKey)
   {
-    if (areTimingsDisabled(requestContext))
+    if (areTimingsDisabled(requestContext, timingKey))
     {
       return;
     }
 
-    Map<TimingKey, TimingContext> timings = getTimingsMap(requestContext);
-    if (timings.containsKey(timingKey))
+    TimingContext timingContext = getExistingTiming(requestContext, timingKey);
+    if (timingContext != null)
     {
-      timings.get(timingKey).complete();
+      timingContext.complete();
     }
     else if (checkTimingImportanceThreshold(requestContext, timingKey))
     {
@@ -179,22 +210,42 @@ public class TimingContextUtil
    */
   static boolean checkTimingImportanceThreshold(RequestContext requestContext, TimingKey timingKey)
   {
-    TimingImportance timingImportanceThreshold = (TimingImportance) requestContext.getLocalAttr(
-        TIMING_IMPORTANCE_THRESHOLD_KEY_NAME);
+    TimingImportance timingImportanceThreshold = requestContext.getLocalAttr(TIMING_IMPORTANCE_THRESHOLD_KEY);
     return timingImportanceThreshold == null || timingKey.getTimingImportance().isAtLeast(timingImportanceThreshold);
   }
 
   /**
-   * Determines whether latency instrumentation is disabled altogether for some {@link RequestContext}.
+   * Determines whether latency instrumentation is disabled for the given key, either process-wide or for some
+   * {@link RequestContext}. The process-wide settings are checked first, so that no request context lookup is made
+   * when they exclude the key.
    * @param requestContext request context that may contain a setting to disable timings
-   * @return true if timings are disabled for this request
+   * @param timingKey timing key being recorded
+   * @return true if timings of this key are disabled for this request
    */
-  private static boolean areTimingsDisabled(RequestContext requestContext)
+  private static boolean areTimingsDisabled(RequestContext requestContext, TimingKey timingKey)
   {
-    final Object timingsDisabled = requestContext.getLocalAttr(TIMINGS_DISABLED_KEY_NAME);
+    if (_timingsGloballyDisabled)
+    {
+      return true;
+    }
+    TimingImportance globalThreshold = _globalTimingImportanceThreshold;
+    if (globalThreshold != null && !timingKey.getTimingImportance().isAtLeast(globalThreshold))
+    {
+      return true;
+    }
+    final Object timingsDisabled = requestContext.getLocalAttr(TIMINGS_DISABLED_KEY);
     return timingsDisabled instanceof Boolean && (boolean) timingsDisabled;
   }
 
+  /**
+   * Returns the timing record of the given key without creating the timings map of the request.
+   */
+  private static TimingContext getExistingTiming(RequestContext requestContext, TimingKey timingKey)
+  {
+    Map<TimingKey, TimingContext> timings = requestContext.getLocalAttr(TIMINGS_KEY);
+    return timings == null ? null : timings.get(timingKey);
+  }
+
   /**
    * Logs a warning. If debug logging in enabled then it also logs the current stacktrace. This is done because
    * we expect to encounter issues with this functionality and we want to have more info when it happens.
@@ -0,0 +1,164 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.message.timing;
+
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.timing.TimingContextUtil.TimingContext;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.ConcurrentHistogram;
+
+
+/**
+ * Aggregates the completed timings of requests into HdrHistograms, one per group and {@link TimingKey} name. Groups
+ * are chosen by the caller, e.g. the Rest.li server groups timings by resource and method. Durations are recorded
+ * in microseconds with two significant digits, and the histograms resize to fit the largest duration recorded.
+ *
+ * Recording is safe for concurrent use and does not lock. Register an instance with an MBeanServer to read the
+ * histograms over JMX.
+ */
+public class TimingHistograms implements TimingHistogramsMBean
+{
+  private static final int SIGNIFICANT_VALUE_DIGITS = 2;
+
+  private final ConcurrentHashMap<String, ConcurrentHashMap<String, ConcurrentHistogram>> _histograms =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Records the completed timings of the given request under the given group. Timings that have not completed are
+   * ignored.
+   * @param group group to record the timings under
+   * @param requestContext request context holding the timings
+   */
+  public void record(String group, RequestContext requestContext)
+  {
+    Map<TimingKey, TimingContext> timings = requestContext.getLocalAttr(TimingContextUtil.TIMINGS_KEY);
+    if (timings != null)
+    {
+      record(group, timings);
+    }
+  }
+
+  /**
+   * Records the given completed timings under the given group. Timings that have not completed are ignored.
+   * @param group group to record the timings under
+   * @param timings timings of a request
+   */
+  public void record(String group, Map<TimingKey, TimingContext> timings)
+  {
+    if (timings.isEmpty())
+    {
+      return;
+    }
+    ConcurrentHashMap<String, ConcurrentHistogram> groupHistograms =
+        _histograms.computeIfAbsent(group, g -> new ConcurrentHashMap<>());
+    for (TimingContext timingContext : timings.values())
+    {
+      if (timingContext.isComplete())
+      {
+        long durationMicros = TimeUnit.NANOSECONDS.toMicros(Math.max(timingContext.getDurationNano(), 0L));
+        groupHistograms.computeIfAbsent(timingContext.getName().getName(),
+            name -> new ConcurrentHistogram(SIGNIFICANT_VALUE_DIGITS)).recordValue(durationMicros);
+      }
+    }
+  }
+
+  @Override
+  public List<String> getGroups()
+  {
+    List<String> groups = new ArrayList<>(_histograms.keySet());
+    Collections.sort(groups);
+    return groups;
+  }
+
+  @Override
+  public List<String> getTimingNames(String group)
+  {
+    Map<String, ConcurrentHistogram> groupHistograms = _histograms.get(group);
+    if (groupHistograms == null)
+    {
+      return Collections.emptyList();
+    }
+    List<String> timingNames = new ArrayList<>(groupHistograms.keySet());
+    Collections.sort(timingNames);
+    return timingNames;
+  }
+
+  @Override
+  public long getCount(String group, String timingName)
+  {
+    ConcurrentHistogram histogram = getHistogram(group, timingName);
+    return histogram == null ? 0L : histogram.getTotalCount();
+  }
+
+  @Override
+  public double getPercentileMs(String group, String timingName, double percentile)
+  {
+    ConcurrentHistogram histogram = getHistogram(group, timingName);
+    if (histogram == null || histogram.getTotalCount() == 0)
+    {
+      return -1;
+    }
+    return toMs(histogram.getValueAtPercentile(percentile));
+  }
+
+  @Override
+  public String getSummary()
+  {
+    StringBuilder summary = new StringBuilder();
+    for (String group : getGroups())
+    {
+      for (String timingName : getTimingNames(group))
+      {
+        ConcurrentHistogram histogram = getHistogram(group, timingName);
+        if (histogram == null || histogram.getTotalCount() == 0)
+        {
+          continue;
+        }
+        summary.append(group).append(' ').append(timingName)
+            .append(": count=").append(histogram.getTotalCount())
+            .append(", p50=").append(toMs(histogram.getValueAtPercentile(50)))
+            .append(", p90=").append(toMs(histogram.getValueAtPercentile(90)))
+            .append(", p99=").append(toMs(histogram.getValueAtPercentile(99)))
+            .append(", max=").append(toMs(histogram.getMaxValue()))
+            .append('\n');
+      }
+    }
+    return summary.toString();
+  }
+
+  @Override
+  public void reset()
+  {
+    _histograms.clear();
+  }
+
+  private ConcurrentHistogram getHistogram(String group, String timingName)
+  {
+    Map<String, ConcurrentHistogram> groupHistograms = _histograms.get(group);
+    return groupHistograms == null ? null : groupHistograms.get(timingName);
+  }
+
+  private static double toMs(long micros)
+  {
+    return micros / 1000.0;
+  }
+}
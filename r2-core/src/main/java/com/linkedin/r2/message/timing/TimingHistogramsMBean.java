@@ -0,0 +1,57 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.message.timing;
+
+import java.util.List;
+
+
+/**
+ * JMX view of {@link TimingHistograms}. Timings are identified by the group they were recorded under, typically a
+ * resource and method, and the name of their {@link TimingKey}.
+ */
+public interface TimingHistogramsMBean
+{
+  /**
+   * @return the groups that have recorded timings.
+   */
+  List<String> getGroups();
+
+  /**
+   * @return the names of the timing keys recorded under the given group.
+   */
+  List<String> getTimingNames(String group);
+
+  /**
+   * @return the number of timings recorded for the given group and timing key name.
+   */
+  long getCount(String group, String timingName);
+
+  /**
+   * @return the duration in milliseconds at the given percentile, or -1 if nothing has been recorded.
+   */
+  double getPercentileMs(String group, String timingName, double percentile);
+
+  /**
+   * @return one line per group and timing key with the count and the p50, p90, p99 and max durations in milliseconds.
+   */
+  String getSummary();
+
+  /**
+   * Discards all recorded timings.
+   */
+  void reset();
+}
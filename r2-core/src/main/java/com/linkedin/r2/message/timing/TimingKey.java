@@ -42,21 +42,30 @@ public class TimingKey
   private static final ExecutorService _unregisterExecutor = Executors
       .newFixedThreadPool(1, TimingKey::createDaemonThread);
   private final static AtomicInteger UNIQUE_KEY_COUNTER = new AtomicInteger();
+  private final static AtomicInteger SLOT_COUNTER = new AtomicInteger();
 
   private final String _name;
   private final String _type;
   private final TimingImportance _timingImportance;
+  private final int _slot;
 
   /**
    * @param name Name of the key
    * @param type String that defines the type of the key
    * @param timingImportance {@link TimingImportance} of the key
+   * @param slot index of the key in {@link RequestTimings}, or -1 if the key has no dedicated slot
    */
-  private TimingKey(String name, String type, TimingImportance timingImportance)
+  private TimingKey(String name, String type, TimingImportance timingImportance, int slot)
   {
     _name = name;
     _type = type;
     _timingImportance = timingImportance;
+    _slot = slot;
+  }
+
+  private TimingKey(String name, String type, TimingImportance timingImportance)
+  {
+    this(name, type, timingImportance, -1);
   }
 
   public String getName()
@@ -80,6 +89,14 @@ public class TimingKey
     return _timingImportance;
   }
 
+  /**
+   * @return index of this key in {@link RequestTimings}, or -1 if timings for this key are stored by hash lookup.
+   */
+  int getSlot()
+  {
+    return _slot;
+  }
+
   private static TimingKey registerNewKey(TimingKey timingKey)
   {
     if (_pool.putIfAbsent(timingKey.getName(), timingKey) != null)
@@ -141,6 +158,16 @@ public class TimingKey
     return registerNewKey(new TimingKey(uniqueName, type, timingImportance));
   }
 
+  /**
+   * Register a key with a dedicated slot in {@link RequestTimings}. Slots are never reclaimed, so this is reserved
+   * for the fixed set of {@link FrameworkTimingKeys}.
+   */
+  static TimingKey registerNewSlottedKey(String uniqueNameAndType, TimingImportance timingImportance)
+  {
+    return registerNewKey(
+        new TimingKey(uniqueNameAndType, uniqueNameAndType, timingImportance, SLOT_COUNTER.getAndIncrement()));
+  }
+
   /**
    * Unregister a TimingKey to reclaim the memory
    *
@@ -19,16 +19,20 @@ package com.linkedin.r2.transport.http.client;
 import com.linkedin.common.stats.LongStats;
 import com.linkedin.common.stats.LongTracker;
 import com.linkedin.common.stats.LongTracking;
+import com.linkedin.common.stats.NoopLongTracker;
 import com.linkedin.util.clock.Clock;
 import com.linkedin.util.clock.SystemClock;
 import com.linkedin.util.clock.Time;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
 
 /**
  * Tracks statistics from a {@link com.linkedin.r2.transport.http.client.AsyncPool} and produces
- * a {@link com.linkedin.r2.transport.http.client.AsyncPoolStats} upon request. The implementation
- * itself is not thread safe. Use external synchronization if needed.
+ * a {@link com.linkedin.r2.transport.http.client.AsyncPoolStats} upon request. The counters and
+ * maxima are updated without locking so that the tracker can be shared by pools that do not
+ * serialize their operations, such as {@link ConcurrentAsyncPoolImpl}.
  *
  * @author Sean Sheng
  * @version $Revision: $
@@ -46,25 +50,26 @@ public class AsyncPoolStatsTracker
   /**
    * These are total counts over the entire lifetime of the pool
    */
-  private int _totalCreated = 0;
-  private int _totalDestroyed = 0;
-  private int _totalCreateErrors = 0;
-  private int _totalDestroyErrors = 0;
-  private int _totalBadDestroyed = 0;
-  private int _totalTimedOut = 0;
-  private int _totalWaiterTimedOut = 0;
-  private int _totalCreationIgnored = 0;
+  private final AtomicInteger _totalCreated = new AtomicInteger();
+  private final AtomicInteger _totalDestroyed = new AtomicInteger();
+  private final AtomicInteger _totalCreateErrors = new AtomicInteger();
+  private final AtomicInteger _totalDestroyErrors = new AtomicInteger();
+  private final AtomicInteger _totalBadDestroyed = new AtomicInteger();
+  private final AtomicInteger _totalTimedOut = new AtomicInteger();
+  private final AtomicInteger _totalWaiterTimedOut = new AtomicInteger();
+  private final AtomicInteger _totalCreationIgnored = new AtomicInteger();
 
 
   /**
-   * These counters are sampled and reset based on sampling rules
+   * These counters are sampled and reset based on sampling rules. The sampled values are only
+   * accessed while holding the monitor of this tracker.
    */
   private int _sampleMaxCheckedOut = 0;
   private int _sampleMaxPoolSize = 0;
   private long _sampleMaxWaitTime = 0;
-  private int _currentMaxCheckedOut = 0;
-  private int _currentMaxPoolSize = 0;
-  private long _currentMaxWaitTime = 0;
+  private final AtomicInteger _currentMaxCheckedOut = new AtomicInteger();
+  private final AtomicInteger _currentMaxPoolSize = new AtomicInteger();
+  private final AtomicLong _currentMaxWaitTime = new AtomicLong();
 
   private final Supplier<PoolStats.LifecycleStats> _lifecycleStatsSupplier;
   private final Supplier<Integer> _maxSizeSupplier;
@@ -73,6 +78,8 @@ public class AsyncPoolStatsTracker
   private final Supplier<Integer> _checkedOutSupplier;
   private final Supplier<Integer> _idleSizeSupplier;
   private final LongTracker _waitTimeTracker;
+  // LongTracker implementations are not thread safe
+  private final Object _waitTimeLock = new Object();
 
   private final Clock _clock;
   private long _lastSamplingTime = 0L;
@@ -118,90 +125,98 @@ public class AsyncPoolStatsTracker
 
   public void incrementCreated()
   {
-    _totalCreated++;
+    _totalCreated.incrementAndGet();
   }
 
   public void incrementIgnoredCreation()
   {
-    _totalCreationIgnored++;
+    _totalCreationIgnored.incrementAndGet();
   }
 
   public void incrementDestroyed()
   {
-    _totalDestroyed++;
+    _totalDestroyed.incrementAndGet();
   }
 
   public void incrementCreateErrors()
   {
-    _totalCreateErrors++;
+    _totalCreateErrors.incrementAndGet();
   }
 
   public void incrementDestroyErrors()
   {
-    _totalDestroyErrors++;
+    _totalDestroyErrors.incrementAndGet();
   }
 
   public void incrementBadDestroyed()
   {
-    _totalBadDestroyed++;
+    _totalBadDestroyed.incrementAndGet();
   }
 
   public void incrementTimedOut()
   {
-    _totalTimedOut++;
+    _totalTimedOut.incrementAndGet();
   }
 
   public void incrementWaiterTimedOut()
   {
-    _totalWaiterTimedOut++;
+    _totalWaiterTimedOut.incrementAndGet();
   }
 
   public void sampleMaxPoolSize()
   {
-    _currentMaxPoolSize = Math.max(_poolSizeSupplier.get(), _currentMaxPoolSize);
+    _currentMaxPoolSize.accumulateAndGet(_poolSizeSupplier.get(), Math::max);
   }
 
   public void sampleMaxCheckedOut()
   {
-    _currentMaxCheckedOut = Math.max(_checkedOutSupplier.get(), _currentMaxCheckedOut);
+    _currentMaxCheckedOut.accumulateAndGet(_checkedOutSupplier.get(), Math::max);
   }
 
   public void sampleMaxWaitTime(long waitTimeMillis)
   {
-    _currentMaxWaitTime = Math.max(waitTimeMillis, _currentMaxWaitTime);
+    _currentMaxWaitTime.accumulateAndGet(waitTimeMillis, Math::max);
   }
 
   public void trackWaitTime(long waitTimeMillis)
   {
-    _waitTimeTracker.addValue(waitTimeMillis);
+    if (_waitTimeTracker == NoopLongTracker.instance())
+    {
+      return;
+    }
+    synchronized (_waitTimeLock)
+    {
+      _waitTimeTracker.addValue(waitTimeMillis);
+    }
   }
 
-  public AsyncPoolStats getStats()
+  public synchronized AsyncPoolStats getStats()
   {
     long now = _clock.currentTimeMillis();
     if (now - _lastSamplingTime > MINIMUM_SAMPLING_PERIOD)
     {
-      _sampleMaxCheckedOut = _currentMaxCheckedOut;
-      _sampleMaxPoolSize = _currentMaxPoolSize;
-      _sampleMaxWaitTime = _currentMaxWaitTime;
-
-      _currentMaxCheckedOut = _checkedOutSupplier.get();
-      _currentMaxPoolSize = _poolSizeSupplier.get();
-      _currentMaxWaitTime = 0L;
+      _sampleMaxCheckedOut = _currentMaxCheckedOut.getAndSet(_checkedOutSupplier.get());
+      _sampleMaxPoolSize = _currentMaxPoolSize.getAndSet(_poolSizeSupplier.get());
+      _sampleMaxWaitTime = _currentMaxWaitTime.getAndSet(0L);
 
       _lastSamplingTime = now;
     }
 
-    LongStats waitTimeStats = _waitTimeTracker.getStats();
+    final LongStats waitTimeStats;
+    synchronized (_waitTimeLock)
+    {
+      waitTimeStats = _waitTimeTracker.getStats();
+      _waitTimeTracker.reset();
+    }
     AsyncPoolStats stats = new AsyncPoolStats(
-        _totalCreated,
-        _totalDestroyed,
-        _totalCreateErrors,
-        _totalDestroyErrors,
-        _totalBadDestroyed,
-        _totalTimedOut,
-        _totalWaiterTimedOut,
-        _totalCreationIgnored,
+        _totalCreated.get(),
+        _totalDestroyed.get(),
+        _totalCreateErrors.get(),
+        _totalDestroyErrors.get(),
+        _totalBadDestroyed.get(),
+        _totalTimedOut.get(),
+        _totalWaiterTimedOut.get(),
+        _totalCreationIgnored.get(),
         _checkedOutSupplier.get(),
         _maxSizeSupplier.get(),
         _minSizeSupplier.get(),
@@ -217,7 +232,6 @@ public class AsyncPoolStatsTracker
         _lifecycleStatsSupplier.get()
     );
 
-    _waitTimeTracker.reset();
     return stats;
   }
 }
@@ -0,0 +1,788 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.transport.http.client;
+
+import com.linkedin.common.callback.Callback;
+import com.linkedin.common.callback.SimpleCallback;
+import com.linkedin.common.stats.LongTracker;
+import com.linkedin.common.stats.LongTracking;
+import com.linkedin.common.util.None;
+import com.linkedin.r2.SizeLimitExceededException;
+import com.linkedin.r2.transport.http.client.RateLimiter.Task;
+import com.linkedin.r2.util.Cancellable;
+import com.linkedin.util.ArgumentUtil;
+import com.linkedin.util.clock.Clock;
+import com.linkedin.util.clock.SystemClock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * An {@link AsyncPool} with the same configuration, strategies and {@link AsyncPoolStats} semantics as
+ * {@link AsyncPoolImpl}, but without a pool-wide lock. Idle objects live in a lock-free deque that is used as a
+ * stack for {@link AsyncPoolImpl.Strategy#MRU} and as a queue for {@link AsyncPoolImpl.Strategy#LRU}, sizes are
+ * accounted with compare-and-set and waiters are kept in a non-blocking queue. A waiter is claimed exactly once,
+ * either by the object it receives, by its cancellation or by its timeout.
+ *
+ * <p>Because checking for idle objects and enqueueing a waiter are no longer atomic, both {@link #get(Callback)}
+ * and {@link #put(Object)} finish by matching idle objects with waiters until either side is empty, so that an
+ * object and a waiter are never left behind by a concurrent put and get.</p>
+ *
+ * <p>This implementation is intended for pools shared by many event loop threads, where {@link AsyncPoolImpl}
+ * shows monitor contention. Under low contention both implementations perform alike.</p>
+ */
+public class ConcurrentAsyncPoolImpl<T> implements AsyncPool<T>
+{
+  private static final Logger LOG = LoggerFactory.getLogger(ConcurrentAsyncPoolImpl.class);
+
+  private enum State { NOT_YET_STARTED, RUNNING, SHUTTING_DOWN, STOPPED }
+
+  // Configured
+  private final String _poolName;
+  private final Lifecycle<T> _lifecycle;
+  private final int _maxSize;
+  private final int _maxWaiters;
+  private final long _idleTimeout;
+  private final long _waiterTimeout;
+  private final long _creationTimeout;
+  private final ScheduledExecutorService _timeoutExecutor;
+  private final int _minSize;
+  private final AsyncPoolImpl.Strategy _strategy;
+  private final RateLimiter _rateLimiter;
+  private final Clock _clock;
+  private final AsyncPoolStatsTracker _statsTracker;
+  private volatile ScheduledFuture<?> _objectTimeoutFuture;
+
+  // Including idle, checked out, and creations/destructions in progress
+  private final AtomicInteger _poolSize = new AtomicInteger();
+  private final AtomicInteger _checkedOut = new AtomicInteger();
+  // Unused objects live here, sorted by age. The first object is the least recently added object.
+  private final ConcurrentLinkedDeque<TimedObject<T>> _idle = new ConcurrentLinkedDeque<>();
+  // Tracked separately because the size of a concurrent deque is computed by traversal
+  private final AtomicInteger _idleCount = new AtomicInteger();
+  // Claimed waiters may linger in the queue until they are polled
+  private final ConcurrentLinkedQueue<Waiter> _waiters = new ConcurrentLinkedQueue<>();
+  // The number of unclaimed waiters
+  private final AtomicInteger _waiterCount = new AtomicInteger();
+  private final AtomicReference<State> _state = new AtomicReference<>(State.NOT_YET_STARTED);
+  private final AtomicReference<Callback<None>> _shutdownCallback = new AtomicReference<>();
+
+  /**
+   * Constructs a pool with the same defaults as
+   * {@link AsyncPoolImpl#AsyncPoolImpl(String, Lifecycle, int, long, ScheduledExecutorService, int,
+   * AsyncPoolImpl.Strategy, int, RateLimiter)}.
+   */
+  public ConcurrentAsyncPoolImpl(String name,
+      Lifecycle<T> lifecycle,
+      int maxSize,
+      long idleTimeout,
+      ScheduledExecutorService timeoutExecutor,
+      int maxWaiters,
+      AsyncPoolImpl.Strategy strategy,
+      int minSize,
+      RateLimiter rateLimiter)
+  {
+    this(name, lifecycle, maxSize, idleTimeout, Integer.MAX_VALUE, timeoutExecutor, maxWaiters, strategy, minSize,
+        rateLimiter, SystemClock.instance(), new LongTracking());
+  }
+
+  /**
+   * Creates a pool with the given configuration. The parameters have the same meaning as in
+   * {@link AsyncPoolImpl#AsyncPoolImpl(String, Lifecycle, int, long, long, ScheduledExecutorService, int,
+   * AsyncPoolImpl.Strategy, int, RateLimiter, Clock, LongTracker)}.
+   */
+  public ConcurrentAsyncPoolImpl(String name,
+      Lifecycle<T> lifecycle,
+      int maxSize,
+      long idleTimeout,
+      long waiterTimeout,
+      ScheduledExecutorService timeoutExecutor,
+      int maxWaiters,
+      AsyncPoolImpl.Strategy strategy,
+      int minSize,
+      RateLimiter rateLimiter,
+      Clock clock,
+      LongTracker waitTimeTracker)
+  {
+    ArgumentUtil.notNull(lifecycle, "lifecycle");
+    ArgumentUtil.notNull(timeoutExecutor, "timeoutExecutor");
+    ArgumentUtil.notNull(strategy, "strategy");
+    ArgumentUtil.notNull(rateLimiter, "rateLimiter");
+
+    _poolName = name + "/" + Integer.toHexString(hashCode());
+    _lifecycle = lifecycle;
+    _maxSize = maxSize;
+    _idleTimeout = idleTimeout;
+    _waiterTimeout = waiterTimeout;
+    _creationTimeout = AsyncPoolImpl.DEFAULT_OBJECT_CREATION_TIMEOUT;
+    _timeoutExecutor = timeoutExecutor;
+    _maxWaiters = maxWaiters;
+    _strategy = strategy;
+    _minSize = minSize;
+    _rateLimiter = rateLimiter;
+    _clock = clock;
+    _statsTracker = new AsyncPoolStatsTracker(
+        _lifecycle::getStats,
+        () -> _maxSize,
+        () -> _minSize,
+        _poolSize::get,
+        _checkedOut::get,
+        _idleCount::get,
+        clock,
+        waitTimeTracker);
+  }
+
+  @Override
+  public String getName()
+  {
+    return _poolName;
+  }
+
+  @Override
+  public void start()
+  {
+    if (!_state.compareAndSet(State.NOT_YET_STARTED, State.RUNNING))
+    {
+      throw new IllegalStateException(_poolName + " is " + _state.get());
+    }
+    if (_idleTimeout > 0)
+    {
+      long freq = Math.min(_idleTimeout / 10, 1000);
+      _objectTimeoutFuture = _timeoutExecutor.scheduleAtFixedRate(this::timeoutObjects, freq, freq,
+          TimeUnit.MILLISECONDS);
+    }
+
+    // Make the minimum required number of connections now
+    for (int i = 0; i < _minSize; i++)
+    {
+      if (shouldCreate())
+      {
+        create();
+      }
+    }
+  }
+
+  @Override
+  public void shutdown(Callback<None> callback)
+  {
+    // The callback is published before the state changes so that whoever completes the shutdown observes it
+    if (!_shutdownCallback.compareAndSet(null, callback))
+    {
+      callback.onError(new IllegalStateException(_poolName + " is " + _state.get()));
+      return;
+    }
+    if (!_state.compareAndSet(State.RUNNING, State.SHUTTING_DOWN))
+    {
+      _shutdownCallback.set(null);
+      callback.onError(new IllegalStateException(_poolName + " is " + _state.get()));
+      return;
+    }
+    LOG.info("{}: {}", _poolName, "shutdown requested");
+    shutdownIfNeeded();
+  }
+
+  @Override
+  public Collection<Callback<T>> cancelWaiters()
+  {
+    List<Callback<T>> cancelled = new ArrayList<>(_waiterCount.get());
+    for (Waiter waiter; (waiter = claimWaiter()) != null;)
+    {
+      cancelled.add(waiter._callback);
+    }
+    return cancelled;
+  }
+
+  @Override
+  public Cancellable get(final Callback<T> callback)
+  {
+    final Callback<T> callbackWithTracking = new TimeTrackingCallback(callback);
+    if (_state.get() != State.RUNNING)
+    {
+      callbackWithTracking.onError(new IllegalStateException(_poolName + " is " + _state.get()));
+      return () -> false;
+    }
+
+    for (TimedObject<T> obj; (obj = pollIdle()) != null;)
+    {
+      if (checkOut(obj.get(), callbackWithTracking))
+      {
+        trc("dequeued an idle object");
+        return () -> false;
+      }
+      trc("dequeued and disposed an invalid idle object");
+    }
+
+    if (!reserveWaiter())
+    {
+      // This is a recoverable exception. User can simply retry the failed get() operation.
+      callbackWithTracking.onError(
+          new SizeLimitExceededException("AsyncPool " + _poolName + " reached maximum waiter size: " + _maxWaiters));
+      return () -> false;
+    }
+    final Waiter waiter = new Waiter(callbackWithTracking);
+    _waiters.offer(waiter);
+    if (isWaiterTimeoutEnabled())
+    {
+      waiter.scheduleTimeout();
+    }
+    trc("enqueued a waiter");
+
+    if (_state.get() == State.STOPPED && waiter.cancel())
+    {
+      // The pool stopped between the state check and the enqueue; nobody is left to serve this waiter
+      callbackWithTracking.onError(new IllegalStateException(_poolName + " is " + State.STOPPED));
+      return () -> false;
+    }
+    boolean create = shouldCreate();
+    // An object may have been returned after the idle deque was found empty and before the waiter was enqueued
+    drain();
+    if (create)
+    {
+      create();
+    }
+    return () ->
+    {
+      boolean cancelled = waiter.cancel();
+      if (cancelled)
+      {
+        shutdownIfNeeded();
+      }
+      return cancelled;
+    };
+  }
+
+  private boolean isWaiterTimeoutEnabled()
+  {
+    // Do not enable waiter timeout if the configured value is not within the fail fast threshold
+    return _waiterTimeout >= AsyncPoolImpl.MIN_WAITER_TIMEOUT && _waiterTimeout <= AsyncPoolImpl.MAX_WAITER_TIMEOUT;
+  }
+
+  /**
+   * Reserves a slot in the waiter queue.
+   * @return false if the queue is full.
+   */
+  private boolean reserveWaiter()
+  {
+    for (;;)
+    {
+      int waiters = _waiterCount.get();
+      if (waiters >= _maxWaiters)
+      {
+        return false;
+      }
+      if (_waiterCount.compareAndSet(waiters, waiters + 1))
+      {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Polls and claims the oldest unclaimed waiter.
+   * @return null if there are no unclaimed waiters.
+   */
+  private Waiter claimWaiter()
+  {
+    for (Waiter waiter; (waiter = _waiters.poll()) != null;)
+    {
+      if (waiter.claim())
+      {
+        return waiter;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Takes the next idle object according to the strategy. The idle count is decremented after the object is taken
+   * and incremented before an object is offered, so that it never undercounts the deque.
+   */
+  private TimedObject<T> pollIdle()
+  {
+    TimedObject<T> obj = _strategy == AsyncPoolImpl.Strategy.LRU ? _idle.pollFirst() : _idle.pollLast();
+    if (obj != null)
+    {
+      _idleCount.decrementAndGet();
+    }
+    return obj;
+  }
+
+  /**
+   * Returns an object taken by {@link #pollIdle()} to the end of the deque it was taken from.
+   */
+  private void offerIdle(TimedObject<T> obj)
+  {
+    _idleCount.incrementAndGet();
+    if (_strategy == AsyncPoolImpl.Strategy.LRU)
+    {
+      _idle.offerFirst(obj);
+    }
+    else
+    {
+      _idle.offerLast(obj);
+    }
+  }
+
+  /**
+   * Validates an idle object and hands it to the callback, or destroys it if it is no longer valid.
+   * @return true if the object was handed to the callback.
+   */
+  private boolean checkOut(T obj, Callback<T> callback)
+  {
+    if (!_lifecycle.validateGet(obj))
+    {
+      destroy(obj, true);
+      return false;
+    }
+    _checkedOut.incrementAndGet();
+    _statsTracker.sampleMaxCheckedOut();
+    callback.onSuccess(obj);
+    return true;
+  }
+
+  /**
+   * Matches idle objects with waiters until either of them runs out.
+   */
+  private void drain()
+  {
+    while (_waiterCount.get() > 0 && !_idle.isEmpty())
+    {
+      TimedObject<T> obj = pollIdle();
+      if (obj == null)
+      {
+        return;
+      }
+      T rawObj = obj.get();
+      if (!_lifecycle.validateGet(rawObj))
+      {
+        destroy(rawObj, true);
+        trc("dequeued and disposed an invalid idle object");
+        continue;
+      }
+      Waiter waiter = claimWaiter();
+      if (waiter == null)
+      {
+        // The waiter counted above is not enqueued yet or was served by another thread. Return the object where
+        // it was taken from and leave the hand-off to the thread enqueuing the waiter, which drains after enqueuing.
+        // Only a waiter enqueued before the object was returned may have missed it, so retry just in that case.
+        offerIdle(obj);
+        if (_waiters.isEmpty())
+        {
+          return;
+        }
+        continue;
+      }
+      _checkedOut.incrementAndGet();
+      _statsTracker.sampleMaxCheckedOut();
+      trc("dequeued a waiter");
+      waiter._callback.onSuccess(rawObj);
+    }
+  }
+
+  @Override
+  public void put(T obj)
+  {
+    _checkedOut.decrementAndGet();
+    if (!_lifecycle.validatePut(obj))
+    {
+      destroy(obj, true);
+      return;
+    }
+    // A channel made it through a complete request lifecycle
+    _rateLimiter.setPeriod(0);
+    add(obj);
+  }
+
+  private void add(T obj)
+  {
+    // If we have waiters, the idle deque is normally empty. Therefore, immediately reusing the object is valid with
+    // both MRU and LRU strategies.
+    Waiter waiter = claimWaiter();
+    if (waiter != null)
+    {
+      _checkedOut.incrementAndGet();
+      _statsTracker.sampleMaxCheckedOut();
+      trc("dequeued a waiter");
+      waiter._callback.onSuccess(obj);
+    }
+    else
+    {
+      _idleCount.incrementAndGet();
+      _idle.offerLast(new TimedObject<>(obj, _clock.currentTimeMillis()));
+      trc("enqueued an idle object");
+      // A waiter may have been enqueued after it found the idle deque empty and before the object was added
+      drain();
+    }
+    shutdownIfNeeded();
+  }
+
+  @Override
+  public void dispose(T obj)
+  {
+    _checkedOut.decrementAndGet();
+    destroy(obj, true);
+  }
+
+  @Override
+  public AsyncPoolStats getStats()
+  {
+    return _statsTracker.getStats();
+  }
+
+  private void destroy(T obj, boolean bad)
+  {
+    if (bad)
+    {
+      _statsTracker.incrementBadDestroyed();
+    }
+    trc("disposing a pooled object");
+    _lifecycle.destroy(obj, bad, new Callback<T>()
+    {
+      @Override
+      public void onSuccess(T t)
+      {
+        _statsTracker.incrementDestroyed();
+        if (objectDestroyed(1))
+        {
+          create();
+        }
+      }
+
+      @Override
+      public void onError(Throwable e)
+      {
+        _statsTracker.incrementDestroyErrors();
+        if (objectDestroyed(1))
+        {
+          create();
+        }
+      }
+    });
+  }
+
+  /**
+   * @param num number of objects have been destroyed
+   * @return true if another object creation should be initiated
+   */
+  private boolean objectDestroyed(int num)
+  {
+    _poolSize.updateAndGet(size -> Math.max(size - num, 0));
+    boolean create = shouldCreate();
+    shutdownIfNeeded();
+    return create;
+  }
+
+  /**
+   * Reserves a slot for a new object if the pool has waiters or is below its minimum size.
+   * DO NOT call any callbacks in this method!
+   * @return true if another object creation should be initiated.
+   */
+  private boolean shouldCreate()
+  {
+    while (_state.get() == State.RUNNING)
+    {
+      int size = _poolSize.get();
+      if (size >= _maxSize || (_waiterCount.get() == 0 && size >= _minSize))
+      {
+        return false;
+      }
+      if (_poolSize.compareAndSet(size, size + 1))
+      {
+        _statsTracker.sampleMaxPoolSize();
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * DO NOT call this method from within another pool operation that expects to complete first, it invokes user code.
+   */
+  private void create()
+  {
+    trc("initiating object creation");
+    _rateLimiter.submit(new Task()
+    {
+      @Override
+      public void run(final SimpleCallback callback)
+      {
+        // Ignore the object creation if no one is waiting for the object and the pool already has _minSize objects
+        int totalObjects = _checkedOut.get() + _idleCount.get();
+        if (_waiterCount.get() == 0 && totalObjects >= _minSize)
+        {
+          _statsTracker.incrementIgnoredCreation();
+          // _poolSize also include the count of creation requests pending. So we have to make sure the pool size
+          // count is updated when we ignore the creation request.
+          _poolSize.updateAndGet(size -> size >= 1 ? size - 1 : size);
+          shutdownIfNeeded();
+          callback.onDone();
+          return;
+        }
+
+        // Lets not trust the _lifecycle to timely return a response here.
+        // Embedding the callback inside a timeout callback (ObjectCreationTimeoutCallback)
+        // to force a response within creationTimeout deadline to reclaim the object slot in the pool
+        _lifecycle.create(new TimeoutCallback<>(_timeoutExecutor, _creationTimeout, TimeUnit.MILLISECONDS, new Callback<T>()
+        {
+          @Override
+          public void onSuccess(T t)
+          {
+            _statsTracker.incrementCreated();
+            add(t);
+            callback.onDone();
+          }
+
+          @Override
+          public void onError(final Throwable e)
+          {
+            // Like AsyncPoolImpl, deny all waiters and cancel all pending creates if a create fails, so that the
+            // waiters see the real reason rather than eventually getting an unhelpful timeout error.
+            final Collection<Task> cancelledCreate = _rateLimiter.cancelPendingTasks();
+            _statsTracker.incrementCreateErrors();
+            final Collection<Callback<T>> waitersDenied =
+                _waiterCount.get() > 0 ? cancelWaiters() : Collections.<Callback<T>>emptyList();
+
+            // reclaim the slot in the pool
+            boolean create = objectDestroyed(1 + cancelledCreate.size());
+
+            // lets fail all the waiters with the object creation error
+            for (Callback<T> denied : waitersDenied)
+            {
+              try
+              {
+                denied.onError(e);
+              }
+              catch (Exception ex)
+              {
+                LOG.error("Encountered error while invoking error waiter callback", ex);
+              }
+            }
+
+            // Now after cancelling all the pending tasks, lets make sure to back off on the creation
+            _rateLimiter.incrementPeriod();
+
+            // since all waiters are cancelled, the only condition that makes this true is when the pool is below
+            // the min poolSize
+            if (create)
+            {
+              create();
+            }
+            LOG.debug(_poolName + ": object creation failed", e);
+            callback.onDone();
+          }
+        }, () -> new ObjectCreationTimeoutException(
+            "Exceeded creation timeout of " + _creationTimeout + "ms: in Pool: " + _poolName)));
+      }
+    });
+  }
+
+  private void timeoutObjects()
+  {
+    Collection<T> expiredObjects = getExpiredObjects();
+    if (expiredObjects.size() > 0)
+    {
+      LOG.debug("{}: disposing {} objects due to idle timeout", _poolName, expiredObjects.size());
+      for (T obj : expiredObjects)
+      {
+        destroy(obj, false);
+      }
+    }
+  }
+
+  private Collection<T> getExpiredObjects()
+  {
+    List<T> expiredObjects = new ArrayList<>();
+    long deadline = _clock.currentTimeMillis() - _idleTimeout;
+    int excess = _poolSize.get() - _minSize;
+    for (TimedObject<T> p; excess > 0 && (p = _idle.peekFirst()) != null && p.getTime() < deadline;)
+    {
+      // Only the thread that removes the object may expire it; a concurrent get may have taken it already
+      if (_idle.removeFirstOccurrence(p))
+      {
+        _idleCount.decrementAndGet();
+        expiredObjects.add(p.get());
+        _statsTracker.incrementTimedOut();
+        excess--;
+      }
+    }
+    return expiredObjects;
+  }
+
+  private void shutdownIfNeeded()
+  {
+    if (_state.get() != State.SHUTTING_DOWN)
+    {
+      return;
+    }
+    final int waiters = _waiterCount.get();
+    final int checkedOut = _checkedOut.get();
+    final int idle = _idleCount.get();
+    final int poolSize = _poolSize.get();
+    // Unlike AsyncPoolImpl the counters are not read atomically, so checked out objects are checked explicitly
+    if (waiters == 0 && checkedOut <= 0 && idle == poolSize
+        && _state.compareAndSet(State.SHUTTING_DOWN, State.STOPPED))
+    {
+      ScheduledFuture<?> future = _objectTimeoutFuture;
+      if (future != null)
+      {
+        future.cancel(false);
+      }
+      LOG.info("{}: {}", _poolName, "shutdown complete");
+      _shutdownCallback.getAndSet(null).onSuccess(None.none());
+    }
+    else
+    {
+      LOG.info("{}: {} waiters and {} objects outstanding before shutdown", new Object[]{ _poolName, waiters, poolSize - idle });
+    }
+  }
+
+  private final class Waiter
+  {
+    private final Callback<T> _callback;
+    private final AtomicBoolean _claimed = new AtomicBoolean();
+    private volatile ScheduledFuture<?> _timeoutFuture;
+
+    private Waiter(Callback<T> callback)
+    {
+      _callback = callback;
+    }
+
+    /**
+     * Claims this waiter for delivery. Only one of delivery, cancellation and timeout may claim a waiter.
+     * The caller is responsible for removing the waiter from the queue.
+     */
+    private boolean claim()
+    {
+      if (!_claimed.compareAndSet(false, true))
+      {
+        return false;
+      }
+      _waiterCount.decrementAndGet();
+      ScheduledFuture<?> future = _timeoutFuture;
+      if (future != null)
+      {
+        future.cancel(false);
+      }
+      return true;
+    }
+
+    /**
+     * Claims and removes a waiter that will not be delivered an object.
+     */
+    private boolean cancel()
+    {
+      if (!claim())
+      {
+        return false;
+      }
+      _waiters.remove(this);
+      return true;
+    }
+
+    private void scheduleTimeout()
+    {
+      _timeoutFuture = _timeoutExecutor.schedule(() ->
+      {
+        if (cancel())
+        {
+          _statsTracker.incrementWaiterTimedOut();
+          LOG.debug("{}: failing waiter due to waiter timeout", _poolName);
+          _callback.onError(
+              new WaiterTimeoutException("Exceeded waiter timeout of " + _waiterTimeout + "ms: in Pool: " + _poolName));
+          shutdownIfNeeded();
+        }
+      }, _waiterTimeout, TimeUnit.MILLISECONDS);
+      if (_claimed.get())
+      {
+        // Claimed before the timeout was published
+        _timeoutFuture.cancel(false);
+      }
+    }
+  }
+
+  private static final class TimedObject<T>
+  {
+    private final T _obj;
+    private final long _time;
+
+    private TimedObject(T obj, long time)
+    {
+      _obj = obj;
+      _time = time;
+    }
+
+    private T get()
+    {
+      return _obj;
+    }
+
+    private long getTime()
+    {
+      return _time;
+    }
+  }
+
+  private class TimeTrackingCallback implements Callback<T>
+  {
+    private final long _startTime;
+    private final Callback<T> _callback;
+
+    private TimeTrackingCallback(Callback<T> callback)
+    {
+      _callback = callback;
+      _startTime = _clock.currentTimeMillis();
+    }
+
+    @Override
+    public void onError(Throwable e)
+    {
+      track();
+      _callback.onError(e);
+    }
+
+    @Override
+    public void onSuccess(T result)
+    {
+      track();
+      _callback.onSuccess(result);
+    }
+
+    private void track()
+    {
+      long waitTime = _clock.currentTimeMillis() - _startTime;
+      _statsTracker.trackWaitTime(waitTime);
+      _statsTracker.sampleMaxWaitTime(waitTime);
+    }
+  }
+
+  private void trc(Object toLog)
+  {
+    LOG.trace("{}: {}", _poolName, toLog);
+  }
+}
@@ -0,0 +1,156 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.message;
+
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestRequestBuilder;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+/**
+ * Tests for {@link CaseInsensitiveHeaders}.
+ */
+public class TestCaseInsensitiveHeaders
+{
+  @Test
+  public void testCaseInsensitiveLookup()
+  {
+    Map<String, String> input = new LinkedHashMap<>();
+    input.put("X-Foo", "1");
+    input.put("content-type", "text/plain");
+    input.put("x-foo", "2");
+    CaseInsensitiveHeaders headers = CaseInsensitiveHeaders.copyOf(input);
+
+    Assert.assertEquals(headers.size(), 2);
+    Assert.assertEquals(headers.get("X-FOO"), "2");
+    Assert.assertEquals(headers.get("Content-Type"), "text/plain");
+    Assert.assertTrue(headers.containsKey("CONTENT-TYPE"));
+    Assert.assertTrue(headers.keySet().contains("x-Foo"));
+    Assert.assertFalse(headers.containsKey("Content-Length"));
+    Assert.assertNull(headers.get(1));
+  }
+
+  @Test
+  public void testBehavesLikeTreeMap()
+  {
+    Map<String, String> input = new LinkedHashMap<>();
+    for (String name : Arrays.asList("Zeta", "alpha", "Beta", "ALPHA", "gamma", "beta", "\u00c9tag"))
+    {
+      input.put(name, name.toLowerCase());
+    }
+    TreeMap<String, String> expected = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    expected.putAll(input);
+    CaseInsensitiveHeaders headers = CaseInsensitiveHeaders.copyOf(input);
+
+    // Same names, with the case they were first added with, in the same order.
+    Assert.assertEquals(new ArrayList<>(headers.keySet()), new ArrayList<>(expected.keySet()));
+    Assert.assertEquals(new ArrayList<>(headers.values()), new ArrayList<>(expected.values()));
+    Assert.assertEquals(headers, expected);
+    Assert.assertEquals(expected, headers);
+    Assert.assertEquals(headers.hashCode(), expected.hashCode());
+    Assert.assertEquals(headers.toString(), expected.toString());
+    Assert.assertEquals(headers.get("\u00e9TAG"), "\u00e9tag");
+  }
+
+  @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void testImmutable()
+  {
+    CaseInsensitiveHeaders.copyOf(new HashMap<>()).put("a", "b");
+  }
+
+  @Test
+  public void testBuilderCopiesOnWrite()
+  {
+    Map<String, String> input = new HashMap<>();
+    input.put("A", "1");
+    input.put("B", "2");
+    CaseInsensitiveHeaders original = CaseInsensitiveHeaders.copyOf(input);
+
+    CaseInsensitiveHeaders.Builder builder = new CaseInsensitiveHeaders.Builder(original);
+    Assert.assertSame(builder.build(), original);
+    builder.put("a", "1");
+    Assert.assertSame(builder.build(), original);
+
+    builder.put("a", "10");
+    builder.put("C", "3");
+    builder.remove("b");
+    CaseInsensitiveHeaders modified = builder.build();
+    Assert.assertSame(builder.build(), modified);
+    Assert.assertEquals(original, input);
+    Assert.assertEquals(new ArrayList<>(modified.keySet()), Arrays.asList("A", "C"));
+    Assert.assertEquals(modified.get("A"), "10");
+
+    // Changes after building do not affect the built headers.
+    builder.put("D", "4");
+    builder.remove("C");
+    Assert.assertEquals(new ArrayList<>(modified.keySet()), Arrays.asList("A", "C"));
+    Assert.assertEquals(new ArrayList<>(builder.build().keySet()), Arrays.asList("A", "D"));
+
+    builder.clear();
+    Assert.assertTrue(builder.build().isEmpty());
+    Assert.assertNull(builder.get("A"));
+  }
+
+  @Test
+  public void testBuilderGrows()
+  {
+    CaseInsensitiveHeaders.Builder builder = new CaseInsensitiveHeaders.Builder(CaseInsensitiveHeaders.EMPTY);
+    List<String> names = new ArrayList<>();
+    for (int i = 0; i < 100; i++)
+    {
+      names.add("Header-" + i);
+      builder.put("Header-" + i, Integer.toString(i));
+    }
+    for (int i = 0; i < 100; i += 2)
+    {
+      builder.remove("HEADER-" + i);
+    }
+    CaseInsensitiveHeaders headers = builder.build();
+    Assert.assertEquals(headers.size(), 50);
+    for (int i = 0; i < 100; i++)
+    {
+      Assert.assertEquals(headers.get("header-" + i), i % 2 == 0 ? null : Integer.toString(i));
+    }
+  }
+
+  @Test
+  public void testMessageSharesHeadersWithBuilder()
+  {
+    RestRequest request = new RestRequestBuilder(URI.create("http://localhost"))
+        .setHeader("X-Foo", "1")
+        .setHeader("X-Bar", "2")
+        .build();
+    Assert.assertTrue(request.getHeaders() instanceof CaseInsensitiveHeaders);
+
+    RestRequest rebuilt = request.builder().setURI(URI.create("http://localhost/other")).build();
+    Assert.assertSame(rebuilt.getHeaders(), request.getHeaders());
+
+    RestRequest modified = request.builder().setHeader("x-foo", "3").build();
+    Assert.assertEquals(modified.getHeader("X-FOO"), "3");
+    Assert.assertEquals(request.getHeader("X-FOO"), "1");
+    Assert.assertEquals(new ArrayList<>(modified.getHeaders().keySet()), Arrays.asList("X-Bar", "X-Foo"));
+  }
+}
@@ -0,0 +1,298 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.message;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+/**
+ * Tests for {@link RequestContext}.
+ */
+public class TestRequestContext
+{
+  private static final RequestContext.Key<String> STRING_KEY =
+      RequestContext.Key.register("TestRequestContext.string", String.class);
+  private static final RequestContext.Key<Integer> INTEGER_KEY =
+      RequestContext.Key.register("TestRequestContext.integer", Integer.class);
+
+  @Test
+  public void testTypedAttributes()
+  {
+    RequestContext context = new RequestContext();
+    Assert.assertNull(context.getLocalAttr(STRING_KEY));
+
+    context.putLocalAttr(STRING_KEY, "value");
+    context.putLocalAttr(INTEGER_KEY, 42);
+    Assert.assertEquals(context.getLocalAttr(STRING_KEY), "value");
+    Assert.assertEquals(context.getLocalAttr(INTEGER_KEY), Integer.valueOf(42));
+
+    // The name of a registered key accesses the same attribute.
+    Assert.assertEquals(context.getLocalAttr(STRING_KEY.getName()), "value");
+    context.putLocalAttr(INTEGER_KEY.getName(), 43);
+    Assert.assertEquals(context.getLocalAttr(INTEGER_KEY), Integer.valueOf(43));
+
+    Assert.assertEquals(context.removeLocalAttr(STRING_KEY), "value");
+    Assert.assertNull(context.getLocalAttr(STRING_KEY));
+    Assert.assertNull(context.getLocalAttr(STRING_KEY.getName()));
+    Assert.assertEquals(context.removeLocalAttr(INTEGER_KEY.getName()), 43);
+    Assert.assertTrue(context.getLocalAttrs().isEmpty());
+  }
+
+  @Test
+  public void testRegister()
+  {
+    Assert.assertSame(RequestContext.Key.register(STRING_KEY.getName(), String.class), STRING_KEY);
+    Assert.assertEquals(STRING_KEY.getType(), String.class);
+    try
+    {
+      RequestContext.Key.register(STRING_KEY.getName(), Integer.class);
+      Assert.fail("Registering a name with another type should fail");
+    }
+    catch (IllegalArgumentException e)
+    {
+      // expected
+    }
+  }
+
+  @Test
+  public void testWrongTypeByName()
+  {
+    RequestContext context = new RequestContext();
+    context.putLocalAttr(INTEGER_KEY.getName(), "not an integer");
+    Assert.assertEquals(context.getLocalAttr(INTEGER_KEY.getName()), "not an integer");
+    try
+    {
+      context.getLocalAttr(INTEGER_KEY);
+      Assert.fail("Getting a value of another type should fail");
+    }
+    catch (ClassCastException e)
+    {
+      // expected
+    }
+  }
+
+  @Test
+  public void testNullValues()
+  {
+    RequestContext context = new RequestContext();
+    context.putLocalAttr("unregistered", null);
+    context.putLocalAttr(STRING_KEY, null);
+
+    Map<String, Object> attrs = context.getLocalAttrs();
+    Assert.assertTrue(attrs.containsKey("unregistered"));
+    Assert.assertTrue(attrs.containsKey(STRING_KEY.getName()));
+    Assert.assertNull(attrs.get(STRING_KEY.getName()));
+    Assert.assertEquals(attrs.size(), 2);
+
+    Map<String, Object> expected = new HashMap<>();
+    expected.put("unregistered", null);
+    expected.put(STRING_KEY.getName(), null);
+    Assert.assertEquals(attrs, expected);
+  }
+
+  @Test
+  public void testLocalAttrsView()
+  {
+    RequestContext context = new RequestContext();
+    Map<String, Object> attrs = context.getLocalAttrs();
+    attrs.put("unregistered", 1);
+    attrs.put(STRING_KEY.getName(), "value");
+    Assert.assertEquals(context.getLocalAttr("unregistered"), 1);
+    Assert.assertEquals(context.getLocalAttr(STRING_KEY), "value");
+
+    Map<String, Object> expected = new HashMap<>();
+    expected.put("unregistered", 1);
+    expected.put(STRING_KEY.getName(), "value");
+    Assert.assertEquals(attrs, expected);
+    Assert.assertEquals(attrs.hashCode(), expected.hashCode());
+    Assert.assertEquals(context, new RequestContext(context));
+    Assert.assertEquals(context.hashCode(), new RequestContext(context).hashCode());
+
+    Iterator<Map.Entry<String, Object>> iterator = attrs.entrySet().iterator();
+    while (iterator.hasNext())
+    {
+      if (iterator.next().getKey().equals(STRING_KEY.getName()))
+      {
+        iterator.remove();
+      }
+    }
+    Assert.assertNull(context.getLocalAttr(STRING_KEY));
+    Assert.assertEquals(attrs.keySet(), expected.keySet().stream()
+        .filter(name -> !name.equals(STRING_KEY.getName())).collect(Collectors.toSet()));
+
+    attrs.clear();
+    Assert.assertTrue(attrs.isEmpty());
+    Assert.assertNull(context.getLocalAttr("unregistered"));
+  }
+
+  @Test
+  public void testLocalAttrsViewEntrySetValue()
+  {
+    RequestContext context = new RequestContext();
+    context.putLocalAttr("unregistered", 1);
+    context.putLocalAttr(STRING_KEY, "value");
+    synchronized (context.getLocalAttrs())
+    {
+      for (Map.Entry<String, Object> entry : context.getLocalAttrs().entrySet())
+      {
+        if (entry.getKey().equals(STRING_KEY.getName()))
+        {
+          Assert.assertEquals(entry.setValue("updated"), "value");
+          Assert.assertEquals(entry.getValue(), "updated");
+        }
+        else
+        {
+          Assert.assertEquals(entry.setValue(2), 1);
+        }
+      }
+    }
+    Assert.assertEquals(context.getLocalAttr(STRING_KEY), "updated");
+    Assert.assertEquals(context.getLocalAttr("unregistered"), 2);
+  }
+
+  @Test
+  public void testLocalAttrsViewNullKey()
+  {
+    RequestContext context = new RequestContext();
+    Map<String, Object> attrs = context.getLocalAttrs();
+    Assert.assertFalse(attrs.containsKey(null));
+    Assert.assertNull(attrs.get(null));
+
+    Assert.assertNull(attrs.put(null, "value"));
+    Assert.assertTrue(attrs.containsKey(null));
+    Assert.assertEquals(context.getLocalAttr((String) null), "value");
+    Assert.assertEquals(attrs.size(), 1);
+    Assert.assertEquals(attrs, Collections.singletonMap(null, "value"));
+    Assert.assertEquals(new RequestContext(context), context);
+
+    Assert.assertEquals(context.removeLocalAttr((String) null), "value");
+    Assert.assertFalse(attrs.containsKey(null));
+    Assert.assertTrue(attrs.isEmpty());
+  }
+
+  @Test
+  public void testLocalAttrsViewIsSynchronized() throws Exception
+  {
+    RequestContext context = new RequestContext();
+    Map<String, Object> attrs = context.getLocalAttrs();
+    Assert.assertSame(context.getLocalAttrs(), attrs);
+
+    Thread writer = new Thread(() -> attrs.put(STRING_KEY.getName(), "value"));
+    synchronized (attrs)
+    {
+      writer.start();
+      writer.join(100);
+      Assert.assertTrue(writer.isAlive(), "Writes through the view must wait for its monitor");
+      Assert.assertNull(context.getLocalAttr(STRING_KEY));
+    }
+    writer.join();
+    Assert.assertEquals(context.getLocalAttr(STRING_KEY), "value");
+    Assert.assertEquals(attrs.size(), 1);
+    Assert.assertFalse(attrs.isEmpty());
+  }
+
+  @Test
+  public void testCopy()
+  {
+    RequestContext context = new RequestContext();
+    context.putLocalAttr(STRING_KEY, "value");
+    context.putLocalAttr("unregistered", 1);
+
+    RequestContext copy = new RequestContext(context);
+    copy.putLocalAttr(STRING_KEY, "other");
+    copy.removeLocalAttr("unregistered");
+    Assert.assertEquals(context.getLocalAttr(STRING_KEY), "value");
+    Assert.assertEquals(context.getLocalAttr("unregistered"), 1);
+    Assert.assertEquals(copy.getLocalAttr(STRING_KEY), "other");
+    Assert.assertNull(copy.getLocalAttr("unregistered"));
+
+    RequestContext clone = context.clone();
+    Assert.assertEquals(clone, context);
+    Assert.assertNotSame(clone, context);
+  }
+
+  @Test
+  public void testKeyRegisteredLater()
+  {
+    String name = "TestRequestContext.registeredLater";
+    RequestContext context = new RequestContext();
+    context.putLocalAttr(name, "before");
+
+    // The attribute set by name before the key existed remains visible, and is replaced by the next write.
+    RequestContext.Key<String> key = RequestContext.Key.register(name, String.class);
+    Assert.assertEquals(context.getLocalAttr(key), "before");
+    Assert.assertEquals(context.getLocalAttr(name), "before");
+    context.putLocalAttr(key, "after");
+    Assert.assertEquals(context.getLocalAttr(name), "after");
+    Assert.assertEquals(context.getLocalAttrs().size(), 1);
+    Assert.assertEquals(context.removeLocalAttr(key), "after");
+    Assert.assertNull(context.getLocalAttr(name));
+  }
+
+  @Test
+  public void testConcurrentWrites() throws Exception
+  {
+    final int threads = 8;
+    List<RequestContext.Key<Integer>> keys = new ArrayList<>();
+    for (int i = 0; i < threads; i++)
+    {
+      keys.add(RequestContext.Key.register("TestRequestContext.concurrent" + i, Integer.class));
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try
+    {
+      for (int round = 0; round < 100; round++)
+      {
+        RequestContext context = new RequestContext();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++)
+        {
+          RequestContext.Key<Integer> key = keys.get(i);
+          int value = i;
+          futures.add(executor.submit(() -> {
+            context.putLocalAttr(key, value);
+            context.putLocalAttr(key.getName() + ".unregistered", value);
+          }));
+        }
+        for (Future<?> future : futures)
+        {
+          future.get();
+        }
+        for (int i = 0; i < threads; i++)
+        {
+          Assert.assertEquals(context.getLocalAttr(keys.get(i)), Integer.valueOf(i));
+          Assert.assertEquals(context.getLocalAttr(keys.get(i).getName() + ".unregistered"), i);
+        }
+      }
+    }
+    finally
+    {
+      executor.shutdownNow();
+    }
+  }
+}
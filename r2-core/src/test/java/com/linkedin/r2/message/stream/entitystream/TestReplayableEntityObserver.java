@@ -0,0 +1,131 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.message.stream.entitystream;
+
+import com.linkedin.common.callback.FutureCallback;
+import com.linkedin.data.ByteString;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestReplayableEntityObserver
+{
+  private static final long TIMEOUT = 5000;
+  private static final TimeUnit UNIT = TimeUnit.MILLISECONDS;
+
+  @Test
+  public void testReplayAfterDone() throws Exception
+  {
+    ByteString content = ByteString.copy(new byte[8092]);
+    ReplayableEntityObserver observer = new ReplayableEntityObserver(10000);
+    EntityStream entityStream = EntityStreams.newEntityStream(new ByteStringWriter(content));
+    entityStream.addObserver(observer);
+    entityStream.setReader(new DrainReader());
+
+    Assert.assertEquals(readReplay(observer).get(TIMEOUT, UNIT), content);
+    // Replays can be started any number of times.
+    Assert.assertEquals(readReplay(observer).get(TIMEOUT, UNIT), content);
+  }
+
+  @Test
+  public void testReplayFollowsObservedStream() throws Exception
+  {
+    ChunkWriter writer = new ChunkWriter();
+    ReplayableEntityObserver observer = new ReplayableEntityObserver(100);
+    EntityStream entityStream = EntityStreams.newEntityStream(writer);
+    entityStream.addObserver(observer);
+    entityStream.setReader(new DrainReader());
+
+    writer.write("ab");
+    FutureCallback<ByteString> replay = readReplay(observer);
+    writer.write("cd");
+    Assert.assertFalse(replay.isDone());
+    writer.done();
+
+    Assert.assertEquals(replay.get(TIMEOUT, UNIT).asString("UTF-8"), "abcd");
+  }
+
+  @Test
+  public void testOverflow() throws Exception
+  {
+    ChunkWriter writer = new ChunkWriter();
+    ReplayableEntityObserver observer = new ReplayableEntityObserver(3);
+    EntityStream entityStream = EntityStreams.newEntityStream(writer);
+    entityStream.addObserver(observer);
+    entityStream.setReader(new DrainReader());
+
+    writer.write("ab");
+    FutureCallback<ByteString> replay = readReplay(observer);
+    Assert.assertTrue(observer.isReplayable());
+    writer.write("cd");
+
+    Assert.assertFalse(observer.isReplayable());
+    Assert.assertNull(observer.newReplayWriter());
+    try
+    {
+      replay.get(TIMEOUT, UNIT);
+      Assert.fail("Replay should fail once the entity outgrows the buffer");
+    }
+    catch (ExecutionException e)
+    {
+      Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+  }
+
+  private static FutureCallback<ByteString> readReplay(ReplayableEntityObserver observer)
+  {
+    FutureCallback<ByteString> callback = new FutureCallback<>();
+    EntityStreams.newEntityStream(observer.newReplayWriter()).setReader(new FullEntityReader(callback));
+    return callback;
+  }
+
+  /**
+   * Writes chunks on demand of the test rather than of the reader.
+   */
+  private static class ChunkWriter implements Writer
+  {
+    private WriteHandle _wh;
+
+    @Override
+    public void onInit(WriteHandle wh)
+    {
+      _wh = wh;
+    }
+
+    @Override
+    public void onWritePossible()
+    {
+    }
+
+    @Override
+    public void onAbort(Throwable e)
+    {
+    }
+
+    void write(String chunk)
+    {
+      _wh.write(ByteString.copyString(chunk, "UTF-8"));
+    }
+
+    void done()
+    {
+      _wh.done();
+    }
+  }
+}
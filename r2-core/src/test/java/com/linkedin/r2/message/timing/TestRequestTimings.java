@@ -0,0 +1,163 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.message.timing;
+
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.timing.TimingContextUtil.TimingContext;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link RequestTimings} and how {@link TimingContextUtil} records into it.
+ */
+public class TestRequestTimings
+{
+  private static final TimingKey OTHER_KEY =
+      TimingKey.registerNewKey(TimingKey.getUniqueName("testRequestTimings"), TimingImportance.LOW);
+
+  @Test
+  public void testSlottedAndOtherKeys()
+  {
+    TimingKey slottedKey = FrameworkTimingKeys.RESOURCE.key();
+    Assert.assertTrue(slottedKey.getSlot() >= 0);
+    Assert.assertEquals(OTHER_KEY.getSlot(), -1);
+
+    RequestTimings timings = new RequestTimings();
+    Assert.assertTrue(timings.isEmpty());
+
+    TimingContext slotted = new TimingContext(slottedKey);
+    TimingContext other = new TimingContext(OTHER_KEY, 5L);
+    Assert.assertNull(timings.put(slottedKey, slotted));
+    Assert.assertNull(timings.put(OTHER_KEY, other));
+    Assert.assertSame(timings.get(slottedKey), slotted);
+    Assert.assertSame(timings.get(OTHER_KEY), other);
+    Assert.assertTrue(timings.containsKey(slottedKey));
+    Assert.assertFalse(timings.containsKey(FrameworkTimingKeys.SERVER_REQUEST.key()));
+    Assert.assertEquals(timings.size(), 2);
+
+    Map<TimingKey, TimingContext> expected = new HashMap<>();
+    expected.put(slottedKey, slotted);
+    expected.put(OTHER_KEY, other);
+    Assert.assertEquals(timings, expected);
+    Assert.assertEquals(new HashMap<>(timings), expected);
+
+    Assert.assertSame(timings.remove(slottedKey), slotted);
+    Assert.assertNull(timings.get(slottedKey));
+    Assert.assertEquals(timings.size(), 1);
+  }
+
+  @Test
+  public void testIteratorRemove()
+  {
+    RequestTimings timings = new RequestTimings();
+    timings.put(FrameworkTimingKeys.RESOURCE.key(), new TimingContext(FrameworkTimingKeys.RESOURCE.key()));
+    timings.put(OTHER_KEY, new TimingContext(OTHER_KEY));
+
+    Iterator<Map.Entry<TimingKey, TimingContext>> iterator = timings.entrySet().iterator();
+    while (iterator.hasNext())
+    {
+      iterator.next();
+      iterator.remove();
+    }
+    Assert.assertTrue(timings.isEmpty());
+  }
+
+  @Test(expectedExceptions = NullPointerException.class)
+  public void testRejectsNullValues()
+  {
+    new RequestTimings().put(FrameworkTimingKeys.RESOURCE.key(), null);
+  }
+
+  @Test
+  public void testTimingContextUtilUsesRequestTimings()
+  {
+    RequestContext requestContext = new RequestContext();
+    TimingContextUtil.beginTiming(requestContext, FrameworkTimingKeys.RESOURCE.key());
+    TimingContextUtil.endTiming(requestContext, FrameworkTimingKeys.RESOURCE.key());
+
+    Map<TimingKey, TimingContext> timings = TimingContextUtil.getTimingsMap(requestContext);
+    Assert.assertTrue(timings instanceof RequestTimings);
+    Assert.assertTrue(timings.get(FrameworkTimingKeys.RESOURCE.key()).isComplete());
+    Assert.assertSame(requestContext.getLocalAttr(TimingContextUtil.TIMINGS_KEY_NAME), timings);
+  }
+
+  @Test
+  public void testFilteredTimingsDoNotCreateTimingsMap()
+  {
+    RequestContext requestContext = new RequestContext();
+    requestContext.putLocalAttr(TimingContextUtil.TIMING_IMPORTANCE_THRESHOLD_KEY_NAME, TimingImportance.HIGH);
+    TimingContextUtil.markTiming(requestContext, OTHER_KEY);
+    TimingContextUtil.markTiming(requestContext, OTHER_KEY);
+    TimingContextUtil.endTiming(requestContext, FrameworkTimingKeys.SERVER_REQUEST_R2.key());
+    Assert.assertNull(requestContext.getLocalAttr(TimingContextUtil.TIMINGS_KEY_NAME));
+  }
+
+  @Test
+  public void testTimingsDisabledAttribute()
+  {
+    RequestContext requestContext = new RequestContext();
+    requestContext.putLocalAttr(TimingContextUtil.TIMINGS_DISABLED_KEY_NAME, "true");
+    TimingContextUtil.markTiming(requestContext, OTHER_KEY);
+    Assert.assertNotNull(requestContext.getLocalAttr(TimingContextUtil.TIMINGS_KEY_NAME));
+
+    requestContext = new RequestContext();
+    requestContext.putLocalAttr(TimingContextUtil.TIMINGS_DISABLED_KEY_NAME, true);
+    TimingContextUtil.markTiming(requestContext, OTHER_KEY);
+    Assert.assertNull(requestContext.getLocalAttr(TimingContextUtil.TIMINGS_KEY_NAME));
+  }
+
+  @Test
+  public void testGlobalTimingImportanceThreshold()
+  {
+    TimingContextUtil.setGlobalTimingImportanceThreshold(TimingImportance.MEDIUM);
+    try
+    {
+      RequestContext requestContext = new RequestContext();
+      TimingContextUtil.beginTiming(requestContext, FrameworkTimingKeys.SERVER_REQUEST_R2_FILTER_CHAIN.key());
+      TimingContextUtil.beginTiming(requestContext, OTHER_KEY);
+      Assert.assertNull(requestContext.getLocalAttr(TimingContextUtil.TIMINGS_KEY_NAME));
+
+      TimingContextUtil.beginTiming(requestContext, FrameworkTimingKeys.SERVER_REQUEST_R2.key());
+      Assert.assertEquals(TimingContextUtil.getTimingsMap(requestContext).keySet().iterator().next(),
+          FrameworkTimingKeys.SERVER_REQUEST_R2.key());
+    }
+    finally
+    {
+      TimingContextUtil.setGlobalTimingImportanceThreshold(null);
+    }
+  }
+
+  @Test
+  public void testTimingsGloballyDisabled()
+  {
+    TimingContextUtil.setTimingsGloballyDisabled(true);
+    try
+    {
+      RequestContext requestContext = new RequestContext();
+      TimingContextUtil.markTiming(requestContext, FrameworkTimingKeys.SERVER_REQUEST.key());
+      TimingContextUtil.markTiming(requestContext, OTHER_KEY, 10L);
+      Assert.assertNull(requestContext.getLocalAttr(TimingContextUtil.TIMINGS_KEY_NAME));
+    }
+    finally
+    {
+      TimingContextUtil.setTimingsGloballyDisabled(false);
+    }
+  }
+}
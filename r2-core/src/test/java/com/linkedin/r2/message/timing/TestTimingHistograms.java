@@ -0,0 +1,79 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.message.timing;
+
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.timing.TimingContextUtil.TimingContext;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link TimingHistograms}.
+ */
+public class TestTimingHistograms
+{
+  // Durations are recorded with two significant digits.
+  @Test
+  public void testRecordCompletedTimings()
+  {
+    TimingHistograms histograms = new TimingHistograms();
+    TimingKey resourceKey = FrameworkTimingKeys.RESOURCE.key();
+    TimingKey serverRequestKey = FrameworkTimingKeys.SERVER_REQUEST.key();
+
+    for (int i = 1; i <= 100; i++)
+    {
+      RequestContext requestContext = new RequestContext();
+      TimingContextUtil.markTiming(requestContext, resourceKey, TimeUnit.MILLISECONDS.toNanos(i));
+      // Timings that never complete are not recorded.
+      TimingContextUtil.beginTiming(requestContext, serverRequestKey);
+      histograms.record("greetings:get", requestContext);
+    }
+
+    Assert.assertEquals(histograms.getGroups(), Collections.singletonList("greetings:get"));
+    Assert.assertEquals(histograms.getTimingNames("greetings:get"), Collections.singletonList(resourceKey.getName()));
+    Assert.assertEquals(histograms.getCount("greetings:get", resourceKey.getName()), 100L);
+    Assert.assertEquals(histograms.getPercentileMs("greetings:get", resourceKey.getName(), 50), 50.0, 0.5);
+    Assert.assertEquals(histograms.getPercentileMs("greetings:get", resourceKey.getName(), 99), 99.0, 1.0);
+    Assert.assertEquals(histograms.getPercentileMs("greetings:get", serverRequestKey.getName(), 99), -1.0);
+    Assert.assertTrue(histograms.getSummary().startsWith("greetings:get " + resourceKey.getName() + ": count=100"));
+
+    histograms.reset();
+    Assert.assertTrue(histograms.getGroups().isEmpty());
+    Assert.assertEquals(histograms.getCount("greetings:get", resourceKey.getName()), 0L);
+  }
+
+  @Test
+  public void testGroupsAreSeparate()
+  {
+    TimingHistograms histograms = new TimingHistograms();
+    TimingKey resourceKey = FrameworkTimingKeys.RESOURCE.key();
+
+    histograms.record("greetings:get",
+        Collections.singletonMap(resourceKey, new TimingContext(resourceKey, TimeUnit.MILLISECONDS.toNanos(1))));
+    histograms.record("greetings:finder:search",
+        Collections.singletonMap(resourceKey, new TimingContext(resourceKey, TimeUnit.MILLISECONDS.toNanos(3))));
+    // Requests without timings are ignored.
+    histograms.record("greetings:create", new RequestContext());
+
+    Assert.assertEquals(histograms.getGroups(), Arrays.asList("greetings:finder:search", "greetings:get"));
+    Assert.assertEquals(histograms.getPercentileMs("greetings:get", resourceKey.getName(), 100), 1.0, 0.01);
+    Assert.assertEquals(histograms.getPercentileMs("greetings:finder:search", resourceKey.getName(), 100), 3.0, 0.03);
+  }
+}
@@ -0,0 +1,138 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package test.r2.filter;
+
+import com.linkedin.r2.RetriableRequestException;
+import com.linkedin.r2.filter.FilterChain;
+import com.linkedin.r2.filter.FilterChains;
+import com.linkedin.r2.filter.NextFilter;
+import com.linkedin.r2.filter.limiter.AdaptiveConcurrencyLimiter;
+import com.linkedin.r2.filter.limiter.AimdConcurrencyLimit;
+import com.linkedin.r2.filter.limiter.ClientConcurrencyLimitFilter;
+import com.linkedin.r2.filter.limiter.ServerConcurrencyLimitFilter;
+import com.linkedin.r2.filter.message.stream.StreamFilter;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.rest.RestException;
+import com.linkedin.r2.message.rest.RestStatus;
+import com.linkedin.r2.message.stream.StreamException;
+import com.linkedin.r2.message.stream.StreamRequest;
+import com.linkedin.r2.message.stream.StreamResponse;
+import com.linkedin.r2.testutils.filter.CaptureLastCallFilter;
+import com.linkedin.r2.testutils.filter.FilterUtil;
+import com.linkedin.util.clock.SettableClock;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestConcurrencyLimitFilter
+{
+  @Test
+  public void testRejectsBeyondLimit()
+  {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+        new AimdConcurrencyLimit(2, 1, 10, 0.5, TimeUnit.SECONDS.toNanos(1)), new SettableClock());
+    CaptureLastCallFilter captureFilter = new CaptureLastCallFilter();
+    FilterChain filterChain = FilterChains.createRestChain(captureFilter, new ServerConcurrencyLimitFilter(limiter));
+
+    RequestContext first = new RequestContext();
+    FilterUtil.fireRestRequest(filterChain, FilterUtil.simpleRestRequest(), first, FilterUtil.emptyWireAttrs());
+    FilterUtil.fireRestRequest(filterChain, FilterUtil.simpleRestRequest(), new RequestContext(),
+        FilterUtil.emptyWireAttrs());
+    Assert.assertEquals(limiter.getInflight(), 2);
+    Assert.assertNull(captureFilter.getLastErr());
+
+    FilterUtil.fireRestRequest(filterChain, FilterUtil.simpleRestRequest(), new RequestContext(),
+        FilterUtil.emptyWireAttrs());
+    Assert.assertEquals(limiter.getInflight(), 2);
+    Assert.assertEquals(limiter.getRejectedCount(), 1);
+    RestException rejection = (RestException) captureFilter.getLastErr();
+    Assert.assertEquals(rejection.getResponse().getStatus(), RestStatus.SERVICE_UNAVAILABLE);
+    Assert.assertTrue(rejection.getCause() instanceof RetriableRequestException);
+
+    // Completing a request frees its permit exactly once.
+    FilterUtil.fireRestResponse(filterChain, FilterUtil.simpleRestResponse(), first, FilterUtil.emptyWireAttrs());
+    FilterUtil.fireRestResponse(filterChain, FilterUtil.simpleRestResponse(), first, FilterUtil.emptyWireAttrs());
+    Assert.assertEquals(limiter.getInflight(), 1);
+    Assert.assertEquals(limiter.getAcceptedCount(), 2);
+  }
+
+  @Test
+  public void testOverloadLowersLimit()
+  {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+        new AimdConcurrencyLimit(8, 1, 10, 0.5, TimeUnit.SECONDS.toNanos(1)), new SettableClock());
+    FilterChain filterChain = FilterChains.createRestChain(new ClientConcurrencyLimitFilter(limiter));
+
+    RequestContext timedOut = new RequestContext();
+    FilterUtil.fireRestRequest(filterChain, FilterUtil.simpleRestRequest(), timedOut, FilterUtil.emptyWireAttrs());
+    FilterUtil.fireRestError(filterChain, new RuntimeException(new TimeoutException()), timedOut,
+        FilterUtil.emptyWireAttrs());
+    Assert.assertEquals(limiter.getLimit(), 4);
+    Assert.assertEquals(limiter.getDroppedCount(), 1);
+
+    RequestContext unavailable = new RequestContext();
+    FilterUtil.fireRestRequest(filterChain, FilterUtil.simpleRestRequest(), unavailable, FilterUtil.emptyWireAttrs());
+    FilterUtil.fireRestError(filterChain, RestException.forError(RestStatus.SERVICE_UNAVAILABLE, "busy"), unavailable,
+        FilterUtil.emptyWireAttrs());
+    Assert.assertEquals(limiter.getLimit(), 2);
+
+    // Application errors release the permit without affecting the limit.
+    RequestContext failed = new RequestContext();
+    FilterUtil.fireRestRequest(filterChain, FilterUtil.simpleRestRequest(), failed, FilterUtil.emptyWireAttrs());
+    FilterUtil.fireRestError(filterChain, RestException.forError(RestStatus.INTERNAL_SERVER_ERROR, "bug"), failed,
+        FilterUtil.emptyWireAttrs());
+    Assert.assertEquals(limiter.getLimit(), 2);
+    Assert.assertEquals(limiter.getInflight(), 0);
+    Assert.assertEquals(limiter.getDroppedCount(), 2);
+  }
+
+  @Test
+  public void testStreamRejection()
+  {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+        new AimdConcurrencyLimit(1, 1, 1, 0.5, TimeUnit.SECONDS.toNanos(1)), new SettableClock());
+    ClientConcurrencyLimitFilter limitFilter = new ClientConcurrencyLimitFilter(limiter);
+    StreamCaptureFilter captureFilter = new StreamCaptureFilter();
+    FilterChain filterChain = FilterChains.createStreamChain(captureFilter, limitFilter);
+
+    RequestContext first = new RequestContext();
+    FilterUtil.fireStreamRequest(filterChain, FilterUtil.simpleStreamRequest(), first, FilterUtil.emptyWireAttrs());
+    FilterUtil.fireStreamRequest(filterChain, FilterUtil.simpleStreamRequest(), new RequestContext(),
+        FilterUtil.emptyWireAttrs());
+    Assert.assertEquals(((StreamException) captureFilter._lastErr).getResponse().getStatus(),
+        RestStatus.SERVICE_UNAVAILABLE);
+
+    FilterUtil.fireStreamResponse(filterChain, FilterUtil.simpleStreamResponse(), first, FilterUtil.emptyWireAttrs());
+    Assert.assertEquals(limiter.getInflight(), 0);
+  }
+
+  private static class StreamCaptureFilter implements StreamFilter
+  {
+    private Throwable _lastErr;
+
+    @Override
+    public void onStreamError(Throwable ex, RequestContext requestContext, Map<String, String> wireAttrs,
+        NextFilter<StreamRequest, StreamResponse> nextFilter)
+    {
+      _lastErr = ex;
+      nextFilter.onError(ex, requestContext, wireAttrs);
+    }
+  }
+}
@@ -0,0 +1,271 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package test.r2.transport.http.client;
+
+import com.linkedin.common.callback.FutureCallback;
+import com.linkedin.common.stats.LongTracking;
+import com.linkedin.common.util.None;
+import com.linkedin.r2.SizeLimitExceededException;
+import com.linkedin.r2.transport.http.client.AsyncPool;
+import com.linkedin.r2.transport.http.client.AsyncPoolImpl;
+import com.linkedin.r2.transport.http.client.ConcurrentAsyncPoolImpl;
+import com.linkedin.r2.transport.http.client.NoopRateLimiter;
+import com.linkedin.r2.transport.http.client.PoolStats;
+import com.linkedin.r2.transport.http.client.WaiterTimeoutException;
+import com.linkedin.r2.util.Cancellable;
+import com.linkedin.util.clock.SystemClock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+
+public class TestConcurrentAsyncPool
+{
+  private final ScheduledExecutorService _executor = Executors.newSingleThreadScheduledExecutor();
+
+  @AfterClass
+  public void stopExecutor()
+  {
+    _executor.shutdown();
+  }
+
+  private AsyncPool<Object> createPool(AsyncPool.Lifecycle<Object> lifecycle, int maxSize, int maxWaiters,
+      long waiterTimeout, AsyncPoolImpl.Strategy strategy)
+  {
+    return new ConcurrentAsyncPoolImpl<>("object pool", lifecycle, maxSize, 0, waiterTimeout, _executor, maxWaiters,
+        strategy, 0, new NoopRateLimiter(), SystemClock.instance(), new LongTracking());
+  }
+
+  @Test
+  public void testStrategies() throws Exception
+  {
+    for (AsyncPoolImpl.Strategy strategy : AsyncPoolImpl.Strategy.values())
+    {
+      AsyncPool<Object> pool = createPool(new TestAsyncPool.SynchronousLifecycle(), 2, Integer.MAX_VALUE,
+          Integer.MAX_VALUE, strategy);
+      pool.start();
+
+      FutureCallback<Object> cb1 = new FutureCallback<>();
+      FutureCallback<Object> cb2 = new FutureCallback<>();
+      pool.get(cb1);
+      pool.get(cb2);
+      Object first = cb1.get(5, TimeUnit.SECONDS);
+      Object second = cb2.get(5, TimeUnit.SECONDS);
+      Assert.assertNotSame(first, second);
+      pool.put(first);
+      pool.put(second);
+
+      FutureCallback<Object> cb3 = new FutureCallback<>();
+      pool.get(cb3);
+      Assert.assertSame(cb3.get(5, TimeUnit.SECONDS), strategy == AsyncPoolImpl.Strategy.MRU ? second : first);
+    }
+  }
+
+  @Test
+  public void testWaiters() throws Exception
+  {
+    TestAsyncPool.SynchronousLifecycle lifecycle = new TestAsyncPool.SynchronousLifecycle();
+    AsyncPool<Object> pool = createPool(lifecycle, 1, 1, Integer.MAX_VALUE, AsyncPoolImpl.Strategy.MRU);
+    pool.start();
+
+    FutureCallback<Object> cb1 = new FutureCallback<>();
+    pool.get(cb1);
+    Object obj = cb1.get(5, TimeUnit.SECONDS);
+
+    FutureCallback<Object> waiter = new FutureCallback<>();
+    pool.get(waiter);
+    Assert.assertFalse(waiter.isDone());
+
+    FutureCallback<Object> rejected = new FutureCallback<>();
+    pool.get(rejected);
+    try
+    {
+      rejected.get(5, TimeUnit.SECONDS);
+      Assert.fail("Get succeeded beyond the maximum number of waiters");
+    }
+    catch (ExecutionException e)
+    {
+      Assert.assertTrue(e.getCause() instanceof SizeLimitExceededException);
+    }
+
+    pool.put(obj);
+    Assert.assertSame(waiter.get(5, TimeUnit.SECONDS), obj);
+
+    FutureCallback<Object> cancelled = new FutureCallback<>();
+    Cancellable cancellable = pool.get(cancelled);
+    Assert.assertTrue(cancellable.cancel());
+    Assert.assertFalse(cancellable.cancel());
+    pool.put(obj);
+    Assert.assertFalse(cancelled.isDone());
+
+    PoolStats stats = pool.getStats();
+    Assert.assertEquals(stats.getTotalCreated(), 1);
+    Assert.assertEquals(stats.getCheckedOut(), 0);
+    Assert.assertEquals(stats.getIdleCount(), 1);
+    Assert.assertEquals(stats.getPoolSize(), 1);
+    Assert.assertEquals(lifecycle.getLive(), 1);
+  }
+
+  @Test
+  public void testWaiterTimeout() throws Exception
+  {
+    AsyncPool<Object> pool = createPool(new TestAsyncPool.SynchronousLifecycle(), 1, Integer.MAX_VALUE,
+        AsyncPoolImpl.MIN_WAITER_TIMEOUT, AsyncPoolImpl.Strategy.MRU);
+    pool.start();
+
+    FutureCallback<Object> cb = new FutureCallback<>();
+    pool.get(cb);
+    Object obj = cb.get(5, TimeUnit.SECONDS);
+
+    FutureCallback<Object> waiter = new FutureCallback<>();
+    pool.get(waiter);
+    try
+    {
+      waiter.get(5, TimeUnit.SECONDS);
+      Assert.fail("Waiter did not time out");
+    }
+    catch (ExecutionException e)
+    {
+      Assert.assertTrue(e.getCause() instanceof WaiterTimeoutException);
+    }
+    Assert.assertEquals(pool.getStats().getTotalWaiterTimedOut(), 1);
+
+    pool.put(obj);
+    Assert.assertEquals(pool.getStats().getIdleCount(), 1);
+  }
+
+  @Test
+  public void testShutdown() throws Exception
+  {
+    AsyncPool<Object> pool = createPool(new TestAsyncPool.SynchronousLifecycle(), 1, Integer.MAX_VALUE,
+        Integer.MAX_VALUE, AsyncPoolImpl.Strategy.MRU);
+    pool.start();
+
+    FutureCallback<Object> cb = new FutureCallback<>();
+    pool.get(cb);
+    Object obj = cb.get(5, TimeUnit.SECONDS);
+
+    FutureCallback<None> shutdown = new FutureCallback<>();
+    pool.shutdown(shutdown);
+    Assert.assertFalse(shutdown.isDone());
+
+    FutureCallback<Object> rejected = new FutureCallback<>();
+    pool.get(rejected);
+    try
+    {
+      rejected.get(5, TimeUnit.SECONDS);
+      Assert.fail("Get succeeded on a pool shutting down");
+    }
+    catch (ExecutionException e)
+    {
+      Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+
+    pool.put(obj);
+    shutdown.get(5, TimeUnit.SECONDS);
+
+    FutureCallback<None> secondShutdown = new FutureCallback<>();
+    pool.shutdown(secondShutdown);
+    try
+    {
+      secondShutdown.get(5, TimeUnit.SECONDS);
+      Assert.fail("Shutdown succeeded twice");
+    }
+    catch (ExecutionException e)
+    {
+      Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+  }
+
+  @Test
+  public void testConcurrentCheckout() throws Exception
+  {
+    final int threads = 16;
+    final int iterations = 2000;
+    final int maxSize = 4;
+    TestAsyncPool.SynchronousLifecycle lifecycle = new TestAsyncPool.SynchronousLifecycle();
+    AsyncPool<Object> pool = createPool(lifecycle, maxSize, Integer.MAX_VALUE, Integer.MAX_VALUE,
+        AsyncPoolImpl.Strategy.MRU);
+    pool.start();
+
+    AtomicInteger inUse = new AtomicInteger();
+    AtomicInteger maxInUse = new AtomicInteger();
+    List<Throwable> errors = new ArrayList<>();
+    CountDownLatch done = new CountDownLatch(threads);
+    ExecutorService workers = Executors.newFixedThreadPool(threads);
+    for (int i = 0; i < threads; i++)
+    {
+      workers.execute(() ->
+      {
+        try
+        {
+          for (int j = 0; j < iterations; j++)
+          {
+            FutureCallback<Object> cb = new FutureCallback<>();
+            pool.get(cb);
+            Object obj = cb.get(30, TimeUnit.SECONDS);
+            maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+            inUse.decrementAndGet();
+            if (ThreadLocalRandom.current().nextInt(100) == 0)
+            {
+              pool.dispose(obj);
+            }
+            else
+            {
+              pool.put(obj);
+            }
+          }
+        }
+        catch (Throwable e)
+        {
+          synchronized (errors)
+          {
+            errors.add(e);
+          }
+        }
+        finally
+        {
+          done.countDown();
+        }
+      });
+    }
+    Assert.assertTrue(done.await(60, TimeUnit.SECONDS));
+    workers.shutdown();
+    Assert.assertEquals(errors, new ArrayList<Throwable>());
+
+    PoolStats stats = pool.getStats();
+    Assert.assertTrue(maxInUse.get() <= maxSize);
+    Assert.assertTrue(lifecycle.getHighWaterMark() <= maxSize);
+    Assert.assertEquals(stats.getCheckedOut(), 0);
+    Assert.assertEquals(stats.getIdleCount(), stats.getPoolSize());
+    Assert.assertEquals(stats.getTotalCreated() - stats.getTotalDestroyed(), stats.getPoolSize());
+
+    FutureCallback<None> shutdown = new FutureCallback<>();
+    pool.shutdown(shutdown);
+    shutdown.get(5, TimeUnit.SECONDS);
+  }
+}
@@ -62,7 +62,9 @@ public class ServerProviderConfiguration
   {
     return Arrays.asList(
       new Http2JettyServerProvider(true),
-      new Http2JettyServerProvider(false)
+      new Http2JettyServerProvider(false),
+      new Http2NettyServerProvider(true),
+      new Http2NettyServerProvider(false)
     );
   }
 
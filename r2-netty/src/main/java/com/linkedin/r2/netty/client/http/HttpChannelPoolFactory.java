@@ -17,9 +17,12 @@
 package com.linkedin.r2.netty.client.http;
 
 import com.linkedin.common.stats.NoopLongTracker;
+import com.linkedin.r2.netty.common.NettyTransport;
 import com.linkedin.r2.transport.http.client.AsyncPool;
 import com.linkedin.r2.transport.http.client.AsyncPoolImpl;
+import com.linkedin.r2.transport.http.client.ConcurrentAsyncPoolImpl;
 import com.linkedin.r2.transport.http.client.ExponentialBackOffRateLimiter;
+import com.linkedin.r2.transport.http.client.RateLimiter;
 import com.linkedin.r2.transport.http.client.common.ChannelPoolFactory;
 import com.linkedin.r2.transport.http.client.common.ChannelPoolLifecycle;
 import com.linkedin.util.clock.SystemClock;
@@ -29,7 +32,6 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import java.net.SocketAddress;
 import java.util.concurrent.ScheduledExecutorService;
 import javax.net.ssl.SSLContext;
@@ -55,6 +57,7 @@ public class HttpChannelPoolFactory implements ChannelPoolFactory
   private final ScheduledExecutorService _scheduler;
   private final AsyncPoolImpl.Strategy _strategy;
   private int _channelPoolWaiterTimeout;
+  private final boolean _lockFreePool;
 
   public HttpChannelPoolFactory(
       ScheduledExecutorService scheduler,
@@ -77,7 +80,8 @@ public class HttpChannelPoolFactory implements ChannelPoolFactory
       int channelPoolWaiterTimeout,
       int connectTimeout,
       int sslHandShakeTimeout,
-      String udsAddress)
+      String udsAddress,
+      boolean lockFreePool)
   {
     ChannelInitializer<Channel> initializer = new HttpChannelInitializer(sslContext, sslParameters,
         maxInitialLineLength, maxHeaderSize, maxChunkSize, maxContentLength, enableSSLSessionResumption, sslHandShakeTimeout);
@@ -92,9 +96,10 @@ public class HttpChannelPoolFactory implements ChannelPoolFactory
     _idleTimeout = idleTimeout;
     _tcpNoDelay = tcpNoDelay;
     _channelPoolWaiterTimeout = channelPoolWaiterTimeout;
+    _lockFreePool = lockFreePool;
 
     Bootstrap bootstrap = !StringUtils.isEmpty(udsAddress) ?
-        new Bootstrap().channel(getDomainSocketClass()) : new Bootstrap().channel(NioSocketChannel.class);
+        new Bootstrap().channel(getDomainSocketClass()) : new Bootstrap().channel(NettyTransport.of(eventLoopGroup).getChannelClass());
 
     _bootstrap = bootstrap
         .group(eventLoopGroup)
@@ -105,25 +110,20 @@ public class HttpChannelPoolFactory implements ChannelPoolFactory
   @Override
   public AsyncPool<Channel> getPool(SocketAddress address)
   {
-    return new AsyncPoolImpl<>(address.toString(),
-        new ChannelPoolLifecycle(address,
-            _bootstrap,
-            _allChannels,
-            _tcpNoDelay),
-        _maxPoolSize,
-        _idleTimeout,
-        _channelPoolWaiterTimeout,
+    ChannelPoolLifecycle lifecycle = new ChannelPoolLifecycle(address, _bootstrap, _allChannels, _tcpNoDelay);
+    RateLimiter rateLimiter = new ExponentialBackOffRateLimiter(0,
+        ChannelPoolLifecycle.MAX_PERIOD_BEFORE_RETRY_CONNECTIONS,
+        ChannelPoolLifecycle.INITIAL_PERIOD_BEFORE_RETRY_CONNECTIONS,
         _scheduler,
-        _maxPoolWaiterSize,
-        _strategy,
-        _minPoolSize,
-        new ExponentialBackOffRateLimiter(0,
-            ChannelPoolLifecycle.MAX_PERIOD_BEFORE_RETRY_CONNECTIONS,
-            ChannelPoolLifecycle.INITIAL_PERIOD_BEFORE_RETRY_CONNECTIONS,
-            _scheduler,
-            _maxConcurrentConnectionInitializations),
-        SystemClock.instance(),
-        NoopLongTracker.instance()
-    );
+        _maxConcurrentConnectionInitializations);
+    if (_lockFreePool)
+    {
+      return new ConcurrentAsyncPoolImpl<>(address.toString(), lifecycle, _maxPoolSize, _idleTimeout,
+          _channelPoolWaiterTimeout, _scheduler, _maxPoolWaiterSize, _strategy, _minPoolSize, rateLimiter,
+          SystemClock.instance(), NoopLongTracker.instance());
+    }
+    return new AsyncPoolImpl<>(address.toString(), lifecycle, _maxPoolSize, _idleTimeout,
+        _channelPoolWaiterTimeout, _scheduler, _maxPoolWaiterSize, _strategy, _minPoolSize, rateLimiter,
+        SystemClock.instance(), NoopLongTracker.instance());
   }
 }
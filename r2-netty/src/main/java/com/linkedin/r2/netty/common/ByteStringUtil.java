@@ -0,0 +1,104 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.netty.common;
+
+import com.linkedin.data.ByteString;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Converts between Netty {@link ByteBuf}s and {@link ByteString}s with as few copies as possible.
+ *
+ * <p>{@link ByteString} is an immutable value that may be shared freely after the Netty buffer it was read from is
+ * released, so inbound content is still copied to the heap exactly once. Large content is copied into chunks of at
+ * most {@link #MAX_CHUNK_SIZE} bytes, which keeps multi-megabyte entities out of humongous allocations.
+ * Outbound content is never copied: each chunk of the {@link ByteString} is wrapped as a component of a composite
+ * buffer, instead of being assembled into one contiguous array first.</p>
+ */
+public class ByteStringUtil
+{
+  /**
+   * The maximum size of a chunk when copying inbound content. Arrays of this size stay below the humongous object
+   * threshold of G1 even with the smallest region size.
+   */
+  public static final int MAX_CHUNK_SIZE = 256 * 1024;
+
+  private ByteStringUtil()
+  {
+  }
+
+  /**
+   * Reads all readable bytes of the given buffer into a new {@link ByteString}. The reader index of the buffer is
+   * advanced past the bytes read, and the buffer is not released.
+   *
+   * @param buf the buffer to read from.
+   * @return a {@link ByteString} holding a copy of the readable bytes of the buffer.
+   */
+  public static ByteString read(ByteBuf buf)
+  {
+    final int length = buf.readableBytes();
+    if (length == 0)
+    {
+      return ByteString.empty();
+    }
+    if (length <= MAX_CHUNK_SIZE)
+    {
+      byte[] bytes = new byte[length];
+      buf.readBytes(bytes);
+      return ByteString.unsafeWrap(bytes);
+    }
+
+    List<byte[]> chunks = new ArrayList<>((length + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE);
+    int remaining = length;
+    while (remaining > 0)
+    {
+      byte[] chunk = new byte[Math.min(remaining, MAX_CHUNK_SIZE)];
+      buf.readBytes(chunk);
+      chunks.add(chunk);
+      remaining -= chunk.length;
+    }
+    return new ByteString(chunks, chunks.get(chunks.size() - 1).length);
+  }
+
+  /**
+   * Wraps the given {@link ByteString} in a {@link ByteBuf} without copying its content. A {@link ByteString} made of
+   * several chunks is wrapped as a composite buffer with one component per chunk.
+   *
+   * @param byteString the content to wrap.
+   * @return a read only buffer over the content of the {@link ByteString}.
+   */
+  public static ByteBuf wrap(ByteString byteString)
+  {
+    List<ByteString> chunks = byteString.decompose();
+    if (chunks.size() == 1)
+    {
+      return Unpooled.wrappedBuffer(byteString.asByteBuffer());
+    }
+
+    ByteBuffer[] buffers = new ByteBuffer[chunks.size()];
+    for (int i = 0; i < buffers.length; i++)
+    {
+      // Each decomposed chunk is backed by a single array, so this does not copy.
+      buffers[i] = chunks.get(i).asByteBuffer();
+    }
+    return Unpooled.wrappedBuffer(buffers);
+  }
+}
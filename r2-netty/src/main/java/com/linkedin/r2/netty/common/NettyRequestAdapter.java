@@ -22,7 +22,6 @@ import com.linkedin.r2.message.stream.StreamRequest;
 import com.linkedin.r2.transport.http.common.HttpConstants;
 import com.linkedin.r2.transport.http.util.CookieUtil;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.DefaultHttpRequest;
 import io.netty.handler.codec.http.HttpHeaderNames;
@@ -65,7 +64,7 @@ public class NettyRequestAdapter
       path = "/";
     }
 
-    ByteBuf content = Unpooled.wrappedBuffer(request.getEntity().asByteBuffer());
+    ByteBuf content = ByteStringUtil.wrap(request.getEntity());
     HttpRequest nettyRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, nettyMethod, path, content);
     nettyRequest.headers().set(HttpConstants.CONTENT_LENGTH, request.getEntity().length());
 
@@ -0,0 +1,220 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.netty.common;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.kqueue.KQueue;
+import io.netty.channel.kqueue.KQueueEventLoopGroup;
+import io.netty.channel.kqueue.KQueueServerSocketChannel;
+import io.netty.channel.kqueue.KQueueSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import java.util.concurrent.ThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * The Netty transports R2 can run its event loops and TCP channels on. Native transports avoid the JDK selector and
+ * reduce syscall overhead, but are only available on some platforms; {@link #orFallback()} resolves a requested
+ * transport to one that can actually be used.
+ *
+ * <p>The event loop group and the channel classes must always come from the same transport. Components that are
+ * handed an existing {@link EventLoopGroup} should use {@link #of(EventLoopGroup)} to pick matching channels.</p>
+ */
+public enum NettyTransport
+{
+  NIO
+  {
+    @Override
+    public boolean isAvailable()
+    {
+      return true;
+    }
+
+    @Override
+    public EventLoopGroup newEventLoopGroup(int numThreads, ThreadFactory threadFactory)
+    {
+      return new NioEventLoopGroup(numThreads, threadFactory);
+    }
+
+    @Override
+    public Class<? extends ServerSocketChannel> getServerChannelClass()
+    {
+      return NioServerSocketChannel.class;
+    }
+
+    @Override
+    public Class<? extends SocketChannel> getChannelClass()
+    {
+      return NioSocketChannel.class;
+    }
+  },
+
+  /**
+   * Linux epoll. This is the only transport on which {@link #supportsReusePort()} is true.
+   */
+  EPOLL
+  {
+    @Override
+    public boolean isAvailable()
+    {
+      return Epoll.isAvailable();
+    }
+
+    @Override
+    public EventLoopGroup newEventLoopGroup(int numThreads, ThreadFactory threadFactory)
+    {
+      return new EpollEventLoopGroup(numThreads, threadFactory);
+    }
+
+    @Override
+    public Class<? extends ServerSocketChannel> getServerChannelClass()
+    {
+      return EpollServerSocketChannel.class;
+    }
+
+    @Override
+    public Class<? extends SocketChannel> getChannelClass()
+    {
+      return EpollSocketChannel.class;
+    }
+
+    @Override
+    public boolean supportsReusePort()
+    {
+      return true;
+    }
+  },
+
+  /**
+   * BSD and macOS kqueue.
+   */
+  KQUEUE
+  {
+    @Override
+    public boolean isAvailable()
+    {
+      return KQueue.isAvailable();
+    }
+
+    @Override
+    public EventLoopGroup newEventLoopGroup(int numThreads, ThreadFactory threadFactory)
+    {
+      return new KQueueEventLoopGroup(numThreads, threadFactory);
+    }
+
+    @Override
+    public Class<? extends ServerSocketChannel> getServerChannelClass()
+    {
+      return KQueueServerSocketChannel.class;
+    }
+
+    @Override
+    public Class<? extends SocketChannel> getChannelClass()
+    {
+      return KQueueSocketChannel.class;
+    }
+  };
+
+  private static final Logger LOG = LoggerFactory.getLogger(NettyTransport.class);
+
+  /**
+   * @return true if the native libraries backing this transport can be loaded on this host.
+   */
+  public abstract boolean isAvailable();
+
+  /**
+   * Creates a new event loop group on this transport.
+   *
+   * @param numThreads the number of event loops, or 0 to use Netty's default.
+   * @param threadFactory the factory for the event loop threads.
+   */
+  public abstract EventLoopGroup newEventLoopGroup(int numThreads, ThreadFactory threadFactory);
+
+  /**
+   * @return the server channel class to bind with on event loops of this transport.
+   */
+  public abstract Class<? extends ServerSocketChannel> getServerChannelClass();
+
+  /**
+   * @return the TCP channel class to connect with on event loops of this transport.
+   */
+  public abstract Class<? extends SocketChannel> getChannelClass();
+
+  /**
+   * @return true if several server channels can bind the same port with {@code SO_REUSEPORT} and have the kernel
+   *         balance incoming connections between them.
+   */
+  public boolean supportsReusePort()
+  {
+    return false;
+  }
+
+  /**
+   * @return this transport if it is available on this host, or {@link #NIO} otherwise.
+   */
+  public NettyTransport orFallback()
+  {
+    if (isAvailable())
+    {
+      return this;
+    }
+    LOG.warn("Netty transport {} is not available on this host, falling back to {}", this, NIO);
+    return NIO;
+  }
+
+  /**
+   * @return the preferred native transport of this host, or {@link #NIO} if none is available.
+   */
+  public static NettyTransport nativeOrNio()
+  {
+    if (EPOLL.isAvailable())
+    {
+      return EPOLL;
+    }
+    if (KQUEUE.isAvailable())
+    {
+      return KQUEUE;
+    }
+    return NIO;
+  }
+
+  /**
+   * Returns the transport of the given event loop group, so that channels registered with it are of a matching
+   * class. Groups of unknown types are assumed to be NIO based.
+   */
+  public static NettyTransport of(EventLoopGroup eventLoopGroup)
+  {
+    if (eventLoopGroup instanceof EpollEventLoopGroup)
+    {
+      return EPOLL;
+    }
+    if (eventLoopGroup instanceof KQueueEventLoopGroup)
+    {
+      return KQUEUE;
+    }
+    return NIO;
+  }
+}
@@ -19,9 +19,9 @@ package com.linkedin.r2.netty.handler.http;
 import com.linkedin.data.ByteString;
 import com.linkedin.r2.message.rest.RestRequest;
 import com.linkedin.r2.message.stream.StreamRequest;
+import com.linkedin.r2.netty.common.ByteStringUtil;
 import com.linkedin.r2.netty.common.NettyRequestAdapter;
 import com.linkedin.r2.netty.entitystream.StreamReader;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToMessageEncoder;
@@ -96,7 +96,7 @@ public class HttpMessageEncoders
       }
       else
       {
-        out.add(new DefaultHttpContent(Unpooled.wrappedBuffer(data.asByteBuffer())));
+        out.add(new DefaultHttpContent(ByteStringUtil.wrap(data)));
       }
     }
   }
@@ -19,6 +19,7 @@ package com.linkedin.r2.netty.handler.http2;
 import com.linkedin.data.ByteString;
 import com.linkedin.r2.message.rest.RestRequest;
 import com.linkedin.r2.message.stream.StreamRequest;
+import com.linkedin.r2.netty.common.ByteStringUtil;
 import com.linkedin.r2.netty.common.NettyRequestAdapter;
 import com.linkedin.r2.netty.entitystream.StreamReader;
 
@@ -82,7 +83,7 @@ public final class Http2MessageEncoders
     protected void encode(ChannelHandlerContext ctx, RestRequest request, List<Object> out) throws Exception
     {
       out.add(new DefaultHttp2HeadersFrame(NettyRequestAdapter.toHttp2Headers(request)));
-      ByteBuf content = Unpooled.wrappedBuffer(request.getEntity().asByteBuffer());
+      ByteBuf content = ByteStringUtil.wrap(request.getEntity());
       out.add(new DefaultHttp2DataFrame(content, true));
     }
   }
@@ -102,7 +103,7 @@ public final class Http2MessageEncoders
       }
       else
       {
-        out.add(new DefaultHttp2DataFrame(Unpooled.wrappedBuffer(data.asByteBuffer())));
+        out.add(new DefaultHttp2DataFrame(ByteStringUtil.wrap(data)));
       }
     }
   }
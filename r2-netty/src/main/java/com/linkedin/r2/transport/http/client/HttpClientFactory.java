@@ -41,6 +41,7 @@ import com.linkedin.r2.message.rest.RestResponse;
 import com.linkedin.r2.message.stream.StreamRequest;
 import com.linkedin.r2.message.stream.StreamResponse;
 import com.linkedin.r2.netty.client.DnsMetricsCallback;
+import com.linkedin.r2.netty.common.NettyTransport;
 import com.linkedin.r2.transport.common.TransportClientFactory;
 import com.linkedin.r2.transport.common.bridge.client.TransportClient;
 import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
@@ -130,6 +131,7 @@ public class HttpClientFactory implements TransportClientFactory
   public static final String HTTP_SERVICE_NAME = "http.serviceName";
   public static final String HTTP_POOL_STATS_NAME_PREFIX = "http.poolStatsNamePrefix";
   public static final String HTTP_POOL_STRATEGY = "http.poolStrategy";
+  public static final String HTTP_POOL_LOCK_FREE = "http.poolLockFree";
   public static final String TRANSPORT_PROTOCOL = "transport.protocol";
   public static final String HTTP_POOL_MIN_SIZE = "http.poolMinSize";
   public static final String HTTP_MAX_HEADER_SIZE = "http.maxHeaderSize";
@@ -153,6 +155,7 @@ public class HttpClientFactory implements TransportClientFactory
   public static final String DEFAULT_CLIENT_NAME = "noNameSpecifiedClient";
   public static final String DEFAULT_POOL_STATS_NAME_PREFIX = "noSpecifiedNamePrefix";
   public static final AsyncPoolImpl.Strategy DEFAULT_POOL_STRATEGY = AsyncPoolImpl.Strategy.MRU;
+  public static final boolean DEFAULT_POOL_LOCK_FREE = false;
   public static final int DEFAULT_POOL_MIN_SIZE = 0;
   public static final int DEFAULT_MAX_HEADER_SIZE = 8 * 1024;
   public static final int DEFAULT_MAX_CHUNK_SIZE = 8 * 1024;
@@ -742,6 +745,7 @@ public class HttpClientFactory implements TransportClientFactory
   public static class Builder
   {
     private EventLoopGroup             _eventLoopGroup = null;
+    private NettyTransport             _transport = NettyTransport.NIO;
     private ScheduledExecutorService   _executor = null;
     private ExecutorService            _callbackExecutorGroup = null;
     private boolean                    _shutdownFactory = true;
@@ -778,6 +782,17 @@ public class HttpClientFactory implements TransportClientFactory
       return this;
     }
 
+    /**
+     * @param transport the Netty transport of the {@link EventLoopGroup} created by this builder when none is set
+     *                  with {@link #setEventLoopGroup}. Falls back to {@link NettyTransport#NIO} if the transport is
+     *                  not available on this host. Channels always use the transport of the event loop group.
+     */
+    public Builder setTransport(NettyTransport transport)
+    {
+      _transport = transport;
+      return this;
+    }
+
     /**
      * @param nioEventLoopGroup the {@link NioEventLoopGroup} that all Clients created by this
      *                          factory will share
@@ -983,7 +998,7 @@ public class HttpClientFactory implements TransportClientFactory
       if (eventLoopGroup == null)
       {
         eventLoopGroup = StringUtils.isEmpty(_udsAddress) ?
-              new NioEventLoopGroup(0 /* use default settings */, new NamedThreadFactory("R2 Nio Event Loop"))
+              _transport.orFallback().newEventLoopGroup(0 /* use default settings */, new NamedThreadFactory("R2 Nio Event Loop"))
             : new EpollEventLoopGroup(0, new NamedThreadFactory("R2 Domain Socket Loop"));
       }
 
@@ -1430,6 +1445,7 @@ public class HttpClientFactory implements TransportClientFactory
     Boolean tcpNoDelay = chooseNewOverDefault(getBooleanValue(properties, HTTP_TCP_NO_DELAY), DEFAULT_TCP_NO_DELAY);
     Integer maxConcurrentConnectionInitializations = chooseNewOverDefault(getIntValue(properties, HTTP_MAX_CONCURRENT_CONNECTIONS), DEFAULT_MAX_CONCURRENT_CONNECTIONS);
     AsyncPoolImpl.Strategy strategy = chooseNewOverDefault(getStrategy(properties), DEFAULT_POOL_STRATEGY);
+    Boolean lockFreePool = chooseNewOverDefault(getBooleanValue(properties, HTTP_POOL_LOCK_FREE), DEFAULT_POOL_LOCK_FREE);
     Integer gracefulShutdownTimeout = chooseNewOverDefault(getIntValue(properties, HTTP_GRACEFUL_SHUTDOWN_TIMEOUT), DEFAULT_GRACEFUL_SHUTDOWN_TIMEOUT);
 
     return new ChannelPoolManagerKeyBuilder()
@@ -1438,7 +1454,8 @@ public class HttpClientFactory implements TransportClientFactory
       .setPoolWaiterSize(poolWaiterSize).setSSLParameters(sslParameters).setStrategy(strategy).setMinPoolSize(poolMinSize)
       .setMaxHeaderSize(maxHeaderSize).setMaxChunkSize(maxChunkSize)
       .setMaxConcurrentConnectionInitializations(maxConcurrentConnectionInitializations)
-      .setTcpNoDelay(tcpNoDelay).setPoolStatsNamePrefix(poolStatsNamePrefix).setUdsAddress(_udsAddress).build();
+      .setTcpNoDelay(tcpNoDelay).setPoolStatsNamePrefix(poolStatsNamePrefix).setUdsAddress(_udsAddress)
+      .setLockFreePool(lockFreePool).build();
   }
 
   TransportClient getRawClient(Map<String, ? extends Object> properties,
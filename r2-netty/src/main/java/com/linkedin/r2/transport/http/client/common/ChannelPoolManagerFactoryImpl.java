@@ -124,7 +124,8 @@ public class ChannelPoolManagerFactoryImpl implements ChannelPoolManagerFactory
         channelGroup,
         _channelPoolWaiterTimeout,
         _connectTimeout,
-        _sslHandShakeTimeout),
+        _sslHandShakeTimeout,
+        channelPoolManagerKey.isLockFreePool()),
       channelPoolManagerKey.getName(),
       channelGroup,
       _scheduler);
@@ -158,7 +159,8 @@ public class ChannelPoolManagerFactoryImpl implements ChannelPoolManagerFactory
           _channelPoolWaiterTimeout,
           _connectTimeout,
           _sslHandShakeTimeout,
-          channelPoolManagerKey.getUdsAddress());
+          channelPoolManagerKey.getUdsAddress(),
+          channelPoolManagerKey.isLockFreePool());
     }
     else
     {
@@ -181,7 +183,8 @@ public class ChannelPoolManagerFactoryImpl implements ChannelPoolManagerFactory
           channelGroup,
           _channelPoolWaiterTimeout,
           _connectTimeout,
-          _sslHandShakeTimeout);
+          _sslHandShakeTimeout,
+          channelPoolManagerKey.isLockFreePool());
     }
     return new ChannelPoolManagerImpl(
         channelPoolFactory,
@@ -17,6 +17,7 @@
 package com.linkedin.r2.transport.http.client.common;
 
 import com.linkedin.r2.transport.http.client.AsyncPoolImpl;
+import com.linkedin.r2.transport.http.client.HttpClientFactory;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLParameters;
@@ -46,6 +47,7 @@ public class ChannelPoolManagerKey
   private final boolean _tcpNoDelay;
   private final String _poolStatsNamePrefix;
   private final String _udsAddress;
+  private final boolean _lockFreePool;
 
   @Deprecated
   public ChannelPoolManagerKey(SSLContext sslContext, SSLParameters sslParameters, int gracefulShutdownTimeout,
@@ -63,6 +65,17 @@ public class ChannelPoolManagerKey
                                long maxResponseSize, int maxPoolSize, int minPoolSize,
                                int maxConcurrentConnectionInitializations, int poolWaiterSize, AsyncPoolImpl.Strategy strategy,
                                boolean tcpNoDelay, String poolStatsNamePrefix, String udsAddress)
+  {
+    this(sslContext, sslParameters, gracefulShutdownTimeout, idleTimeout, sslIdleTimeout, maxHeaderSize, maxChunkSize,
+        maxResponseSize, maxPoolSize, minPoolSize, maxConcurrentConnectionInitializations, poolWaiterSize, strategy,
+        tcpNoDelay, poolStatsNamePrefix, udsAddress, HttpClientFactory.DEFAULT_POOL_LOCK_FREE);
+  }
+
+  public ChannelPoolManagerKey(SSLContext sslContext, SSLParameters sslParameters, int gracefulShutdownTimeout,
+                               long idleTimeout, long sslIdleTimeout, int maxHeaderSize, int maxChunkSize,
+                               long maxResponseSize, int maxPoolSize, int minPoolSize,
+                               int maxConcurrentConnectionInitializations, int poolWaiterSize, AsyncPoolImpl.Strategy strategy,
+                               boolean tcpNoDelay, String poolStatsNamePrefix, String udsAddress, boolean lockFreePool)
   {
     _sslContext = sslContext;
     _sslParameters = sslParameters;
@@ -80,6 +93,7 @@ public class ChannelPoolManagerKey
     _tcpNoDelay = tcpNoDelay;
     _poolStatsNamePrefix = poolStatsNamePrefix;
     _udsAddress = udsAddress;
+    _lockFreePool = lockFreePool;
   }
 
   /**
@@ -117,6 +131,7 @@ public class ChannelPoolManagerKey
     result = 31 * result + _poolWaiterSize;
     result = 31 * result + (_strategy != null ? _strategy.toString().hashCode() : 0);
     result = 31 * result + (_tcpNoDelay ? 1 : 0);
+    result = 31 * result + (_lockFreePool ? 1 : 0);
     result = 31 * result + (isSsl() ? 1 : 0);
     result = 31 * result + (_poolStatsNamePrefix != null ? _poolStatsNamePrefix.hashCode() : 0);
     return result;
@@ -199,6 +214,15 @@ public class ChannelPoolManagerKey
     return _udsAddress;
   }
 
+  /**
+   * @return true if channel pools should use {@link com.linkedin.r2.transport.http.client.ConcurrentAsyncPoolImpl}
+   *         instead of {@link AsyncPoolImpl}
+   */
+  public boolean isLockFreePool()
+  {
+    return _lockFreePool;
+  }
+
   @Override
   public boolean equals(Object o)
   {
@@ -217,6 +241,7 @@ public class ChannelPoolManagerKey
     if (_maxConcurrentConnectionInitializations != that._maxConcurrentConnectionInitializations) return false;
     if (_poolWaiterSize != that._poolWaiterSize) return false;
     if (_tcpNoDelay != that._tcpNoDelay) return false;
+    if (_lockFreePool != that._lockFreePool) return false;
     if (isSsl() != that.isSsl()) return false;
     if (_strategy != that._strategy) return false;
     return _poolStatsNamePrefix != null ? _poolStatsNamePrefix.equals(that._poolStatsNamePrefix) : that._poolStatsNamePrefix == null;
@@ -47,6 +47,7 @@ public class ChannelPoolManagerKeyBuilder
   private boolean _tcpNoDelay = HttpClientFactory.DEFAULT_TCP_NO_DELAY;
   private String _poolStatsNamePrefix = HttpClientFactory.DEFAULT_POOL_STATS_NAME_PREFIX;
   private String _udsAddress = null;
+  private boolean _lockFreePool = HttpClientFactory.DEFAULT_POOL_LOCK_FREE;
 
   /**
    * @param sslContext {@link SSLContext}
@@ -205,10 +206,20 @@ public class ChannelPoolManagerKeyBuilder
     return this;
   }
 
+  /**
+   * @param lockFreePool use {@link com.linkedin.r2.transport.http.client.ConcurrentAsyncPoolImpl}, which checks out
+   *                     channels without a pool-wide lock, instead of {@link AsyncPoolImpl}
+   */
+  public ChannelPoolManagerKeyBuilder setLockFreePool(boolean lockFreePool)
+  {
+    _lockFreePool = lockFreePool;
+    return this;
+  }
+
   public ChannelPoolManagerKey build()
   {
     return new ChannelPoolManagerKey(_sslContext, _sslParameters, _gracefulShutdownTimeout, _idleTimeout, _sslIdleTimeout,
       _maxHeaderSize, _maxChunkSize, _maxResponseSize, _maxPoolSize, _minPoolSize, _maxConcurrentConnectionInitializations,
-      _poolWaiterSize, _strategy, _tcpNoDelay, _poolStatsNamePrefix, _udsAddress);
+      _poolWaiterSize, _strategy, _tcpNoDelay, _poolStatsNamePrefix, _udsAddress, _lockFreePool);
   }
 }
@@ -23,11 +23,10 @@ package com.linkedin.r2.transport.http.client.rest;
 import com.linkedin.data.ByteString;
 import com.linkedin.r2.message.rest.RestRequest;
 import com.linkedin.r2.message.rest.RestResponseBuilder;
+import com.linkedin.r2.netty.common.ByteStringUtil;
 import com.linkedin.r2.netty.common.NettyRequestAdapter;
 import com.linkedin.r2.transport.http.common.HttpConstants;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufInputStream;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
@@ -83,7 +82,7 @@ class RAPClientCodec extends ChannelDuplexHandler
         path = "/";
       }
       ByteString entity = request.getEntity();
-      ByteBuf content = Unpooled.wrappedBuffer(entity.asByteBuffer());
+      ByteBuf content = ByteStringUtil.wrap(entity);
       FullHttpRequest nettyRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, nettyMethod, path, content);
 
       NettyRequestAdapter.setHttpHeadersAndCookies(request, url, nettyRequest);
@@ -124,7 +123,7 @@ class RAPClientCodec extends ChannelDuplexHandler
       }
 
       ByteBuf buf = nettyResponse.content();
-      ByteString entity = ByteString.read(new ByteBufInputStream(buf), buf.readableBytes());
+      ByteString entity = ByteStringUtil.read(buf);
       builder.setEntity(entity);
       /**
        * Note: no need to release the incoming {@link ByteBuf} because {@link MessageToMessageDecoder}
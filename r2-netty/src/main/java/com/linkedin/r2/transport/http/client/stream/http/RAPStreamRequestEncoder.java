@@ -21,9 +21,9 @@ import com.linkedin.r2.filter.R2Constants;
 import com.linkedin.r2.message.stream.StreamRequest;
 import com.linkedin.r2.message.stream.entitystream.ReadHandle;
 import com.linkedin.r2.message.stream.entitystream.Reader;
+import com.linkedin.r2.netty.common.ByteStringUtil;
 import com.linkedin.r2.netty.common.NettyRequestAdapter;
 import com.linkedin.r2.transport.http.client.stream.OrderedEntityStreamReader;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
@@ -109,7 +109,7 @@ class RAPStreamRequestEncoder extends ChannelDuplexHandler
 
     public void onDataAvailable(final ByteString data)
     {
-      HttpContent content = new DefaultHttpContent(Unpooled.wrappedBuffer(data.asByteBuffer()));
+      HttpContent content = new DefaultHttpContent(ByteStringUtil.wrap(data));
       _ctx.write(content).addListener(new ChannelFutureListener()
       {
         @Override
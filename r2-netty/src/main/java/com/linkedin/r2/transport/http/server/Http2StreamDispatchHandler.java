@@ -0,0 +1,247 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.transport.http.server;
+
+import com.linkedin.r2.message.Messages;
+import com.linkedin.r2.message.rest.RestResponseBuilder;
+import com.linkedin.r2.message.rest.RestStatus;
+import com.linkedin.r2.message.stream.StreamRequest;
+import com.linkedin.r2.message.stream.StreamRequestBuilder;
+import com.linkedin.r2.message.stream.StreamResponse;
+import com.linkedin.r2.message.stream.entitystream.EntityStreams;
+import com.linkedin.r2.netty.common.ByteStringUtil;
+import com.linkedin.r2.netty.entitystream.StreamReader;
+import com.linkedin.r2.netty.entitystream.StreamWriter;
+import com.linkedin.r2.transport.common.WireAttributeHelper;
+import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
+import com.linkedin.r2.transport.common.bridge.common.TransportResponse;
+import com.linkedin.r2.transport.common.bridge.common.TransportResponseImpl;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.DefaultHttp2HeadersFrame;
+import io.netty.handler.codec.http2.Http2DataFrame;
+import io.netty.handler.codec.http2.Http2Headers;
+import io.netty.handler.codec.http2.Http2HeadersFrame;
+import io.netty.handler.codec.http2.HttpConversionUtil;
+import io.netty.util.ReferenceCountUtil;
+import java.net.URI;
+import java.nio.channels.ClosedChannelException;
+import java.util.Collections;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Dispatches the request of a single HTTP/2 stream as a {@link StreamRequest}, without aggregating its entity.
+ *
+ * <p>This handler sits in the pipeline of an HTTP/2 child stream channel. Request data frames are handed to a
+ * {@link StreamWriter}, which stops reading from the stream channel while the entity stream consumer falls behind.
+ * Because the stream channel only returns flow control credit for frames it has read, a slow consumer throttles its
+ * own stream through the HTTP/2 window and not the whole connection. The response entity is written back through a
+ * {@link StreamReader}, which only requests more data from the entity stream as frames are written.</p>
+ */
+class Http2StreamDispatchHandler extends ChannelInboundHandlerAdapter
+{
+  private static final Logger LOG = LoggerFactory.getLogger(Http2StreamDispatchHandler.class);
+
+  private final HttpDispatcher _dispatcher;
+  private final long _maxContentLength;
+
+  private StreamWriter _writer;
+  private boolean _requestComplete = false;
+
+  Http2StreamDispatchHandler(HttpDispatcher dispatcher, long maxContentLength)
+  {
+    _dispatcher = dispatcher;
+    _maxContentLength = maxContentLength;
+  }
+
+  @Override
+  public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception
+  {
+    try
+    {
+      if (msg instanceof Http2HeadersFrame)
+      {
+        onHeadersRead(ctx, (Http2HeadersFrame) msg);
+      }
+      else if (msg instanceof Http2DataFrame)
+      {
+        onDataRead((Http2DataFrame) msg);
+      }
+    }
+    finally
+    {
+      ReferenceCountUtil.release(msg);
+    }
+  }
+
+  private void onHeadersRead(ChannelHandlerContext ctx, Http2HeadersFrame frame) throws Exception
+  {
+    if (_writer != null)
+    {
+      // Trailers are not propagated to the entity stream; they only terminate it.
+      if (frame.isEndStream())
+      {
+        onRequestComplete();
+      }
+      return;
+    }
+
+    final Http2Headers headers = frame.headers();
+    if (headers.method() == null || headers.path() == null)
+    {
+      writeResponse(ctx, Messages.toStreamResponse(
+          RestStatus.responseForStatus(RestStatus.BAD_REQUEST, "Missing :method or :path pseudo-header")));
+      return;
+    }
+
+    final StreamRequestBuilder builder = new StreamRequestBuilder(new URI(headers.path().toString()));
+    builder.setMethod(headers.method().toString());
+    if (headers.authority() != null)
+    {
+      builder.unsafeAddHeaderValue(HttpHeaderNames.HOST.toString(), headers.authority().toString());
+    }
+    for (Map.Entry<CharSequence, CharSequence> header : headers)
+    {
+      if (Http2Headers.PseudoHeaderName.isPseudoHeader(header.getKey()))
+      {
+        continue;
+      }
+      if (HttpHeaderNames.COOKIE.contentEqualsIgnoreCase(header.getKey()))
+      {
+        builder.addCookie(header.getValue().toString());
+      }
+      else
+      {
+        builder.unsafeAddHeaderValue(header.getKey().toString(), header.getValue().toString());
+      }
+    }
+
+    _writer = new StreamWriter(ctx, _maxContentLength);
+    if (frame.isEndStream())
+    {
+      onRequestComplete();
+    }
+    dispatch(ctx, builder.build(EntityStreams.newEntityStream(_writer)));
+  }
+
+  private void onDataRead(Http2DataFrame frame)
+  {
+    if (_writer == null || _requestComplete)
+    {
+      return;
+    }
+    if (frame.content().isReadable())
+    {
+      _writer.onDataAvailable(ByteStringUtil.read(frame.content()));
+    }
+    if (frame.isEndStream())
+    {
+      onRequestComplete();
+    }
+  }
+
+  private void onRequestComplete()
+  {
+    _requestComplete = true;
+    _writer.onDataAvailable(StreamWriter.EOF);
+  }
+
+  private void dispatch(ChannelHandlerContext ctx, StreamRequest request)
+  {
+    TransportCallback<StreamResponse> writeResponseCallback = new TransportCallback<StreamResponse>()
+    {
+      @Override
+      public void onResponse(TransportResponse<StreamResponse> response)
+      {
+        final Map<String, String> wireAttributes = WireAttributeHelper.toWireAttributes(response.getWireAttributes());
+        if (response.hasError())
+        {
+          writeResponse(ctx, Messages.toStreamResponse(
+              new RestResponseBuilder(RestStatus.responseForError(RestStatus.INTERNAL_SERVER_ERROR, response.getError()))
+                  .unsafeOverwriteHeaders(wireAttributes)
+                  .build()));
+        }
+        else
+        {
+          final StreamResponse streamResponse = response.getResponse();
+          writeResponse(ctx, streamResponse.builder()
+              .unsafeOverwriteHeaders(wireAttributes)
+              .build(streamResponse.getEntityStream()));
+        }
+      }
+    };
+    try
+    {
+      _dispatcher.handleRequest(request, writeResponseCallback);
+    }
+    catch (Exception ex)
+    {
+      writeResponseCallback.onResponse(TransportResponseImpl.<StreamResponse> error(ex,
+          Collections.<String, String> emptyMap()));
+    }
+  }
+
+  private static void writeResponse(ChannelHandlerContext ctx, StreamResponse response)
+  {
+    final HttpHeaders httpHeaders = new DefaultHttpHeaders();
+    for (Map.Entry<String, String> e : response.getHeaders().entrySet())
+    {
+      httpHeaders.set(e.getKey(), e.getValue());
+    }
+
+    // The conversion lower-cases header names and drops connection-specific headers, which HTTP/2 forbids.
+    final Http2Headers headers = new DefaultHttp2Headers().status(String.valueOf(response.getStatus()));
+    HttpConversionUtil.toHttp2Headers(httpHeaders, headers);
+    for (String cookie : response.getCookies())
+    {
+      headers.add(HttpHeaderNames.SET_COOKIE, cookie);
+    }
+
+    ctx.write(new DefaultHttp2HeadersFrame(headers));
+    response.getEntityStream().setReader(new StreamReader(ctx));
+  }
+
+  @Override
+  public void channelInactive(ChannelHandlerContext ctx) throws Exception
+  {
+    // The stream was reset or the connection closed before the whole request entity was received.
+    if (_writer != null && !_requestComplete)
+    {
+      _writer.onError(new ClosedChannelException());
+    }
+    super.channelInactive(ctx);
+  }
+
+  @Override
+  public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception
+  {
+    LOG.error("Exception caught on HTTP/2 stream: " + ctx.channel(), cause);
+    if (_writer != null && !_requestComplete)
+    {
+      _writer.onError(cause);
+    }
+    // Closing a stream channel resets the stream and leaves the connection intact.
+    ctx.close();
+  }
+}
@@ -21,15 +21,22 @@
 package com.linkedin.r2.transport.http.server;
 
 import com.linkedin.r2.filter.R2Constants;
+import com.linkedin.r2.netty.common.NettyTransport;
 import com.linkedin.r2.util.NamedThreadFactory;
 import io.netty.bootstrap.ServerBootstrap;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.unix.UnixChannelOption;
 import io.netty.util.concurrent.DefaultEventExecutorGroup;
 import io.netty.util.concurrent.EventExecutorGroup;
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLParameters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 
 /**
@@ -40,6 +47,8 @@ import javax.net.ssl.SSLParameters;
 
 /* package private */ class HttpNettyServer implements HttpServer
 {
+  private static final Logger LOG = LoggerFactory.getLogger(HttpNettyServer.class);
+
   private final int _port;
   private final int _threadPoolSize;
   private final HttpDispatcher _dispatcher;
@@ -47,9 +56,12 @@ import javax.net.ssl.SSLParameters;
   private final SSLContext _sslContext;
   private final SSLParameters _sslParameters;
   private final int _startupTimeoutMillis;
+  private final NettyTransport _transport;
+  private final int _acceptorCount;
+  private final boolean _http2;
 
-  private NioEventLoopGroup _bossGroup;
-  private NioEventLoopGroup _workerGroup;
+  private EventLoopGroup _bossGroup;
+  private EventLoopGroup _workerGroup;
   private EventExecutorGroup _eventExecutors;
 
   public HttpNettyServer(int port, int threadPoolSize, HttpDispatcher dispatcher)
@@ -77,6 +89,26 @@ import javax.net.ssl.SSLParameters;
   public HttpNettyServer(int port, int threadPoolSize, HttpDispatcher dispatcher, boolean restOverStream,
                          SSLContext sslContext, SSLParameters sslParameters, int startupTimeoutMillis)
   {
+    this(port, threadPoolSize, dispatcher, restOverStream, sslContext, sslParameters, startupTimeoutMillis,
+        NettyTransport.NIO, 1, false);
+  }
+
+  /**
+   * @param transport the Netty transport to run on. Falls back to NIO if it is not available on this host.
+   * @param acceptorCount the number of server channels bound to the port. More than one acceptor requires a
+   *                      transport that {@link NettyTransport#supportsReusePort() supports SO_REUSEPORT}, so
+   *                      that the kernel spreads incoming connections between them; otherwise a single one is used.
+   * @param http2 whether to serve HTTP/2 in addition to HTTP/1.1: h2c through upgrade or prior knowledge on clear
+   *              text connections, and h2 through ALPN on TLS connections.
+   */
+  public HttpNettyServer(int port, int threadPoolSize, HttpDispatcher dispatcher, boolean restOverStream,
+                         SSLContext sslContext, SSLParameters sslParameters, int startupTimeoutMillis,
+                         NettyTransport transport, int acceptorCount, boolean http2)
+  {
+    if (acceptorCount < 1)
+    {
+      throw new IllegalArgumentException("acceptorCount must be positive: " + acceptorCount);
+    }
     _port = port;
     _threadPoolSize = threadPoolSize;
     _dispatcher = dispatcher;
@@ -84,22 +116,48 @@ import javax.net.ssl.SSLParameters;
     _sslContext = sslContext;
     _sslParameters = sslParameters;
     _startupTimeoutMillis = startupTimeoutMillis;
+    _transport = transport.orFallback();
+    if (acceptorCount > 1 && !_transport.supportsReusePort())
+    {
+      LOG.warn("Netty transport {} does not support SO_REUSEPORT, binding a single acceptor instead of {}",
+          _transport, acceptorCount);
+      acceptorCount = 1;
+    }
+    _acceptorCount = acceptorCount;
+    _http2 = http2;
   }
 
   @Override
   public void start()
   {
     _eventExecutors =  new DefaultEventExecutorGroup(_threadPoolSize);
-    _bossGroup = new NioEventLoopGroup(1, new NamedThreadFactory("R2 Nio Boss"));
-    _workerGroup = new NioEventLoopGroup(0, new NamedThreadFactory("R2 Nio Worker"));
+    _bossGroup = _transport.newEventLoopGroup(_acceptorCount, new NamedThreadFactory("R2 Nio Boss"));
+    _workerGroup = _transport.newEventLoopGroup(0, new NamedThreadFactory("R2 Nio Worker"));
 
     final HttpNettyServerPipelineInitializer pipelineInitializer = new HttpNettyServerPipelineInitializer(
-        _dispatcher, _eventExecutors, _sslContext, _sslParameters, _restOverStream);
+        _dispatcher, _eventExecutors, _sslContext, _sslParameters, _restOverStream, _http2);
     ServerBootstrap bootstrap = new ServerBootstrap()
                                       .group(_bossGroup, _workerGroup)
-                                      .channel(NioServerSocketChannel.class)
+                                      .channel(_transport.getServerChannelClass())
                                       .childHandler(pipelineInitializer);
-    bootstrap.bind(new InetSocketAddress(_port)).awaitUninterruptibly(_startupTimeoutMillis);
+    if (_acceptorCount == 1)
+    {
+      bootstrap.bind(new InetSocketAddress(_port)).awaitUninterruptibly(_startupTimeoutMillis);
+      return;
+    }
+
+    // Each bind registers a new server channel on the next boss event loop, so every acceptor gets its own thread.
+    bootstrap.option(UnixChannelOption.SO_REUSEPORT, true);
+    final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(_startupTimeoutMillis);
+    final List<ChannelFuture> binds = new ArrayList<>(_acceptorCount);
+    for (int i = 0; i < _acceptorCount; i++)
+    {
+      binds.add(bootstrap.bind(new InetSocketAddress(_port)));
+    }
+    for (ChannelFuture bind : binds)
+    {
+      bind.awaitUninterruptibly(Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+    }
   }
 
   @Override
@@ -19,6 +19,7 @@ package com.linkedin.r2.transport.http.server;
 import com.linkedin.r2.filter.FilterChain;
 import com.linkedin.r2.filter.R2Constants;
 import com.linkedin.r2.filter.transport.FilterChainDispatcher;
+import com.linkedin.r2.netty.common.NettyTransport;
 import com.linkedin.r2.transport.common.bridge.server.TransportDispatcher;
 import com.linkedin.util.ArgumentUtil;
 import javax.net.ssl.SSLContext;
@@ -36,6 +37,7 @@ public class HttpNettyServerBuilder
 {
   public static final int DEFAULT_NETTY_HTTP_SERVER_PORT = 8080;
   public static final int DEFAULT_THREAD_POOL_SIZE = 256;
+  public static final int DEFAULT_STARTUP_TIMEOUT_MILLIS = 10000;
 
   // The following fields are required.
   private TransportDispatcher _transportDispatcher = null;
@@ -45,6 +47,9 @@ public class HttpNettyServerBuilder
   private int _port = DEFAULT_NETTY_HTTP_SERVER_PORT;
   private int _threadPoolSize = DEFAULT_THREAD_POOL_SIZE;
   private boolean _restOverStream = R2Constants.DEFAULT_REST_OVER_STREAM;
+  private NettyTransport _transport = NettyTransport.NIO;
+  private int _acceptorCount = 1;
+  private boolean _http2 = false;
 
   // The following fields are optional.
   private SSLContext _sslContext = null;
@@ -92,17 +97,49 @@ public class HttpNettyServerBuilder
     return this;
   }
 
+  /**
+   * Sets the Netty transport of the server. If the transport is not available on this host, the server falls back
+   * to {@link NettyTransport#NIO}. Use {@link NettyTransport#nativeOrNio()} to pick the best transport available.
+   */
+  public HttpNettyServerBuilder transport(NettyTransport transport)
+  {
+    _transport = transport;
+    return this;
+  }
+
+  /**
+   * Sets the number of acceptors bound to the port with SO_REUSEPORT, each with its own boss thread. Only takes
+   * effect with {@link NettyTransport#EPOLL}; other transports always bind a single acceptor.
+   */
+  public HttpNettyServerBuilder acceptorCount(int acceptorCount)
+  {
+    _acceptorCount = acceptorCount;
+    return this;
+  }
+
+  /**
+   * Enables HTTP/2 next to HTTP/1.1. Clear text connections are upgraded to h2c, either with an HTTP/1.1 upgrade
+   * request or with prior knowledge, and TLS connections negotiate h2 through ALPN.
+   */
+  public HttpNettyServerBuilder http2(boolean http2)
+  {
+    _http2 = http2;
+    return this;
+  }
+
   public HttpNettyServer build()
   {
     validateParameters();
     final TransportDispatcher filterDispatcher = new FilterChainDispatcher(_transportDispatcher, _filters);
     final HttpDispatcher dispatcher = HttpDispatcherFactory.create((filterDispatcher));
-    return new HttpNettyServer(_port, _threadPoolSize, dispatcher, _sslContext, _sslParameters);
+    return new HttpNettyServer(_port, _threadPoolSize, dispatcher, _restOverStream, _sslContext, _sslParameters,
+        DEFAULT_STARTUP_TIMEOUT_MILLIS, _transport, _acceptorCount, _http2);
   }
 
   private void validateParameters()
   {
     ArgumentUtil.notNull(_transportDispatcher, "transportDispatcher");
     ArgumentUtil.notNull(_filters, "filters");
+    ArgumentUtil.notNull(_transport, "transport");
   }
 }
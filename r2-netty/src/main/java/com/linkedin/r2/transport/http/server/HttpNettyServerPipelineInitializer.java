@@ -18,56 +18,268 @@ package com.linkedin.r2.transport.http.server;
 
 import com.linkedin.r2.message.rest.RestRequest;
 import com.linkedin.r2.netty.common.SslHandlerUtil;
+import com.linkedin.r2.netty.handler.http2.Http2MessageEncoders;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelPipeline;
 import io.netty.channel.SimpleChannelInboundHandler;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.codec.http.HttpMessage;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpRequestDecoder;
 import io.netty.handler.codec.http.HttpResponseEncoder;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpServerUpgradeHandler;
+import io.netty.handler.codec.http2.CleartextHttp2ServerUpgradeHandler;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2ServerUpgradeCodec;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.IdentityCipherSuiteFilter;
+import io.netty.handler.ssl.JdkSslContext;
 import io.netty.handler.ssl.SslHandler;
+import io.netty.util.AsciiString;
+import io.netty.util.ReferenceCountUtil;
 import io.netty.util.concurrent.EventExecutorGroup;
+import java.util.Arrays;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLParameters;
 
 
-public class HttpNettyServerPipelineInitializer extends ChannelInitializer<NioSocketChannel>
+/**
+ * Initializes the pipeline of connections accepted by {@link HttpNettyServer}.
+ *
+ * <p>When HTTP/2 is enabled, clear text connections are upgraded to h2c either with an HTTP/1.1 upgrade request or
+ * with prior knowledge, and TLS connections negotiate h2 through ALPN. Each HTTP/2 stream is served on its own child
+ * channel. Connections that stay on HTTP/1.1 get the same pipeline as when HTTP/2 is disabled.</p>
+ */
+public class HttpNettyServerPipelineInitializer extends ChannelInitializer<SocketChannel>
 {
+  private static final int MAX_CONTENT_LENGTH = 1048576;
+
   private final SSLContext _sslContext;
   private final SSLParameters _sslParameters;
   private final EventExecutorGroup _eventExecutors;
   private final boolean _restOverStream;
+  private final boolean _http2;
   private final HttpDispatcher _dispatcher;
 
 
   HttpNettyServerPipelineInitializer(HttpDispatcher dispatcher, EventExecutorGroup eventExecutors,
                                      SSLContext sslContext, SSLParameters sslParameters,
                                      boolean restOverStream)
+  {
+    this(dispatcher, eventExecutors, sslContext, sslParameters, restOverStream, false);
+  }
+
+  HttpNettyServerPipelineInitializer(HttpDispatcher dispatcher, EventExecutorGroup eventExecutors,
+                                     SSLContext sslContext, SSLParameters sslParameters,
+                                     boolean restOverStream, boolean http2)
   {
     _dispatcher = dispatcher;
     _sslContext = sslContext;
     _sslParameters = sslParameters;
     _eventExecutors = eventExecutors;
     _restOverStream = restOverStream;
+    _http2 = http2;
   }
 
   @Override
-  protected void initChannel(NioSocketChannel ch) throws Exception
+  protected void initChannel(SocketChannel ch) throws Exception
   {
     SslHandlerUtil.validateSslParameters(_sslContext, _sslParameters);
+    if (_http2)
+    {
+      if (_sslContext != null)
+      {
+        configureAlpn(ch.pipeline());
+      }
+      else
+      {
+        configureClearText(ch.pipeline());
+      }
+      return;
+    }
+
     // If _sslContext is not NULL, we should first add SSL handler to the pipeline to secure the channel.
     if (_sslContext != null)
     {
       final SslHandler sslHandler = SslHandlerUtil.getServerSslHandler(_sslContext, _sslParameters);
       ch.pipeline().addLast(SslHandlerUtil.PIPELINE_SSL_HANDLER, sslHandler);
     }
+    configureHttp1(ch.pipeline());
+  }
+
+  private void configureHttp1(ChannelPipeline pipeline)
+  {
+    pipeline.addLast("decoder", new HttpRequestDecoder());
+    pipeline.addLast("encoder", new HttpResponseEncoder());
+    configureRestHandlers(pipeline);
+  }
 
-    ch.pipeline().addLast("decoder", new HttpRequestDecoder());
-    ch.pipeline().addLast("aggregator", new HttpObjectAggregator(1048576));
-    ch.pipeline().addLast("encoder", new HttpResponseEncoder());
-    ch.pipeline().addLast("rapi", new RAPServerCodec());
+  /**
+   * Adds the handlers that aggregate HTTP/1.1 messages into {@link RestRequest}s and dispatch them.
+   */
+  private void configureRestHandlers(ChannelPipeline pipeline)
+  {
+    pipeline.addLast("aggregator", new HttpObjectAggregator(MAX_CONTENT_LENGTH));
+    pipeline.addLast("rapi", new RAPServerCodec());
 
     final SimpleChannelInboundHandler<RestRequest> restHandler = _restOverStream ?
         new PipelineStreamHandler(_dispatcher) : new PipelineRestHandler(_dispatcher);
-    ch.pipeline().addLast(_eventExecutors, "handler", restHandler);
+    pipeline.addLast(_eventExecutors, "handler", restHandler);
+  }
+
+  /**
+   * Serves h2c through an HTTP/1.1 upgrade request or with prior knowledge, and HTTP/1.1 otherwise.
+   */
+  private void configureClearText(ChannelPipeline pipeline)
+  {
+    final HttpServerCodec sourceCodec = new HttpServerCodec();
+    final HttpServerUpgradeHandler upgradeHandler = new HttpServerUpgradeHandler(sourceCodec,
+        protocol -> AsciiString.contentEquals(Http2CodecUtil.HTTP_UPGRADE_PROTOCOL_NAME, protocol)
+            ? new Http2ServerUpgradeCodec(newHttp2FrameCodec(), newHttp2MultiplexHandler())
+            : null,
+        MAX_CONTENT_LENGTH);
+    final ChannelInitializer<Channel> priorKnowledgeInitializer = new ChannelInitializer<Channel>()
+    {
+      @Override
+      protected void initChannel(Channel ch)
+      {
+        configureHttp2(ch.pipeline());
+      }
+    };
+
+    pipeline.addLast(new CleartextHttp2ServerUpgradeHandler(sourceCodec, upgradeHandler, priorKnowledgeInitializer));
+    pipeline.addLast(new SimpleChannelInboundHandler<HttpMessage>()
+    {
+      @Override
+      protected void channelRead0(ChannelHandlerContext ctx, HttpMessage msg)
+      {
+        // No upgrade was requested, so the connection stays on HTTP/1.1 with the codec of the upgrade handler.
+        configureRestHandlers(ctx.pipeline());
+        ctx.pipeline().remove(this);
+        ctx.fireChannelRead(ReferenceCountUtil.retain(msg));
+      }
+
+      @Override
+      public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception
+      {
+        if (evt instanceof HttpServerUpgradeHandler.UpgradeEvent
+            || evt instanceof CleartextHttp2ServerUpgradeHandler.PriorKnowledgeUpgradeEvent)
+        {
+          ctx.pipeline().remove(this);
+        }
+        super.userEventTriggered(ctx, evt);
+      }
+    });
+  }
+
+  /**
+   * Serves h2 or HTTP/1.1 over TLS, as negotiated through ALPN.
+   */
+  private void configureAlpn(ChannelPipeline pipeline)
+  {
+    pipeline.addLast(SslHandlerUtil.PIPELINE_SSL_HANDLER, createSslContext().newHandler(pipeline.channel().alloc()));
+    pipeline.addLast(new ApplicationProtocolNegotiationHandler(ApplicationProtocolNames.HTTP_1_1)
+    {
+      @Override
+      protected void configurePipeline(ChannelHandlerContext ctx, String protocol)
+      {
+        if (ApplicationProtocolNames.HTTP_2.equals(protocol))
+        {
+          configureHttp2(ctx.pipeline());
+        }
+        else if (ApplicationProtocolNames.HTTP_1_1.equals(protocol))
+        {
+          configureHttp1(ctx.pipeline());
+        }
+        else
+        {
+          throw new IllegalStateException("Unsupported protocol '" + protocol + "' is negotiated.");
+        }
+      }
+    });
+  }
+
+  @SuppressWarnings("deprecation")
+  private JdkSslContext createSslContext()
+  {
+    // Netty's SslContextBuilder cannot be built from an existing SSLContext and SSLParameters, see the
+    // client-side Http2ChannelInitializer.
+    final ClientAuth clientAuth;
+    if (_sslParameters != null && _sslParameters.getNeedClientAuth())
+    {
+      clientAuth = ClientAuth.REQUIRE;
+    }
+    else if (_sslParameters != null && _sslParameters.getWantClientAuth())
+    {
+      clientAuth = ClientAuth.OPTIONAL;
+    }
+    else
+    {
+      clientAuth = ClientAuth.NONE;
+    }
+    return new JdkSslContext(
+        _sslContext,
+        false /* not client */,
+        _sslParameters == null || _sslParameters.getCipherSuites() == null
+            ? null : Arrays.asList(_sslParameters.getCipherSuites()),
+        IdentityCipherSuiteFilter.INSTANCE,
+        new ApplicationProtocolConfig(
+            ApplicationProtocolConfig.Protocol.ALPN,
+            ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+            ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+            ApplicationProtocolNames.HTTP_2,
+            ApplicationProtocolNames.HTTP_1_1),
+        clientAuth,
+        _sslParameters == null ? null : _sslParameters.getProtocols(),
+        false /* not startTls */);
+  }
+
+  private void configureHttp2(ChannelPipeline pipeline)
+  {
+    pipeline.addLast(newHttp2FrameCodec());
+    pipeline.addLast(newHttp2MultiplexHandler());
+  }
+
+  private static Http2FrameCodec newHttp2FrameCodec()
+  {
+    return Http2FrameCodecBuilder.forServer().build();
+  }
+
+  /**
+   * Creates the handler that serves every HTTP/2 stream on its own child channel. Frames are only read from a child
+   * channel, and flow control credit returned for them, as the request is consumed.
+   */
+  private Http2MultiplexHandler newHttp2MultiplexHandler()
+  {
+    final ChannelInitializer<Channel> streamInitializer = new ChannelInitializer<Channel>()
+    {
+      @Override
+      protected void initChannel(Channel ch)
+      {
+        final ChannelPipeline pipeline = ch.pipeline();
+        if (_restOverStream)
+        {
+          pipeline.addLast("dataEncoder", Http2MessageEncoders.newDataEncoder());
+          pipeline.addLast(_eventExecutors, "handler", new Http2StreamDispatchHandler(_dispatcher, MAX_CONTENT_LENGTH));
+        }
+        else
+        {
+          pipeline.addLast("codec", new Http2StreamFrameToHttpObjectCodec(true /* server */));
+          configureRestHandlers(pipeline);
+        }
+      }
+    };
+    // The stream of an upgraded HTTP/1.1 request is served the same way as any other stream.
+    return new Http2MultiplexHandler(streamInitializer, streamInitializer);
   }
 }
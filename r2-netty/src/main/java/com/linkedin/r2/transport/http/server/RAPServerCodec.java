@@ -24,11 +24,10 @@ package com.linkedin.r2.transport.http.server;
 import com.linkedin.data.ByteString;
 import com.linkedin.r2.message.rest.RestRequestBuilder;
 import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.netty.common.ByteStringUtil;
 import com.linkedin.r2.transport.http.common.HttpConstants;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufInputStream;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
@@ -95,7 +94,7 @@ class RAPServerCodec extends ChannelDuplexHandler
       ByteBuf buf = nettyRequest.content();
       if (buf != null)
       {
-        ByteString entity = ByteString.read(new ByteBufInputStream(buf), buf.readableBytes());
+        ByteString entity = ByteStringUtil.read(buf);
         builder.setEntity(entity);
       }
       out.add(builder.build());
@@ -108,7 +107,7 @@ class RAPServerCodec extends ChannelDuplexHandler
         throws Exception
     {
       final ByteString entity = response.getEntity();
-      ByteBuf content = Unpooled.wrappedBuffer(entity.asByteBuffer());
+      ByteBuf content = ByteStringUtil.wrap(entity);
 
       HttpResponse nettyResponse =
           new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.valueOf(response.getStatus()), content);
@@ -0,0 +1,102 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.netty.common;
+
+import com.linkedin.data.ByteString;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import java.util.Random;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+public class TestByteStringUtil
+{
+  @DataProvider
+  public Object[][] lengths()
+  {
+    return new Object[][] {
+        { 0 },
+        { 1 },
+        { ByteStringUtil.MAX_CHUNK_SIZE },
+        { ByteStringUtil.MAX_CHUNK_SIZE + 1 },
+        { ByteStringUtil.MAX_CHUNK_SIZE * 3 + 17 }
+    };
+  }
+
+  @Test(dataProvider = "lengths")
+  public void testRead(int length)
+  {
+    byte[] bytes = randomBytes(length);
+    ByteBuf buf = Unpooled.directBuffer(length);
+    try
+    {
+      buf.writeBytes(bytes);
+      ByteString byteString = ByteStringUtil.read(buf);
+
+      Assert.assertEquals(byteString.copyBytes(), bytes);
+      Assert.assertEquals(buf.readableBytes(), 0);
+      Assert.assertEquals(byteString.decompose().size(),
+          Math.max(1, (length + ByteStringUtil.MAX_CHUNK_SIZE - 1) / ByteStringUtil.MAX_CHUNK_SIZE));
+      for (ByteString chunk : byteString.decompose())
+      {
+        Assert.assertTrue(chunk.length() <= ByteStringUtil.MAX_CHUNK_SIZE);
+      }
+    }
+    finally
+    {
+      buf.release();
+    }
+  }
+
+  @Test(dataProvider = "lengths")
+  public void testWrap(int length)
+  {
+    byte[] bytes = randomBytes(length);
+    ByteBuf buf = ByteStringUtil.wrap(ByteString.copy(bytes));
+
+    byte[] wrapped = new byte[buf.readableBytes()];
+    buf.readBytes(wrapped);
+    Assert.assertEquals(wrapped, bytes);
+  }
+
+  @Test
+  public void testWrapChunks()
+  {
+    byte[] first = randomBytes(10);
+    byte[] second = randomBytes(20);
+    ByteString byteString = new ByteString.Builder()
+        .append(ByteString.unsafeWrap(first))
+        .append(ByteString.unsafeWrap(second))
+        .build();
+
+    ByteBuf buf = ByteStringUtil.wrap(byteString);
+    Assert.assertTrue(buf instanceof CompositeByteBuf);
+    Assert.assertEquals(((CompositeByteBuf) buf).numComponents(), 2);
+    Assert.assertEquals(buf.readableBytes(), 30);
+    Assert.assertEquals(ByteStringUtil.read(buf), byteString);
+  }
+
+  private static byte[] randomBytes(int length)
+  {
+    byte[] bytes = new byte[length];
+    new Random(length).nextBytes(bytes);
+    return bytes;
+  }
+}
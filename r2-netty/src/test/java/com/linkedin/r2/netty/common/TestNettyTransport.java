@@ -0,0 +1,59 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.netty.common;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestNettyTransport
+{
+  @Test
+  public void testFallback()
+  {
+    Assert.assertEquals(NettyTransport.NIO.orFallback(), NettyTransport.NIO);
+    for (NettyTransport transport : NettyTransport.values())
+    {
+      Assert.assertEquals(transport.orFallback(), transport.isAvailable() ? transport : NettyTransport.NIO);
+    }
+    Assert.assertTrue(NettyTransport.nativeOrNio().isAvailable());
+  }
+
+  @Test
+  public void testEventLoopGroupMatchesTransport() throws InterruptedException
+  {
+    for (NettyTransport transport : NettyTransport.values())
+    {
+      if (!transport.isAvailable())
+      {
+        continue;
+      }
+      EventLoopGroup group = transport.newEventLoopGroup(1, new DefaultThreadFactory("test-" + transport));
+      try
+      {
+        Assert.assertEquals(NettyTransport.of(group), transport);
+      }
+      finally
+      {
+        group.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS).await();
+      }
+    }
+  }
+}
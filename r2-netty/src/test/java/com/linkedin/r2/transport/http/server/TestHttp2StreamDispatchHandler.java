@@ -0,0 +1,284 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.transport.http.server;
+
+import com.linkedin.common.callback.FutureCallback;
+import com.linkedin.data.ByteString;
+import com.linkedin.r2.filter.R2Constants;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.message.stream.StreamRequest;
+import com.linkedin.r2.message.stream.StreamResponse;
+import com.linkedin.r2.message.stream.StreamResponseBuilder;
+import com.linkedin.r2.message.stream.entitystream.ByteStringWriter;
+import com.linkedin.r2.message.stream.entitystream.EntityStreams;
+import com.linkedin.r2.message.stream.entitystream.FullEntityReader;
+import com.linkedin.r2.netty.handler.http2.Http2MessageEncoders;
+import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
+import com.linkedin.r2.transport.common.bridge.common.TransportResponseImpl;
+import com.linkedin.r2.transport.common.bridge.server.TransportDispatcher;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http2.DefaultHttp2DataFrame;
+import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.DefaultHttp2HeadersFrame;
+import io.netty.handler.codec.http2.Http2DataFrame;
+import io.netty.handler.codec.http2.Http2Headers;
+import io.netty.handler.codec.http2.Http2HeadersFrame;
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+/**
+ * Tests for {@link Http2StreamDispatchHandler}, which serves a single HTTP/2 stream channel.
+ */
+public class TestHttp2StreamDispatchHandler
+{
+  private static final long MAX_CONTENT_LENGTH = 1048576;
+
+  @Test
+  public void testDispatchStreamRequest() throws Exception
+  {
+    RecordingDispatcher dispatcher = new RecordingDispatcher();
+    EmbeddedChannel channel = newStreamChannel(dispatcher);
+
+    Http2Headers headers = new DefaultHttp2Headers()
+        .method("POST")
+        .path("/echo?q=1")
+        .scheme("http")
+        .authority("localhost:8080")
+        .add("x-custom", "value")
+        .add("cookie", "name=value");
+    channel.writeInbound(new DefaultHttp2HeadersFrame(headers));
+
+    // The request is dispatched on its headers, before its entity has been received.
+    Assert.assertEquals(dispatcher._requests.size(), 1);
+    StreamRequest request = dispatcher._requests.get(0);
+    Assert.assertEquals(request.getMethod(), "POST");
+    Assert.assertEquals(request.getURI().toString(), "/echo?q=1");
+    Assert.assertEquals(request.getHeader("x-custom"), "value");
+    Assert.assertEquals(request.getHeader("Host"), "localhost:8080");
+    Assert.assertEquals(request.getCookies(), Collections.singletonList("name=value"));
+    Assert.assertFalse(request.getHeaders().containsKey(":path"));
+
+    FutureCallback<ByteString> entity = new FutureCallback<>();
+    request.getEntityStream().setReader(new FullEntityReader(entity));
+    channel.writeInbound(new DefaultHttp2DataFrame(Unpooled.copiedBuffer("hello ", StandardCharsets.UTF_8)));
+    channel.writeInbound(new DefaultHttp2DataFrame(Unpooled.copiedBuffer("world", StandardCharsets.UTF_8), true));
+    Assert.assertEquals(entity.get(1, TimeUnit.SECONDS).asString(StandardCharsets.UTF_8), "hello world");
+
+    dispatcher.respond(0, new StreamResponseBuilder()
+        .setStatus(201)
+        .setHeader("X-Response", "value")
+        .setHeader("Connection", "keep-alive")
+        .build(EntityStreams.newEntityStream(
+            new ByteStringWriter(ByteString.copyString("response", StandardCharsets.UTF_8)))));
+
+    Http2HeadersFrame responseHeaders = channel.readOutbound();
+    Assert.assertEquals(responseHeaders.headers().status().toString(), "201");
+    Assert.assertEquals(responseHeaders.headers().get("x-response").toString(), "value");
+    // Connection-specific headers are not allowed in HTTP/2.
+    Assert.assertNull(responseHeaders.headers().get("connection"));
+    Assert.assertFalse(responseHeaders.isEndStream());
+    Assert.assertEquals(readData(channel), "response");
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void testRequestWithoutEntity() throws Exception
+  {
+    RecordingDispatcher dispatcher = new RecordingDispatcher();
+    EmbeddedChannel channel = newStreamChannel(dispatcher);
+
+    channel.writeInbound(new DefaultHttp2HeadersFrame(new DefaultHttp2Headers().method("GET").path("/"), true));
+
+    Assert.assertEquals(dispatcher._requests.size(), 1);
+    FutureCallback<ByteString> entity = new FutureCallback<>();
+    dispatcher._requests.get(0).getEntityStream().setReader(new FullEntityReader(entity));
+    Assert.assertEquals(entity.get(1, TimeUnit.SECONDS).length(), 0);
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void testMissingPseudoHeader()
+  {
+    RecordingDispatcher dispatcher = new RecordingDispatcher();
+    EmbeddedChannel channel = newStreamChannel(dispatcher);
+
+    channel.writeInbound(new DefaultHttp2HeadersFrame(new DefaultHttp2Headers().method("GET"), true));
+
+    Assert.assertTrue(dispatcher._requests.isEmpty());
+    Http2HeadersFrame responseHeaders = channel.readOutbound();
+    Assert.assertEquals(responseHeaders.headers().status().toString(), "400");
+    readData(channel);
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void testDispatcherFailure()
+  {
+    EmbeddedChannel channel = newStreamChannel(new TransportDispatcher()
+    {
+      @Override
+      public void handleRestRequest(RestRequest req, Map<String, String> wireAttrs, RequestContext requestContext,
+          TransportCallback<RestResponse> callback)
+      {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public void handleStreamRequest(StreamRequest req, Map<String, String> wireAttrs, RequestContext requestContext,
+          TransportCallback<StreamResponse> callback)
+      {
+        throw new IllegalStateException("dispatcher failure");
+      }
+    });
+
+    channel.writeInbound(new DefaultHttp2HeadersFrame(new DefaultHttp2Headers().method("GET").path("/"), true));
+
+    Http2HeadersFrame responseHeaders = channel.readOutbound();
+    Assert.assertEquals(responseHeaders.headers().status().toString(), "500");
+    readData(channel);
+    channel.finishAndReleaseAll();
+  }
+
+  /**
+   * The stream channel stops reading, which withholds the flow control credit of the stream, while the request
+   * entity is not consumed, and resumes once the consumer catches up.
+   */
+  @Test
+  public void testBackPressure() throws Exception
+  {
+    RecordingDispatcher dispatcher = new RecordingDispatcher();
+    EmbeddedChannel channel = newStreamChannel(dispatcher);
+
+    channel.writeInbound(new DefaultHttp2HeadersFrame(new DefaultHttp2Headers().method("PUT").path("/")));
+    Assert.assertEquals(dispatcher._requests.size(), 1);
+
+    byte[] chunk = new byte[R2Constants.DEFAULT_DATA_CHUNK_SIZE];
+    for (int i = 0; i < 3; i++)
+    {
+      channel.writeInbound(new DefaultHttp2DataFrame(Unpooled.wrappedBuffer(chunk)));
+      Assert.assertTrue(channel.config().isAutoRead());
+    }
+    channel.writeInbound(new DefaultHttp2DataFrame(Unpooled.wrappedBuffer(chunk)));
+    Assert.assertFalse(channel.config().isAutoRead());
+
+    FutureCallback<ByteString> entity = new FutureCallback<>();
+    dispatcher._requests.get(0).getEntityStream().setReader(new FullEntityReader(entity));
+    Assert.assertTrue(channel.config().isAutoRead());
+
+    channel.writeInbound(new DefaultHttp2DataFrame(Unpooled.wrappedBuffer(chunk), true));
+    Assert.assertEquals(entity.get(1, TimeUnit.SECONDS).length(), 5 * chunk.length);
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void testStreamClosedBeforeEntityReceived() throws Exception
+  {
+    RecordingDispatcher dispatcher = new RecordingDispatcher();
+    EmbeddedChannel channel = newStreamChannel(dispatcher);
+
+    channel.writeInbound(new DefaultHttp2HeadersFrame(new DefaultHttp2Headers().method("PUT").path("/")));
+    channel.writeInbound(new DefaultHttp2DataFrame(Unpooled.copiedBuffer("partial", StandardCharsets.UTF_8)));
+    FutureCallback<ByteString> entity = new FutureCallback<>();
+    dispatcher._requests.get(0).getEntityStream().setReader(new FullEntityReader(entity));
+
+    channel.close();
+
+    try
+    {
+      entity.get(1, TimeUnit.SECONDS);
+      Assert.fail("The request entity should fail when the stream is closed");
+    }
+    catch (ExecutionException e)
+    {
+      Throwable cause = e.getCause();
+      while (cause != null && !(cause instanceof ClosedChannelException))
+      {
+        cause = cause.getCause();
+      }
+      Assert.assertNotNull(cause, "Unexpected failure " + e.getCause());
+    }
+  }
+
+  private static EmbeddedChannel newStreamChannel(TransportDispatcher dispatcher)
+  {
+    return new EmbeddedChannel(Http2MessageEncoders.newDataEncoder(),
+        new Http2StreamDispatchHandler(new HttpDispatcher(dispatcher), MAX_CONTENT_LENGTH));
+  }
+
+  /**
+   * Reads the data frames of the response up to the end of the stream.
+   */
+  private static String readData(EmbeddedChannel channel)
+  {
+    StringBuilder data = new StringBuilder();
+    while (true)
+    {
+      Http2DataFrame frame = channel.readOutbound();
+      Assert.assertNotNull(frame, "The response stream has not ended");
+      try
+      {
+        data.append(frame.content().toString(StandardCharsets.UTF_8));
+        if (frame.isEndStream())
+        {
+          return data.toString();
+        }
+      }
+      finally
+      {
+        frame.release();
+      }
+    }
+  }
+
+  private static class RecordingDispatcher implements TransportDispatcher
+  {
+    private final List<StreamRequest> _requests = new ArrayList<>();
+    private final List<TransportCallback<StreamResponse>> _callbacks = new ArrayList<>();
+
+    @Override
+    public void handleRestRequest(RestRequest req, Map<String, String> wireAttrs, RequestContext requestContext,
+        TransportCallback<RestResponse> callback)
+    {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void handleStreamRequest(StreamRequest req, Map<String, String> wireAttrs, RequestContext requestContext,
+        TransportCallback<StreamResponse> callback)
+    {
+      _requests.add(req);
+      _callbacks.add(callback);
+    }
+
+    private void respond(int index, StreamResponse response)
+    {
+      _callbacks.get(index).onResponse(TransportResponseImpl.success(response));
+    }
+  }
+}
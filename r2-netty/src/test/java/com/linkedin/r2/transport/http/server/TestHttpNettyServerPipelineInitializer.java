@@ -0,0 +1,418 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.transport.http.server;
+
+import com.linkedin.data.ByteString;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.message.rest.RestResponseBuilder;
+import com.linkedin.r2.message.stream.StreamRequest;
+import com.linkedin.r2.message.stream.StreamResponse;
+import com.linkedin.r2.message.stream.StreamResponseBuilder;
+import com.linkedin.r2.message.stream.entitystream.ByteStringWriter;
+import com.linkedin.r2.message.stream.entitystream.DrainReader;
+import com.linkedin.r2.message.stream.entitystream.EntityStreams;
+import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
+import com.linkedin.r2.transport.common.bridge.common.TransportResponseImpl;
+import com.linkedin.r2.transport.common.bridge.server.TransportDispatcher;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.http.HttpRequestDecoder;
+import io.netty.handler.codec.http2.DefaultHttp2FrameReader;
+import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.DefaultHttp2HeadersEncoder;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2Exception;
+import io.netty.handler.codec.http2.Http2Flags;
+import io.netty.handler.codec.http2.Http2FrameAdapter;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2FrameReader;
+import io.netty.handler.codec.http2.Http2FrameTypes;
+import io.netty.handler.codec.http2.Http2Headers;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+/**
+ * Tests for the HTTP/2 pipelines of {@link HttpNettyServerPipelineInitializer}. The server side of a connection is
+ * an {@link EmbeddedChannel}, and the client side is played by writing and reading raw HTTP/2 frames.
+ */
+public class TestHttpNettyServerPipelineInitializer
+{
+  // A self-signed certificate for localhost, only for tests.
+  private static final String KEY_STORE = "keystore";
+  private static final char[] KEY_STORE_PASSWORD = "password".toCharArray();
+
+  private static final String REST_ENTITY = "rest";
+  private static final String STREAM_ENTITY = "stream";
+
+  @DataProvider
+  public Object[][] restOverStream()
+  {
+    return new Object[][] {{false}, {true}};
+  }
+
+  @Test
+  public void testH2cUpgrade() throws Exception
+  {
+    RecordingDispatcher dispatcher = new RecordingDispatcher();
+    EmbeddedChannel server = newServerChannel(dispatcher, null, false);
+
+    // HTTP2-Settings holds SETTINGS_MAX_CONCURRENT_STREAMS of 100 and SETTINGS_INITIAL_WINDOW_SIZE of 65535.
+    server.writeInbound(ascii("GET /upgrade HTTP/1.1\r\n" +
+        "Host: localhost\r\n" +
+        "Connection: Upgrade, HTTP2-Settings\r\n" +
+        "Upgrade: h2c\r\n" +
+        "HTTP2-Settings: AAMAAABkAAQAAP__\r\n" +
+        "\r\n"));
+    server.writeInbound(clientPreface());
+
+    ByteBuf response = readAllOutbound(server);
+    int headerEnd = ByteBufUtil.indexOf(ascii("\r\n\r\n"), response);
+    Assert.assertTrue(headerEnd > 0);
+    String upgradeResponse = response.readCharSequence(headerEnd + 4, StandardCharsets.US_ASCII).toString();
+    Assert.assertTrue(upgradeResponse.startsWith("HTTP/1.1 101"), upgradeResponse);
+    Assert.assertNotNull(server.pipeline().get(Http2FrameCodec.class));
+
+    // The upgrade request is served on stream 1.
+    Http2FrameCollector frames = new Http2FrameCollector();
+    EmbeddedChannel client = new EmbeddedChannel(frames);
+    client.writeInbound(response);
+    Assert.assertEquals(frames.getStatus(1), "200");
+    Assert.assertEquals(frames.getData(1), REST_ENTITY);
+    Assert.assertEquals(dispatcher._restRequests.size(), 1);
+    Assert.assertEquals(dispatcher._restRequests.get(0).getURI().toString(), "/upgrade");
+    Assert.assertTrue(dispatcher._streamRequests.isEmpty());
+
+    client.finishAndReleaseAll();
+    server.finishAndReleaseAll();
+  }
+
+  @Test(dataProvider = "restOverStream")
+  public void testH2cPriorKnowledge(boolean restOverStream) throws Exception
+  {
+    RecordingDispatcher dispatcher = new RecordingDispatcher();
+    EmbeddedChannel server = newServerChannel(dispatcher, null, restOverStream);
+    Http2FrameCollector frames = new Http2FrameCollector();
+    EmbeddedChannel client = new EmbeddedChannel(frames);
+
+    client.writeOutbound(clientPreface(), headersFrame(1, new DefaultHttp2Headers()
+        .method("GET")
+        .path("/prior")
+        .scheme("http")
+        .authority("localhost")));
+    exchange(client, server);
+
+    Assert.assertNotNull(server.pipeline().get(Http2FrameCodec.class));
+    assertDispatched(dispatcher, frames, restOverStream, "/prior");
+
+    client.finishAndReleaseAll();
+    server.finishAndReleaseAll();
+  }
+
+  @Test
+  public void testClearTextHttp1() throws Exception
+  {
+    RecordingDispatcher dispatcher = new RecordingDispatcher();
+    EmbeddedChannel server = newServerChannel(dispatcher, null, false);
+
+    server.writeInbound(ascii("GET /http1 HTTP/1.1\r\nHost: localhost\r\nContent-Length: 0\r\n\r\n"));
+
+    String response = readAllOutbound(server).toString(StandardCharsets.US_ASCII);
+    Assert.assertTrue(response.startsWith("HTTP/1.1 200"), response);
+    Assert.assertTrue(response.endsWith(REST_ENTITY), response);
+    Assert.assertNull(server.pipeline().get(Http2FrameCodec.class));
+    Assert.assertEquals(dispatcher._restRequests.size(), 1);
+    Assert.assertEquals(dispatcher._restRequests.get(0).getURI().toString(), "/http1");
+
+    server.finishAndReleaseAll();
+  }
+
+  @Test(dataProvider = "restOverStream")
+  public void testAlpnH2(boolean restOverStream) throws Exception
+  {
+    RecordingDispatcher dispatcher = new RecordingDispatcher();
+    EmbeddedChannel server = newServerChannel(dispatcher, newServerSslContext(), restOverStream);
+    SslHandler clientSslHandler = newClientSslHandler(ApplicationProtocolNames.HTTP_2, ApplicationProtocolNames.HTTP_1_1);
+    Http2FrameCollector frames = new Http2FrameCollector();
+    EmbeddedChannel client = new EmbeddedChannel(clientSslHandler, frames);
+    exchange(client, server);
+
+    Assert.assertTrue(clientSslHandler.handshakeFuture().isSuccess());
+    Assert.assertEquals(clientSslHandler.applicationProtocol(), ApplicationProtocolNames.HTTP_2);
+    Assert.assertNotNull(server.pipeline().get(Http2FrameCodec.class));
+
+    client.writeOutbound(clientPreface(), headersFrame(1, new DefaultHttp2Headers()
+        .method("GET")
+        .path("/alpn")
+        .scheme("https")
+        .authority("localhost")));
+    exchange(client, server);
+
+    assertDispatched(dispatcher, frames, restOverStream, "/alpn");
+
+    client.finishAndReleaseAll();
+    server.finishAndReleaseAll();
+  }
+
+  @Test
+  public void testAlpnHttp1() throws Exception
+  {
+    EmbeddedChannel server = newServerChannel(new RecordingDispatcher(), newServerSslContext(), false);
+    SslHandler clientSslHandler = newClientSslHandler(ApplicationProtocolNames.HTTP_1_1);
+    EmbeddedChannel client = new EmbeddedChannel(clientSslHandler);
+    exchange(client, server);
+
+    Assert.assertTrue(clientSslHandler.handshakeFuture().isSuccess());
+    Assert.assertEquals(clientSslHandler.applicationProtocol(), ApplicationProtocolNames.HTTP_1_1);
+    Assert.assertTrue(server.pipeline().get("decoder") instanceof HttpRequestDecoder);
+    Assert.assertNull(server.pipeline().get(Http2FrameCodec.class));
+
+    client.finishAndReleaseAll();
+    server.finishAndReleaseAll();
+  }
+
+  private static void assertDispatched(RecordingDispatcher dispatcher, Http2FrameCollector frames,
+      boolean restOverStream, String path)
+  {
+    Assert.assertEquals(frames.getStatus(1), "200");
+    if (restOverStream)
+    {
+      Assert.assertEquals(frames.getData(1), STREAM_ENTITY);
+      Assert.assertTrue(dispatcher._restRequests.isEmpty());
+      Assert.assertEquals(dispatcher._streamRequests.size(), 1);
+      Assert.assertEquals(dispatcher._streamRequests.get(0).getURI().toString(), path);
+    }
+    else
+    {
+      Assert.assertEquals(frames.getData(1), REST_ENTITY);
+      Assert.assertTrue(dispatcher._streamRequests.isEmpty());
+      Assert.assertEquals(dispatcher._restRequests.size(), 1);
+      Assert.assertEquals(dispatcher._restRequests.get(0).getURI().toString(), path);
+    }
+  }
+
+  private static EmbeddedChannel newServerChannel(TransportDispatcher dispatcher, SSLContext sslContext,
+      boolean restOverStream) throws Exception
+  {
+    EmbeddedChannel channel = new EmbeddedChannel();
+    SocketChannel socketChannel = Mockito.mock(SocketChannel.class);
+    Mockito.when(socketChannel.pipeline()).thenReturn(channel.pipeline());
+    new HttpNettyServerPipelineInitializer(new HttpDispatcher(dispatcher), null, sslContext, null, restOverStream, true)
+        .initChannel(socketChannel);
+    return channel;
+  }
+
+  private static SSLContext newServerSslContext() throws Exception
+  {
+    KeyStore keyStore = KeyStore.getInstance("JKS");
+    try (InputStream in = TestHttpNettyServerPipelineInitializer.class.getClassLoader().getResourceAsStream(KEY_STORE))
+    {
+      keyStore.load(in, KEY_STORE_PASSWORD);
+    }
+    KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+    keyManagerFactory.init(keyStore, KEY_STORE_PASSWORD);
+    SSLContext sslContext = SSLContext.getInstance("TLS");
+    sslContext.init(keyManagerFactory.getKeyManagers(), null, null);
+    return sslContext;
+  }
+
+  private static SslHandler newClientSslHandler(String... protocols) throws Exception
+  {
+    return SslContextBuilder.forClient()
+        .sslProvider(SslProvider.JDK)
+        .trustManager(InsecureTrustManagerFactory.INSTANCE)
+        .applicationProtocolConfig(new ApplicationProtocolConfig(
+            ApplicationProtocolConfig.Protocol.ALPN,
+            ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+            ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+            protocols))
+        .build()
+        .newHandler(ByteBufAllocator.DEFAULT);
+  }
+
+  /**
+   * Moves the bytes written by each side to the other until neither side has anything left to write.
+   */
+  private static void exchange(EmbeddedChannel client, EmbeddedChannel server)
+  {
+    boolean transferred;
+    do
+    {
+      transferred = transfer(client, server);
+      transferred |= transfer(server, client);
+    }
+    while (transferred);
+  }
+
+  private static boolean transfer(EmbeddedChannel from, EmbeddedChannel to)
+  {
+    from.runPendingTasks();
+    boolean transferred = false;
+    ByteBuf buf;
+    while ((buf = from.readOutbound()) != null)
+    {
+      to.writeInbound(buf);
+      transferred = true;
+    }
+    return transferred;
+  }
+
+  private static ByteBuf readAllOutbound(EmbeddedChannel channel)
+  {
+    channel.runPendingTasks();
+    ByteBuf all = Unpooled.buffer();
+    ByteBuf buf;
+    while ((buf = channel.readOutbound()) != null)
+    {
+      all.writeBytes(buf);
+      buf.release();
+    }
+    return all;
+  }
+
+  private static ByteBuf ascii(String s)
+  {
+    return Unpooled.copiedBuffer(s, StandardCharsets.US_ASCII);
+  }
+
+  private static ByteBuf clientPreface()
+  {
+    ByteBuf buf = Unpooled.buffer();
+    buf.writeBytes(Http2CodecUtil.connectionPrefaceBuf());
+    Http2CodecUtil.writeFrameHeader(buf, 0, Http2FrameTypes.SETTINGS, new Http2Flags(), 0);
+    return buf;
+  }
+
+  private static ByteBuf headersFrame(int streamId, Http2Headers headers) throws Http2Exception
+  {
+    ByteBuf headerBlock = Unpooled.buffer();
+    new DefaultHttp2HeadersEncoder().encodeHeaders(streamId, headers, headerBlock);
+    ByteBuf buf = Unpooled.buffer();
+    Http2CodecUtil.writeFrameHeader(buf, headerBlock.readableBytes(), Http2FrameTypes.HEADERS,
+        new Http2Flags().endOfHeaders(true).endOfStream(true), streamId);
+    buf.writeBytes(headerBlock);
+    headerBlock.release();
+    return buf;
+  }
+
+  /**
+   * Decodes the HTTP/2 frames received by the client and collects the response headers and data of each stream.
+   */
+  private static class Http2FrameCollector extends ByteToMessageDecoder
+  {
+    private final Http2FrameReader _reader = new DefaultHttp2FrameReader();
+    private final Map<Integer, Http2Headers> _headers = new HashMap<>();
+    private final Map<Integer, StringBuilder> _data = new HashMap<>();
+    private final Map<Integer, Boolean> _ended = new HashMap<>();
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception
+    {
+      _reader.readFrame(ctx, in, new Http2FrameAdapter()
+      {
+        @Override
+        public void onHeadersRead(ChannelHandlerContext ctx, int streamId, Http2Headers headers, int padding,
+            boolean endOfStream)
+        {
+          _headers.put(streamId, headers);
+          _ended.put(streamId, endOfStream);
+        }
+
+        @Override
+        public void onHeadersRead(ChannelHandlerContext ctx, int streamId, Http2Headers headers, int streamDependency,
+            short weight, boolean exclusive, int padding, boolean endOfStream)
+        {
+          onHeadersRead(ctx, streamId, headers, padding, endOfStream);
+        }
+
+        @Override
+        public int onDataRead(ChannelHandlerContext ctx, int streamId, ByteBuf data, int padding, boolean endOfStream)
+        {
+          _data.computeIfAbsent(streamId, id -> new StringBuilder()).append(data.toString(StandardCharsets.UTF_8));
+          _ended.put(streamId, endOfStream);
+          return data.readableBytes() + padding;
+        }
+      });
+    }
+
+    private String getStatus(int streamId)
+    {
+      Http2Headers headers = _headers.get(streamId);
+      Assert.assertNotNull(headers, "No response headers on stream " + streamId);
+      return headers.status().toString();
+    }
+
+    private String getData(int streamId)
+    {
+      Assert.assertEquals(_ended.get(streamId), Boolean.TRUE, "The response on stream " + streamId + " has not ended");
+      StringBuilder data = _data.get(streamId);
+      return data == null ? "" : data.toString();
+    }
+  }
+
+  private static class RecordingDispatcher implements TransportDispatcher
+  {
+    private final List<RestRequest> _restRequests = new ArrayList<>();
+    private final List<StreamRequest> _streamRequests = new ArrayList<>();
+
+    @Override
+    public void handleRestRequest(RestRequest req, Map<String, String> wireAttrs, RequestContext requestContext,
+        TransportCallback<RestResponse> callback)
+    {
+      _restRequests.add(req);
+      callback.onResponse(TransportResponseImpl.success(new RestResponseBuilder()
+          .setEntity(ByteString.copyString(REST_ENTITY, StandardCharsets.UTF_8))
+          .build()));
+    }
+
+    @Override
+    public void handleStreamRequest(StreamRequest req, Map<String, String> wireAttrs, RequestContext requestContext,
+        TransportCallback<StreamResponse> callback)
+    {
+      _streamRequests.add(req);
+      req.getEntityStream().setReader(new DrainReader());
+      callback.onResponse(TransportResponseImpl.success(new StreamResponseBuilder()
+          .build(EntityStreams.newEntityStream(
+              new ByteStringWriter(ByteString.copyString(STREAM_ENTITY, StandardCharsets.UTF_8))))));
+    }
+  }
+}
@@ -73,6 +73,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -350,6 +351,7 @@ public class RestClient implements Client {
         final String methodName = request.getMethodName();
         addDisruptContext(request.getBaseUriTemplate(), method, methodName, requestContext);
         addTraceInfo(request, requestContext);
+        addRequestCost(request, requestContext);
         sendStreamRequestImpl(requestContext,
           requestUri,
           method,
@@ -412,6 +414,7 @@ public class RestClient implements Client {
         final String methodName = request.getMethodName();
         addDisruptContext(request.getBaseUriTemplate(), method, methodName, requestContext);
         addTraceInfo(request, requestContext);
+        addRequestCost(request, requestContext);
         sendRestRequestImpl(requestContext,
           requestUri,
           method,
@@ -1056,6 +1059,18 @@ public class RestClient implements Client {
                            request.getResourceMethodIdentifier());
   }
 
+  /**
+   * Records the number of keys of a batch request as its cost, so that backup requests are budgeted per key.
+   */
+  private static <T> void addRequestCost(Request<T> request, RequestContext requestContext)
+  {
+    Object ids = request.getQueryParamsObjects().get(RestConstants.QUERY_BATCH_IDS_PARAM);
+    if (ids instanceof Collection && ((Collection<?>) ids).size() > 1)
+    {
+      requestContext.putLocalAttr(R2Constants.REQUEST_COST_KEY, ((Collection<?>) ids).size());
+    }
+  }
+
   // Return the scatter gather strategy for the given request, and per-request strategy takes precedence
   // over per-client strategy.
   private <T> ScatterGatherStrategy getScatterGatherStrategy(final RequestContext requestContext)
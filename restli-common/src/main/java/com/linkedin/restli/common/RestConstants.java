@@ -66,6 +66,12 @@ public interface RestConstants
    */
   String HEADER_SKIP_RESPONSE_VALIDATION = "x-restli-skip-response-validation";
 
+  /**
+   * Priority class of the request, used to order requests queued for a resource method bulkhead on the server.
+   * One of {@code HIGH}, {@code NORMAL} or {@code LOW}.
+   */
+  String HEADER_RESTLI_PRIORITY = "x-restli-priority";
+
   // Default supported mime types.
   Set<String> SUPPORTED_MIME_TYPES = new LinkedHashSet<>(
       Arrays.asList(HEADER_VALUE_APPLICATION_LICOR_TEXT,
@@ -129,6 +129,10 @@ public class RestLiDataValidator
   private final ResourceMethod _resourceMethod;
   // To be passed into DataSchemaAnnotationValidator.
   private final Map<String, Class<? extends Validator>> _validatorClassMap;
+  // Building a validator instantiates the validators declared in the schema, so the most recently built ones are
+  // reused for as long as entities come with the same schema.
+  private volatile SchemaValidator _inputEntityValidator;
+  private volatile SchemaValidator _outputEntityValidator;
 
   private static final String INSTANTIATION_ERROR = "InstantiationException while trying to instantiate the record template class";
   private static final String ILLEGAL_ACCESS_ERROR = "IllegalAccessException while trying to instantiate the record template class";
@@ -557,7 +561,7 @@ public class RestLiDataValidator
     }
     // Custom validation rules and Rest.li annotations for set operations are checked here.
     return ValidateDataAgainstSchema.validate(new SimpleDataElement(entity.data(), entity.schema()),
-        getValidationOptionsForInputEntityValidation(true), getValidatorForInputEntityValidation(entity.schema()));
+        getValidationOptionsForInputEntityValidation(true), getInputEntityValidator(entity.schema()));
   }
 
   /**
@@ -633,13 +637,36 @@ public class RestLiDataValidator
   private ValidationResult validateInputEntity(RecordTemplate entity)
   {
     return ValidateDataAgainstSchema.validate(entity, getValidationOptionsForInputEntityValidation(false),
-    getValidatorForInputEntityValidation(entity.schema()));
+    getInputEntityValidator(entity.schema()));
   }
 
   private ValidationResult validateOutputEntity(RecordTemplate entity, DataSchema validatingSchema)
   {
     return ValidateDataAgainstSchema.validate(entity.data(), validatingSchema,
-        getValidationOptionsForOutputEntityValidation(), getValidatorForOutputEntityValidation(validatingSchema));
+        getValidationOptionsForOutputEntityValidation(), getOutputEntityValidator(validatingSchema));
+  }
+
+  private Validator getInputEntityValidator(DataSchema schema)
+  {
+    SchemaValidator validator = _inputEntityValidator;
+    // Intentionally does an == check to avoid a more computationally heavy .equals for larger schemas
+    if (validator == null || validator._schema != schema)
+    {
+      validator = new SchemaValidator(schema, getValidatorForInputEntityValidation(schema));
+      _inputEntityValidator = validator;
+    }
+    return validator._validator;
+  }
+
+  private Validator getOutputEntityValidator(DataSchema schema)
+  {
+    SchemaValidator validator = _outputEntityValidator;
+    if (validator == null || validator._schema != schema)
+    {
+      validator = new SchemaValidator(schema, getValidatorForOutputEntityValidation(schema));
+      _outputEntityValidator = validator;
+    }
+    return validator._validator;
   }
 
   protected Validator getValidatorForOutputEntityValidation(DataSchema validatingSchema)
@@ -681,6 +708,18 @@ public class RestLiDataValidator
     return result;
   }
 
+  private static class SchemaValidator
+  {
+    private final DataSchema _schema;
+    private final Validator _validator;
+
+    private SchemaValidator(DataSchema schema, Validator validator)
+    {
+      _schema = schema;
+      _validator = validator;
+    }
+  }
+
   private static class ValidationErrorResult implements ValidationResult
   {
     private final MessageList<Message> _messages;
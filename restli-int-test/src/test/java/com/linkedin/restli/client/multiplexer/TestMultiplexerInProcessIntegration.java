@@ -0,0 +1,37 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.client.multiplexer;
+
+
+import com.linkedin.restli.server.RestLiConfig;
+import org.testng.annotations.BeforeClass;
+
+
+/**
+ * Runs the multiplexer integration tests with individual requests dispatched in process.
+ */
+public class TestMultiplexerInProcessIntegration extends TestMultiplexerIntegration
+{
+  @BeforeClass
+  @Override
+  public void initClass() throws Exception
+  {
+    RestLiConfig config = new RestLiConfig();
+    config.setMultiplexerInProcessDispatchEnabled(true);
+    super.init(false, config);
+  }
+}
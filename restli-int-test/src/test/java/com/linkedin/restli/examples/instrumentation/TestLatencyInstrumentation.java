@@ -97,6 +97,9 @@ public class TestLatencyInstrumentation extends RestLiIntegrationTest
   // These timing keys will not be present when using protocol 2.0.0
   private static final Set<TimingKey> TIMING_KEYS_MISSING_ON_PROTOCOL_2_0_0 =
       Collections.singleton(FrameworkTimingKeys.SERVER_REQUEST_RESTLI_URI_PARSE_1.key());
+  // These timing keys will not be present since the downstream request is not sent through D2
+  private static final Set<TimingKey> TIMING_KEYS_MISSING_WITHOUT_D2 =
+      Collections.singleton(FrameworkTimingKeys.CLIENT_REQUEST_D2_SELECTION.key());
 
   private static final double NANOS_TO_MILLIS = .000001;
 
@@ -261,6 +264,8 @@ public class TestLatencyInstrumentation extends RestLiIntegrationTest
         })
         // Expect some keys to be missing since using protocol 2.0.0
         .filter(timingKey -> !TIMING_KEYS_MISSING_ON_PROTOCOL_2_0_0.contains(timingKey))
+        // Expect D2 keys to be missing since the test client does not use D2
+        .filter(timingKey -> !TIMING_KEYS_MISSING_WITHOUT_D2.contains(timingKey))
         // Only expect keys that are included by the current timing importance threshold
         .filter(timingKey -> timingImportanceThreshold == null ||
             TIMING_KEYS_ALWAYS_PRESENT.contains(timingKey) ||
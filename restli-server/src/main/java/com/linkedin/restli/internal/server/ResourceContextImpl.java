@@ -117,6 +117,8 @@ public class ResourceContextImpl implements ServerResourceContext
   // Fill in default values
   private boolean _fillInDefaultValues;
 
+  private final long _createdNanos = System.nanoTime();
+
   /**
    * Default constructor.
    *
@@ -715,4 +717,10 @@ public class ResourceContextImpl implements ServerResourceContext
   {
     return _alwaysProjectedFields;
   }
+
+  @Override
+  public long getCreatedNanos()
+  {
+    return _createdNanos;
+  }
 }
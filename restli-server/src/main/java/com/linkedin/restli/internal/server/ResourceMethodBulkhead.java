@@ -0,0 +1,349 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.internal.server;
+
+import com.linkedin.restli.common.HttpStatus;
+import com.linkedin.restli.server.RequestPriority;
+import com.linkedin.restli.server.RestLiServiceException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Bounds the number of requests a resource method executes concurrently, so that a slow method cannot take over the
+ * threads and downstream resources that every other method of the server shares.
+ *
+ * <p>The bulkhead hands out permits instead of owning threads. A request that gets a permit runs on the thread that
+ * submitted it, and must {@link #release()} the permit once the resource method completes. Requests that find no
+ * permit wait in a bounded queue ordered by {@link RequestPriority}, then by arrival. A released permit is handed to
+ * the first queued request, which is then run on the executor of the bulkhead rather than on the releasing thread.
+ * A queued request is rejected as soon as its deadline passes, whether or not a permit is released in the meantime.
+ * When the queue is full, a new request is rejected unless it outranks the last queued request, which is then
+ * rejected in its place.</p>
+ *
+ * <p>Rejected requests fail with a {@link HttpStatus#S_503_SERVICE_UNAVAILABLE} {@link RestLiServiceException}, so that
+ * clients can retry another host.</p>
+ */
+class ResourceMethodBulkhead
+{
+  private static final Logger LOG = LoggerFactory.getLogger(ResourceMethodBulkhead.class);
+
+  /**
+   * Passed as the remaining time of a request that may wait in the queue until it is admitted.
+   */
+  static final long NO_DEADLINE = Long.MAX_VALUE;
+
+  private final String _name;
+  private final int _maxConcurrentRequests;
+  private final int _maxQueuedRequests;
+  private final Executor _executor;
+  private final ScheduledExecutorService _scheduler;
+  private final TreeSet<QueuedRequest> _queue = new TreeSet<>();
+  private int _activeRequests;
+  private long _sequence;
+
+  private static final class QueuedRequest implements Comparable<QueuedRequest>
+  {
+    private final RequestPriority _priority;
+    private final long _sequence;
+    private final boolean _hasDeadline;
+    private final long _deadlineNanos;
+    private final Runnable _admit;
+    private final Consumer<RestLiServiceException> _reject;
+    private volatile ScheduledFuture<?> _timeout;
+
+    private QueuedRequest(RequestPriority priority, long sequence, long nowNanos, long remainingNanos, Runnable admit,
+        Consumer<RestLiServiceException> reject)
+    {
+      _priority = priority;
+      _sequence = sequence;
+      _hasDeadline = remainingNanos != NO_DEADLINE;
+      _deadlineNanos = nowNanos + remainingNanos;
+      _admit = admit;
+      _reject = reject;
+    }
+
+    private boolean isExpired(long nowNanos)
+    {
+      return _hasDeadline && nowNanos - _deadlineNanos >= 0;
+    }
+
+    private void cancelTimeout()
+    {
+      ScheduledFuture<?> timeout = _timeout;
+      if (timeout != null)
+      {
+        timeout.cancel(false);
+      }
+    }
+
+    @Override
+    public int compareTo(QueuedRequest other)
+    {
+      int result = _priority.compareTo(other._priority);
+      return result != 0 ? result : Long.compare(_sequence, other._sequence);
+    }
+  }
+
+  /**
+   * @param name the name of the resource method, used in rejection messages.
+   * @param maxConcurrentRequests the number of permits, must be positive.
+   * @param maxQueuedRequests the number of requests that can wait for a permit, zero to reject as soon as all permits
+   *                          are in use.
+   * @param executor runs the requests admitted from the queue, and the rejections of queued requests at their deadline.
+   * @param scheduler schedules the deadlines of queued requests.
+   */
+  ResourceMethodBulkhead(String name, int maxConcurrentRequests, int maxQueuedRequests, Executor executor,
+      ScheduledExecutorService scheduler)
+  {
+    if (maxConcurrentRequests <= 0)
+    {
+      throw new IllegalArgumentException("maxConcurrentRequests must be positive: " + maxConcurrentRequests);
+    }
+    _name = name;
+    _maxConcurrentRequests = maxConcurrentRequests;
+    _maxQueuedRequests = Math.max(maxQueuedRequests, 0);
+    _executor = executor;
+    _scheduler = scheduler;
+  }
+
+  /**
+   * Returns a scheduler for the deadlines of queued requests, shared by the bulkheads of servers that do not
+   * configure their own. Its single daemon thread only hands expired requests over to the executor of their bulkhead.
+   */
+  static ScheduledExecutorService defaultScheduler()
+  {
+    return DefaultSchedulerHolder.SCHEDULER;
+  }
+
+  private static final class DefaultSchedulerHolder
+  {
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable ->
+    {
+      Thread thread = new Thread(runnable, "restli-bulkhead-deadlines");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Acquires a permit for a request, or queues the request until a permit is released.
+   *
+   * @param priority the priority of the request.
+   * @param remainingNanos the time left until the deadline of the request, which is the longest it may wait in the
+   *                       queue, or {@link #NO_DEADLINE} to wait until admitted.
+   * @param admit runs the request once a permit is handed to it from the queue.
+   * @param reject fails the request when it is rejected.
+   * @return true if a permit was acquired, in which case the caller runs the request itself and neither
+   *         {@code admit} nor {@code reject} is invoked.
+   */
+  boolean acquireOrQueue(RequestPriority priority, long remainingNanos, Runnable admit,
+      Consumer<RestLiServiceException> reject)
+  {
+    List<QueuedRequest> expired = new ArrayList<>(0);
+    List<QueuedRequest> rejected = new ArrayList<>(1);
+    QueuedRequest request;
+    synchronized (this)
+    {
+      if (_activeRequests < _maxConcurrentRequests)
+      {
+        _activeRequests++;
+        return true;
+      }
+
+      long now = System.nanoTime();
+      request = new QueuedRequest(priority, _sequence++, now, remainingNanos, admit, reject);
+      if (request.isExpired(now))
+      {
+        expired.add(request);
+      }
+      else
+      {
+        if (_queue.size() >= _maxQueuedRequests)
+        {
+          removeExpired(now, expired);
+        }
+
+        if (_queue.size() < _maxQueuedRequests)
+        {
+          _queue.add(request);
+        }
+        else if (!_queue.isEmpty() && request.compareTo(_queue.last()) < 0)
+        {
+          rejected.add(_queue.pollLast());
+          _queue.add(request);
+        }
+        else
+        {
+          rejected.add(request);
+        }
+      }
+    }
+
+    if (request._hasDeadline && !expired.contains(request) && !rejected.contains(request))
+    {
+      scheduleTimeout(request, remainingNanos);
+    }
+    rejectAll(expired, timeoutMessage());
+    rejectAll(rejected, "Too many concurrent requests to " + _name);
+    return false;
+  }
+
+  /**
+   * Releases a permit, handing it to the first queued request that has not exceeded its deadline. The admitted
+   * request runs on the executor of the bulkhead.
+   */
+  void release()
+  {
+    List<QueuedRequest> expired = new ArrayList<>(0);
+    QueuedRequest next = null;
+    synchronized (this)
+    {
+      long now = System.nanoTime();
+      while (!_queue.isEmpty())
+      {
+        QueuedRequest head = _queue.pollFirst();
+        if (head.isExpired(now))
+        {
+          expired.add(head);
+        }
+        else
+        {
+          next = head;
+          break;
+        }
+      }
+
+      if (next == null)
+      {
+        _activeRequests--;
+      }
+    }
+
+    rejectAll(expired, timeoutMessage());
+    if (next != null)
+    {
+      next.cancelTimeout();
+      admit(next);
+    }
+  }
+
+  synchronized int getActiveRequests()
+  {
+    return _activeRequests;
+  }
+
+  synchronized int getQueuedRequests()
+  {
+    return _queue.size();
+  }
+
+  private String timeoutMessage()
+  {
+    return "Request to " + _name + " waited for longer than its timeout";
+  }
+
+  private void scheduleTimeout(QueuedRequest request, long remainingNanos)
+  {
+    try
+    {
+      request._timeout = _scheduler.schedule(() -> expire(request), remainingNanos, TimeUnit.NANOSECONDS);
+    }
+    catch (RejectedExecutionException e)
+    {
+      // The deadline is still enforced when the request reaches the head of the queue.
+      LOG.warn("Unable to schedule the deadline of a request queued by the bulkhead of " + _name, e);
+    }
+  }
+
+  private void expire(QueuedRequest request)
+  {
+    synchronized (this)
+    {
+      if (!_queue.remove(request))
+      {
+        // already admitted or rejected
+        return;
+      }
+    }
+    execute(() -> reject(request, timeoutMessage()));
+  }
+
+  private void admit(QueuedRequest request)
+  {
+    try
+    {
+      _executor.execute(request._admit);
+    }
+    catch (RejectedExecutionException e)
+    {
+      LOG.error("Unable to run a request admitted by the bulkhead of " + _name, e);
+      reject(request, "Unable to run request to " + _name);
+      release();
+    }
+  }
+
+  private void execute(Runnable runnable)
+  {
+    try
+    {
+      _executor.execute(runnable);
+    }
+    catch (RejectedExecutionException e)
+    {
+      runnable.run();
+    }
+  }
+
+  private void removeExpired(long now, List<QueuedRequest> expired)
+  {
+    for (Iterator<QueuedRequest> it = _queue.iterator(); it.hasNext(); )
+    {
+      QueuedRequest request = it.next();
+      if (request.isExpired(now))
+      {
+        it.remove();
+        expired.add(request);
+      }
+    }
+  }
+
+  private static void rejectAll(List<QueuedRequest> requests, String message)
+  {
+    for (QueuedRequest request : requests)
+    {
+      request.cancelTimeout();
+      reject(request, message);
+    }
+  }
+
+  private static void reject(QueuedRequest request, String message)
+  {
+    request._reject.accept(new RestLiServiceException(HttpStatus.S_503_SERVICE_UNAVAILABLE, message));
+  }
+}
@@ -0,0 +1,214 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.internal.server;
+
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.restli.common.ComplexKeySpec;
+import com.linkedin.restli.common.ComplexResourceKey;
+import com.linkedin.restli.common.CompoundKey;
+import com.linkedin.restli.common.OperationNameGenerator;
+import com.linkedin.restli.common.ResourceMethod;
+import com.linkedin.restli.internal.server.model.ResourceMethodDescriptor;
+import com.linkedin.restli.internal.server.model.ResourceModel;
+import com.linkedin.restli.server.ResourceDefinition;
+import com.linkedin.restli.server.ResourceLevel;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * A node of the routing tree compiled by {@link RestLiRouter} from a {@link ResourceModel} and its sub-resources.
+ *
+ * <p>The node resolves everything about its resource that does not depend on the request ahead of time: the kind of
+ * its key, the spec of complex keys, its sub-resources by path segment, and its methods keyed by
+ * {@link ResourceMethod}, method name and, for actions, {@link ResourceLevel}. Method lookups return the same
+ * descriptor as {@link ResourceModel#matchMethod(ResourceMethod, String, ResourceLevel)}.</p>
+ *
+ * <p>Nodes are immutable and are compiled from fully built resource models.</p>
+ */
+final class ResourceRoutingNode
+{
+  enum KeyKind
+  {
+    NONE,
+    SIMPLE,
+    COMPOUND,
+    COMPLEX
+  }
+
+  /**
+   * A resource method together with its operation name, which is put into the request context for every request.
+   */
+  static final class MethodRoute
+  {
+    private final ResourceMethodDescriptor _descriptor;
+    private final String _operation;
+
+    private MethodRoute(ResourceMethodDescriptor descriptor)
+    {
+      _descriptor = descriptor;
+      _operation = OperationNameGenerator.generate(descriptor.getMethodType(), descriptor.getMethodName());
+    }
+
+    ResourceMethodDescriptor getDescriptor()
+    {
+      return _descriptor;
+    }
+
+    String getOperation()
+    {
+      return _operation;
+    }
+  }
+
+  private final ResourceModel _resource;
+  private final KeyKind _keyKind;
+  private final ComplexKeySpec<? extends RecordTemplate, ? extends RecordTemplate> _complexKeySpec;
+  private final Map<String, ResourceRoutingNode> _subResources;
+  private final Map<ResourceMethod, MethodRoute> _methods;
+  private final Map<String, MethodRoute> _finders;
+  private final Map<String, MethodRoute> _batchFinders;
+  private final Map<ResourceLevel, Map<String, MethodRoute>> _actions;
+
+  /**
+   * Compiles the routing tree rooted at the given resource.
+   */
+  static ResourceRoutingNode compile(ResourceModel resource)
+  {
+    return new ResourceRoutingNode(resource);
+  }
+
+  private ResourceRoutingNode(ResourceModel resource)
+  {
+    _resource = resource;
+
+    if (resource.getKeys().isEmpty())
+    {
+      _keyKind = KeyKind.NONE;
+    }
+    else if (resource.getKeyClass() == ComplexResourceKey.class)
+    {
+      _keyKind = KeyKind.COMPLEX;
+    }
+    else if (resource.getKeyClass() == CompoundKey.class)
+    {
+      _keyKind = KeyKind.COMPOUND;
+    }
+    else
+    {
+      _keyKind = KeyKind.SIMPLE;
+    }
+    _complexKeySpec = resource.getKeyClass() == ComplexResourceKey.class
+        ? ComplexKeySpec.forClassesMaybeNull(resource.getKeyKeyClass(), resource.getKeyParamsClass())
+        : null;
+
+    Map<String, ResourceRoutingNode> subResources = new HashMap<>();
+    for (Map.Entry<String, ResourceDefinition> entry : resource.getSubResourceDefinitions().entrySet())
+    {
+      subResources.put(entry.getKey(), new ResourceRoutingNode((ResourceModel) entry.getValue()));
+    }
+    _subResources = Collections.unmodifiableMap(subResources);
+
+    Map<ResourceMethod, MethodRoute> methods = new EnumMap<>(ResourceMethod.class);
+    Map<String, MethodRoute> finders = new HashMap<>();
+    Map<String, MethodRoute> batchFinders = new HashMap<>();
+    Map<ResourceLevel, Map<String, MethodRoute>> actions = new EnumMap<>(ResourceLevel.class);
+    // The first matching descriptor wins, as it does in ResourceModel#matchMethod.
+    for (ResourceMethodDescriptor descriptor : resource.getResourceMethodDescriptors())
+    {
+      MethodRoute route = new MethodRoute(descriptor);
+      switch (descriptor.getType())
+      {
+        case ACTION:
+          actions.computeIfAbsent(descriptor.getActionResourceLevel(), level -> new HashMap<>())
+              .putIfAbsent(descriptor.getActionName(), route);
+          break;
+        case FINDER:
+          finders.putIfAbsent(descriptor.getFinderName(), route);
+          break;
+        case BATCH_FINDER:
+          batchFinders.putIfAbsent(descriptor.getBatchFinderName(), route);
+          break;
+        default:
+          methods.putIfAbsent(descriptor.getType(), route);
+          break;
+      }
+    }
+    _methods = methods;
+    _finders = finders;
+    _batchFinders = batchFinders;
+    _actions = actions;
+  }
+
+  ResourceModel getResource()
+  {
+    return _resource;
+  }
+
+  KeyKind getKeyKind()
+  {
+    return _keyKind;
+  }
+
+  /**
+   * @return the spec of the key of this resource if it is keyed by {@link ComplexResourceKey}, null otherwise.
+   */
+  ComplexKeySpec<? extends RecordTemplate, ? extends RecordTemplate> getComplexKeySpec()
+  {
+    return _complexKeySpec;
+  }
+
+  /**
+   * @param name the decoded path segment naming the sub-resource.
+   * @return the node of the named sub-resource, or null if this resource has no such sub-resource.
+   */
+  ResourceRoutingNode getSubResource(String name)
+  {
+    ResourceRoutingNode node = _subResources.get(name);
+    if (node == null)
+    {
+      // Sub-resources registered after the tree was compiled are still routed, without caching.
+      ResourceModel subResource = _resource.getSubResource(name);
+      if (subResource != null)
+      {
+        node = new ResourceRoutingNode(subResource);
+      }
+    }
+    return node;
+  }
+
+  /**
+   * @return the method matching the given type, name and level, or null if none match.
+   */
+  MethodRoute matchMethod(ResourceMethod type, String name, ResourceLevel resourceLevel)
+  {
+    switch (type)
+    {
+      case ACTION:
+        Map<String, MethodRoute> actions = _actions.get(resourceLevel);
+        return actions == null ? null : actions.get(name);
+      case FINDER:
+        return _finders.get(name);
+      case BATCH_FINDER:
+        return _batchFinders.get(name);
+      default:
+        return _methods.get(type);
+    }
+  }
+}
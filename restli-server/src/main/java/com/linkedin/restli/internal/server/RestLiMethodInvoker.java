@@ -37,6 +37,7 @@ import com.linkedin.restli.internal.server.model.Parameter.ParamType;
 import com.linkedin.restli.internal.server.model.ResourceMethodDescriptor;
 import com.linkedin.restli.restspec.MaxBatchSizeSchema;
 import com.linkedin.restli.server.NonResourceRequestHandler;
+import com.linkedin.restli.server.RequestPriority;
 import com.linkedin.restli.server.ResourceContext;
 import com.linkedin.restli.server.RestLiRequestData;
 import com.linkedin.restli.server.RestLiServiceException;
@@ -46,9 +47,13 @@ import com.linkedin.restli.server.resources.BaseResource;
 import com.linkedin.restli.server.resources.ResourceFactory;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
@@ -71,6 +76,8 @@ public class RestLiMethodInvoker
   private final ResourceFactory _resourceFactory;
   private final Engine _engine;
   private final String _internalErrorMessage;
+  private final ScheduledExecutorService _bulkheadExecutor;
+  private final ConcurrentMap<ResourceMethodDescriptor, ResourceMethodBulkhead> _bulkheads = new ConcurrentHashMap<>();
 
   // This ThreadLocal stores Context of task that is currently being executed.
   // When it is set, new tasks do not start new plans but instead are scheduled
@@ -82,22 +89,33 @@ public class RestLiMethodInvoker
   public RestLiMethodInvoker(final ResourceFactory resourceFactory,
                              final Engine engine,
                              final String internalErrorMessage)
+  {
+    this(resourceFactory, engine, internalErrorMessage, null);
+  }
+
+  /**
+   * @param bulkheadExecutor runs requests admitted from the queue of a resource method bulkhead and rejects queued
+   *                         requests at their deadline, or null to run admitted requests on the engine.
+   */
+  public RestLiMethodInvoker(final ResourceFactory resourceFactory,
+                             final Engine engine,
+                             final String internalErrorMessage,
+                             final ScheduledExecutorService bulkheadExecutor)
   {
     _resourceFactory = resourceFactory;
     _engine = engine;
     _internalErrorMessage = internalErrorMessage;
+    _bulkheadExecutor = bulkheadExecutor;
   }
 
   @SuppressWarnings("deprecation")
   private void doInvoke(final ResourceMethodDescriptor descriptor,
       final ResourceMethodConfig methodConfig,
-      final RestLiCallback callback,
+      final Callback<Object> callback,
       final Object resource,
       final ServerResourceContext resourceContext,
       final Object... arguments) throws IllegalAccessException
   {
-    final Method method = descriptor.getMethod();
-
     final RequestContext requestContext = resourceContext.getRawRequestContext();
     TimingContextUtil.endTiming(requestContext, FrameworkTimingKeys.SERVER_REQUEST_RESTLI.key());
     TimingContextUtil.endTiming(requestContext, FrameworkTimingKeys.SERVER_REQUEST.key());
@@ -135,12 +153,12 @@ public class RestLiMethodInvoker
             }
           };
 
-          method.invoke(resource, arguments);
+          descriptor.invoke(resource, arguments);
           // App code should use the callback
           break;
 
         case SYNC:
-          Object applicationResult = method.invoke(resource, arguments);
+          Object applicationResult = descriptor.invoke(resource, arguments);
           callback.onSuccess(applicationResult);
           break;
 
@@ -156,7 +174,7 @@ public class RestLiMethodInvoker
             contextIndex = descriptor.indexOfParameterType(ParamType.PARSEQ_CONTEXT);
           }
           // run through the engine to get the context
-          Task<Object> restliTask = withTimeout(createRestLiParSeqTask(arguments, contextIndex, method, resource),
+          Task<Object> restliTask = withTimeout(createRestLiParSeqTask(arguments, contextIndex, descriptor, resource),
                   methodConfig);
 
           // propagate the result to the callback
@@ -174,7 +192,7 @@ public class RestLiMethodInvoker
 
           //addListener requires Task<Object> in this case
           @SuppressWarnings("unchecked")
-          Task<Object> task = withTimeout((Task<Object>) method.invoke(resource, arguments),
+          Task<Object> task = withTimeout((Task<Object>) descriptor.invoke(resource, arguments),
                   methodConfig);
           if (task == null)
           {
@@ -284,7 +302,7 @@ public class RestLiMethodInvoker
     }
   }
 
-  private boolean checkEngine(final RestLiCallback callback, final ResourceMethodDescriptor desc)
+  private boolean checkEngine(final Callback<Object> callback, final ResourceMethodDescriptor desc)
   {
     if (_engine == null)
     {
@@ -305,12 +323,38 @@ public class RestLiMethodInvoker
   }
 
   /**
-   * Invokes the method with the specified callback and arguments built from the request.
+   * Invokes the method with the specified callback and arguments built from the request. If a concurrency limit is
+   * configured for the method, the request waits for a slot in the bulkhead of the method first.
    */
   public void invoke(final RestLiRequestData requestData,
       final RoutingResult invokableMethod,
       final RestLiArgumentBuilder restLiArgumentBuilder,
       final RestLiCallback callback)
+  {
+    final ResourceMethodBulkhead bulkhead =
+        getBulkhead(invokableMethod.getResourceMethod(), invokableMethod.getResourceMethodConfig());
+    if (bulkhead == null)
+    {
+      invokeResourceMethod(requestData, invokableMethod, restLiArgumentBuilder, callback);
+      return;
+    }
+
+    final ServerResourceContext resourceContext = invokableMethod.getContext();
+    final RequestPriority priority =
+        RequestPriority.fromRequest(resourceContext.getRawRequestContext(), resourceContext.getRequestHeaders());
+    final Callback<Object> bulkheadCallback = new BulkheadCallback(callback, bulkhead);
+    final Runnable admit = () -> invokeResourceMethod(requestData, invokableMethod, restLiArgumentBuilder, bulkheadCallback);
+
+    if (bulkhead.acquireOrQueue(priority, getRemainingNanos(invokableMethod), admit, callback::onError))
+    {
+      invokeResourceMethod(requestData, invokableMethod, restLiArgumentBuilder, bulkheadCallback);
+    }
+  }
+
+  private void invokeResourceMethod(final RestLiRequestData requestData,
+      final RoutingResult invokableMethod,
+      final RestLiArgumentBuilder restLiArgumentBuilder,
+      final Callback<Object> callback)
   {
     try
     {
@@ -338,6 +382,101 @@ public class RestLiMethodInvoker
     }
   }
 
+  private ResourceMethodBulkhead getBulkhead(ResourceMethodDescriptor descriptor, ResourceMethodConfig config)
+  {
+    if (config == null)
+    {
+      return null;
+    }
+    ConfigValue<Integer> maxConcurrentRequests = config.getMaxConcurrentRequests();
+    if (maxConcurrentRequests == null || maxConcurrentRequests.getValue() == null || maxConcurrentRequests.getValue() <= 0)
+    {
+      return null;
+    }
+
+    return _bulkheads.computeIfAbsent(descriptor, d ->
+    {
+      ConfigValue<Integer> maxQueuedRequests = config.getMaxQueuedRequests();
+      String planClass = toPlanClass(d);
+      return new ResourceMethodBulkhead(planClass, maxConcurrentRequests.getValue(),
+          maxQueuedRequests == null || maxQueuedRequests.getValue() == null ? 0 : maxQueuedRequests.getValue(),
+          getBulkheadExecutor(planClass),
+          _bulkheadExecutor != null ? _bulkheadExecutor : ResourceMethodBulkhead.defaultScheduler());
+    });
+  }
+
+  /**
+   * Returns the executor for requests admitted from the queue of a bulkhead, which must not be the thread releasing
+   * the permit: that may be a ParSeq engine thread or a client IO thread completing an unrelated request.
+   */
+  private Executor getBulkheadExecutor(String planClass)
+  {
+    if (_bulkheadExecutor != null)
+    {
+      return _bulkheadExecutor;
+    }
+    if (_engine != null)
+    {
+      return command -> _engine.run(Task.action("admitted by bulkhead", command::run), planClass);
+    }
+    // Without an engine or a configured executor, admitted requests share the thread of the deadline scheduler.
+    return ResourceMethodBulkhead.defaultScheduler();
+  }
+
+  /**
+   * Returns the time left of the timeout configured for the method, counted from the creation of the request's
+   * context, or {@link ResourceMethodBulkhead#NO_DEADLINE} if no timeout is configured.
+   */
+  private static long getRemainingNanos(RoutingResult invokableMethod)
+  {
+    ConfigValue<Long> timeout = invokableMethod.getResourceMethodConfig().getTimeoutMs();
+    if (timeout == null || timeout.getValue() == null || timeout.getValue() <= 0)
+    {
+      return ResourceMethodBulkhead.NO_DEADLINE;
+    }
+    long elapsedNanos = System.nanoTime() - invokableMethod.getContext().getCreatedNanos();
+    return TimeUnit.MILLISECONDS.toNanos(timeout.getValue()) - elapsedNanos;
+  }
+
+  /**
+   * Releases the slot of a request in the bulkhead of its resource method once the method completes, before the
+   * response is built, so that the limit only covers the execution of the method.
+   */
+  private static final class BulkheadCallback implements Callback<Object>
+  {
+    private final Callback<Object> _callback;
+    private final ResourceMethodBulkhead _bulkhead;
+    private final AtomicBoolean _released = new AtomicBoolean();
+
+    private BulkheadCallback(Callback<Object> callback, ResourceMethodBulkhead bulkhead)
+    {
+      _callback = callback;
+      _bulkhead = bulkhead;
+    }
+
+    @Override
+    public void onSuccess(Object result)
+    {
+      release();
+      _callback.onSuccess(result);
+    }
+
+    @Override
+    public void onError(Throwable e)
+    {
+      release();
+      _callback.onError(e);
+    }
+
+    private void release()
+    {
+      if (_released.compareAndSet(false, true))
+      {
+        _bulkhead.release();
+      }
+    }
+  }
+
   /**
    * Method is used to validate if the request's batch size is under
    * the allowed max batch size which is defined in the server resource.
@@ -397,7 +536,7 @@ public class RestLiMethodInvoker
    */
   private static Task<Object> createRestLiParSeqTask(final Object[] arguments,
       final int contextIndex,
-      final Method method,
+      final ResourceMethodDescriptor descriptor,
       final Object resource)
   {
     return Task.async(context ->
@@ -409,7 +548,7 @@ public class RestLiMethodInvoker
           // we can now supply the context
           arguments[contextIndex] = context;
         }
-        Object applicationResult = method.invoke(resource, arguments);
+        Object applicationResult = descriptor.invoke(resource, arguments);
         if (applicationResult == null)
         {
           return Promises.error(new RestLiServiceException(HttpStatus.S_500_INTERNAL_SERVER_ERROR,
@@ -442,9 +581,9 @@ public class RestLiMethodInvoker
    */
   private static class CallbackPromiseAdapter<T> implements PromiseListener<T>
   {
-    private final RestLiCallback _callback;
+    private final Callback<Object> _callback;
 
-    CallbackPromiseAdapter(final RestLiCallback callback)
+    CallbackPromiseAdapter(final Callback<Object> callback)
     {
       _callback = callback;
     }
@@ -23,11 +23,9 @@ import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.data.template.TemplateRuntimeException;
 import com.linkedin.r2.filter.R2Constants;
 import com.linkedin.r2.message.Request;
-import com.linkedin.restli.common.ComplexKeySpec;
 import com.linkedin.restli.common.ComplexResourceKey;
 import com.linkedin.restli.common.CompoundKey;
 import com.linkedin.restli.common.HttpStatus;
-import com.linkedin.restli.common.OperationNameGenerator;
 import com.linkedin.restli.common.ProtocolVersion;
 import com.linkedin.restli.common.ResourceMethod;
 import com.linkedin.restli.common.RestConstants;
@@ -44,16 +42,13 @@ import com.linkedin.restli.server.RestLiServiceException;
 import com.linkedin.restli.server.RoutingException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,6 +56,9 @@ import org.slf4j.LoggerFactory;
 /**
  * Navigates the resource hierarchy to find a Resource handler for the a given URI.
  *
+ * The resource hierarchy is compiled into a tree of {@link ResourceRoutingNode}s when the router is created, so that
+ * routing a request only scans its path and looks up precomputed sub-resources and methods.
+ *
  * @author Josh Walker
  */
 public class RestLiRouter
@@ -68,6 +66,7 @@ public class RestLiRouter
   private static final Logger log = LoggerFactory.getLogger(RestLiRouter.class);
   private static final Map<ResourceMethodMatchKey, ResourceMethod> _resourceMethodLookup = setupResourceMethodLookup();
   private final Map<String, ResourceModel> _pathRootResourceMap;
+  private final Map<String, ResourceRoutingNode> _rootRoutes;
   private final RestLiConfig _restLiConfig;
 
   /**
@@ -79,9 +78,7 @@ public class RestLiRouter
   @Deprecated
   public RestLiRouter(final Map<String, ResourceModel> pathRootResourceMap)
   {
-    super();
-    _pathRootResourceMap = pathRootResourceMap;
-    _restLiConfig = new RestLiConfig();
+    this(pathRootResourceMap, new RestLiConfig());
   }
 
   /**
@@ -96,76 +93,90 @@ public class RestLiRouter
     super();
     _pathRootResourceMap = pathRootResourceMap;
     _restLiConfig = restLiConfig;
+    _rootRoutes = compileRoutes(pathRootResourceMap);
   }
 
-  private static final Pattern SLASH_PATTERN = Pattern.compile(Pattern.quote("/"));
+  private static Map<String, ResourceRoutingNode> compileRoutes(final Map<String, ResourceModel> pathRootResourceMap)
+  {
+    Map<String, ResourceRoutingNode> rootRoutes = new ConcurrentHashMap<>();
+    for (Map.Entry<String, ResourceModel> entry : pathRootResourceMap.entrySet())
+    {
+      rootRoutes.put(entry.getKey(), ResourceRoutingNode.compile(entry.getValue()));
+    }
+    return rootRoutes;
+  }
 
   /**
    * Processes provided {@link Request}.
    */
   public ResourceMethodDescriptor process(final ServerResourceContext context)
   {
-    String path = context.getRequestURI().getRawPath();
+    final String path = context.getRequestURI().getRawPath();
     if (path.length() < 2)
     {
       throw new RoutingException(HttpStatus.S_404_NOT_FOUND.getCode());
     }
 
-    if (path.charAt(0) == '/')
+    // The path is scanned in place. Trailing slashes are ignored and empty segments in between are kept, which
+    // matches splitting the path on slashes.
+    int start = path.charAt(0) == '/' ? 1 : 0;
+    int end = path.length();
+    while (end > start && path.charAt(end - 1) == '/')
     {
-      path = path.substring(1);
+      end--;
     }
 
-    Queue<String> remainingPath = new LinkedList<>(Arrays.asList(SLASH_PATTERN.split(path)));
-
-    String rootPath = "/" + remainingPath.poll();
+    int rootEnd = segmentEnd(path, start, end);
+    String rawRootPath = start == 1 ? path.substring(0, rootEnd) : "/" + path.substring(start, rootEnd);
+    String rootPath = decode(rawRootPath, "root path");
 
-    ResourceModel currentResource;
-    try
-    {
-      currentResource =
-          _pathRootResourceMap.get(URLDecoder.decode(rootPath,
-                                                     RestConstants.DEFAULT_CHARSET_NAME));
-    }
-    catch (UnsupportedEncodingException e)
-    {
-      throw new RestLiInternalException("UnsupportedEncodingException while trying to decode the root path",
-                                        e);
-    }
-    if (currentResource == null)
+    ResourceRoutingNode currentNode = _rootRoutes.get(rootPath);
+    if (currentNode == null)
     {
-      throw new RoutingException(String.format("No root resource defined for path '%s'",
-                                               rootPath),
-                                 HttpStatus.S_404_NOT_FOUND.getCode());
+      // Root resources registered after this router was created are still routed.
+      ResourceModel rootResource = _pathRootResourceMap.get(rootPath);
+      if (rootResource == null)
+      {
+        throw new RoutingException(String.format("No root resource defined for path '%s'",
+                                                 rawRootPath),
+                                   HttpStatus.S_404_NOT_FOUND.getCode());
+      }
+      currentNode = _rootRoutes.computeIfAbsent(rootPath, key -> ResourceRoutingNode.compile(rootResource));
     }
 
-    return processResourceTree(currentResource, context, remainingPath);
+    return processResourceTree(currentNode, context, path, rootEnd, end);
   }
 
-  private ResourceMethodDescriptor processResourceTree(final ResourceModel resource,
+  private ResourceMethodDescriptor processResourceTree(final ResourceRoutingNode node,
                                             final ServerResourceContext context,
-                                            final Queue<String> remainingPath)
+                                            final String path,
+                                            final int pathStart,
+                                            final int pathEnd)
   {
-    ResourceModel currentResource = resource;
+    ResourceRoutingNode currentNode = node;
 
     // iterate through all path segments, simultaneously descending the resource hierarchy
     // and parsing path keys where applicable;
     // the goal of this loop is to locate the leaf resource, which will be set in
-    // currentResource, and to parse the necessary information into the context
-    ResourceLevel currentLevel = currentResource.getResourceLevel();
+    // currentNode, and to parse the necessary information into the context
+    ResourceLevel currentLevel = currentNode.getResource().getResourceLevel();
 
-    while (remainingPath.peek() != null)
+    int segmentStart = pathStart + 1;
+    while (segmentStart <= pathEnd)
     {
-      String currentPathSegment = remainingPath.poll();
+      int segmentEnd = segmentEnd(path, segmentStart, pathEnd);
+      String currentPathSegment = path.substring(segmentStart, segmentEnd);
+      segmentStart = segmentEnd + 1;
 
       if (currentLevel.equals(ResourceLevel.ENTITY))
       {
-        currentResource = currentResource.getSubResource(parseSubresourceName(currentPathSegment));
-        currentLevel = currentResource == null ? ResourceLevel.ANY : currentResource.getResourceLevel();
+        currentNode = currentNode.getSubResource(decode(currentPathSegment, "subresource name"));
+        currentLevel = currentNode == null ? ResourceLevel.ANY : currentNode.getResource().getResourceLevel();
       }
       else
       {
-        if (currentResource.getKeys().isEmpty())
+        ResourceModel currentResource = currentNode.getResource();
+        if (currentNode.getKeyKind() == ResourceRoutingNode.KeyKind.NONE)
         {
           throw new RoutingException(String.format("Path key not supported on resource '%s' for URI '%s'",
                                                    currentResource.getName(),
@@ -177,12 +188,12 @@ public class RestLiRouter
           parseAlternativeKey(currentResource, context, currentPathSegment);
           currentLevel = ResourceLevel.ENTITY;
         }
-        else if (currentResource.getKeyClass() == ComplexResourceKey.class)
+        else if (currentNode.getKeyKind() == ResourceRoutingNode.KeyKind.COMPLEX)
         {
-          parseComplexKey(currentResource, context, currentPathSegment);
+          parseComplexKey(currentNode, context, currentPathSegment);
           currentLevel = ResourceLevel.ENTITY;
         }
-        else if (currentResource.getKeyClass() == CompoundKey.class)
+        else if (currentNode.getKeyKind() == ResourceRoutingNode.KeyKind.COMPOUND)
         {
           CompoundKey compoundKey;
           try
@@ -208,44 +219,55 @@ public class RestLiRouter
         }
       }
 
-      if (currentResource == null)
+      if (currentNode == null)
       {
         throw new RoutingException(HttpStatus.S_404_NOT_FOUND.getCode());
       }
     }
 
-    parseBatchKeysParameter(currentResource, context); //now we know the key type, look for batch parameter
+    parseBatchKeysParameter(currentNode, context); //now we know the key type, look for batch parameter
 
-    return findMethodDescriptor(currentResource, currentLevel, context);
+    return findMethodDescriptor(currentNode, currentLevel, context);
   }
 
-  /** given path segment, parses subresource name out of it */
-  private String parseSubresourceName(final String pathSegment)
+  /** returns the index of the slash ending the path segment starting at the given index, or the end of the path */
+  private static int segmentEnd(final String path, final int segmentStart, final int pathEnd)
   {
+    int index = path.indexOf('/', segmentStart);
+    return index < 0 || index > pathEnd ? pathEnd : index;
+  }
+
+  /** URL-decodes the given path segment, without allocating if it contains no escapes */
+  private static String decode(final String pathSegment, final String description)
+  {
+    if (pathSegment.indexOf('%') < 0 && pathSegment.indexOf('+') < 0)
+    {
+      return pathSegment;
+    }
+
     try
     {
       return URLDecoder.decode(pathSegment, RestConstants.DEFAULT_CHARSET_NAME);
     }
     catch (UnsupportedEncodingException e)
     {
-      throw new RestLiInternalException("UnsupportedEncodingException while trying to decode the subresource name", e);
+      throw new RestLiInternalException("UnsupportedEncodingException while trying to decode the " + description, e);
     }
   }
 
-  private ResourceMethodDescriptor findMethodDescriptor(final ResourceModel resource,
+  private ResourceMethodDescriptor findMethodDescriptor(final ResourceRoutingNode node,
                                              final ResourceLevel resourceLevel,
                                              final ServerResourceContext context)
   {
+    ResourceModel resource = node.getResource();
     ResourceMethod type = mapResourceMethod(context, resourceLevel);
     String methodName = context.getMethodName(type);
-    ResourceMethodDescriptor methodDescriptor = resource.matchMethod(type, methodName, resourceLevel);
+    ResourceRoutingNode.MethodRoute route = node.matchMethod(type, methodName, resourceLevel);
 
-    if (methodDescriptor != null)
+    if (route != null)
     {
-      context.getRawRequestContext().putLocalAttr(R2Constants.OPERATION,
-                                                  OperationNameGenerator.generate(methodDescriptor.getMethodType(),
-                                                                                  methodDescriptor.getMethodName()));
-      return methodDescriptor;
+      context.getRawRequestContext().putLocalAttr(R2Constants.OPERATION, route.getOperation());
+      return route.getDescriptor();
     }
 
     String httpMethod = context.getRequestMethod();
@@ -374,9 +396,10 @@ public class RestLiRouter
                                    context.getPathKeys().getBatchIds() != null,
                                    resourceLevel.equals(ResourceLevel.ENTITY));
 
-    if (_resourceMethodLookup.containsKey(key))
+    ResourceMethod resourceMethod = _resourceMethodLookup.get(key);
+    if (resourceMethod != null)
     {
-      return _resourceMethodLookup.get(key);
+      return resourceMethod;
     }
 
     if (context.hasParameter(RestConstants.ACTION_PARAM)
@@ -480,21 +503,19 @@ public class RestLiRouter
    * Instantiate the complex key from the current path segment (treat is as a list of
    * query parameters) and put it into the context.
    */
-  private void parseComplexKey(final ResourceModel resource,
+  private void parseComplexKey(final ResourceRoutingNode node,
                                       final ServerResourceContext context,
                                       final String currentPathSegment)
   {
     try
     {
-      ComplexKeySpec<? extends RecordTemplate, ? extends RecordTemplate> complexKeyType =
-          ComplexKeySpec.forClassesMaybeNull( resource.getKeyKeyClass(), resource.getKeyParamsClass());
       ComplexResourceKey<RecordTemplate, RecordTemplate> complexKey =
-          ComplexResourceKey.parseString(currentPathSegment, complexKeyType, context.getRestliProtocolVersion());
+          ComplexResourceKey.parseString(currentPathSegment, node.getComplexKeySpec(), context.getRestliProtocolVersion());
       if (_restLiConfig.shouldValidateResourceKeys())
       {
         complexKey.validate();
       }
-      context.getPathKeys().append(resource.getKeyName(), complexKey);
+      context.getPathKeys().append(node.getResource().getKeyName(), complexKey);
     }
     catch (PathSegmentSyntaxException e)
     {
@@ -509,9 +530,10 @@ public class RestLiRouter
     }
   }
 
-  private void parseBatchKeysParameter(final ResourceModel resource,
+  private void parseBatchKeysParameter(final ResourceRoutingNode node,
                                        final ServerResourceContext context)
   {
+    ResourceModel resource = node.getResource();
     Class<?> keyClass = resource.getKeyClass();
     ProtocolVersion version = context.getRestliProtocolVersion();
     final Set<Object> batchKeys;
@@ -551,8 +573,7 @@ public class RestLiRouter
               continue;
             }
             ComplexResourceKey<RecordTemplate, RecordTemplate> finalKey =
-                ComplexResourceKey.buildFromDataMap((DataMap) complexKey,
-                    ComplexKeySpec.forClassesMaybeNull(resource.getKeyKeyClass(), resource.getKeyParamsClass()));
+                ComplexResourceKey.buildFromDataMap((DataMap) complexKey, node.getComplexKeySpec());
             if (_restLiConfig.shouldValidateResourceKeys())
             {
               try
@@ -228,4 +228,10 @@ public interface ServerResourceContext extends ResourceContext
    * @param alwaysProjectedFields Set of fields to include when projection is applied.
    */
   void setAlwaysProjectedFields(Set<String> alwaysProjectedFields);
-}
\ No newline at end of file
+
+  /**
+   * @return the {@link System#nanoTime()} at which this context was created for the request, from which the time
+   *         budget of the request is counted.
+   */
+  long getCreatedNanos();
+}
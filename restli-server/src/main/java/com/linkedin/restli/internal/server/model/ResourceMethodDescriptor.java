@@ -31,6 +31,10 @@ import com.linkedin.restli.server.ResourceLevel;
 import com.linkedin.restli.server.annotations.ServiceErrors;
 import com.linkedin.restli.server.errors.ServiceError;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -62,6 +66,11 @@ public class ResourceMethodDescriptor
   private ResourceModel                                 _resourceModel;
   private final ResourceMethod                          _type;
   private final Method                                  _method;
+  // Invokes _method with the resource and an argument array, or null if it is not publicly accessible.
+  private final MethodHandle                            _methodHandle;
+  // The parameter types of _method, and the same types with primitives boxed, to check arguments for _methodHandle.
+  private final Class<?>[]                              _parameterTypes;
+  private final Class<?>[]                              _boxedParameterTypes;
   private final List<Parameter<?>>                      _parameters;
   private final String                                  _finderName;
   private final String                                  _batchFinderName;
@@ -359,6 +368,9 @@ public class ResourceMethodDescriptor
     super();
     _type = type;
     _method = method;
+    _methodHandle = bindMethodHandle(method);
+    _parameterTypes = method == null ? null : method.getParameterTypes();
+    _boxedParameterTypes = method == null ? null : boxParameterTypes(_parameterTypes);
     _parameters = parameters;
     _finderName = finderName;
     _batchFinderName = batchFinderName;
@@ -416,6 +428,92 @@ public class ResourceMethodDescriptor
     return _method;
   }
 
+  /**
+   * Invokes the resource method on the given resource. The method is called through a {@link MethodHandle} bound when
+   * this descriptor was created, or reflectively if the method is not publicly accessible or the resource and
+   * arguments do not match the method exactly, so that invalid arguments are reported as {@link Method#invoke} does.
+   *
+   * @param resource the resource instance to invoke the method on.
+   * @param arguments the arguments of the method.
+   * @return the result of the method, or null if the method is void.
+   * @throws IllegalAccessException if the method is reflectively invoked and is not accessible.
+   * @throws IllegalArgumentException if the resource or the arguments do not fit the method.
+   * @throws InvocationTargetException wrapping any exception thrown by the method, as {@link Method#invoke} does.
+   */
+  public Object invoke(final Object resource, final Object[] arguments)
+      throws IllegalAccessException, InvocationTargetException
+  {
+    if (_methodHandle == null || !matchesExactly(resource, arguments))
+    {
+      return _method.invoke(resource, arguments);
+    }
+
+    try
+    {
+      return (Object) _methodHandle.invokeExact(resource, arguments);
+    }
+    catch (Throwable t)
+    {
+      throw new InvocationTargetException(t);
+    }
+  }
+
+  /**
+   * Returns whether the method handle can be invoked with the given resource and arguments without a conversion
+   * failing. The method handle reports such failures as exceptions that cannot be told apart from exceptions thrown
+   * by the method, while {@link Method#invoke} widens primitives or throws {@link IllegalArgumentException}.
+   */
+  private boolean matchesExactly(final Object resource, final Object[] arguments)
+  {
+    if (!_method.getDeclaringClass().isInstance(resource)
+        || (arguments == null ? 0 : arguments.length) != _parameterTypes.length)
+    {
+      return false;
+    }
+
+    for (int i = 0; i < _parameterTypes.length; i++)
+    {
+      Object argument = arguments[i];
+      if (argument == null ? _parameterTypes[i].isPrimitive() : !_boxedParameterTypes[i].isInstance(argument))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static Class<?>[] boxParameterTypes(final Class<?>[] parameterTypes)
+  {
+    Class<?>[] boxed = new Class<?>[parameterTypes.length];
+    for (int i = 0; i < parameterTypes.length; i++)
+    {
+      boxed[i] = MethodType.methodType(parameterTypes[i]).wrap().returnType();
+    }
+    return boxed;
+  }
+
+  private static MethodHandle bindMethodHandle(final Method method)
+  {
+    if (method == null)
+    {
+      return null;
+    }
+
+    try
+    {
+      int parameterCount = method.getParameterTypes().length;
+      return MethodHandles.publicLookup()
+          .unreflect(method)
+          .asType(MethodType.genericMethodType(parameterCount + 1))
+          .asSpreader(Object[].class, parameterCount);
+    }
+    catch (IllegalAccessException e)
+    {
+      LOGGER.debug("Resource method {} is not publicly accessible and will be invoked reflectively", method);
+      return null;
+    }
+  }
+
   /**
    * Get resource method name.
    *
@@ -25,11 +25,14 @@ import com.linkedin.restli.server.annotations.RestAnnotations;
 import com.linkedin.restli.server.annotations.RestLiAssociation;
 import com.linkedin.restli.server.annotations.RestLiCollection;
 import com.linkedin.restli.server.annotations.RestLiSimpleResource;
+import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,6 +48,7 @@ public class RestLiApiBuilder implements RestApiBuilder
 
   private final Set<String> _packageNames;
   private final Set<String> _classNames;
+  private final boolean _resourceIndexEnabled;
 
   public RestLiApiBuilder(final RestLiConfig config)
   {
@@ -55,13 +59,24 @@ public class RestLiApiBuilder implements RestApiBuilder
 
     _packageNames = config.getResourcePackageNamesSet();
     _classNames = config.getResourceClassNamesSet();
+    _resourceIndexEnabled = config.isResourceIndexEnabled();
   }
 
   @Override
   public Map<String, ResourceModel> build()
   {
-    RestLiClasspathScanner scanner =
-        new RestLiClasspathScanner(_packageNames, _classNames, Thread.currentThread().getContextClassLoader());
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    Set<String> classNames = _classNames;
+    Set<String> indexedRoots = Collections.emptySet();
+    if (_resourceIndexEnabled)
+    {
+      Map<String, Set<String>> resourceIndex = readResourceIndex(classLoader);
+      classNames = new HashSet<>(_classNames);
+      resolveClassesFromIndex(resourceIndex, classNames);
+      indexedRoots = resourceIndex.keySet();
+    }
+
+    RestLiClasspathScanner scanner = new RestLiClasspathScanner(_packageNames, classNames, classLoader, indexedRoots);
     scanner.scanPackages();
     final String errorMessage = scanner.scanClasses();
     if (!errorMessage.isEmpty())
@@ -79,6 +94,46 @@ public class RestLiApiBuilder implements RestApiBuilder
     return buildResourceModels(annotatedClasses);
   }
 
+  private static Map<String, Set<String>> readResourceIndex(ClassLoader classLoader)
+  {
+    try
+    {
+      return RestLiResourceIndex.readByRoot(classLoader);
+    }
+    catch (IOException e)
+    {
+      throw new ResourceConfigException("Unable to read the Rest.li resource index", e);
+    }
+  }
+
+  /**
+   * Adds the indexed classes of the configured packages to the class names to load. An index only stands for the
+   * classpath root it was found in, so the configured packages are still scanned in every other root, such as jars
+   * built without an index.
+   */
+  private void resolveClassesFromIndex(Map<String, Set<String>> resourceIndex, Set<String> classNames)
+  {
+    for (Map.Entry<String, Set<String>> entry : resourceIndex.entrySet())
+    {
+      Set<String> resolved = new TreeSet<>();
+      for (String indexedClassName : entry.getValue())
+      {
+        for (String packageName : _packageNames)
+        {
+          if (indexedClassName.startsWith(packageName + '.'))
+          {
+            resolved.add(indexedClassName);
+            break;
+          }
+        }
+      }
+
+      classNames.addAll(resolved);
+      _log.info("Resolved Rest.li resource classes {} from the resource index of {}, which will not be scanned",
+          resolved, entry.getKey());
+    }
+  }
+
   private static Class<?> getParentResourceClass(Class<?> resourceClass)
   {
     for (Annotation a : resourceClass.getAnnotations())
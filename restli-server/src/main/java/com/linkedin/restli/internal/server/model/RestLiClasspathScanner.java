@@ -78,10 +78,22 @@ class RestLiClasspathScanner
   private final ClassLoader _classLoader;
   private final Set<String> _packagePaths;
   private final Set<String> _classNames;
+  private final Set<String> _skippedRoots;
 
   public RestLiClasspathScanner(final Set<String> packageNames, final Set<String> classNames, final ClassLoader classLoader)
+  {
+    this(packageNames, classNames, classLoader, Collections.emptySet());
+  }
+
+  /**
+   * @param skippedRoots URL prefixes of classpath roots whose packages are not scanned, such as the roots whose
+   *                     resource classes are already known from their resource index.
+   */
+  public RestLiClasspathScanner(final Set<String> packageNames, final Set<String> classNames, final ClassLoader classLoader,
+                                final Set<String> skippedRoots)
   {
     _classLoader = classLoader;
+    _skippedRoots = skippedRoots;
     _packagePaths = new HashSet<>();
     //convert package names to paths, to optimize matching against .class paths
     for (String packageName : packageNames)
@@ -132,7 +144,13 @@ class RestLiClasspathScanner
         Enumeration<URL> resources = _classLoader.getResources(toUnixPath(p));
         while (resources.hasMoreElements())
         {
-          URI u = resources.nextElement().toURI();
+          URL url = resources.nextElement();
+          if (isSkipped(url))
+          {
+            continue;
+          }
+
+          URI u = url.toURI();
           String scheme = u.getScheme().toLowerCase();
           if (scheme.equals(SCHEME_JAR) || scheme.equals(SCHEME_ZIP))
           {
@@ -160,6 +178,19 @@ class RestLiClasspathScanner
     }
   }
 
+  private boolean isSkipped(final URL url)
+  {
+    String s = url.toString();
+    for (String root : _skippedRoots)
+    {
+      if (s.startsWith(root))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
   public String scanClasses()
   {
     final StringBuilder errorBuilder = new StringBuilder();
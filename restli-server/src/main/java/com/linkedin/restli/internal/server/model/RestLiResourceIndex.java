@@ -0,0 +1,150 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.internal.server.model;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+
+/**
+ * Reads and writes the resource index, a classpath resource listing the fully qualified names of Rest.li resource
+ * classes. The index is generated at build time alongside the IDL, so that servers can load the listed classes
+ * directly instead of scanning every class of the configured resource packages at startup.
+ *
+ * <p>The index is a UTF-8 text file with one class name per line. Blank lines and lines starting with {@code #} are
+ * ignored. Every index found on the classpath contributes to the result, so each jar can ship its own index. An index
+ * only describes the classpath root (jar or class directory) it was found in.</p>
+ */
+public final class RestLiResourceIndex
+{
+  public static final String RESOURCE_INDEX_PATH = "META-INF/restli/resource-classes.index";
+
+  private static final String COMMENT_PREFIX = "#";
+
+  private RestLiResourceIndex()
+  {
+  }
+
+  /**
+   * Reads the resource class names listed by every index visible to the given class loader.
+   *
+   * @param classLoader the class loader to look up the index with.
+   * @return the indexed class names, empty when no index is found.
+   * @throws IOException if an index cannot be read.
+   */
+  public static Set<String> read(ClassLoader classLoader) throws IOException
+  {
+    Set<String> classNames = new TreeSet<>();
+    for (Set<String> rootClassNames : readByRoot(classLoader).values())
+    {
+      classNames.addAll(rootClassNames);
+    }
+    return classNames;
+  }
+
+  /**
+   * Reads every index visible to the given class loader, keyed by the classpath root the index was found in. A root
+   * is the URL of the index with {@link #RESOURCE_INDEX_PATH} removed, such as {@code jar:file:/app/lib/api.jar!/} or
+   * {@code file:/app/classes/}, so resources of the same root can be recognized by their URL prefix.
+   *
+   * @param classLoader the class loader to look up the index with.
+   * @return the indexed class names of each classpath root, empty when no index is found.
+   * @throws IOException if an index cannot be read.
+   */
+  public static Map<String, Set<String>> readByRoot(ClassLoader classLoader) throws IOException
+  {
+    Map<String, Set<String>> classNamesByRoot = new LinkedHashMap<>();
+    Enumeration<URL> indexes = classLoader.getResources(RESOURCE_INDEX_PATH);
+    while (indexes.hasMoreElements())
+    {
+      URL index = indexes.nextElement();
+      String url = index.toString();
+      String root = url.substring(0, url.length() - RESOURCE_INDEX_PATH.length());
+      try (InputStream in = index.openStream())
+      {
+        read(in, classNamesByRoot.computeIfAbsent(root, r -> new TreeSet<>()));
+      }
+    }
+    return classNamesByRoot;
+  }
+
+  private static void read(InputStream in, Set<String> classNames) throws IOException
+  {
+    BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    String line;
+    while ((line = reader.readLine()) != null)
+    {
+      line = line.trim();
+      if (!line.isEmpty() && !line.startsWith(COMMENT_PREFIX))
+      {
+        classNames.add(line);
+      }
+    }
+  }
+
+  /**
+   * Writes the given resource class names to the index under the given output directory. Class names already in an
+   * existing index are kept, so that the index can be written once per API generated into the same directory. Callers
+   * regenerating the index must therefore clear the output directory before the first write, otherwise classes
+   * removed since the previous generation stay indexed.
+   *
+   * @param outputDir the root directory to write {@link #RESOURCE_INDEX_PATH} under.
+   * @param classNames the fully qualified resource class names.
+   * @return the index file.
+   * @throws IOException if the index cannot be read or written.
+   */
+  public static File write(File outputDir, Collection<String> classNames) throws IOException
+  {
+    File indexFile = new File(outputDir, RESOURCE_INDEX_PATH);
+    Set<String> merged = new TreeSet<>(classNames);
+    if (indexFile.exists())
+    {
+      try (InputStream in = Files.newInputStream(indexFile.toPath()))
+      {
+        read(in, merged);
+      }
+    }
+    else
+    {
+      Files.createDirectories(indexFile.getParentFile().toPath());
+    }
+
+    try (Writer writer = Files.newBufferedWriter(indexFile.toPath(), StandardCharsets.UTF_8))
+    {
+      writer.write(COMMENT_PREFIX + " Rest.li resource classes, generated at build time.\n");
+      for (String className : merged)
+      {
+        writer.write(className);
+        writer.write('\n');
+      }
+    }
+    return indexFile;
+  }
+}
@@ -0,0 +1,324 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.internal.server.response;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkedin.data.DataComplex;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.collections.CheckedUtil;
+import com.linkedin.data.schema.ArrayDataSchema;
+import com.linkedin.data.schema.DataSchema;
+import com.linkedin.data.schema.MapDataSchema;
+import com.linkedin.data.schema.RecordDataSchema;
+import com.linkedin.data.schema.UnionDataSchema;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * A schema-compiled plan that fills in the default values of absent record fields.
+ *
+ * <p>The plan is compiled once per schema. It keeps only the record fields that either declare a default value or
+ * may contain data that receives one, so that subtrees whose schemas declare no defaults are never visited.
+ * Containers are copied on write: only the records, maps, arrays and unions on the path to a filled in default are
+ * copied, and data that needs no defaults is returned as is.</p>
+ */
+final class DefaultFillPlan
+{
+  private static final Cache<DataSchema, DefaultFillPlan> PLANS = Caffeine.newBuilder().weakKeys().build();
+
+  private static final DefaultFillPlan NONE = new DefaultFillPlan(Kind.NONE);
+
+  private enum Kind
+  {
+    RECORD,
+    MAP,
+    ARRAY,
+    UNION,
+    NONE
+  }
+
+  private static final class FieldPlan
+  {
+    private final String _name;
+    private final Object _default;
+    private final DefaultFillPlan _value;
+
+    private FieldPlan(String name, Object defaultValue, DefaultFillPlan value)
+    {
+      _name = name;
+      _default = defaultValue;
+      _value = value;
+    }
+  }
+
+  private final Kind _kind;
+  private List<FieldPlan> _fields;
+  private DefaultFillPlan _values;
+  private Map<String, DefaultFillPlan> _members;
+  private boolean _fills;
+
+  private DefaultFillPlan(Kind kind)
+  {
+    _kind = kind;
+  }
+
+  /**
+   * Returns the plan for the given schema, compiling it on first use. Plans are cached by schema identity and are
+   * released together with their schema.
+   */
+  static DefaultFillPlan forSchema(DataSchema schema)
+  {
+    return PLANS.get(schema, DefaultFillPlan::compile);
+  }
+
+  private static DefaultFillPlan compile(DataSchema schema)
+  {
+    Map<DataSchema, DefaultFillPlan> compiled = new IdentityHashMap<>();
+    DefaultFillPlan plan = compile(schema, compiled);
+    resolveFills(compiled.values());
+    return plan;
+  }
+
+  private static DefaultFillPlan compile(DataSchema schema, Map<DataSchema, DefaultFillPlan> compiled)
+  {
+    DataSchema dereferenced = schema.getDereferencedDataSchema();
+    DefaultFillPlan plan = compiled.get(dereferenced);
+    if (plan != null)
+    {
+      return plan;
+    }
+
+    switch (dereferenced.getType())
+    {
+      case RECORD:
+        plan = new DefaultFillPlan(Kind.RECORD);
+        // Register before compiling the fields to terminate recursive schemas.
+        compiled.put(dereferenced, plan);
+        List<RecordDataSchema.Field> fields = ((RecordDataSchema) dereferenced).getFields();
+        plan._fields = new ArrayList<>(fields.size());
+        for (RecordDataSchema.Field field : fields)
+        {
+          plan._fields.add(new FieldPlan(field.getName(), field.getDefault(), compile(field.getType(), compiled)));
+        }
+        return plan;
+      case MAP:
+        plan = new DefaultFillPlan(Kind.MAP);
+        compiled.put(dereferenced, plan);
+        plan._values = compile(((MapDataSchema) dereferenced).getValues(), compiled);
+        return plan;
+      case ARRAY:
+        plan = new DefaultFillPlan(Kind.ARRAY);
+        compiled.put(dereferenced, plan);
+        plan._values = compile(((ArrayDataSchema) dereferenced).getItems(), compiled);
+        return plan;
+      case UNION:
+        plan = new DefaultFillPlan(Kind.UNION);
+        compiled.put(dereferenced, plan);
+        List<UnionDataSchema.Member> members = ((UnionDataSchema) dereferenced).getMembers();
+        plan._members = new HashMap<>(members.size() * 2);
+        for (UnionDataSchema.Member member : members)
+        {
+          plan._members.put(member.getUnionMemberKey(), compile(member.getType(), compiled));
+        }
+        return plan;
+      default:
+        return NONE;
+    }
+  }
+
+  /**
+   * Determines which plans may fill in defaults, iterating to a fixed point because schemas can be recursive, and
+   * drops the record fields that never need to be visited.
+   */
+  private static void resolveFills(Iterable<DefaultFillPlan> plans)
+  {
+    boolean changed = true;
+    while (changed)
+    {
+      changed = false;
+      for (DefaultFillPlan plan : plans)
+      {
+        if (!plan._fills && plan.computeFills())
+        {
+          plan._fills = true;
+          changed = true;
+        }
+      }
+    }
+
+    for (DefaultFillPlan plan : plans)
+    {
+      if (plan._kind == Kind.RECORD)
+      {
+        plan._fields.removeIf(field -> field._default == null && !field._value._fills);
+      }
+    }
+  }
+
+  private boolean computeFills()
+  {
+    switch (_kind)
+    {
+      case RECORD:
+        return _fields.stream().anyMatch(field -> field._default != null || field._value._fills);
+      case MAP:
+      case ARRAY:
+        return _values._fills;
+      case UNION:
+        return _members.values().stream().anyMatch(member -> member._fills);
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Fills in the default values of absent record fields in the given data.
+   *
+   * @param data the data, which should conform to the schema this plan was compiled from.
+   * @return the data with defaults filled in. Containers that receive defaults are copies, and any data that does
+   *         not need defaults, including the given data itself, is shared.
+   */
+  Object fill(Object data) throws CloneNotSupportedException
+  {
+    if (!_fills)
+    {
+      return data;
+    }
+
+    switch (_kind)
+    {
+      case RECORD:
+        return data instanceof DataMap ? fillRecord((DataMap) data) : data;
+      case MAP:
+        return data instanceof DataMap ? fillMap((DataMap) data) : data;
+      case ARRAY:
+        return data instanceof DataList ? fillArray((DataList) data) : data;
+      case UNION:
+        return data instanceof DataMap ? fillUnion((DataMap) data) : data;
+      default:
+        return data;
+    }
+  }
+
+  private DataMap fillRecord(DataMap map) throws CloneNotSupportedException
+  {
+    DataMap result = map;
+    for (FieldPlan field : _fields)
+    {
+      Object value = map.get(field._name);
+      Object filled;
+      if (value == null)
+      {
+        if (field._default == null)
+        {
+          continue;
+        }
+        // Defaults belong to the schema, so the response gets its own copy.
+        Object defaultValue = field._default instanceof DataComplex
+            ? ((DataComplex) field._default).copy()
+            : field._default;
+        filled = field._value.fill(defaultValue);
+      }
+      else
+      {
+        filled = field._value.fill(value);
+        if (filled == value)
+        {
+          continue;
+        }
+      }
+
+      if (result == map)
+      {
+        result = map.clone();
+      }
+      CheckedUtil.putWithoutChecking(result, field._name, filled);
+    }
+    return result;
+  }
+
+  private DataMap fillMap(DataMap map) throws CloneNotSupportedException
+  {
+    DataMap result = map;
+    for (Map.Entry<String, Object> entry : map.entrySet())
+    {
+      Object filled = _values.fill(entry.getValue());
+      if (filled != entry.getValue())
+      {
+        if (result == map)
+        {
+          result = map.clone();
+        }
+        CheckedUtil.putWithoutChecking(result, entry.getKey(), filled);
+      }
+    }
+    return result;
+  }
+
+  private DataList fillArray(DataList list) throws CloneNotSupportedException
+  {
+    DataList result = null;
+    for (int i = 0, size = list.size(); i < size; i++)
+    {
+      Object value = list.get(i);
+      Object filled = _values.fill(value);
+      if (result == null && filled != value)
+      {
+        result = new DataList(size);
+        for (int j = 0; j < i; j++)
+        {
+          CheckedUtil.addWithoutChecking(result, list.get(j));
+        }
+      }
+      if (result != null)
+      {
+        CheckedUtil.addWithoutChecking(result, filled);
+      }
+    }
+    return result == null ? list : result;
+  }
+
+  private DataMap fillUnion(DataMap map) throws CloneNotSupportedException
+  {
+    if (map.size() != 1)
+    {
+      return map;
+    }
+
+    Map.Entry<String, Object> entry = map.entrySet().iterator().next();
+    DefaultFillPlan member = _members.get(entry.getKey());
+    if (member == null)
+    {
+      return map;
+    }
+
+    Object filled = member.fill(entry.getValue());
+    if (filled == entry.getValue())
+    {
+      return map;
+    }
+    DataMap result = map.clone();
+    CheckedUtil.putWithoutChecking(result, entry.getKey(), filled);
+    return result;
+  }
+}
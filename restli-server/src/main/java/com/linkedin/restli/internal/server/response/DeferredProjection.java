@@ -0,0 +1,127 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.internal.server.response;
+
+
+import com.linkedin.data.ByteString;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.DataCodec;
+import com.linkedin.data.transform.filter.ProjectionTraverser;
+import com.linkedin.data.transform.filter.request.MaskTree;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.timing.FrameworkTimingKeys;
+import com.linkedin.r2.message.timing.TimingContextUtil;
+import com.linkedin.restli.common.HttpStatus;
+import com.linkedin.restli.internal.server.RestLiInternalException;
+import com.linkedin.restli.internal.server.util.RestUtils;
+import com.linkedin.restli.server.ProjectionMode;
+import com.linkedin.restli.server.ResourceContext;
+import com.linkedin.restli.server.RestLiServiceException;
+import java.io.IOException;
+import java.util.Set;
+
+
+/**
+ * A projection of a response entity that is applied while the response is encoded, so that the projected entity
+ * is not copied before it is serialized. The projected entity is only materialized if it is accessed before
+ * encoding, for example by a response filter.
+ *
+ * <p>A projection that does not fit the data fails with a {@link RestLiServiceException}, which the response
+ * callbacks turn into an error response if it only happens while encoding.</p>
+ */
+final class DeferredProjection
+{
+  private static final String PROJECTION_ERROR_MESSAGE = "Error projecting fields";
+
+  private final DataMap _data;
+  private final MaskTree _projectionMask;
+  private final Set<String> _alwaysProjectedFields;
+  private final RequestContext _requestContext;
+
+  private DeferredProjection(DataMap data, MaskTree projectionMask, Set<String> alwaysProjectedFields,
+      RequestContext requestContext)
+  {
+    _data = data;
+    _projectionMask = projectionMask;
+    _alwaysProjectedFields = alwaysProjectedFields;
+    _requestContext = requestContext;
+  }
+
+  /**
+   * Returns the deferred projection of the given entity data, or null if the resource context does not call for
+   * the framework to project the data, in which case the data is returned as is.
+   */
+  static DeferredProjection create(DataMap data, ResourceContext resourceContext)
+  {
+    final ProjectionMode projectionMode = resourceContext.getProjectionMode();
+    final MaskTree projectionMask = resourceContext.getProjectionMask();
+    if (projectionMode == ProjectionMode.MANUAL || projectionMask == null)
+    {
+      return null;
+    }
+
+    return new DeferredProjection(data, projectionMask, resourceContext.getAlwaysProjectedFields(),
+        resourceContext.getRawRequestContext());
+  }
+
+  /**
+   * Materializes the projected entity.
+   */
+  DataMap project()
+  {
+    TimingContextUtil.beginTiming(_requestContext, FrameworkTimingKeys.SERVER_RESPONSE_RESTLI_PROJECTION_APPLY.key());
+    try
+    {
+      return RestUtils.projectFields(_data, ProjectionMode.AUTOMATIC, _projectionMask, _alwaysProjectedFields);
+    }
+    catch (RestLiInternalException e)
+    {
+      throw new RestLiServiceException(HttpStatus.S_500_INTERNAL_SERVER_ERROR, PROJECTION_ERROR_MESSAGE, e.getCause());
+    }
+    finally
+    {
+      TimingContextUtil.endTiming(_requestContext, FrameworkTimingKeys.SERVER_RESPONSE_RESTLI_PROJECTION_APPLY.key());
+    }
+  }
+
+  /**
+   * Encodes the projected entity with the given codec directly from the unprojected data. The projection is applied
+   * in the same pass as the serialization, so its time is part of the serialization timing of the response.
+   */
+  ByteString encode(DataCodec codec)
+  {
+    try
+    {
+      if (_projectionMask.getDataMap().isEmpty()
+          && (_alwaysProjectedFields == null || _alwaysProjectedFields.isEmpty()))
+      {
+        // Same special case as RestUtils#projectFields: an empty mask selects nothing.
+        return codec.mapToByteString(new DataMap());
+      }
+      return codec.traversalToByteString(_data,
+          new ProjectionTraverser(_projectionMask.getDataMap(), _alwaysProjectedFields));
+    }
+    catch (IOException e)
+    {
+      throw new RestLiInternalException(e);
+    }
+    catch (RuntimeException e)
+    {
+      throw new RestLiServiceException(HttpStatus.S_500_INTERNAL_SERVER_ERROR, PROJECTION_ERROR_MESSAGE, e);
+    }
+  }
+}
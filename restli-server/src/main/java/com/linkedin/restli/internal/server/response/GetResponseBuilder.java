@@ -21,12 +21,9 @@ import com.linkedin.data.DataMap;
 import com.linkedin.data.schema.RecordDataSchema;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.r2.message.Request;
-import com.linkedin.r2.message.timing.FrameworkTimingKeys;
-import com.linkedin.r2.message.timing.TimingContextUtil;
 import com.linkedin.restli.common.HttpStatus;
 import com.linkedin.restli.internal.server.RoutingResult;
 import com.linkedin.restli.internal.server.methods.AnyRecord;
-import com.linkedin.restli.internal.server.util.RestUtils;
 import com.linkedin.restli.server.GetResult;
 import com.linkedin.restli.server.ResourceContext;
 
@@ -45,7 +42,7 @@ public class GetResponseBuilder implements RestLiResponseBuilder<RestLiResponseD
         .headers(responseData.getHeaders())
         .cookies(responseData.getCookies())
         .status(responseData.getResponseEnvelope().getStatus())
-        .entity(responseData.getResponseEnvelope().getRecord())
+        .entity(responseData.getResponseEnvelope())
         .build();
   }
 
@@ -83,14 +80,11 @@ public class GetResponseBuilder implements RestLiResponseBuilder<RestLiResponseD
       rawData = (DataMap) ResponseUtils.fillInDataDefault(schema, rawData);
     }
 
-    TimingContextUtil.beginTiming(resourceContext.getRawRequestContext(),
-        FrameworkTimingKeys.SERVER_RESPONSE_RESTLI_PROJECTION_APPLY.key());
-
-    final DataMap data = RestUtils.projectFields(rawData, resourceContext);
-
-    TimingContextUtil.endTiming(resourceContext.getRawRequestContext(),
-        FrameworkTimingKeys.SERVER_RESPONSE_RESTLI_PROJECTION_APPLY.key());
-
-    return new RestLiResponseDataImpl<>(new GetResponseEnvelope(status, new AnyRecord(data)), headers, cookies);
+    // The projection is applied while encoding the response unless the projected entity is accessed before.
+    final DeferredProjection projection = DeferredProjection.create(rawData, resourceContext);
+    final GetResponseEnvelope envelope = projection == null
+        ? new GetResponseEnvelope(status, new AnyRecord(rawData))
+        : new GetResponseEnvelope(status, projection);
+    return new RestLiResponseDataImpl<>(envelope, headers, cookies);
   }
 }
@@ -41,6 +41,17 @@ public class GetResponseEnvelope extends RecordResponseEnvelope
     super(status, response);
   }
 
+  /**
+   * Instantiates a get response envelope whose entity is projected when the response is encoded.
+   *
+   * @param status             Status of the response.
+   * @param deferredProjection Projection of the entity of the response.
+   */
+  GetResponseEnvelope(HttpStatus status, DeferredProjection deferredProjection)
+  {
+    super(status, deferredProjection);
+  }
+
   GetResponseEnvelope(RestLiServiceException exception)
   {
     super(exception);
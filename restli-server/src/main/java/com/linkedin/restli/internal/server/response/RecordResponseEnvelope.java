@@ -20,6 +20,7 @@ package com.linkedin.restli.internal.server.response;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.restli.common.HttpStatus;
 import com.linkedin.restli.internal.server.ResponseType;
+import com.linkedin.restli.internal.server.methods.AnyRecord;
 import com.linkedin.restli.server.RestLiServiceException;
 
 
@@ -35,6 +36,7 @@ import com.linkedin.restli.server.RestLiServiceException;
 public abstract class RecordResponseEnvelope extends RestLiResponseEnvelope
 {
   private RecordTemplate _recordResponse;
+  private DeferredProjection _deferredProjection;
 
   /**
    * Sets an entity response with no triggered exception.
@@ -47,6 +49,16 @@ public abstract class RecordResponseEnvelope extends RestLiResponseEnvelope
     _recordResponse = response;
   }
 
+  /**
+   * Sets an entity response with no triggered exception, whose record is the given projection. The projection is
+   * materialized when the record is first retrieved, and is otherwise applied when the response is encoded.
+   */
+  RecordResponseEnvelope(HttpStatus status, DeferredProjection deferredProjection)
+  {
+    super(status);
+    _deferredProjection = deferredProjection;
+  }
+
   RecordResponseEnvelope(RestLiServiceException exception)
   {
     super(exception);
@@ -60,9 +72,23 @@ public abstract class RecordResponseEnvelope extends RestLiResponseEnvelope
    */
   public RecordTemplate getRecord()
   {
+    if (_deferredProjection != null)
+    {
+      _recordResponse = new AnyRecord(_deferredProjection.project());
+      _deferredProjection = null;
+    }
     return _recordResponse;
   }
 
+  /**
+   * Returns the projection that is still to be applied to produce the record, or null if the record has been
+   * materialized or set.
+   */
+  DeferredProjection getDeferredProjection()
+  {
+    return _deferredProjection;
+  }
+
   /**
    * Sets an entity response with no triggered exceptions.
    *
@@ -73,6 +99,7 @@ public abstract class RecordResponseEnvelope extends RestLiResponseEnvelope
   {
     super.setStatus(httpStatus);
     _recordResponse = response;
+    _deferredProjection = null;
   }
 
   /**
@@ -82,6 +109,7 @@ public abstract class RecordResponseEnvelope extends RestLiResponseEnvelope
   protected void clearData()
   {
     _recordResponse = null;
+    _deferredProjection = null;
   }
 
   /**
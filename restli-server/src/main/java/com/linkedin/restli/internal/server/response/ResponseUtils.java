@@ -17,16 +17,15 @@
 package com.linkedin.restli.internal.server.response;
 
 import com.linkedin.data.ByteString;
-import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.DataCodec;
 import com.linkedin.data.codec.entitystream.StreamDataCodec;
-import com.linkedin.data.collections.CheckedUtil;
 import com.linkedin.data.schema.ArrayDataSchema;
 import com.linkedin.data.schema.DataSchema;
-import com.linkedin.data.schema.MapDataSchema;
+import com.linkedin.data.schema.Name;
 import com.linkedin.data.schema.RecordDataSchema;
-import com.linkedin.data.schema.TyperefDataSchema;
-import com.linkedin.data.schema.UnionDataSchema;
+import com.linkedin.data.template.DataTemplateUtil;
+import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.entitystream.EntityStream;
 import com.linkedin.r2.message.rest.RestException;
 import com.linkedin.r2.message.rest.RestResponse;
@@ -35,14 +34,19 @@ import com.linkedin.r2.message.stream.StreamException;
 import com.linkedin.r2.message.stream.StreamResponse;
 import com.linkedin.r2.message.stream.StreamResponseBuilder;
 import com.linkedin.r2.message.stream.entitystream.adapter.EntityStreamAdapters;
+import com.linkedin.restli.common.CollectionMetadata;
+import com.linkedin.restli.common.CollectionResponse;
 import com.linkedin.restli.common.ContentType;
+import com.linkedin.restli.common.ErrorResponse;
 import com.linkedin.restli.common.HttpStatus;
 import com.linkedin.restli.common.RestConstants;
 import com.linkedin.restli.internal.common.CookieUtil;
 import com.linkedin.restli.internal.common.DataMapConverter;
+import com.linkedin.restli.internal.common.HeaderUtil;
 import com.linkedin.restli.internal.server.RestLiInternalException;
 import com.linkedin.restli.internal.server.RoutingResult;
 import com.linkedin.restli.internal.server.ServerResourceContext;
+import com.linkedin.restli.internal.server.model.ResourceMethodDescriptor;
 import com.linkedin.restli.internal.server.model.ResourceModel;
 import com.linkedin.restli.internal.server.util.AlternativeKeyCoercerException;
 import com.linkedin.restli.internal.server.util.ArgumentUtils;
@@ -51,7 +55,10 @@ import com.linkedin.restli.restspec.ResourceEntityType;
 import com.linkedin.restli.server.RestLiServiceException;
 import java.io.IOException;
 import java.net.URI;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
 import javax.activation.MimeTypeParseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -63,6 +70,36 @@ import org.slf4j.LoggerFactory;
 public class ResponseUtils
 {
   private static final Logger log = LoggerFactory.getLogger(ResponseUtils.class);
+
+  /**
+   * Schemas of {@link CollectionResponse}s by element class. {@link CollectionResponse#schema()} is built per
+   * instance and does not describe the elements, so an equivalent schema with typed elements is built once here.
+   */
+  private static final ClassValue<RecordDataSchema> COLLECTION_RESPONSE_SCHEMAS = new ClassValue<RecordDataSchema>()
+  {
+    @Override
+    protected RecordDataSchema computeValue(Class<?> valueClass)
+    {
+      DataSchema valueSchema = DataTemplateUtil.getSchema(valueClass);
+      if (!(valueSchema instanceof RecordDataSchema))
+      {
+        return null;
+      }
+
+      StringBuilder errorMessageBuilder = new StringBuilder();
+      RecordDataSchema.Field elementsField = new RecordDataSchema.Field(new ArrayDataSchema(valueSchema));
+      elementsField.setName(CollectionResponse.ELEMENTS, errorMessageBuilder);
+      RecordDataSchema.Field pagingField =
+          new RecordDataSchema.Field(DataTemplateUtil.getSchema(CollectionMetadata.class));
+      pagingField.setName(CollectionResponse.PAGING, errorMessageBuilder);
+
+      RecordDataSchema schema = new RecordDataSchema(new Name(CollectionResponse.class.getSimpleName()),
+          RecordDataSchema.RecordType.RECORD);
+      schema.setFields(Arrays.asList(elementsField, pagingField), errorMessageBuilder);
+      return schema;
+    }
+  };
+
   /**
    * If needed, translate a given canonical key to its alternative format.
    *
@@ -96,27 +133,22 @@ public class ResponseUtils
   /**
    * @param schema schema for the companion data map
    * @param dataWithoutDefault data map that is response for a restli request
-   * @return data object that filled in with default values on the field with default value set on the schema
+   * @return data object that filled in with default values on the field with default value set on the schema. Only
+   *         the containers that receive default values are copied, the rest is shared with the given data. A root
+   *         data map is always copied, so that callers can add to it without modifying the resource's data.
    */
   public static Object fillInDataDefault(DataSchema schema, Object dataWithoutDefault)
   {
     try
     {
-      switch (schema.getType())
+      Object filled = DefaultFillPlan.forSchema(schema).fill(dataWithoutDefault);
+      if (filled == dataWithoutDefault && filled instanceof DataMap)
       {
-        case RECORD:
-          return fillInDefaultOnRecord((RecordDataSchema) schema, (DataMap) dataWithoutDefault);
-        case TYPEREF:
-          return fillInDefaultOnTyperef((TyperefDataSchema) schema, dataWithoutDefault);
-        case MAP:
-          return fillInDefaultOnMap((MapDataSchema) schema, (DataMap) dataWithoutDefault);
-        case UNION:
-          return fillInDefaultOnUnion((UnionDataSchema) schema, (DataMap) dataWithoutDefault);
-        case ARRAY:
-          return fillInDefaultOnArray((ArrayDataSchema) schema, (DataList) dataWithoutDefault);
-        default:
-          return dataWithoutDefault;
+        // Response building writes reserved fields such as $metadata into the root, which must not end up in a
+        // possibly cached or read-only entity of the resource.
+        return ((DataMap) filled).clone();
       }
+      return filled;
     }
     catch (CloneNotSupportedException ex)
     {
@@ -124,67 +156,6 @@ public class ResponseUtils
     }
   }
 
-  private static DataMap fillInDefaultOnRecord(RecordDataSchema schema, DataMap dataMap) throws CloneNotSupportedException
-  {
-    DataMap dataWithDefault = dataMap.clone();
-    for (RecordDataSchema.Field field : schema.getFields())
-    {
-      if (dataMap.containsKey(field.getName()) || field.getDefault() != null)
-      {
-        Object fieldData = dataMap.containsKey(field.getName()) ? dataMap.get(field.getName()) : field.getDefault();
-        CheckedUtil.putWithoutChecking(dataWithDefault, field.getName(), fillInDataDefault(field.getType(), fieldData));
-      }
-    }
-    return dataWithDefault;
-  }
-
-  private static DataMap fillInDefaultOnMap(MapDataSchema schema, DataMap dataMap) throws CloneNotSupportedException
-  {
-    DataSchema valueSchema = schema.getValues();
-    DataMap dataWithDefault = dataMap.clone();
-    for (Map.Entry<String, Object> entry : dataMap.entrySet())
-    {
-      CheckedUtil.putWithoutChecking(dataWithDefault, entry.getKey(), fillInDataDefault(valueSchema, entry.getValue()));
-    }
-    return dataWithDefault;
-  }
-
-  private static DataList fillInDefaultOnArray(ArrayDataSchema schema, DataList dataList)
-  {
-    DataSchema itemDataSchema = schema.getItems();
-    DataList dataListWithDefault = new DataList(dataList.size());
-    for (Object o : dataList)
-    {
-      CheckedUtil.addWithoutChecking(dataListWithDefault, fillInDataDefault(itemDataSchema, o));
-    }
-    return dataListWithDefault;
-  }
-
-  private static DataMap fillInDefaultOnUnion(UnionDataSchema schema, DataMap dataMap) throws CloneNotSupportedException
-  {
-    DataMap dataWithDefault = dataMap.clone();
-    if (dataWithDefault.size() == 1)
-    {
-      for (Map.Entry<String, Object> entry: dataWithDefault.entrySet())
-      {
-        String memberTypeKey = entry.getKey();
-        DataSchema memberDataSchema = schema.getTypeByMemberKey(memberTypeKey);
-        if (memberDataSchema == null)
-        {
-          return dataWithDefault;
-        }
-        CheckedUtil.putWithoutChecking(dataWithDefault, memberTypeKey, fillInDataDefault(memberDataSchema, entry.getValue()));
-      }
-    }
-    return dataWithDefault;
-  }
-
-  private static Object fillInDefaultOnTyperef(TyperefDataSchema typerefDataSchema, Object data) throws CloneNotSupportedException
-  {
-    DataSchema dataSchema = typerefDataSchema.getDereferencedDataSchema();
-    return fillInDataDefault(dataSchema, data);
-  }
-
   public static RestResponse buildResponse(RoutingResult routingResult, RestLiResponse restLiResponse)
   {
     RestResponseBuilder builder = new RestResponseBuilder()
@@ -198,20 +169,68 @@ public class ResponseUtils
                                                          .getResourceEntityType();
     if (restLiResponse.hasData() && ResourceEntityType.STRUCTURED_DATA == resourceEntityType)
     {
-      DataMap dataMap = restLiResponse.getDataMap();
       String mimeType = context.getResponseMimeType();
       URI requestUri = context.getRequestURI();
       Map<String, String> requestHeaders = context.getRequestHeaders();
-      builder = encodeResult(mimeType, requestUri, requestHeaders, builder, dataMap);
+      DeferredProjection projection = restLiResponse.getDeferredProjection();
+      if (projection != null)
+      {
+        builder = encodeResult(mimeType, requestUri, requestHeaders, builder, projection::encode);
+      }
+      else
+      {
+        DataMap dataMap = restLiResponse.getDataMap();
+        RecordDataSchema entitySchema = getEntitySchema(routingResult, restLiResponse);
+        builder = encodeResult(mimeType, requestUri, requestHeaders, builder,
+            codec -> DataMapUtils.mapToByteString(dataMap, entitySchema, codec));
+      }
     }
     return builder.build();
   }
 
+  /**
+   * Returns the schema that the entity of a successful response conforms to, so that the codec can specialize
+   * encoding for it. Returns null if the schema is not known up front.
+   */
+  static RecordDataSchema getEntitySchema(RoutingResult routingResult, RestLiResponse restLiResponse)
+  {
+    if (restLiResponse.getEntity() instanceof ErrorResponse)
+    {
+      return null;
+    }
+
+    ResourceMethodDescriptor resourceMethod = routingResult.getResourceMethod();
+    switch (resourceMethod.getType())
+    {
+      case GET:
+        return getValueSchema(resourceMethod.getResourceModel());
+      case FINDER:
+      case GET_ALL:
+        Class<? extends RecordTemplate> valueClass = resourceMethod.getResourceModel().getValueClass();
+        return valueClass == null ? null : COLLECTION_RESPONSE_SCHEMAS.get(valueClass);
+      case ACTION:
+        return resourceMethod.getActionReturnRecordDataSchema();
+      default:
+        return null;
+    }
+  }
+
+  private static RecordDataSchema getValueSchema(ResourceModel resourceModel)
+  {
+    Class<? extends RecordTemplate> valueClass = resourceModel.getValueClass();
+    if (valueClass == null)
+    {
+      return null;
+    }
+    DataSchema valueSchema = DataTemplateUtil.getSchema(valueClass);
+    return valueSchema instanceof RecordDataSchema ? (RecordDataSchema) valueSchema : null;
+  }
+
   private static RestResponseBuilder encodeResult(String mimeType,
       URI requestUri,
       Map<String, String> requestHeaders,
       RestResponseBuilder builder,
-      DataMap dataMap)
+      Function<DataCodec, ByteString> encoder)
   {
     try
     {
@@ -220,7 +239,7 @@ public class ResponseUtils
               "Requested mime type for encoding is not supported. Mimetype: " + mimeType));
       assert type != null;
       builder.setHeader(RestConstants.HEADER_CONTENT_TYPE, type.getHeaderKey());
-      builder.setEntity(DataMapUtils.mapToByteString(dataMap, type.getCodec()));
+      builder.setEntity(encoder.apply(type.getCodec()));
     }
     catch (MimeTypeParseException e)
     {
@@ -230,6 +249,30 @@ public class ResponseUtils
     return builder;
   }
 
+  /**
+   * Builds the error response that replaces a response whose entity fails to encode, for example because a projection
+   * that is only applied while encoding does not fit the data. The error response keeps the headers and cookies of
+   * the response it replaces.
+   *
+   * @param error the failure to encode the entity.
+   * @param restLiResponse the response that could not be encoded.
+   * @param errorResponseBuilder builds the error entity.
+   */
+  public static RestLiResponseException buildEncodingError(RestLiServiceException error, RestLiResponse restLiResponse,
+      ErrorResponseBuilder errorResponseBuilder)
+  {
+    Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    headers.putAll(restLiResponse.getHeaders());
+    headers.put(HeaderUtil.getErrorResponseHeaderName(headers), RestConstants.HEADER_VALUE_ERROR);
+    RestLiResponse errorResponse = new RestLiResponse.Builder()
+        .headers(headers)
+        .cookies(restLiResponse.getCookies())
+        .status(error.getStatus())
+        .entity(errorResponseBuilder.buildErrorResponse(error))
+        .build();
+    return new RestLiResponseException(error, errorResponse);
+  }
+
   public static RestException buildRestException(RestLiResponseException restLiResponseException)
   {
     return buildRestException(restLiResponseException, true);
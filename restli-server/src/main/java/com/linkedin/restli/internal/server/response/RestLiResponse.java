@@ -24,6 +24,7 @@ import com.linkedin.restli.common.ProtocolVersion;
 import com.linkedin.restli.internal.common.HeaderUtil;
 import com.linkedin.restli.internal.common.ProtocolVersionUtil;
 import com.linkedin.restli.internal.common.URIParamUtils;
+import com.linkedin.restli.internal.server.methods.AnyRecord;
 
 import java.net.HttpCookie;
 import java.util.ArrayList;
@@ -42,7 +43,8 @@ import java.util.TreeMap;
 public class RestLiResponse
 {
   private final HttpStatus _status;
-  private final RecordTemplate _record;
+  private RecordTemplate _record;
+  private DeferredProjection _deferredProjection;
   private final Map<String, String> _headers;
   private final List<HttpCookie> _cookies;
 
@@ -58,9 +60,11 @@ public class RestLiResponse
    *          Response headers.
    * @param cookies
    */
-  private RestLiResponse(final HttpStatus status, final RecordTemplate record, final Map<String, String> headers, final List<HttpCookie> cookies)
+  private RestLiResponse(final HttpStatus status, final RecordTemplate record,
+      final DeferredProjection deferredProjection, final Map<String, String> headers, final List<HttpCookie> cookies)
   {
     _record = record;
+    _deferredProjection = deferredProjection;
     _status = status;
     _cookies = cookies == null ? new ArrayList<>() : cookies;
     _headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
@@ -108,7 +112,7 @@ public class RestLiResponse
    */
   public boolean hasData()
   {
-    return _record != null && _record.data() != null;
+    return _deferredProjection != null || (_record != null && _record.data() != null);
   }
 
   /**
@@ -119,7 +123,8 @@ public class RestLiResponse
    */
   public DataMap getDataMap()
   {
-    return _record == null ? null : _record.data();
+    final RecordTemplate record = getEntity();
+    return record == null ? null : record.data();
   }
 
   /**
@@ -139,13 +144,28 @@ public class RestLiResponse
    */
   public RecordTemplate getEntity()
   {
+    if (_deferredProjection != null)
+    {
+      _record = new AnyRecord(_deferredProjection.project());
+      _deferredProjection = null;
+    }
     return _record;
   }
 
+  /**
+   * Returns the projection that is still to be applied to produce the entity, or null if the entity has been
+   * materialized. Encoding the projection directly avoids copying the projected entity.
+   */
+  DeferredProjection getDeferredProjection()
+  {
+    return _deferredProjection;
+  }
+
   public static class Builder
   {
     private HttpStatus _status = HttpStatus.S_200_OK;
     private RecordTemplate _record;
+    private DeferredProjection _deferredProjection;
     private Map<String, String> _headers;
     private List<HttpCookie> _cookies;
 
@@ -171,6 +191,20 @@ public class RestLiResponse
     public Builder entity(RecordTemplate record)
     {
       _record = record;
+      _deferredProjection = null;
+      return this;
+    }
+
+    /**
+     * Build with the entity of the given envelope, deferring its projection to encoding if it has not been applied.
+     *
+     * @param envelope envelope holding the entity.
+     * @return Reference to this object.
+     */
+    Builder entity(RecordResponseEnvelope envelope)
+    {
+      _deferredProjection = envelope.getDeferredProjection();
+      _record = _deferredProjection == null ? envelope.getRecord() : null;
       return this;
     }
 
@@ -216,7 +250,7 @@ public class RestLiResponse
         }
       }
 
-      return new RestLiResponse(_status, _record, _headers, _cookies);
+      return new RestLiResponse(_status, _record, _deferredProjection, _headers, _cookies);
     }
   }
 }
@@ -156,16 +156,18 @@ public class RestLiResponseHandler
     RestLiResponseBuilder<D> responseBuilder = (RestLiResponseBuilder<D>) _methodAdapterProvider.getResponseBuilder(
         routingResult.getResourceMethod().getType());
     RestLiResponse restLiResponse = responseBuilder.buildResponse(routingResult, responseData);
-    injectResponseMetadata(restLiResponse.getEntity(), responseData.getResponseEnvelope().getResponseMetadata());
+    injectResponseMetadata(restLiResponse, responseData.getResponseEnvelope().getResponseMetadata());
     return restLiResponse;
   }
 
-  private void injectResponseMetadata(RecordTemplate entity, DataMap responseMetadata) {
-    // Inject the metadata map into the response entity if they both exist
-    if (entity != null) {
-      DataMap rawEntityData = entity.data();
-      if (rawEntityData != null) {
-        if (responseMetadata != null && responseMetadata.size() > 0) {
+  private void injectResponseMetadata(RestLiResponse restLiResponse, DataMap responseMetadata) {
+    // Inject the metadata map into the response entity if they both exist. The metadata is checked first so that
+    // a deferred projection of the entity is only materialized when metadata has to be injected.
+    if (responseMetadata != null && responseMetadata.size() > 0) {
+      RecordTemplate entity = restLiResponse.getEntity();
+      if (entity != null) {
+        DataMap rawEntityData = entity.data();
+        if (rawEntityData != null) {
           rawEntityData.put(RestConstants.METADATA_RESERVED_FIELD, responseMetadata);
         }
       }
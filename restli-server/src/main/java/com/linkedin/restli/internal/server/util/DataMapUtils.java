@@ -25,6 +25,7 @@ import com.linkedin.data.codec.DataCodec;
 import com.linkedin.data.codec.JacksonDataCodec;
 import com.linkedin.data.codec.PsonDataCodec;
 import com.linkedin.data.schema.DataSchema;
+import com.linkedin.data.schema.RecordDataSchema;
 import com.linkedin.data.template.DataTemplate;
 import com.linkedin.data.template.DataTemplateUtil;
 import com.linkedin.data.template.JacksonDataTemplateCodec;
@@ -565,6 +566,27 @@ public class DataMapUtils
     }
   }
 
+  /**
+   * Encode {@link DataMap} that conforms to the given schema as a {@link ByteString} using the provided codec. The
+   * codec may use the schema to specialize encoding, see {@link DataCodec#mapToByteString(DataMap, RecordDataSchema)}.
+   *
+   * @param dataMap input {@link DataMap}
+   * @param schema the schema that the {@link DataMap} conforms to, may be null if unknown.
+   * @param customCodec custom CODEC to use for encoding.
+   * @return encoded {@link ByteString}
+   */
+  public static ByteString mapToByteString(final DataMap dataMap, RecordDataSchema schema, DataCodec customCodec)
+  {
+    try
+    {
+      return customCodec.mapToByteString(dataMap, schema);
+    }
+    catch (IOException e)
+    {
+      throw new RestLiInternalException(e);
+    }
+  }
+
   /**
    * Remove {@link Data#NULL} from the input DataMap.
    * @param dataMap input data map which may contain {@link Data#NULL} values.
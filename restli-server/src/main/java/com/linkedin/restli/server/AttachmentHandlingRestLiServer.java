@@ -346,16 +346,18 @@ class AttachmentHandlingRestLiServer extends StreamRestLiServer
       RoutingResult routingResult,
       com.linkedin.restli.common.ContentType contentType)
   {
-    return new AttachmentHandlingStreamToRestLiResponseCallbackAdapter(callback, routingResult, contentType);
+    return new AttachmentHandlingStreamToRestLiResponseCallbackAdapter(callback, routingResult, contentType,
+        getErrorResponseBuilder());
   }
 
   private static class AttachmentHandlingStreamToRestLiResponseCallbackAdapter extends StreamToRestLiResponseCallbackAdapter
   {
     AttachmentHandlingStreamToRestLiResponseCallbackAdapter(Callback<StreamResponse> callback,
         RoutingResult routingResult,
-        com.linkedin.restli.common.ContentType contentType)
+        com.linkedin.restli.common.ContentType contentType,
+        ErrorResponseBuilder errorResponseBuilder)
     {
-      super(callback, contentType, routingResult);
+      super(callback, contentType, routingResult, errorResponseBuilder);
     }
 
     @Override
@@ -365,7 +367,15 @@ class AttachmentHandlingRestLiServer extends StreamRestLiServer
       RestLiResponseAttachments responseAttachments = _routingResult.getContext().getResponseAttachments();
       if (responseAttachments != null && responseAttachments.getMultiPartMimeWriterBuilder().getCurrentSize() > 0)
       {
-        RestResponse structuredFirstPart = ResponseUtils.buildResponse(_routingResult, restLiResponse);
+        final RestResponse structuredFirstPart;
+        try
+        {
+          structuredFirstPart = ResponseUtils.buildResponse(_routingResult, restLiResponse);
+        }
+        catch (RestLiServiceException e)
+        {
+          throw buildEncodingError(e, restLiResponse);
+        }
         return createStreamResponseWithAttachment(structuredFirstPart, responseAttachments);
       }
       else
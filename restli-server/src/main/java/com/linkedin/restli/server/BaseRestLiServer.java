@@ -7,6 +7,9 @@ import com.linkedin.r2.message.Request;
 import com.linkedin.r2.message.RequestContext;
 import com.linkedin.r2.message.timing.FrameworkTimingKeys;
 import com.linkedin.r2.message.timing.TimingContextUtil;
+import com.linkedin.r2.message.timing.TimingHistograms;
+import com.linkedin.r2.util.RequestContextUtil;
+import com.linkedin.r2.util.finalizer.RequestFinalizerManager;
 import com.linkedin.restli.common.ContentType;
 import com.linkedin.restli.common.ErrorResponse;
 import com.linkedin.restli.common.HttpStatus;
@@ -75,6 +78,7 @@ abstract class BaseRestLiServer
   private final ResourceMethodConfigProvider _methodConfigProvider;
   private final boolean _fillInDefaultValueConfigured;
   private final MethodAdapterProvider _methodAdapterProvider;
+  private final TimingHistograms _timingHistograms;
 
   BaseRestLiServer(RestLiConfig config,
       ResourceFactory resourceFactory,
@@ -88,7 +92,8 @@ abstract class BaseRestLiServer
 
     _router = new RestLiRouter(rootResources, config);
     resourceFactory.setRootResources(rootResources);
-    _methodInvoker = new RestLiMethodInvoker(resourceFactory, engine, config.getInternalErrorMessage());
+    _methodInvoker = new RestLiMethodInvoker(resourceFactory, engine, config.getInternalErrorMessage(),
+        config.getBulkheadExecutor());
 
     _errorResponseBuilder = new ErrorResponseBuilder(config.getErrorResponseFormat());
     _methodAdapterProvider = config.getMethodAdapterProvider();
@@ -98,6 +103,7 @@ abstract class BaseRestLiServer
     _fillInDefaultValueConfigured = config.shouldFillInDefaultValues();
 
     _methodConfigProvider = ResourceMethodConfigProvider.build(config.getMethodConfig());
+    _timingHistograms = config.getTimingHistograms();
   }
 
   /**
@@ -118,7 +124,8 @@ abstract class BaseRestLiServer
 
     _router = new RestLiRouter(rootResources, config);
     resourceFactory.setRootResources(rootResources);
-    _methodInvoker = new RestLiMethodInvoker(resourceFactory, engine, config.getInternalErrorMessage());
+    _methodInvoker = new RestLiMethodInvoker(resourceFactory, engine, config.getInternalErrorMessage(),
+        config.getBulkheadExecutor());
 
     _errorResponseBuilder = errorResponseBuilder;
     _methodAdapterProvider = config.getMethodAdapterProvider();
@@ -128,6 +135,7 @@ abstract class BaseRestLiServer
     _fillInDefaultValueConfigured = config.shouldFillInDefaultValues();
 
     _methodConfigProvider = ResourceMethodConfigProvider.build(config.getMethodConfig());
+    _timingHistograms = config.getTimingHistograms();
   }
 
   private boolean isSupportedProtocolVersion(ProtocolVersion clientProtocolVersion,
@@ -180,7 +188,9 @@ abstract class BaseRestLiServer
       RestUtils.validateRequestHeadersAndUpdateResourceContext(request.getHeaders(), _supportedAcceptTypes,
           _customContentTypes, context, requestContext);
 
+      TimingContextUtil.beginTiming(requestContext, FrameworkTimingKeys.SERVER_REQUEST_RESTLI_ROUTING.key());
       ResourceMethodDescriptor method = _router.process(context);
+      TimingContextUtil.endTiming(requestContext, FrameworkTimingKeys.SERVER_REQUEST_RESTLI_ROUTING.key());
       ResourceMethodConfig methodConfig = _methodConfigProvider.apply(method);
       context.setAlwaysProjectedFields(methodConfig.getAlwaysProjectedFields().getValue());
 
@@ -193,6 +203,11 @@ abstract class BaseRestLiServer
     }
   }
 
+  protected ErrorResponseBuilder getErrorResponseBuilder()
+  {
+    return _errorResponseBuilder;
+  }
+
   protected RestLiResponseException buildPreRoutingError(Throwable throwable, Request request)
   {
     Map<String, String> requestHeaders = request.getHeaders();
@@ -235,6 +250,11 @@ abstract class BaseRestLiServer
         method.getResourceModel().getBaseUriTemplate(),
         method.getResourceMethodIdentifier());
 
+    if (_timingHistograms != null)
+    {
+      recordTimingsOnFinalize(context.getRawRequestContext(), method);
+    }
+
     FilterRequestContext filterContext;
     RestLiArgumentBuilder argumentBuilder;
     try
@@ -270,6 +290,24 @@ abstract class BaseRestLiServer
     filterChain.onRequest(filterContext, filterResponseContextFactory);
   }
 
+  /**
+   * Records the timings of the request into the configured {@link TimingHistograms} once the response has been
+   * sent, grouped by resource and method. Nothing is recorded if the request is not finalized by a
+   * {@link RequestFinalizerManager}.
+   */
+  private void recordTimingsOnFinalize(RequestContext requestContext, ResourceMethodDescriptor method)
+  {
+    RequestFinalizerManager requestFinalizerManager =
+        RequestContextUtil.getServerRequestFinalizerManager(requestContext);
+    if (requestFinalizerManager != null)
+    {
+      String group = method.getResourceModel().getBaseUriTemplate() + ":"
+          + OperationNameGenerator.generate(method.getMethodType(), method.getMethodName());
+      requestFinalizerManager.registerRequestFinalizer((request, response, finalizedRequestContext, error) ->
+          _timingHistograms.record(group, finalizedRequestContext));
+    }
+  }
+
   private RestLiArgumentBuilder lookupArgumentBuilder(ResourceMethodDescriptor method)
   {
     RestLiArgumentBuilder argumentBuilder = _methodAdapterProvider.getArgumentBuilder(method.getType());
@@ -0,0 +1,70 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.server;
+
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.restli.common.RestConstants;
+import java.util.Locale;
+import java.util.Map;
+
+
+/**
+ * Priority classes of requests waiting for a resource method bulkhead. Queued requests are admitted in priority
+ * order, then in arrival order, and a full queue makes room for a request by rejecting a queued one of lower priority.
+ *
+ * <p>The priority of a request is taken from the {@link #ATTRIBUTE_REQUEST_PRIORITY} local attribute of its
+ * {@link RequestContext}, which a filter can set from the identity of the caller, or else from the
+ * {@link RestConstants#HEADER_RESTLI_PRIORITY} header. Requests without a recognized priority are {@link #NORMAL}.</p>
+ */
+public enum RequestPriority
+{
+  HIGH,
+  NORMAL,
+  LOW;
+
+  /**
+   * Local attribute of the {@link RequestContext} holding the {@link RequestPriority} of the request. Takes precedence
+   * over the {@link RestConstants#HEADER_RESTLI_PRIORITY} header.
+   */
+  public static final String ATTRIBUTE_REQUEST_PRIORITY = RequestPriority.class.getCanonicalName() + ".priority";
+
+  /**
+   * Returns the priority of the request with the given context and headers.
+   */
+  public static RequestPriority fromRequest(RequestContext requestContext, Map<String, String> headers)
+  {
+    Object attribute = requestContext.getLocalAttr(ATTRIBUTE_REQUEST_PRIORITY);
+    if (attribute instanceof RequestPriority)
+    {
+      return (RequestPriority) attribute;
+    }
+
+    String header = headers.get(RestConstants.HEADER_RESTLI_PRIORITY);
+    if (header != null)
+    {
+      try
+      {
+        return valueOf(header.trim().toUpperCase(Locale.ROOT));
+      }
+      catch (IllegalArgumentException e)
+      {
+        // Unrecognized priorities are treated as normal.
+      }
+    }
+    return NORMAL;
+  }
+}
@@ -17,6 +17,7 @@
 package com.linkedin.restli.server;
 
 import com.linkedin.data.codec.DataCodec;
+import com.linkedin.r2.message.timing.TimingHistograms;
 import com.linkedin.restli.common.ContentType;
 import com.linkedin.restli.internal.server.methods.DefaultMethodAdapterProvider;
 import com.linkedin.restli.internal.server.methods.MethodAdapterProvider;
@@ -37,6 +38,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 
 
@@ -90,6 +92,8 @@ public class RestLiConfig
   private Set<String> _individualRequestHeaderWhitelist = Collections.emptySet();
   private MultiplexerSingletonFilter _multiplexerSingletonFilter;
   private MultiplexerRunMode _multiplexerRunMode = MultiplexerRunMode.MULTIPLE_PLANS;
+  private boolean _multiplexerInProcessDispatchEnabled = false;
+  private boolean _resourceIndexEnabled = false;
   private final List<ContentType> _customContentTypes = new LinkedList<>();
   private List<String> _supportedAcceptTypes;
   private final List<ResourceDefinitionListener> _resourceDefinitionListeners = new ArrayList<>();
@@ -107,6 +111,8 @@ public class RestLiConfig
   /** configuration for whether to attach stacktrace for {@link com.linkedin.r2.message.rest.RestException} */
   private boolean _writableStackTrace = true;
   private MethodAdapterProvider _methodAdapterProvider = null;
+  private TimingHistograms _timingHistograms = null;
+  private ScheduledExecutorService _bulkheadExecutor = null;
 
   /**
    * Constructor.
@@ -210,6 +216,24 @@ public class RestLiConfig
     _resourceClassNames.addAll(Arrays.asList(classNames));
   }
 
+  public boolean isResourceIndexEnabled()
+  {
+    return _resourceIndexEnabled;
+  }
+
+  /**
+   * Set whether resource classes are looked up in the build-time resource index before scanning the classpath. When
+   * enabled, the resource classes listed by {@code META-INF/restli/resource-classes.index} under a configured resource
+   * package are loaded directly, and the jar or class directory holding an index is not scanned. Resource packages are
+   * still scanned in every other jar or class directory, so jars built without an index keep working. The index is generated
+   * together with the IDL by the Pegasus Gradle plugin. Disabled by default.
+   * @param resourceIndexEnabled true to load resource classes from the resource index.
+   */
+  public void setResourceIndexEnabled(boolean resourceIndexEnabled)
+  {
+    _resourceIndexEnabled = resourceIndexEnabled;
+  }
+
   public URI getServerNodeUri()
   {
     return _serverNodeUri;
@@ -465,6 +489,24 @@ public class RestLiConfig
     _multiplexerRunMode = multiplexerRunMode;
   }
 
+  public boolean isMultiplexerInProcessDispatchEnabled()
+  {
+    return _multiplexerInProcessDispatchEnabled;
+  }
+
+  /**
+   * Set whether the individual requests of a multiplexed request are dispatched in process. When enabled, the decoded
+   * body of an individual request is handed to the resource and the response entity is handed back to the multiplexer
+   * as a {@link com.linkedin.data.DataMap}, instead of being encoded to bytes and decoded again for every individual
+   * request. Rest.li filters still run for every individual request. Individual requests to non-resource endpoints,
+   * such as documentation or debug requests, are always dispatched as encoded requests. Disabled by default.
+   * @param multiplexerInProcessDispatchEnabled true to dispatch individual requests in process.
+   */
+  public void setMultiplexerInProcessDispatchEnabled(boolean multiplexerInProcessDispatchEnabled)
+  {
+    _multiplexerInProcessDispatchEnabled = multiplexerInProcessDispatchEnabled;
+  }
+
   public List<ContentType> getCustomContentTypes()
   {
     return _customContentTypes;
@@ -620,6 +662,47 @@ public class RestLiConfig
             .orElse(new DefaultMethodAdapterProvider(new ErrorResponseBuilder(_errorResponseFormat)));
   }
 
+  /**
+   * @return the histograms that request timings are aggregated into, or null if timings are not aggregated.
+   */
+  public TimingHistograms getTimingHistograms()
+  {
+    return _timingHistograms;
+  }
+
+  /**
+   * Sets the histograms to aggregate the timings of every request into, grouped by resource and method. Register
+   * the histograms with an MBeanServer to read them over JMX. Timings are recorded when the request is finalized,
+   * which requires the transport dispatcher to be decorated with a
+   * {@link com.linkedin.r2.util.finalizer.RequestFinalizerDispatcher}.
+   * @param timingHistograms histograms to record timings into, or null to not aggregate timings.
+   */
+  public void setTimingHistograms(TimingHistograms timingHistograms)
+  {
+    _timingHistograms = timingHistograms;
+  }
+
+  /**
+   * @return the executor of requests admitted from the queue of a resource method bulkhead, or null to use the
+   *         ParSeq engine.
+   */
+  public ScheduledExecutorService getBulkheadExecutor()
+  {
+    return _bulkheadExecutor;
+  }
+
+  /**
+   * Sets the executor that runs requests admitted from the queue of a resource method bulkhead once a permit is
+   * released, and that rejects queued requests at their deadline. Bulkheads are configured with the
+   * {@code maxConcurrentRequests} method config. By default, admitted requests run on the ParSeq engine of the server,
+   * so a dedicated executor should be set when synchronous resource methods are bulkheaded.
+   * @param bulkheadExecutor executor for admitted requests, or null to use the ParSeq engine.
+   */
+  public void setBulkheadExecutor(ScheduledExecutorService bulkheadExecutor)
+  {
+    _bulkheadExecutor = bulkheadExecutor;
+  }
+
   /**
    * Get list of supported mime types for response serialization.
    * @return list of mime types.
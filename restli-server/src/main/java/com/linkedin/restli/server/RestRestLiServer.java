@@ -29,6 +29,7 @@ import com.linkedin.r2.message.timing.TimingContextUtil;
 import com.linkedin.r2.transport.common.RestRequestHandler;
 import com.linkedin.restli.common.ContentType;
 import com.linkedin.restli.common.HttpStatus;
+import com.linkedin.restli.common.RestConstants;
 import com.linkedin.restli.internal.server.RoutingResult;
 import com.linkedin.restli.internal.server.model.ResourceModel;
 import com.linkedin.restli.internal.server.response.ErrorResponseBuilder;
@@ -36,6 +37,7 @@ import com.linkedin.restli.internal.server.response.ResponseUtils;
 import com.linkedin.restli.internal.server.response.RestLiResponse;
 import com.linkedin.restli.internal.server.response.RestLiResponseException;
 import com.linkedin.restli.internal.server.util.DataMapUtils;
+import com.linkedin.restli.server.multiplexer.InProcessRequestHandler;
 import com.linkedin.restli.server.multiplexer.MultiplexedRequestHandlerImpl;
 import com.linkedin.restli.server.resources.ResourceFactory;
 import com.linkedin.restli.server.symbol.RestLiSymbolTableRequestHandler;
@@ -56,7 +58,8 @@ import org.slf4j.LoggerFactory;
  * @author Nick Dellamaggiore
  * @author Xiao Ma
  */
-class RestRestLiServer extends BaseRestLiServer implements RestRequestHandler, RestToRestLiRequestHandler
+class RestRestLiServer extends BaseRestLiServer
+    implements RestRequestHandler, RestToRestLiRequestHandler, InProcessRequestHandler
 {
   private static final Logger log = LoggerFactory.getLogger(RestRestLiServer.class);
 
@@ -100,7 +103,8 @@ class RestRestLiServer extends BaseRestLiServer implements RestRequestHandler, R
         config.getMultiplexedIndividualRequestHeaderWhitelist(),
         config.getMultiplexerSingletonFilter(),
         config.getMultiplexerRunMode(),
-        errorResponseBuilder));
+        errorResponseBuilder,
+        config.isMultiplexerInProcessDispatchEnabled() ? this : null));
 
     // Add debug request handlers
     config.getDebugRequestHandlers().stream()
@@ -142,7 +146,8 @@ class RestRestLiServer extends BaseRestLiServer implements RestRequestHandler, R
         config.getMultiplexedIndividualRequestHeaderWhitelist(),
         config.getMultiplexerSingletonFilter(),
         config.getMultiplexerRunMode(),
-        new ErrorResponseBuilder(config.getErrorResponseFormat())));
+        new ErrorResponseBuilder(config.getErrorResponseFormat()),
+        config.isMultiplexerInProcessDispatchEnabled() ? this : null));
 
     // Add debug request handlers
     config.getDebugRequestHandlers().stream()
@@ -197,6 +202,50 @@ class RestRestLiServer extends BaseRestLiServer implements RestRequestHandler, R
     }
   }
 
+  @Override
+  public boolean shouldHandleInProcess(RestRequest request)
+  {
+    return _nonResourceRequestHandlers.stream().noneMatch(handler -> handler.shouldHandle(request));
+  }
+
+  @Override
+  public void handleRequestInProcess(final RestRequest request, final DataMap entity,
+      final RequestContext requestContext, final Callback<RestLiResponse> callback)
+  {
+    try
+    {
+      RoutingResult routingResult;
+      try
+      {
+        routingResult = getRoutingResult(request, requestContext);
+      }
+      catch (Throwable t)
+      {
+        callback.onError(buildPreRoutingRestException(t, request));
+        return;
+      }
+
+      Callback<RestLiResponse> contentTypeCallback = new InProcessResponseCallbackAdapter(callback, routingResult);
+      if (entity != null && UnstructuredDataUtil.isUnstructuredDataRouting(routingResult))
+      {
+        contentTypeCallback.onError(buildPreRoutingError(
+            new RoutingException("Unstructured Data is not supported in non-streaming Rest.li server",
+                HttpStatus.S_400_BAD_REQUEST.getCode()), request));
+        return;
+      }
+
+      handleResourceRequest(request,
+          routingResult,
+          entity,
+          contentTypeCallback);
+    }
+    catch (Throwable t)
+    {
+      log.error("Uncaught exception", t);
+      callback.onError(t);
+    }
+  }
+
   protected void doHandleRequest(final RestRequest request,
       final RequestContext requestContext,
       final Callback<RestResponse> callback)
@@ -260,7 +309,8 @@ class RestRestLiServer extends BaseRestLiServer implements RestRequestHandler, R
       Callback<RestResponse> callback)
   {
     handleResourceRequestWithRestLiResponse(request, routingResult,
-        new RestLiToRestResponseCallbackAdapter(callback, routingResult, _writableStackTrace));
+        new RestLiToRestResponseCallbackAdapter(callback, routingResult, _writableStackTrace,
+            getErrorResponseBuilder()));
   }
 
   protected void handleResourceRequestWithRestLiResponse(RestRequest request, RoutingResult routingResult,
@@ -301,36 +351,40 @@ class RestRestLiServer extends BaseRestLiServer implements RestRequestHandler, R
   {
     private final RoutingResult _routingResult;
     private final boolean _writableStackTrace;
+    private final ErrorResponseBuilder _errorResponseBuilder;
     private ContentType _respContentType;
 
-    RestLiToRestResponseCallbackAdapter(Callback<RestResponse> callback, RoutingResult routingResult, Boolean writableStackTrace)
+    RestLiToRestResponseCallbackAdapter(Callback<RestResponse> callback, RoutingResult routingResult,
+        Boolean writableStackTrace, ErrorResponseBuilder errorResponseBuilder)
     {
       super(callback);
       _routingResult = routingResult;
       _writableStackTrace = writableStackTrace;
-      String respMimeType = routingResult.getContext().getResponseMimeType();
-      try
-      {
-        _respContentType = ContentType.getResponseContentType(respMimeType, routingResult.getContext().getRequestURI(), routingResult.getContext().getRequestHeaders())
-                .orElseThrow(() -> new RestLiServiceException(HttpStatus.S_406_NOT_ACCEPTABLE, "Requested mime type for encoding is not supported. Mimetype: " + respMimeType));
-      }
-      catch (MimeTypeParseException e)
-      {
-        log.error("Failed to parse mime type which should never happen at this stage. ", e);
-        _respContentType = ContentType.JSON;
-      }
-
+      _errorResponseBuilder = errorResponseBuilder;
+      _respContentType = getResponseContentType(routingResult);
     }
 
     @Override
-    protected RestResponse convertResponse(RestLiResponse restLiResponse)
+    protected RestResponse convertResponse(RestLiResponse restLiResponse) throws RestException
     {
       final RequestContext requestContext = _routingResult.getContext().getRawRequestContext();
       TimingContextUtil.beginTiming(requestContext, FrameworkTimingKeys.SERVER_RESPONSE_RESTLI_SERIALIZATION.key());
 
-      final RestResponse restResponse = ResponseUtils.buildResponse(_routingResult, restLiResponse);
-
-      TimingContextUtil.endTiming(requestContext, FrameworkTimingKeys.SERVER_RESPONSE_RESTLI_SERIALIZATION.key());
+      final RestResponse restResponse;
+      try
+      {
+        restResponse = ResponseUtils.buildResponse(_routingResult, restLiResponse);
+      }
+      catch (RestLiServiceException e)
+      {
+        // Projections of GET responses are applied while encoding, after the response filters.
+        throw ResponseUtils.buildRestException(ResponseUtils.buildEncodingError(e, restLiResponse, _errorResponseBuilder),
+            _writableStackTrace, _respContentType);
+      }
+      finally
+      {
+        TimingContextUtil.endTiming(requestContext, FrameworkTimingKeys.SERVER_RESPONSE_RESTLI_SERIALIZATION.key());
+      }
       return restResponse;
     }
 
@@ -348,4 +402,60 @@ class RestRestLiServer extends BaseRestLiServer implements RestRequestHandler, R
       return throwable;
     }
   }
+
+  /**
+   * Sets the Content-Type header of responses that carry an entity, which would otherwise be set when the entity is
+   * encoded, so that in-process responses carry the same headers as encoded ones.
+   */
+  static class InProcessResponseCallbackAdapter extends CallbackAdapter<RestLiResponse, RestLiResponse>
+  {
+    private final RoutingResult _routingResult;
+    private final ContentType _respContentType;
+
+    InProcessResponseCallbackAdapter(Callback<RestLiResponse> callback, RoutingResult routingResult)
+    {
+      super(callback);
+      _routingResult = routingResult;
+      _respContentType = getResponseContentType(routingResult);
+    }
+
+    @Override
+    protected RestLiResponse convertResponse(RestLiResponse restLiResponse)
+    {
+      if (restLiResponse.hasData() && !UnstructuredDataUtil.isUnstructuredDataRouting(_routingResult))
+      {
+        restLiResponse.getHeaders().put(RestConstants.HEADER_CONTENT_TYPE, _respContentType.getHeaderKey());
+      }
+      return restLiResponse;
+    }
+
+    @Override
+    protected Throwable convertError(Throwable error)
+    {
+      if (error instanceof RestLiResponseException)
+      {
+        RestLiResponse restLiResponse = ((RestLiResponseException) error).getRestLiResponse();
+        if (restLiResponse.hasData() && restLiResponse.getStatus() != HttpStatus.S_204_NO_CONTENT)
+        {
+          restLiResponse.getHeaders().put(RestConstants.HEADER_CONTENT_TYPE, _respContentType.getHeaderKey());
+        }
+      }
+      return error;
+    }
+  }
+
+  private static ContentType getResponseContentType(RoutingResult routingResult)
+  {
+    String respMimeType = routingResult.getContext().getResponseMimeType();
+    try
+    {
+      return ContentType.getResponseContentType(respMimeType, routingResult.getContext().getRequestURI(), routingResult.getContext().getRequestHeaders())
+              .orElseThrow(() -> new RestLiServiceException(HttpStatus.S_406_NOT_ACCEPTABLE, "Requested mime type for encoding is not supported. Mimetype: " + respMimeType));
+    }
+    catch (MimeTypeParseException e)
+    {
+      log.error("Failed to parse mime type which should never happen at this stage. ", e);
+      return ContentType.JSON;
+    }
+  }
 }
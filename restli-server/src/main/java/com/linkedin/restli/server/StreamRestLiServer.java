@@ -3,6 +3,7 @@ package com.linkedin.restli.server;
 import com.linkedin.common.callback.Callback;
 import com.linkedin.common.callback.CallbackAdapter;
 import com.linkedin.data.ByteString;
+import com.linkedin.data.DataMap;
 import com.linkedin.data.codec.entitystream.StreamDataCodec;
 import com.linkedin.entitystream.EntityStream;
 import com.linkedin.entitystream.EntityStreams;
@@ -337,20 +338,22 @@ class StreamRestLiServer extends BaseRestLiServer implements StreamRequestHandle
       RoutingResult routingResult,
       ContentType contentType)
   {
-    return new StreamToRestLiResponseCallbackAdapter(callback, contentType, routingResult);
+    return new StreamToRestLiResponseCallbackAdapter(callback, contentType, routingResult, getErrorResponseBuilder());
   }
 
   static class StreamToRestLiResponseCallbackAdapter extends CallbackAdapter<StreamResponse, RestLiResponse>
   {
     private final ContentType _contentType;
     protected final RoutingResult _routingResult;
+    private final ErrorResponseBuilder _errorResponseBuilder;
 
     StreamToRestLiResponseCallbackAdapter(Callback<StreamResponse> callback, ContentType contentType,
-        RoutingResult routingResult)
+        RoutingResult routingResult, ErrorResponseBuilder errorResponseBuilder)
     {
       super(callback);
       _contentType = contentType;
       _routingResult = routingResult;
+      _errorResponseBuilder = errorResponseBuilder;
     }
 
     @Override
@@ -369,7 +372,17 @@ class StreamRestLiServer extends BaseRestLiServer implements StreamRequestHandle
       if (restLiResponse.hasData())
       {
         responseBuilder.setHeader(RestConstants.HEADER_CONTENT_TYPE, _contentType.getHeaderKey());
-        entityStream = _contentType.getStreamCodec().encodeMap(restLiResponse.getDataMap());
+        final DataMap dataMap;
+        try
+        {
+          dataMap = restLiResponse.getDataMap();
+        }
+        catch (RestLiServiceException e)
+        {
+          // Projections of GET responses are only materialized here, after the response filters.
+          throw buildEncodingError(e, restLiResponse);
+        }
+        entityStream = _contentType.getStreamCodec().encodeMap(dataMap);
       }
       else
       {
@@ -382,6 +395,15 @@ class StreamRestLiServer extends BaseRestLiServer implements StreamRequestHandle
       return streamResponse;
     }
 
+    /**
+     * Converts a failure to encode the entity of a response into the stream exception of an error response.
+     */
+    protected StreamException buildEncodingError(RestLiServiceException error, RestLiResponse restLiResponse)
+    {
+      return ResponseUtils.buildStreamException(
+          ResponseUtils.buildEncodingError(error, restLiResponse, _errorResponseBuilder), _contentType);
+    }
+
     @Override
     protected Throwable convertError(Throwable e)
     {
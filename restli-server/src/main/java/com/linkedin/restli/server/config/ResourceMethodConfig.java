@@ -33,4 +33,20 @@ public interface ResourceMethodConfig
    * Returns the method level list of fields that should be included when projection is applied.
    */
   ConfigValue<Set<String>> getAlwaysProjectedFields();
+
+  /**
+   * Returns the method level limit on concurrently executing requests, zero or null if unlimited.
+   */
+  default ConfigValue<Integer> getMaxConcurrentRequests()
+  {
+    return null;
+  }
+
+  /**
+   * Returns the method level limit on requests queued for the bulkhead of the method.
+   */
+  default ConfigValue<Integer> getMaxQueuedRequests()
+  {
+    return null;
+  }
 }
@@ -16,6 +16,8 @@ public class ResourceMethodConfigImpl implements ResourceMethodConfig
 {
   private final ConfigValue<Long> _timeoutMs;
   private final ConfigValue<Set<String>> _alwaysProjectedFields;
+  private final ConfigValue<Integer> _maxConcurrentRequests;
+  private final ConfigValue<Integer> _maxQueuedRequests;
   private boolean _validateQueryParams;
   private boolean _validateResourceKeys;
 
@@ -29,11 +31,20 @@ public class ResourceMethodConfigImpl implements ResourceMethodConfig
 
   ResourceMethodConfigImpl(ConfigValue<Long> timeoutMs, boolean validateQueryParams, boolean validateResourceKeys,
       ConfigValue<Set<String>> alwaysProjectedFields)
+  {
+    this(timeoutMs, validateQueryParams, validateResourceKeys, alwaysProjectedFields, null, null);
+  }
+
+  ResourceMethodConfigImpl(ConfigValue<Long> timeoutMs, boolean validateQueryParams, boolean validateResourceKeys,
+      ConfigValue<Set<String>> alwaysProjectedFields, ConfigValue<Integer> maxConcurrentRequests,
+      ConfigValue<Integer> maxQueuedRequests)
   {
     _timeoutMs = timeoutMs;
     _validateQueryParams = validateQueryParams;
     _validateResourceKeys = validateResourceKeys;
     _alwaysProjectedFields = alwaysProjectedFields;
+    _maxConcurrentRequests = maxConcurrentRequests;
+    _maxQueuedRequests = maxQueuedRequests;
   }
 
   public ConfigValue<Long> getTimeoutMs()
@@ -57,6 +68,18 @@ public class ResourceMethodConfigImpl implements ResourceMethodConfig
     return _alwaysProjectedFields;
   }
 
+  @Override
+  public ConfigValue<Integer> getMaxConcurrentRequests()
+  {
+    return _maxConcurrentRequests;
+  }
+
+  @Override
+  public ConfigValue<Integer> getMaxQueuedRequests()
+  {
+    return _maxQueuedRequests;
+  }
+
   @Override
   public String toString()
   {
@@ -64,6 +87,8 @@ public class ResourceMethodConfigImpl implements ResourceMethodConfig
           "_timeoutMs=" + _timeoutMs +
           ", _validateQueryParams=" + _validateQueryParams +
           ", _validateResourceKeys=" + _validateResourceKeys +
+          ", _maxConcurrentRequests=" + _maxConcurrentRequests +
+          ", _maxQueuedRequests=" + _maxQueuedRequests +
         "}";
   }
 
@@ -81,13 +106,16 @@ public class ResourceMethodConfigImpl implements ResourceMethodConfig
     ResourceMethodConfigImpl that = (ResourceMethodConfigImpl) o;
     return _validateQueryParams == that._validateQueryParams && _validateResourceKeys
         == that._validateResourceKeys
-        && _timeoutMs.equals(that._timeoutMs);
+        && _timeoutMs.equals(that._timeoutMs)
+        && Objects.equals(_maxConcurrentRequests, that._maxConcurrentRequests)
+        && Objects.equals(_maxQueuedRequests, that._maxQueuedRequests);
   }
 
   @Override
   public int hashCode()
   {
-    return Objects.hash(_timeoutMs, _validateQueryParams, _validateResourceKeys);
+    return Objects.hash(_timeoutMs, _validateQueryParams, _validateResourceKeys, _maxConcurrentRequests,
+        _maxQueuedRequests);
   }
 
   public void setValidateQueryParams(boolean validateQueryParams)
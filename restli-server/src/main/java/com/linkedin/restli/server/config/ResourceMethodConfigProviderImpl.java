@@ -30,6 +30,8 @@ class ResourceMethodConfigProviderImpl implements ResourceMethodConfigProvider
 
   private final ResourceMethodConfigTree<Long> _timeoutMs = new ResourceMethodConfigTree<>();
   private final ResourceMethodConfigTree<Set<String>> _alwaysProjectedFields = new ResourceMethodConfigTree<>();
+  private final ResourceMethodConfigTree<Integer> _maxConcurrentRequests = new ResourceMethodConfigTree<>();
+  private final ResourceMethodConfigTree<Integer> _maxQueuedRequests = new ResourceMethodConfigTree<>();
   private final ConcurrentMap<ResourceMethodConfigCacheKey, ResourceMethodConfig> _cache = new ConcurrentHashMap<>();
   private boolean _shouldValidateQueryParams;
   private boolean _shouldValidateResourceKey;
@@ -46,6 +48,8 @@ class ResourceMethodConfigProviderImpl implements ResourceMethodConfigProvider
   {
     boolean success = initializeProperty(config.getTimeoutMsConfig(), RestLiMethodConfig.ConfigType.TIMEOUT);
     success &= initializeProperty(config.getAlwaysProjectedFieldsConfig(), RestLiMethodConfig.ConfigType.ALWAYS_PROJECTED_FIELDS);
+    success &= initializeProperty(config.getMaxConcurrentRequestsConfig(), RestLiMethodConfig.ConfigType.MAX_CONCURRENT_REQUESTS);
+    success &= initializeProperty(config.getMaxQueuedRequestsConfig(), RestLiMethodConfig.ConfigType.MAX_QUEUED_REQUESTS);
     if (!success)
     {
       throw new ResourceMethodConfigParsingException("Rest.li resource method level configuration parsing error!");
@@ -78,6 +82,12 @@ class ResourceMethodConfigProviderImpl implements ResourceMethodConfigProvider
       case ALWAYS_PROJECTED_FIELDS:
         elements = _alwaysProjectedFields.getConfigItemsByPriority();
         break;
+      case MAX_CONCURRENT_REQUESTS:
+        elements = _maxConcurrentRequests.getConfigItemsByPriority();
+        break;
+      case MAX_QUEUED_REQUESTS:
+        elements = _maxQueuedRequests.getConfigItemsByPriority();
+        break;
     }
     StringBuilder sb = new StringBuilder();
     sb.append("RestLi MethodLevel Configuration for property " + configType.getConfigName() + " sorted by priority - first match gets applied:\n");
@@ -98,6 +108,12 @@ class ResourceMethodConfigProviderImpl implements ResourceMethodConfigProvider
       case ALWAYS_PROJECTED_FIELDS:
         _alwaysProjectedFields.add(element);
         break;
+      case MAX_CONCURRENT_REQUESTS:
+        _maxConcurrentRequests.add(element);
+        break;
+      case MAX_QUEUED_REQUESTS:
+        _maxQueuedRequests.add(element);
+        break;
       default: throw new ResourceMethodConfigParsingException("Unrecognized property: " + element.getProperty());
     }
   }
@@ -112,7 +128,8 @@ class ResourceMethodConfigProviderImpl implements ResourceMethodConfigProvider
   private ResourceMethodConfig resolve(ResourceMethodConfigCacheKey cacheKey)
   {
     return new ResourceMethodConfigImpl(_timeoutMs.resolve(cacheKey), _shouldValidateQueryParams,
-        _shouldValidateResourceKey, _alwaysProjectedFields.resolve(cacheKey));
+        _shouldValidateResourceKey, _alwaysProjectedFields.resolve(cacheKey), _maxConcurrentRequests.resolve(cacheKey),
+        _maxQueuedRequests.resolve(cacheKey));
   }
 
   /**
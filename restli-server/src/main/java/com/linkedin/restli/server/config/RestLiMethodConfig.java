@@ -1,5 +1,6 @@
 package com.linkedin.restli.server.config;
 
+import java.util.Collections;
 import java.util.Map;
 
 
@@ -13,7 +14,9 @@ public interface RestLiMethodConfig
   enum ConfigType
   {
     TIMEOUT("timeoutMs"),
-    ALWAYS_PROJECTED_FIELDS("alwaysProjectedFields");
+    ALWAYS_PROJECTED_FIELDS("alwaysProjectedFields"),
+    MAX_CONCURRENT_REQUESTS("maxConcurrentRequests"),
+    MAX_QUEUED_REQUESTS("maxQueuedRequests");
 
     ConfigType(String configName)
     {
@@ -48,4 +51,23 @@ public interface RestLiMethodConfig
    * provided as comma separated string.
    */
   Map<String, String> getAlwaysProjectedFieldsConfig();
+
+  /**
+   * Returns the method level limit on requests a resource method executes concurrently. Each resource method gets its
+   * own bulkhead of this size, so that a slow method cannot take over the threads and resources other methods need.
+   * A limit of zero or less disables the bulkhead.
+   */
+  default Map<String, Integer> getMaxConcurrentRequestsConfig()
+  {
+    return Collections.emptyMap();
+  }
+
+  /**
+   * Returns the method level limit on requests waiting for a slot in the bulkhead of a resource method. Requests
+   * beyond the limit are rejected, unless they outrank a queued request of lower priority.
+   */
+  default Map<String, Integer> getMaxQueuedRequestsConfig()
+  {
+    return Collections.emptyMap();
+  }
 }
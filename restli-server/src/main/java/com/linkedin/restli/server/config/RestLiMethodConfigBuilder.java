@@ -13,6 +13,8 @@ public class RestLiMethodConfigBuilder
 {
   private final Map<String, Long> _timeoutMsConfig = new HashMap<>();
   private final Map<String, String> _alwaysProjectedFieldsConfig = new HashMap<>();
+  private final Map<String, Integer> _maxConcurrentRequestsConfig = new HashMap<>();
+  private final Map<String, Integer> _maxQueuedRequestsConfig = new HashMap<>();
   // Whether to validate parameter in the query parameters.
   private boolean shouldValidateQueryParams = false;
   private boolean shouldValidateResourceKeys = false;
@@ -34,13 +36,15 @@ public class RestLiMethodConfigBuilder
       withShouldValidateQueryParams(config.shouldValidateQueryParams());
       withShouldValidateResourceKeys(config.shouldValidateResourceKey());
       addAlwaysProjectedFieldsMap(config.getAlwaysProjectedFieldsConfig());
+      addMaxConcurrentRequestsMap(config.getMaxConcurrentRequestsConfig());
+      addMaxQueuedRequestsMap(config.getMaxQueuedRequestsConfig());
     }
   }
 
   public RestLiMethodConfig build()
   {
     return new RestLiMethodConfigImpl(_timeoutMsConfig, shouldValidateQueryParams, shouldValidateResourceKeys,
-        _alwaysProjectedFieldsConfig);
+        _alwaysProjectedFieldsConfig, _maxConcurrentRequestsConfig, _maxQueuedRequestsConfig);
   }
 
   public RestLiMethodConfigBuilder withShouldValidateQueryParams(boolean shouldValidateQueryParams)
@@ -90,4 +94,40 @@ public class RestLiMethodConfigBuilder
     _alwaysProjectedFieldsConfig.clear();
     return this;
   }
+
+  public RestLiMethodConfigBuilder addMaxConcurrentRequestsMap(Map<String, Integer> config)
+  {
+    _maxConcurrentRequestsConfig.putAll(config);
+    return this;
+  }
+
+  public RestLiMethodConfigBuilder addMaxConcurrentRequests(String key, int value)
+  {
+    _maxConcurrentRequestsConfig.put(key, value);
+    return this;
+  }
+
+  public RestLiMethodConfigBuilder clearMaxConcurrentRequests()
+  {
+    _maxConcurrentRequestsConfig.clear();
+    return this;
+  }
+
+  public RestLiMethodConfigBuilder addMaxQueuedRequestsMap(Map<String, Integer> config)
+  {
+    _maxQueuedRequestsConfig.putAll(config);
+    return this;
+  }
+
+  public RestLiMethodConfigBuilder addMaxQueuedRequests(String key, int value)
+  {
+    _maxQueuedRequestsConfig.put(key, value);
+    return this;
+  }
+
+  public RestLiMethodConfigBuilder clearMaxQueuedRequests()
+  {
+    _maxQueuedRequestsConfig.clear();
+    return this;
+  }
 }
@@ -10,6 +10,8 @@ class RestLiMethodConfigImpl implements RestLiMethodConfig
   private boolean _validateQueryParams;
   private boolean _validateResourceKeys;
   private final Map<String, String> _alwaysProjectedFieldsConfig;
+  private final Map<String, Integer> _maxConcurrentRequestsConfig;
+  private final Map<String, Integer> _maxQueuedRequestsConfig;
 
   /**
    * @deprecated Use {@link RestLiMethodConfigBuilder} to build this type.
@@ -23,11 +25,21 @@ class RestLiMethodConfigImpl implements RestLiMethodConfig
 
   RestLiMethodConfigImpl(Map<String, Long> timeoutMsConfig, boolean validateQueryParams,
       boolean validateResourceKeys, Map<String, String> alwaysProjectedFieldsConfig)
+  {
+    this(timeoutMsConfig, validateQueryParams, validateResourceKeys, alwaysProjectedFieldsConfig,
+        Collections.emptyMap(), Collections.emptyMap());
+  }
+
+  RestLiMethodConfigImpl(Map<String, Long> timeoutMsConfig, boolean validateQueryParams,
+      boolean validateResourceKeys, Map<String, String> alwaysProjectedFieldsConfig,
+      Map<String, Integer> maxConcurrentRequestsConfig, Map<String, Integer> maxQueuedRequestsConfig)
   {
     _timeoutMsConfig = timeoutMsConfig;
     _validateQueryParams = validateQueryParams;
     _validateResourceKeys = validateResourceKeys;
     _alwaysProjectedFieldsConfig = alwaysProjectedFieldsConfig;
+    _maxConcurrentRequestsConfig = maxConcurrentRequestsConfig;
+    _maxQueuedRequestsConfig = maxQueuedRequestsConfig;
   }
   @Override
   public Map<String, Long> getTimeoutMsConfig()
@@ -52,4 +64,16 @@ class RestLiMethodConfigImpl implements RestLiMethodConfig
   {
     return _alwaysProjectedFieldsConfig;
   }
+
+  @Override
+  public Map<String, Integer> getMaxConcurrentRequestsConfig()
+  {
+    return _maxConcurrentRequestsConfig;
+  }
+
+  @Override
+  public Map<String, Integer> getMaxQueuedRequestsConfig()
+  {
+    return _maxQueuedRequestsConfig;
+  }
 }
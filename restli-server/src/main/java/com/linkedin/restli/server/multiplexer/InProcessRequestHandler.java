@@ -0,0 +1,55 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.server.multiplexer;
+
+
+import com.linkedin.common.callback.Callback;
+import com.linkedin.data.DataMap;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.restli.internal.server.response.RestLiResponse;
+
+
+/**
+ * A handler that executes the individual requests of a multiplexed request in process. The decoded body of the
+ * individual request is passed in and the {@link RestLiResponse} is passed back, so that neither has to be encoded
+ * to bytes only to be decoded again by the other side.
+ */
+public interface InProcessRequestHandler
+{
+  /**
+   * @param request the synthetic request of an individual request, without an entity.
+   * @return true if the request can be handled by {@link #handleRequestInProcess}, false if it has to be encoded
+   *         and handled as a regular {@link RestRequest}, for example because it targets a non-resource endpoint.
+   */
+  boolean shouldHandleInProcess(RestRequest request);
+
+  /**
+   * Handles the supplied request and notifies the supplied callback upon completion.
+   *
+   * @param request the synthetic request of an individual request, without an entity.
+   * @param entity the decoded request entity, or null if the request does not have one.
+   * @param requestContext {@link RequestContext} context for the request
+   * @param callback the callback to notify when request processing has completed. The Content-Type header of the
+   *                 response is set whenever the response carries an entity, as it would be if the entity was
+   *                 encoded. The callback is notified of errors with either a
+   *                 {@link com.linkedin.restli.internal.server.response.RestLiResponseException} or a
+   *                 {@link com.linkedin.r2.message.rest.RestException} carrying an encoded response.
+   */
+  void handleRequestInProcess(RestRequest request, DataMap entity, RequestContext requestContext,
+      Callback<RestLiResponse> callback);
+}
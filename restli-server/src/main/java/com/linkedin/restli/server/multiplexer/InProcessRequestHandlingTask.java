@@ -0,0 +1,214 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.server.multiplexer;
+
+
+import com.linkedin.common.callback.Callback;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.template.GetMode;
+import com.linkedin.data.template.StringMap;
+import com.linkedin.parseq.BaseTask;
+import com.linkedin.parseq.Context;
+import com.linkedin.parseq.promise.Promise;
+import com.linkedin.parseq.promise.Promises;
+import com.linkedin.parseq.promise.SettablePromise;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.rest.RestException;
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.transport.common.RestRequestHandler;
+import com.linkedin.restli.common.HttpStatus;
+import com.linkedin.restli.common.multiplexer.IndividualBody;
+import com.linkedin.restli.common.multiplexer.IndividualRequest;
+import com.linkedin.restli.common.multiplexer.IndividualResponse;
+import com.linkedin.restli.internal.common.CookieUtil;
+import com.linkedin.restli.internal.common.DataMapConverter;
+import com.linkedin.restli.internal.server.RestLiMethodInvoker;
+import com.linkedin.restli.internal.server.response.ErrorResponseBuilder;
+import com.linkedin.restli.internal.server.response.RestLiResponse;
+import com.linkedin.restli.internal.server.response.RestLiResponseException;
+import java.io.IOException;
+import javax.activation.MimeTypeParseException;
+
+
+/**
+ * A task responsible for executing individual requests in process and converting their responses into
+ * IndividualResponseWithCookies objects. It takes the place of both {@link RequestHandlingTask} and
+ * {@link IndividualResponseConversionTask}: the decoded body of the individual request is passed to the
+ * {@link InProcessRequestHandler} as is, and the entity of the {@link RestLiResponse} becomes the body of the
+ * IndividualResponse without being encoded and decoded again.
+ *
+ * Requests that the handler cannot handle in process are encoded and passed to the {@link RestRequestHandler} instead.
+ * Like {@link IndividualResponseConversionTask}, this task converts any exception carried over from previous task
+ * into an IndividualResponse and will never fail.
+ */
+/* package private */ final class InProcessRequestHandlingTask extends BaseTask<IndividualResponseWithCookies>
+{
+  private final String _individualRequestId;
+  private final RestRequestHandler _requestHandler;
+  private final InProcessRequestHandler _inProcessRequestHandler;
+  private final BaseTask<IndividualRequest> _individualRequest;
+  private final BaseTask<RestRequest> _request;
+  private final RequestContext _requestContext;
+  private final MultiplexerRunMode _multiplexerRunMode;
+  private final ErrorResponseBuilder _errorResponseBuilder;
+
+  /* package private */ InProcessRequestHandlingTask(String individualRequestId, RestRequestHandler requestHandler,
+    InProcessRequestHandler inProcessRequestHandler, BaseTask<IndividualRequest> individualRequest,
+    BaseTask<RestRequest> request, RequestContext requestContext, MultiplexerRunMode multiplexerRunMode,
+    ErrorResponseBuilder errorResponseBuilder)
+  {
+    _individualRequestId = individualRequestId;
+    _requestHandler = requestHandler;
+    _inProcessRequestHandler = inProcessRequestHandler;
+    _individualRequest = individualRequest;
+    _request = request;
+    _requestContext = requestContext;
+    _multiplexerRunMode = multiplexerRunMode;
+    _errorResponseBuilder = errorResponseBuilder;
+  }
+
+  @Override
+  protected Promise<? extends IndividualResponseWithCookies> run(Context context) throws Throwable
+  {
+    if (_request.isFailed())
+    {
+      return Promises.value(IndividualResponseConversionTask.toErrorIndividualResponse(_request.getError(), _errorResponseBuilder));
+    }
+
+    final SettablePromise<IndividualResponseWithCookies> promise = Promises.settable();
+    final Callback<RestLiResponse> inProcessCallback = new Callback<RestLiResponse>()
+    {
+      @Override
+      public void onError(Throwable e)
+      {
+        promise.done(toErrorIndividualResponse(e));
+      }
+
+      @Override
+      public void onSuccess(RestLiResponse result)
+      {
+        IndividualResponseWithCookies response;
+        try
+        {
+          response = toIndividualResponse(result, false);
+        }
+        catch (Exception e)
+        {
+          // Reading the entity materializes deferred work such as a projection, which can fail.
+          response = toErrorIndividualResponse(e);
+        }
+        promise.done(response);
+      }
+    };
+
+    try
+    {
+      if (_multiplexerRunMode == MultiplexerRunMode.SINGLE_PLAN)
+      {
+        RestLiMethodInvoker.TASK_CONTEXT.set(context);
+      }
+      RestRequest request = _request.get();
+      IndividualBody body = _individualRequest.get().getBody(GetMode.NULL);
+      DataMap entity = body == null ? null : body.data();
+      if (_inProcessRequestHandler.shouldHandleInProcess(request))
+      {
+        _inProcessRequestHandler.handleRequestInProcess(request, entity, _requestContext, inProcessCallback);
+      }
+      else
+      {
+        handleEncodedRequest(request, entity, promise);
+      }
+    }
+    catch (Exception e)
+    {
+      inProcessCallback.onError(e);
+    }
+    finally
+    {
+      if (_multiplexerRunMode == MultiplexerRunMode.SINGLE_PLAN)
+      {
+        RestLiMethodInvoker.TASK_CONTEXT.set(null);
+      }
+    }
+    return promise;
+  }
+
+  private void handleEncodedRequest(RestRequest request, DataMap entity,
+    SettablePromise<IndividualResponseWithCookies> promise)
+  {
+    if (entity != null)
+    {
+      try
+      {
+        request = request.builder().setEntity(DataMapConverter.dataMapToByteString(request.getHeaders(), entity)).build();
+      }
+      catch (MimeTypeParseException | IOException e)
+      {
+        promise.done(IndividualResponseConversionTask.toErrorIndividualResponse(new IndividualResponseException(
+          HttpStatus.S_400_BAD_REQUEST, "Invalid request body for request id=" + _individualRequestId, e,
+          _errorResponseBuilder), _errorResponseBuilder));
+        return;
+      }
+    }
+
+    _requestHandler.handleRequest(request, _requestContext, new Callback<RestResponse>()
+    {
+      @Override
+      public void onError(Throwable e)
+      {
+        promise.done(toErrorIndividualResponse(e));
+      }
+
+      @Override
+      public void onSuccess(RestResponse result)
+      {
+        promise.done(IndividualResponseConversionTask.toIndividualResponseWithCookies(_individualRequestId, result,
+          _errorResponseBuilder));
+      }
+    });
+  }
+
+  private IndividualResponseWithCookies toErrorIndividualResponse(Throwable e)
+  {
+    if (e instanceof RestLiResponseException)
+    {
+      return toIndividualResponse(((RestLiResponseException) e).getRestLiResponse(), true);
+    }
+    else if (e instanceof RestException)
+    {
+      // Errors raised before the request is routed, such as an unknown resource, carry an encoded response.
+      return IndividualResponseConversionTask.toIndividualResponseWithCookies(_individualRequestId,
+        ((RestException) e).getResponse(), _errorResponseBuilder);
+    }
+    return IndividualResponseConversionTask.toErrorIndividualResponse(e, _errorResponseBuilder);
+  }
+
+  private static IndividualResponseWithCookies toIndividualResponse(RestLiResponse restLiResponse, boolean isError)
+  {
+    HttpStatus status = restLiResponse.getStatus() == null ? HttpStatus.S_500_INTERNAL_SERVER_ERROR : restLiResponse.getStatus();
+    IndividualResponse individualResponse = new IndividualResponse();
+    individualResponse.setStatus(status.getCode());
+    individualResponse.setHeaders(new StringMap(restLiResponse.getHeaders()));
+    // Error responses without content do not carry an entity, as in ResponseUtils#buildRestException.
+    if (restLiResponse.hasData() && !(isError && status == HttpStatus.S_204_NO_CONTENT))
+    {
+      individualResponse.setBody(new IndividualBody(restLiResponse.getDataMap()));
+    }
+    return new IndividualResponseWithCookies(individualResponse, CookieUtil.encodeSetCookies(restLiResponse.getCookies()));
+  }
+}
@@ -62,23 +62,32 @@ import javax.activation.MimeTypeParseException;
       return Promises.value(toErrorIndividualResponse(_restResponse.getError(), _errorResponseBuilder));
     }
 
+    return Promises.value(toIndividualResponseWithCookies(_restResponseId, _restResponse.get(), _errorResponseBuilder));
+  }
+
+  /**
+   * Converts the given RestResponse to an IndividualResponseWithCookies. Any failure to convert is converted into an
+   * error IndividualResponse.
+   */
+  /* package private */ static IndividualResponseWithCookies toIndividualResponseWithCookies(String restResponseId,
+    RestResponse restResponse, ErrorResponseBuilder errorResponseBuilder)
+  {
     try
     {
-      RestResponse restResponse = _restResponse.get();
-      IndividualResponse response = toIndividualResponse(_restResponseId, restResponse);
-      return Promises.value(new IndividualResponseWithCookies(response, restResponse.getCookies()));
+      IndividualResponse response = toIndividualResponse(restResponseId, restResponse);
+      return new IndividualResponseWithCookies(response, restResponse.getCookies());
     }
     catch (MimeTypeParseException e)
     {
-      return Promises.value(createInternalServerErrorResponse("Invalid content type for individual response: " + _restResponseId, _errorResponseBuilder));
+      return createInternalServerErrorResponse("Invalid content type for individual response: " + restResponseId, errorResponseBuilder);
     }
     catch (IOException e)
     {
-      return Promises.value(createInternalServerErrorResponse("Unable to set body for individual response: " + _restResponseId, _errorResponseBuilder));
+      return createInternalServerErrorResponse("Unable to set body for individual response: " + restResponseId, errorResponseBuilder);
     }
     catch(Exception e)
     {
-      return Promises.value(toErrorIndividualResponse(e, _errorResponseBuilder));
+      return toErrorIndividualResponse(e, errorResponseBuilder);
     }
   }
 
@@ -101,7 +110,7 @@ import javax.activation.MimeTypeParseException;
     return new IndividualResponseWithCookies(IndividualResponseException.createInternalServerErrorIndividualResponse(message, errorResponseBuilder));
   }
 
-  private static IndividualResponseWithCookies toErrorIndividualResponse(Throwable error, ErrorResponseBuilder errorResponseBuilder)
+  /* package private */ static IndividualResponseWithCookies toErrorIndividualResponse(Throwable error, ErrorResponseBuilder errorResponseBuilder)
   {
     // There can only be two types of errors at this stage. If any previous task failed "gracefully", it should
     // return an IndividualResponseException. Any other type of exception will be treated as unexpected error and will
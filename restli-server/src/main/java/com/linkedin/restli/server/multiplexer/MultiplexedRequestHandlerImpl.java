@@ -75,6 +75,7 @@ public class MultiplexedRequestHandlerImpl implements MultiplexedRequestHandler
   private final Set<String> _individualRequestHeaderWhitelist;
   private final MultiplexerRunMode _multiplexerRunMode;
   private final ErrorResponseBuilder _errorResponseBuilder;
+  private final InProcessRequestHandler _inProcessRequestHandler;
 
   /**
    * @param requestHandler        the handler that will take care of individual requests
@@ -92,6 +93,31 @@ public class MultiplexedRequestHandlerImpl implements MultiplexedRequestHandler
                                        MultiplexerSingletonFilter multiplexerSingletonFilter,
                                        MultiplexerRunMode multiplexerRunMode,
                                        ErrorResponseBuilder errorResponseBuilder)
+  {
+    this(requestHandler, engine, maximumRequestsNumber, individualRequestHeaderWhitelist, multiplexerSingletonFilter,
+        multiplexerRunMode, errorResponseBuilder, null);
+  }
+
+  /**
+   * @param requestHandler        the handler that will take care of individual requests
+   * @param engine                ParSeq engine to run request handling on
+   * @param maximumRequestsNumber the maximum number of individual requests allowed in a multiplexed request
+   * @param individualRequestHeaderWhitelist a set of request header names to allow if specified in the individual request
+   * @param multiplexerSingletonFilter the singleton filter that is used by multiplexer to pre-process individual request and
+   *                                   post-process individual response. Pass in null if no pre-processing or post-processing are required.
+   * @param multiplexerRunMode    MultiplexedRequest run mode, see {@link MultiplexerRunMode}
+   * @param inProcessRequestHandler the handler that will take care of individual requests without encoding their bodies,
+   *                                see {@link InProcessRequestHandler}. Pass in null to always dispatch individual requests
+   *                                to the requestHandler as encoded requests.
+   */
+  public MultiplexedRequestHandlerImpl(RestRequestHandler requestHandler,
+                                       Engine engine,
+                                       int maximumRequestsNumber,
+                                       Set<String> individualRequestHeaderWhitelist,
+                                       MultiplexerSingletonFilter multiplexerSingletonFilter,
+                                       MultiplexerRunMode multiplexerRunMode,
+                                       ErrorResponseBuilder errorResponseBuilder,
+                                       InProcessRequestHandler inProcessRequestHandler)
   {
     _requestHandler = requestHandler;
     _engine = engine;
@@ -104,6 +130,7 @@ public class MultiplexedRequestHandlerImpl implements MultiplexedRequestHandler
     _multiplexerSingletonFilter = multiplexerSingletonFilter;
     _multiplexerRunMode = multiplexerRunMode;
     _errorResponseBuilder = errorResponseBuilder;
+    _inProcessRequestHandler = inProcessRequestHandler;
   }
 
   @Override
@@ -256,16 +283,25 @@ public class MultiplexedRequestHandlerImpl implements MultiplexedRequestHandler
     final RequestSanitizationTask requestSanitizationTask = new RequestSanitizationTask(individualRequest, _individualRequestHeaderWhitelist, _errorResponseBuilder);
     final InheritEnvelopeRequestTask inheritEnvelopeRequestTask = new InheritEnvelopeRequestTask(envelopeRequest, requestSanitizationTask);
     final RequestFilterTask requestFilterTask = new RequestFilterTask(_multiplexerSingletonFilter, _errorResponseBuilder, inheritEnvelopeRequestTask);
+    if (_inProcessRequestHandler != null)
+    {
+      final SyntheticRequestCreationTask syntheticRequestCreationTask = new SyntheticRequestCreationTask(id, envelopeRequest, _errorResponseBuilder, requestFilterTask, false);
+      final InProcessRequestHandlingTask inProcessRequestHandlingTask = new InProcessRequestHandlingTask(id, _requestHandler, _inProcessRequestHandler,
+          requestFilterTask, syntheticRequestCreationTask, requestContext, _multiplexerRunMode, _errorResponseBuilder);
+      final ResponseFilterTask responseFilterTask = new ResponseFilterTask(_multiplexerSingletonFilter, _errorResponseBuilder, inProcessRequestHandlingTask);
+      return Tasks.seq(
+        requestSanitizationTask,
+        inheritEnvelopeRequestTask,
+        requestFilterTask,
+        syntheticRequestCreationTask,
+        inProcessRequestHandlingTask,
+        responseFilterTask,
+        createAddResponseTask(id, individualResponses, responseCookies, responseFilterTask));
+    }
     final SyntheticRequestCreationTask syntheticRequestCreationTask = new SyntheticRequestCreationTask(id, envelopeRequest, _errorResponseBuilder, requestFilterTask);
     final RequestHandlingTask requestHandlingTask = new RequestHandlingTask(_requestHandler, syntheticRequestCreationTask, requestContext, _multiplexerRunMode);
     final IndividualResponseConversionTask toIndividualResponseTask = new IndividualResponseConversionTask(id, _errorResponseBuilder, requestHandlingTask);
     final ResponseFilterTask responseFilterTask = new ResponseFilterTask(_multiplexerSingletonFilter, _errorResponseBuilder, toIndividualResponseTask);
-    final Task<Void> addResponseTask = Task.action("add response", () ->
-      {
-        IndividualResponseWithCookies individualResponseWithCookies = responseFilterTask.get();
-        individualResponses.put(id, individualResponseWithCookies.getIndividualResponse());
-        addResponseCookies(responseCookies, individualResponseWithCookies.getCookies());
-      });
     return Tasks.seq(
       requestSanitizationTask,
       inheritEnvelopeRequestTask,
@@ -274,7 +310,20 @@ public class MultiplexedRequestHandlerImpl implements MultiplexedRequestHandler
       requestHandlingTask,
       toIndividualResponseTask,
       responseFilterTask,
-      addResponseTask);
+      createAddResponseTask(id, individualResponses, responseCookies, responseFilterTask));
+  }
+
+  private static Task<Void> createAddResponseTask(final String id,
+                                                  final IndividualResponseMap individualResponses,
+                                                  final Map<String, HttpCookie> responseCookies,
+                                                  final ResponseFilterTask responseFilterTask)
+  {
+    return Task.action("add response", () ->
+      {
+        IndividualResponseWithCookies individualResponseWithCookies = responseFilterTask.get();
+        individualResponses.put(id, individualResponseWithCookies.getIndividualResponse());
+        addResponseCookies(responseCookies, individualResponseWithCookies.getCookies());
+      });
   }
 
   private static void addResponseCookies(Map<String, HttpCookie> responseCookies, List<String> setCookieHeaders)
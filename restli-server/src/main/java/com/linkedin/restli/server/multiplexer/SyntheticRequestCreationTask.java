@@ -41,6 +41,9 @@ import javax.activation.MimeTypeParseException;
 /**
  * A task responsible for converting an IndividualRequest into a RestRequest and inherit cookies from the envelope request
  *
+ * If the request is dispatched in process, the body of the IndividualRequest is not encoded into the RestRequest, but
+ * its content type is still validated.
+ *
  * This task will catch all known failures and fail the task with an {@link IndividualResponseException}.
  * The task can fail immediately if the previous task failed. Any other unexpected exception can also cause the task to fail.
  *
@@ -52,14 +55,22 @@ import javax.activation.MimeTypeParseException;
   private final ErrorResponseBuilder _errorResponseBuilder;
   private final BaseTask<IndividualRequest> _individualRequest;
   private final String _individualRequestId;
+  private final boolean _encodeEntity;
 
   /* package private */ SyntheticRequestCreationTask(String individualRequestId, RestRequest envelopeRequest,
     ErrorResponseBuilder errorResponseBuilder, BaseTask<IndividualRequest> individualRequest)
+  {
+    this(individualRequestId, envelopeRequest, errorResponseBuilder, individualRequest, true);
+  }
+
+  /* package private */ SyntheticRequestCreationTask(String individualRequestId, RestRequest envelopeRequest,
+    ErrorResponseBuilder errorResponseBuilder, BaseTask<IndividualRequest> individualRequest, boolean encodeEntity)
   {
     _individualRequestId = individualRequestId;
     _envelopeRequest = envelopeRequest;
     _errorResponseBuilder = errorResponseBuilder;
     _individualRequest = individualRequest;
+    _encodeEntity = encodeEntity;
   }
 
   @Override
@@ -72,7 +83,7 @@ import javax.activation.MimeTypeParseException;
 
     try
     {
-      return Promises.value(createSyntheticRequest(_envelopeRequest, _individualRequest.get()));
+      return Promises.value(createSyntheticRequest(_envelopeRequest, _individualRequest.get(), _encodeEntity));
     }
     catch (MimeTypeParseException e)
     {
@@ -90,10 +101,19 @@ import javax.activation.MimeTypeParseException;
     }
   }
 
-  private static RestRequest createSyntheticRequest(RestRequest envelopeRequest, IndividualRequest individualRequest) throws MimeTypeParseException, IOException
+  private static RestRequest createSyntheticRequest(RestRequest envelopeRequest, IndividualRequest individualRequest,
+    boolean encodeEntity) throws MimeTypeParseException, IOException
   {
     URI uri = URI.create(individualRequest.getRelativeUrl());
-    ByteString entity = getBodyAsByteString(individualRequest);
+    ByteString entity = ByteString.empty();
+    if (encodeEntity)
+    {
+      entity = getBodyAsByteString(individualRequest);
+    }
+    else
+    {
+      validateBodyContentType(individualRequest);
+    }
 
     //
     // For mux, remove accept header, and use the default accept type aka JSON for the individual requests. If we don't
@@ -120,4 +140,12 @@ import javax.activation.MimeTypeParseException;
     }
     return entity;
   }
+
+  private static void validateBodyContentType(IndividualRequest individualRequest) throws MimeTypeParseException
+  {
+    if (individualRequest.getBody(GetMode.NULL) != null)
+    {
+      DataMapConverter.getContentType(individualRequest.getHeaders());
+    }
+  }
 }
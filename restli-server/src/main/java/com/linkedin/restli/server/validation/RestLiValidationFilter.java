@@ -53,12 +53,14 @@ import com.linkedin.restli.server.filter.Filter;
 import com.linkedin.restli.server.filter.FilterRequestContext;
 import com.linkedin.restli.server.filter.FilterResponseContext;
 import com.linkedin.restli.server.util.UnstructuredDataUtil;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -85,6 +87,10 @@ public class RestLiValidationFilter implements Filter
   // silently classified as client errors.
   private final boolean _invalidProjectionAs5xx;
 
+  // Request validators only depend on the resource and the method, and build their schema validators once, so they
+  // are shared by all requests to the same resource method.
+  private final Map<List<Object>, RestLiDataValidator> _requestValidators = new ConcurrentHashMap<>();
+
   public RestLiValidationFilter()
   {
     this(Collections.emptyList());
@@ -527,8 +533,11 @@ public class RestLiValidationFilter implements Filter
    */
   protected RestLiDataValidator createRequestRestLiDataValidator(FilterRequestContext requestContext)
   {
-    return new RestLiDataValidator(requestContext.getFilterResourceModel().getResourceClass().getAnnotations(),
-        requestContext.getFilterResourceModel().getValueClass(), requestContext.getMethodType());
+    Class<?> resourceClass = requestContext.getFilterResourceModel().getResourceClass();
+    Class<? extends RecordTemplate> valueClass = requestContext.getFilterResourceModel().getValueClass();
+    ResourceMethod method = requestContext.getMethodType();
+    return _requestValidators.computeIfAbsent(Arrays.asList(resourceClass, valueClass, method),
+        key -> new RestLiDataValidator(resourceClass.getAnnotations(), valueClass, method));
   }
 
   /**
@@ -0,0 +1,203 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.internal.server;
+
+import com.linkedin.restli.common.HttpStatus;
+import com.linkedin.restli.server.RequestPriority;
+import com.linkedin.restli.server.RestLiServiceException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static com.linkedin.restli.internal.server.ResourceMethodBulkhead.NO_DEADLINE;
+
+
+public class TestResourceMethodBulkhead
+{
+  private ScheduledExecutorService _scheduler;
+
+  @BeforeClass
+  public void setUp()
+  {
+    _scheduler = Executors.newSingleThreadScheduledExecutor();
+  }
+
+  @AfterClass
+  public void tearDown()
+  {
+    _scheduler.shutdownNow();
+  }
+
+  @Test
+  public void testQueuedRequestsAreAdmittedByPriority()
+  {
+    ResourceMethodBulkhead bulkhead = new ResourceMethodBulkhead("test", 1, 10, Runnable::run, _scheduler);
+    List<String> events = new ArrayList<>();
+
+    Assert.assertTrue(bulkhead.acquireOrQueue(RequestPriority.NORMAL, NO_DEADLINE, () -> events.add("first"), e -> events.add("error")));
+    Assert.assertFalse(bulkhead.acquireOrQueue(RequestPriority.LOW, NO_DEADLINE, () -> events.add("low"), e -> events.add("error")));
+    Assert.assertFalse(bulkhead.acquireOrQueue(RequestPriority.NORMAL, NO_DEADLINE, () -> events.add("normal1"), e -> events.add("error")));
+    Assert.assertFalse(bulkhead.acquireOrQueue(RequestPriority.HIGH, NO_DEADLINE, () -> events.add("high"), e -> events.add("error")));
+    Assert.assertFalse(bulkhead.acquireOrQueue(RequestPriority.NORMAL, NO_DEADLINE, () -> events.add("normal2"), e -> events.add("error")));
+    Assert.assertEquals(bulkhead.getActiveRequests(), 1);
+    Assert.assertEquals(bulkhead.getQueuedRequests(), 4);
+
+    for (int i = 0; i < 4; i++)
+    {
+      bulkhead.release();
+      Assert.assertEquals(bulkhead.getActiveRequests(), 1);
+    }
+    bulkhead.release();
+
+    Assert.assertEquals(events, Arrays.asList("high", "normal1", "normal2", "low"));
+    Assert.assertEquals(bulkhead.getActiveRequests(), 0);
+    Assert.assertEquals(bulkhead.getQueuedRequests(), 0);
+  }
+
+  @Test
+  public void testFullQueueRejectsLowestPriority()
+  {
+    ResourceMethodBulkhead bulkhead = new ResourceMethodBulkhead("test", 1, 1, Runnable::run, _scheduler);
+    List<RestLiServiceException> rejected = new ArrayList<>();
+    List<String> admitted = new ArrayList<>();
+
+    Assert.assertTrue(bulkhead.acquireOrQueue(RequestPriority.NORMAL, NO_DEADLINE, () -> admitted.add("first"), rejected::add));
+    Assert.assertFalse(bulkhead.acquireOrQueue(RequestPriority.NORMAL, NO_DEADLINE, () -> admitted.add("normal"), rejected::add));
+
+    // A request of the same priority does not displace a queued one.
+    Assert.assertFalse(bulkhead.acquireOrQueue(RequestPriority.NORMAL, NO_DEADLINE, () -> admitted.add("normal2"), rejected::add));
+    Assert.assertEquals(rejected.size(), 1);
+    Assert.assertEquals(rejected.get(0).getStatus(), HttpStatus.S_503_SERVICE_UNAVAILABLE);
+
+    // A request of higher priority takes the place of the last queued request.
+    Assert.assertFalse(bulkhead.acquireOrQueue(RequestPriority.HIGH, NO_DEADLINE, () -> admitted.add("high"), rejected::add));
+    Assert.assertEquals(rejected.size(), 2);
+    Assert.assertEquals(bulkhead.getQueuedRequests(), 1);
+
+    bulkhead.release();
+    Assert.assertEquals(admitted, Arrays.asList("high"));
+  }
+
+  @Test
+  public void testNoQueue()
+  {
+    ResourceMethodBulkhead bulkhead = new ResourceMethodBulkhead("test", 2, 0, Runnable::run, _scheduler);
+    List<RestLiServiceException> rejected = new ArrayList<>();
+
+    Assert.assertTrue(bulkhead.acquireOrQueue(RequestPriority.LOW, NO_DEADLINE, Assert::fail, rejected::add));
+    Assert.assertTrue(bulkhead.acquireOrQueue(RequestPriority.LOW, NO_DEADLINE, Assert::fail, rejected::add));
+    Assert.assertFalse(bulkhead.acquireOrQueue(RequestPriority.HIGH, NO_DEADLINE, Assert::fail, rejected::add));
+    Assert.assertEquals(rejected.size(), 1);
+
+    bulkhead.release();
+    Assert.assertTrue(bulkhead.acquireOrQueue(RequestPriority.HIGH, NO_DEADLINE, Assert::fail, rejected::add));
+  }
+
+  @Test
+  public void testQueuedRequestIsRejectedAtItsDeadline() throws InterruptedException
+  {
+    ResourceMethodBulkhead bulkhead = new ResourceMethodBulkhead("test", 1, 10, Runnable::run, _scheduler);
+    List<String> events = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch rejected = new CountDownLatch(1);
+
+    Assert.assertTrue(bulkhead.acquireOrQueue(RequestPriority.NORMAL, NO_DEADLINE, () -> events.add("first"), e -> events.add("error")));
+    Assert.assertFalse(bulkhead.acquireOrQueue(RequestPriority.HIGH, TimeUnit.MILLISECONDS.toNanos(10),
+        () -> events.add("expired"), e ->
+        {
+          events.add("rejected " + e.getStatus().getCode());
+          rejected.countDown();
+        }));
+    Assert.assertFalse(bulkhead.acquireOrQueue(RequestPriority.NORMAL, NO_DEADLINE, () -> events.add("waiting"), e -> events.add("error")));
+
+    // The deadline is enforced while the first request still holds the permit.
+    Assert.assertTrue(rejected.await(5, TimeUnit.SECONDS));
+    Assert.assertEquals(bulkhead.getQueuedRequests(), 1);
+
+    bulkhead.release();
+    Assert.assertEquals(events, Arrays.asList("rejected 503", "waiting"));
+    Assert.assertEquals(bulkhead.getActiveRequests(), 1);
+  }
+
+  @Test
+  public void testRequestWithoutTimeLeftIsRejected()
+  {
+    ResourceMethodBulkhead bulkhead = new ResourceMethodBulkhead("test", 1, 10, Runnable::run, _scheduler);
+    List<RestLiServiceException> rejected = new ArrayList<>();
+
+    Assert.assertTrue(bulkhead.acquireOrQueue(RequestPriority.NORMAL, NO_DEADLINE, Assert::fail, rejected::add));
+    Assert.assertFalse(bulkhead.acquireOrQueue(RequestPriority.HIGH, -1, Assert::fail, rejected::add));
+    Assert.assertEquals(rejected.size(), 1);
+    Assert.assertEquals(rejected.get(0).getStatus(), HttpStatus.S_503_SERVICE_UNAVAILABLE);
+    Assert.assertEquals(bulkhead.getQueuedRequests(), 0);
+  }
+
+  @Test
+  public void testAdmittedRequestsRunOnExecutor()
+  {
+    List<Runnable> submitted = new ArrayList<>();
+    ResourceMethodBulkhead bulkhead = new ResourceMethodBulkhead("test", 1, 10, submitted::add, _scheduler);
+    List<String> events = new ArrayList<>();
+
+    Assert.assertTrue(bulkhead.acquireOrQueue(RequestPriority.NORMAL, NO_DEADLINE, Assert::fail, e -> Assert.fail("Unexpected rejection", e)));
+    Assert.assertFalse(bulkhead.acquireOrQueue(RequestPriority.NORMAL, NO_DEADLINE, () -> events.add("admitted"),
+        e -> Assert.fail("Unexpected rejection", e)));
+
+    // The releasing thread only hands the permit over.
+    bulkhead.release();
+    Assert.assertTrue(events.isEmpty());
+    Assert.assertEquals(submitted.size(), 1);
+    Assert.assertEquals(bulkhead.getActiveRequests(), 1);
+    Assert.assertEquals(bulkhead.getQueuedRequests(), 0);
+
+    submitted.get(0).run();
+    Assert.assertEquals(events, Arrays.asList("admitted"));
+  }
+
+  @Test
+  public void testAdmittedRequestIsRejectedWhenExecutorIsShutDown()
+  {
+    ResourceMethodBulkhead bulkhead = new ResourceMethodBulkhead("test", 1, 10, command ->
+    {
+      throw new RejectedExecutionException();
+    }, _scheduler);
+    List<RestLiServiceException> rejected = new ArrayList<>();
+
+    Assert.assertTrue(bulkhead.acquireOrQueue(RequestPriority.NORMAL, NO_DEADLINE, Assert::fail, rejected::add));
+    Assert.assertFalse(bulkhead.acquireOrQueue(RequestPriority.NORMAL, NO_DEADLINE, Assert::fail, rejected::add));
+
+    bulkhead.release();
+    Assert.assertEquals(rejected.size(), 1);
+    Assert.assertEquals(rejected.get(0).getStatus(), HttpStatus.S_503_SERVICE_UNAVAILABLE);
+    Assert.assertEquals(bulkhead.getActiveRequests(), 0);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidLimit()
+  {
+    new ResourceMethodBulkhead("test", 0, 10, Runnable::run, _scheduler);
+  }
+}
@@ -0,0 +1,267 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.internal.server;
+
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.restli.common.ConfigValue;
+import com.linkedin.restli.common.HttpStatus;
+import com.linkedin.restli.internal.server.model.ResourceMethodDescriptor;
+import com.linkedin.restli.internal.server.model.ResourceModel;
+import com.linkedin.restli.internal.server.methods.arguments.RestLiArgumentBuilder;
+import com.linkedin.restli.server.RestLiServiceException;
+import com.linkedin.restli.server.config.ResourceMethodConfig;
+import com.linkedin.restli.server.resources.ResourceFactory;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+
+/**
+ * Tests the bulkhead of {@link RestLiMethodInvoker} with a SYNC resource method limited to one concurrent request.
+ */
+public class TestRestLiMethodInvokerBulkhead
+{
+  private static final String EXECUTOR_THREAD = "test-bulkhead-executor";
+  private static final long TIMEOUT_SECONDS = 5;
+
+  private ScheduledExecutorService _bulkheadExecutor;
+  private ResourceMethodDescriptor _descriptor;
+  private RestLiArgumentBuilder _argumentBuilder;
+  private RestLiMethodInvoker _invoker;
+  private Function<Object, Object> _method;
+
+  @BeforeMethod
+  public void setUp() throws Exception
+  {
+    _bulkheadExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, EXECUTOR_THREAD));
+
+    ResourceModel resourceModel = mock(ResourceModel.class);
+    doReturn(Object.class).when(resourceModel).getResourceClass();
+    _descriptor = mock(ResourceMethodDescriptor.class);
+    when(_descriptor.getResourceModel()).thenReturn(resourceModel);
+    when(_descriptor.getInterfaceType()).thenReturn(ResourceMethodDescriptor.InterfaceType.SYNC);
+    // Each request passes its id as the only argument of the method.
+    doAnswer(invocation -> _method.apply(((Object[]) invocation.getArguments()[1])[0]))
+        .when(_descriptor).invoke(any(), any());
+
+    _argumentBuilder = mock(RestLiArgumentBuilder.class);
+    when(_argumentBuilder.buildArguments(any(), any())).thenAnswer(invocation ->
+        new Object[] { ((RoutingResult) invocation.getArguments()[1]).getContext().getRequestHeaders().get("id") });
+
+    ResourceFactory resourceFactory = mock(ResourceFactory.class);
+    when(resourceFactory.create(any())).thenReturn(new Object());
+    _invoker = new RestLiMethodInvoker(resourceFactory, null, null, _bulkheadExecutor);
+  }
+
+  @AfterMethod
+  public void tearDown()
+  {
+    _bulkheadExecutor.shutdownNow();
+  }
+
+  @Test
+  public void testAdmittedRequestRunsOnBulkheadExecutor() throws Exception
+  {
+    CountDownLatch firstRunning = new CountDownLatch(1);
+    CountDownLatch finishFirst = new CountDownLatch(1);
+    CompletableFuture<String> secondThread = new CompletableFuture<>();
+    _method = id ->
+    {
+      if ("first".equals(id))
+      {
+        firstRunning.countDown();
+        await(finishFirst);
+      }
+      else
+      {
+        secondThread.complete(Thread.currentThread().getName());
+      }
+      return id;
+    };
+
+    ResourceMethodConfig config = config(null);
+    Thread first = new Thread(() -> invoke("first", config, System.nanoTime(), mock(RestLiCallback.class)), "test-caller");
+    first.start();
+    Assert.assertTrue(firstRunning.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+    invoke("second", config, System.nanoTime(), mock(RestLiCallback.class));
+    Assert.assertFalse(secondThread.isDone());
+
+    // The second request is not run by the thread that completes the first one.
+    finishFirst.countDown();
+    Assert.assertEquals(secondThread.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), EXECUTOR_THREAD);
+    first.join();
+  }
+
+  @Test
+  public void testPermitIsReleasedBeforeResponseCallback() throws Exception
+  {
+    CountDownLatch firstRunning = new CountDownLatch(1);
+    CountDownLatch finishFirst = new CountDownLatch(1);
+    CountDownLatch secondRunning = new CountDownLatch(1);
+    _method = id ->
+    {
+      if ("first".equals(id))
+      {
+        firstRunning.countDown();
+        await(finishFirst);
+      }
+      else
+      {
+        secondRunning.countDown();
+      }
+      return id;
+    };
+
+    // The response callback of the first request only returns once the second request runs.
+    CompletableFuture<Boolean> secondRanDuringCallback = new CompletableFuture<>();
+    RestLiCallback firstCallback = mock(RestLiCallback.class);
+    doAnswer(invocation ->
+    {
+      secondRanDuringCallback.complete(secondRunning.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+      return null;
+    }).when(firstCallback).onSuccess(any());
+
+    ResourceMethodConfig config = config(null);
+    Thread first = new Thread(() -> invoke("first", config, System.nanoTime(), firstCallback), "test-caller");
+    first.start();
+    Assert.assertTrue(firstRunning.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    invoke("second", config, System.nanoTime(), mock(RestLiCallback.class));
+
+    finishFirst.countDown();
+    Assert.assertTrue(secondRanDuringCallback.get(2 * TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    first.join();
+  }
+
+  @Test
+  public void testQueuedRequestIsRejectedAtDeadline() throws Exception
+  {
+    CountDownLatch firstRunning = new CountDownLatch(1);
+    CountDownLatch finishFirst = new CountDownLatch(1);
+    _method = id ->
+    {
+      if ("first".equals(id))
+      {
+        firstRunning.countDown();
+        await(finishFirst);
+        return id;
+      }
+      throw new AssertionError("Expired request was invoked");
+    };
+
+    ResourceMethodConfig config = config(50L);
+    Thread first = new Thread(() -> invoke("first", config, System.nanoTime(), mock(RestLiCallback.class)), "test-caller");
+    first.start();
+    Assert.assertTrue(firstRunning.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+    CompletableFuture<Throwable> rejection = new CompletableFuture<>();
+    invoke("second", config, System.nanoTime(), rejectionCallback(rejection));
+
+    // The first request still holds the permit when the second one is rejected.
+    assertServiceUnavailable(rejection.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    Assert.assertTrue(first.isAlive());
+
+    finishFirst.countDown();
+    first.join();
+  }
+
+  @Test
+  public void testRequestWithoutTimeLeftIsRejected() throws Exception
+  {
+    CountDownLatch firstRunning = new CountDownLatch(1);
+    CountDownLatch finishFirst = new CountDownLatch(1);
+    _method = id ->
+    {
+      firstRunning.countDown();
+      await(finishFirst);
+      return id;
+    };
+
+    ResourceMethodConfig config = config(50L);
+    Thread first = new Thread(() -> invoke("first", config, System.nanoTime(), mock(RestLiCallback.class)), "test-caller");
+    first.start();
+    Assert.assertTrue(firstRunning.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+    // The timeout is counted from the creation of the request, which spent its whole budget before the bulkhead.
+    CompletableFuture<Throwable> rejection = new CompletableFuture<>();
+    invoke("second", config, System.nanoTime() - TimeUnit.SECONDS.toNanos(1), rejectionCallback(rejection));
+    Assert.assertTrue(rejection.isDone());
+    assertServiceUnavailable(rejection.get());
+
+    finishFirst.countDown();
+    first.join();
+  }
+
+  private void invoke(String id, ResourceMethodConfig config, long createdNanos, RestLiCallback callback)
+  {
+    ServerResourceContext context = mock(ServerResourceContext.class);
+    when(context.getRawRequestContext()).thenReturn(new RequestContext());
+    when(context.getRequestHeaders()).thenReturn(Collections.singletonMap("id", id));
+    when(context.getCreatedNanos()).thenReturn(createdNanos);
+    _invoker.invoke(null, new RoutingResult(context, _descriptor, config), _argumentBuilder, callback);
+  }
+
+  private static ResourceMethodConfig config(Long timeoutMs)
+  {
+    ResourceMethodConfig config = mock(ResourceMethodConfig.class);
+    when(config.getMaxConcurrentRequests()).thenReturn(new ConfigValue<>(1, "test"));
+    when(config.getMaxQueuedRequests()).thenReturn(new ConfigValue<>(10, "test"));
+    when(config.getTimeoutMs()).thenReturn(new ConfigValue<>(timeoutMs, "test"));
+    return config;
+  }
+
+  private static RestLiCallback rejectionCallback(CompletableFuture<Throwable> rejection)
+  {
+    RestLiCallback callback = mock(RestLiCallback.class);
+    doAnswer(invocation -> rejection.complete((Throwable) invocation.getArguments()[0])).when(callback).onError(any());
+    doAnswer(invocation -> rejection.completeExceptionally(new AssertionError("Unexpected success")))
+        .when(callback).onSuccess(any());
+    return callback;
+  }
+
+  private static void assertServiceUnavailable(Throwable e)
+  {
+    Assert.assertTrue(e instanceof RestLiServiceException, String.valueOf(e));
+    Assert.assertEquals(((RestLiServiceException) e).getStatus(), HttpStatus.S_503_SERVICE_UNAVAILABLE);
+  }
+
+  private static void await(CountDownLatch latch)
+  {
+    try
+    {
+      Assert.assertTrue(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+    catch (InterruptedException e)
+    {
+      throw new AssertionError(e);
+    }
+  }
+}
@@ -17,6 +17,7 @@
 package com.linkedin.restli.internal.server;
 
 import com.linkedin.data.DataMap;
+import com.linkedin.r2.filter.R2Constants;
 import com.linkedin.r2.message.RequestContext;
 import com.linkedin.restli.common.EmptyRecord;
 import com.linkedin.restli.common.HttpStatus;
@@ -57,6 +58,21 @@ public class TestRestLiRouter
     Assert.assertNotNull(method);
   }
 
+  @Test
+  public void succeedsOnEncodedRootPathWithTrailingSlash() throws URISyntaxException
+  {
+    final TestSetup setup = new TestSetup();
+    setup.mockContextForRootResourceGetRequest("/ro%6Ft/12345/");
+    final RestLiRouter router = setup._router;
+    final ServerResourceContext context = setup._context;
+
+    final ResourceMethodDescriptor method = router.process(context);
+
+    Assert.assertNotNull(method);
+    Assert.assertEquals(method.getType(), ResourceMethod.GET);
+    Assert.assertNotNull(setup._requestContext.getLocalAttr(R2Constants.OPERATION));
+  }
+
   // ----------------------------------------------------------------------
   // negative cases
   // ----------------------------------------------------------------------
@@ -0,0 +1,119 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.internal.server.model;
+
+import com.linkedin.restli.common.ResourceMethod;
+import java.lang.reflect.InvocationTargetException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+/**
+ * Tests for {@link ResourceMethodDescriptor#invoke(Object, Object[])}.
+ */
+public class TestResourceMethodDescriptor
+{
+  public static class PublicResource
+  {
+    public String get(long id, String suffix)
+    {
+      return id + suffix;
+    }
+
+    public void delete(long id)
+    {
+      throw new IllegalStateException("delete " + id);
+    }
+  }
+
+  private static class NonPublicResource
+  {
+    public String get(long id)
+    {
+      return "nonpublic" + id;
+    }
+  }
+
+  @Test
+  public void testInvoke() throws Exception
+  {
+    ResourceMethodDescriptor get = ResourceMethodDescriptor.createForRestful(ResourceMethod.GET,
+        PublicResource.class.getMethod("get", long.class, String.class), ResourceMethodDescriptor.InterfaceType.SYNC);
+    Assert.assertEquals(get.invoke(new PublicResource(), new Object[] { 1L, "a" }), "1a");
+
+    ResourceMethodDescriptor nonPublic = ResourceMethodDescriptor.createForRestful(ResourceMethod.GET,
+        NonPublicResource.class.getMethod("get", long.class), ResourceMethodDescriptor.InterfaceType.SYNC);
+    Assert.assertEquals(nonPublic.invoke(new NonPublicResource(), new Object[] { 2L }), "nonpublic2");
+  }
+
+  @Test
+  public void testInvokeWrapsExceptions() throws Exception
+  {
+    ResourceMethodDescriptor delete = ResourceMethodDescriptor.createForRestful(ResourceMethod.DELETE,
+        PublicResource.class.getMethod("delete", long.class), ResourceMethodDescriptor.InterfaceType.SYNC);
+    try
+    {
+      delete.invoke(new PublicResource(), new Object[] { 3L });
+      Assert.fail("Expected InvocationTargetException");
+    }
+    catch (InvocationTargetException e)
+    {
+      Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+      Assert.assertEquals(e.getCause().getMessage(), "delete 3");
+    }
+  }
+
+  @Test
+  public void testInvokeWithInvalidArguments() throws Exception
+  {
+    ResourceMethodDescriptor get = ResourceMethodDescriptor.createForRestful(ResourceMethod.GET,
+        PublicResource.class.getMethod("get", long.class, String.class), ResourceMethodDescriptor.InterfaceType.SYNC);
+
+    // primitives are widened as by Method.invoke
+    Assert.assertEquals(get.invoke(new PublicResource(), new Object[] { 1, "a" }), "1a");
+
+    Object[][] invalidArguments = {
+        { 1L },
+        { 1L, "a", "b" },
+        { null, "a" },
+        { "1", "a" },
+        { 1L, 2L }
+    };
+    for (Object[] arguments : invalidArguments)
+    {
+      try
+      {
+        get.invoke(new PublicResource(), arguments);
+        Assert.fail("Expected IllegalArgumentException");
+      }
+      catch (IllegalArgumentException e)
+      {
+        // expected
+      }
+    }
+
+    try
+    {
+      get.invoke(new Object(), new Object[] { 1L, "a" });
+      Assert.fail("Expected IllegalArgumentException");
+    }
+    catch (IllegalArgumentException e)
+    {
+      // expected
+    }
+  }
+}
@@ -0,0 +1,195 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.internal.server.model;
+
+import com.linkedin.restli.internal.server.model.SampleResources.BarResource;
+import com.linkedin.restli.internal.server.model.SampleResources.FooResource1;
+import com.linkedin.restli.server.RestLiConfig;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+/**
+ * Tests for {@link RestLiResourceIndex} and for building resource models from it with {@link RestLiApiBuilder}.
+ */
+public class TestRestLiResourceIndex
+{
+  private File _indexDir;
+
+  @BeforeMethod
+  public void setUp() throws IOException
+  {
+    _indexDir = Files.createTempDirectory("resourceIndex").toFile();
+  }
+
+  @AfterMethod
+  public void tearDown()
+  {
+    delete(_indexDir);
+  }
+
+  @Test
+  public void testWriteMergesWithExistingIndex() throws IOException
+  {
+    File indexFile = RestLiResourceIndex.write(_indexDir, Arrays.asList("com.example.b.BResource", "com.example.a.AResource"));
+    Assert.assertEquals(indexFile, new File(_indexDir, RestLiResourceIndex.RESOURCE_INDEX_PATH));
+    RestLiResourceIndex.write(_indexDir, Collections.singletonList("com.example.c.CResource"));
+
+    Files.write(indexFile.toPath(),
+        "\n  com.example.d.DResource  \n# comment\n".getBytes(StandardCharsets.UTF_8),
+        StandardOpenOption.APPEND);
+
+    Assert.assertEquals(RestLiResourceIndex.read(newClassLoader()), new HashSet<>(Arrays.asList(
+        "com.example.a.AResource", "com.example.b.BResource", "com.example.c.CResource", "com.example.d.DResource")));
+  }
+
+  @Test
+  public void testReadWithoutIndex() throws IOException
+  {
+    Assert.assertTrue(RestLiResourceIndex.read(newClassLoader()).isEmpty());
+  }
+
+  @Test
+  public void testBuildLoadsIndexedClassesOnly() throws IOException
+  {
+    RestLiResourceIndex.write(_indexDir, Arrays.asList(FooResource1.class.getName(), BarResource.class.getName()));
+
+    RestLiConfig config = new RestLiConfig();
+    config.addResourcePackageNames(FooResource1.class.getPackage().getName());
+    config.setResourceIndexEnabled(true);
+
+    // Scanning the package would load every sample resource, several of which clash on their resource name. The
+    // class loader only exposes the index directory, which is not scanned since it ships an index.
+    Map<String, ResourceModel> rootResources = buildWithClassLoader(config, newClassLoader());
+    Assert.assertEquals(rootResources.keySet(), new HashSet<>(Arrays.asList("/foo", "/bar")));
+    Assert.assertEquals(rootResources.get("/foo").getResourceClass(), FooResource1.class);
+    Assert.assertEquals(rootResources.get("/bar").getResourceClass(), BarResource.class);
+  }
+
+  @Test
+  public void testBuildIgnoresIndexOfOtherPackages() throws IOException
+  {
+    RestLiResourceIndex.write(_indexDir, Collections.singletonList(BarResource.class.getName()));
+
+    RestLiConfig config = new RestLiConfig();
+    config.addResourcePackageNames("com.linkedin.restli.internal.server.model.nonexistent");
+    config.setResourceIndexEnabled(true);
+
+    Assert.assertTrue(buildWithClassLoader(config, newClassLoader()).isEmpty());
+  }
+
+  @Test
+  public void testBuildScansRootsWithoutIndex() throws IOException
+  {
+    RestLiResourceIndex.write(_indexDir, Collections.singletonList(FooResource1.class.getName()));
+
+    // a second classpath root without an index, holding a resource class the index does not know about
+    File unindexedDir = Files.createTempDirectory("unindexed").toFile();
+    try
+    {
+      String classFile = BarResource.class.getName().replace('.', '/') + ".class";
+      File copy = new File(unindexedDir, classFile);
+      Files.createDirectories(copy.getParentFile().toPath());
+      try (InputStream in = getClass().getClassLoader().getResourceAsStream(classFile))
+      {
+        Files.copy(in, copy.toPath());
+      }
+
+      RestLiConfig config = new RestLiConfig();
+      config.addResourcePackageNames(FooResource1.class.getPackage().getName());
+      config.setResourceIndexEnabled(true);
+
+      Map<String, ResourceModel> rootResources = buildWithClassLoader(config, newClassLoader(_indexDir, unindexedDir));
+      Assert.assertEquals(rootResources.keySet(), new HashSet<>(Arrays.asList("/foo", "/bar")));
+      Assert.assertEquals(rootResources.get("/foo").getResourceClass(), FooResource1.class);
+      Assert.assertEquals(rootResources.get("/bar").getResourceClass(), BarResource.class);
+    }
+    finally
+    {
+      delete(unindexedDir);
+    }
+  }
+
+  private ClassLoader newClassLoader() throws IOException
+  {
+    return newClassLoader(_indexDir);
+  }
+
+  /**
+   * Creates a class loader that loads classes from its parent, but only exposes resources of the given roots, so that
+   * the test classes directory is neither indexed nor scanned.
+   */
+  private ClassLoader newClassLoader(File... roots) throws IOException
+  {
+    URL[] urls = new URL[roots.length];
+    for (int i = 0; i < roots.length; i++)
+    {
+      urls[i] = roots[i].toURI().toURL();
+    }
+    return new URLClassLoader(urls, getClass().getClassLoader())
+    {
+      @Override
+      public Enumeration<URL> getResources(String name) throws IOException
+      {
+        return findResources(name);
+      }
+    };
+  }
+
+  private static Map<String, ResourceModel> buildWithClassLoader(RestLiConfig config, ClassLoader classLoader)
+  {
+    Thread thread = Thread.currentThread();
+    ClassLoader original = thread.getContextClassLoader();
+    thread.setContextClassLoader(classLoader);
+    try
+    {
+      return new RestLiApiBuilder(config).build();
+    }
+    finally
+    {
+      thread.setContextClassLoader(original);
+    }
+  }
+
+  private static void delete(File file)
+  {
+    File[] children = file.listFiles();
+    if (children != null)
+    {
+      for (File child : children)
+      {
+        delete(child);
+      }
+    }
+    file.delete();
+  }
+}
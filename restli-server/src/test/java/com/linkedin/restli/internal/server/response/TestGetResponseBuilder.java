@@ -18,6 +18,7 @@ package com.linkedin.restli.internal.server.response;
 
 
 import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.JacksonDataCodec;
 import com.linkedin.data.schema.PathSpec;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.data.transform.filter.request.MaskOperation;
@@ -26,6 +27,7 @@ import com.linkedin.pegasus.generator.examples.Foo;
 import com.linkedin.pegasus.generator.examples.Fruits;
 import com.linkedin.r2.message.RequestContext;
 import com.linkedin.restli.common.HttpStatus;
+import com.linkedin.restli.common.RestConstants;
 import com.linkedin.restli.internal.server.RoutingResult;
 import com.linkedin.restli.internal.server.ServerResourceContext;
 import com.linkedin.restli.internal.server.model.ResourceMethodDescriptor;
@@ -33,6 +35,8 @@ import com.linkedin.restli.server.GetResult;
 import com.linkedin.restli.server.ProjectionMode;
 
 import com.linkedin.restli.server.RestLiResponseData;
+import com.linkedin.restli.server.RestLiServiceException;
+import java.io.IOException;
 import java.util.Collections;
 import java.util.Map;
 
@@ -136,6 +140,109 @@ public class TestGetResponseBuilder
     EasyMock.verify(mockContext);
   }
 
+  @Test
+  public void testProjectionDeferredToEncoding() throws IOException
+  {
+    MaskTree maskTree = new MaskTree();
+    maskTree.addOperation(new PathSpec("stringField"), MaskOperation.POSITIVE_MASK_OP);
+
+    ServerResourceContext mockContext = getMockResourceContext(maskTree, ProjectionMode.AUTOMATIC);
+    RoutingResult routingResult = new RoutingResult(mockContext, getMockResourceMethodDescriptor());
+
+    GetResponseBuilder responseBuilder = new GetResponseBuilder();
+    RestLiResponseData<GetResponseEnvelope> responseData = responseBuilder.buildRestLiResponseData(null,
+        routingResult, getRecord(), Collections.emptyMap(), Collections.emptyList());
+    Assert.assertNotNull(responseData.getResponseEnvelope().getDeferredProjection());
+
+    RestLiResponse restLiResponse = responseBuilder.buildResponse(routingResult, responseData);
+    Assert.assertTrue(restLiResponse.hasData());
+    DeferredProjection projection = restLiResponse.getDeferredProjection();
+    Assert.assertNotNull(projection);
+
+    JacksonDataCodec codec = new JacksonDataCodec();
+    Assert.assertEquals(codec.readMap(projection.encode(codec)), getProjectedRecord().data());
+
+    // Accessing the entity materializes the projection.
+    Assert.assertEquals(restLiResponse.getEntity(), getProjectedRecord());
+    Assert.assertNull(restLiResponse.getDeferredProjection());
+
+    EasyMock.verify(mockContext);
+  }
+
+  @Test
+  public void testProjectionMaterializedBeforeEncoding()
+  {
+    MaskTree maskTree = new MaskTree();
+    maskTree.addOperation(new PathSpec("stringField"), MaskOperation.POSITIVE_MASK_OP);
+
+    ServerResourceContext mockContext = getMockResourceContext(maskTree, ProjectionMode.AUTOMATIC);
+    RoutingResult routingResult = new RoutingResult(mockContext, getMockResourceMethodDescriptor());
+
+    GetResponseBuilder responseBuilder = new GetResponseBuilder();
+    RestLiResponseData<GetResponseEnvelope> responseData = responseBuilder.buildRestLiResponseData(null,
+        routingResult, getRecord(), Collections.emptyMap(), Collections.emptyList());
+
+    // A response filter that reads and modifies the record sees the projected record, and its changes are kept.
+    RecordTemplate record = responseData.getResponseEnvelope().getRecord();
+    Assert.assertEquals(record, getProjectedRecord());
+    record.data().put("intField", 1);
+    Assert.assertNull(responseData.getResponseEnvelope().getDeferredProjection());
+
+    RestLiResponse restLiResponse = responseBuilder.buildResponse(routingResult, responseData);
+    Assert.assertNull(restLiResponse.getDeferredProjection());
+    Assert.assertEquals(restLiResponse.getDataMap().get("intField"), 1);
+
+    EasyMock.verify(mockContext);
+  }
+
+  @Test
+  public void testInvalidProjectionFailsWithServiceException()
+  {
+    // A complex mask on a primitive field only fails once the projection is applied.
+    MaskTree maskTree = new MaskTree();
+    maskTree.addOperation(new PathSpec("stringField", "x"), MaskOperation.POSITIVE_MASK_OP);
+
+    ServerResourceContext mockContext = getMockResourceContext(maskTree, ProjectionMode.AUTOMATIC);
+    RoutingResult routingResult = new RoutingResult(mockContext, getMockResourceMethodDescriptor());
+
+    GetResponseBuilder responseBuilder = new GetResponseBuilder();
+    RestLiResponseData<GetResponseEnvelope> responseData = responseBuilder.buildRestLiResponseData(null,
+        routingResult, getRecord(), Collections.emptyMap(), Collections.emptyList());
+    RestLiResponse restLiResponse = responseBuilder.buildResponse(routingResult, responseData);
+
+    RestLiServiceException encodingError = null;
+    try
+    {
+      restLiResponse.getDeferredProjection().encode(new JacksonDataCodec());
+      Assert.fail("Expected the projection to fail");
+    }
+    catch (RestLiServiceException e)
+    {
+      encodingError = e;
+    }
+    Assert.assertEquals(encodingError.getStatus(), HttpStatus.S_500_INTERNAL_SERVER_ERROR);
+
+    try
+    {
+      restLiResponse.getEntity();
+      Assert.fail("Expected the projection to fail");
+    }
+    catch (RestLiServiceException e)
+    {
+      Assert.assertEquals(e.getStatus(), HttpStatus.S_500_INTERNAL_SERVER_ERROR);
+    }
+
+    // The response callbacks replace the response with an error response.
+    RestLiResponse errorResponse = ResponseUtils.buildEncodingError(encodingError, restLiResponse,
+        new ErrorResponseBuilder()).getRestLiResponse();
+    Assert.assertEquals(errorResponse.getStatus(), HttpStatus.S_500_INTERNAL_SERVER_ERROR);
+    Assert.assertEquals(errorResponse.getHeader(RestConstants.HEADER_LINKEDIN_ERROR_RESPONSE),
+        RestConstants.HEADER_VALUE_ERROR);
+    Assert.assertEquals(errorResponse.getDataMap().getInteger("status"), Integer.valueOf(500));
+
+    EasyMock.verify(mockContext);
+  }
+
   private static ResourceMethodDescriptor getMockResourceMethodDescriptor()
   {
     ResourceMethodDescriptor mockDescriptor = EasyMock.createMock(ResourceMethodDescriptor.class);
@@ -15,21 +15,32 @@
 */
 package com.linkedin.restli.internal.server.response;
 
+import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
+import com.linkedin.data.schema.ArrayDataSchema;
 import com.linkedin.data.schema.DataSchema;
+import com.linkedin.data.schema.RecordDataSchema;
 import com.linkedin.data.schema.SchemaFormatType;
 import com.linkedin.data.schema.generator.AbstractGenerator;
 import com.linkedin.data.schema.resolver.MultiFormatDataSchemaResolver;
 import com.linkedin.data.template.DataTemplateUtil;
 import com.linkedin.r2.message.stream.StreamException;
+import com.linkedin.restli.common.CollectionResponse;
 import com.linkedin.restli.common.ContentType;
+import com.linkedin.restli.common.ErrorResponse;
 import com.linkedin.restli.common.HttpStatus;
+import com.linkedin.restli.common.ResourceMethod;
 import com.linkedin.restli.common.RestConstants;
+import com.linkedin.restli.internal.server.RoutingResult;
+import com.linkedin.restli.internal.server.model.ResourceMethodDescriptor;
+import com.linkedin.restli.internal.server.model.ResourceModel;
 import com.linkedin.restli.internal.server.util.DataMapUtils;
 import com.linkedin.restli.server.TestRecord;
 import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import org.testng.Assert;
 import org.testng.annotations.AfterTest;
 import org.testng.annotations.BeforeTest;
@@ -37,6 +48,8 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import org.testng.reporters.Files;
 
+import static org.mockito.Mockito.*;
+
 
 public class TestResponseUtils
 {
@@ -90,6 +103,90 @@ public class TestResponseUtils
     }
   }
 
+  @Test
+  public void testFillInDataDefaultCopiesOnWrite() throws Exception
+  {
+    MultiFormatDataSchemaResolver schemaResolver = MultiFormatDataSchemaResolver.withBuiltinFormats(resolverDir);
+    DataSchema schema = DataTemplateUtil.parseSchema(Files.readFile(new File(pegasusDir + FS + "Bar.pdl")),
+        schemaResolver, SchemaFormatType.PDL);
+
+    DataMap complete = new DataMap(Collections.singletonMap("f1", 1));
+    DataMap incomplete = new DataMap();
+    DataList array = new DataList(Arrays.asList(complete, incomplete));
+    DataMap map = new DataMap(Collections.singletonMap("a", complete));
+    DataMap input = new DataMap();
+    input.put("b1", complete);
+    input.put("b3", complete);
+    input.put("b4", array);
+    input.put("b5", map);
+    DataMap expectedInput = input.copy();
+
+    DataMap result = (DataMap) ResponseUtils.fillInDataDefault(schema, input);
+
+    Assert.assertEquals(input, expectedInput);
+    Assert.assertNotSame(result, input);
+    Assert.assertSame(result.get("b1"), complete);
+    Assert.assertSame(result.get("b3"), complete);
+    Assert.assertSame(result.get("b5"), map);
+    DataList resultArray = (DataList) result.get("b4");
+    Assert.assertNotSame(resultArray, array);
+    Assert.assertSame(resultArray.get(0), complete);
+    Assert.assertEquals(resultArray.get(1), new DataMap(Collections.singletonMap("f1", 5)));
+
+    // Only the root of data that needs no defaults is copied, so that it can be written to.
+    result.makeReadOnly();
+    DataMap refilled = (DataMap) ResponseUtils.fillInDataDefault(schema, result);
+    Assert.assertNotSame(refilled, result);
+    Assert.assertEquals(refilled, result);
+    Assert.assertSame(refilled.get("b4"), result.get("b4"));
+    refilled.put(RestConstants.METADATA_RESERVED_FIELD, new DataMap());
+    Assert.assertFalse(result.containsKey(RestConstants.METADATA_RESERVED_FIELD));
+    DataSchema noDefaults = DataTemplateUtil.parseSchema(
+        "{ \"type\" : \"record\", \"name\" : \"NoDefaults\", \"fields\" : "
+            + "[ { \"name\" : \"values\", \"type\" : { \"type\" : \"array\", \"items\" : \"string\" } } ] }");
+    DataMap unfilled = (DataMap) ResponseUtils.fillInDataDefault(noDefaults, input);
+    Assert.assertNotSame(unfilled, input);
+    Assert.assertEquals(unfilled, input);
+    DataSchema valuesSchema = ((RecordDataSchema) noDefaults).getField("values").getType();
+    DataList values = new DataList();
+    Assert.assertSame(ResponseUtils.fillInDataDefault(valuesSchema, values), values);
+  }
+
+  @Test
+  public void testGetEntitySchema()
+  {
+    ResourceModel resourceModel = mock(ResourceModel.class);
+    doReturn(TestRecord.class).when(resourceModel).getValueClass();
+    ResourceMethodDescriptor resourceMethod = mock(ResourceMethodDescriptor.class);
+    when(resourceMethod.getResourceModel()).thenReturn(resourceModel);
+    RoutingResult routingResult = mock(RoutingResult.class);
+    when(routingResult.getResourceMethod()).thenReturn(resourceMethod);
+    RestLiResponse response = new RestLiResponse.Builder().entity(new TestRecord()).headers(new HashMap<>()).build();
+
+    when(resourceMethod.getType()).thenReturn(ResourceMethod.GET);
+    Assert.assertSame(ResponseUtils.getEntitySchema(routingResult, response), DataTemplateUtil.getSchema(TestRecord.class));
+
+    when(resourceMethod.getType()).thenReturn(ResourceMethod.FINDER);
+    RecordDataSchema collectionSchema = ResponseUtils.getEntitySchema(routingResult, response);
+    Assert.assertNotNull(collectionSchema);
+    Assert.assertSame(((ArrayDataSchema) collectionSchema.getField(CollectionResponse.ELEMENTS).getType()).getItems(),
+        DataTemplateUtil.getSchema(TestRecord.class));
+    Assert.assertNotNull(collectionSchema.getField(CollectionResponse.PAGING));
+    when(resourceMethod.getType()).thenReturn(ResourceMethod.GET_ALL);
+    Assert.assertSame(ResponseUtils.getEntitySchema(routingResult, response), collectionSchema);
+
+    when(resourceMethod.getType()).thenReturn(ResourceMethod.BATCH_GET);
+    Assert.assertNull(ResponseUtils.getEntitySchema(routingResult, response));
+
+    when(resourceMethod.getType()).thenReturn(ResourceMethod.GET);
+    RestLiResponse errorResponse = new RestLiResponse.Builder()
+        .status(HttpStatus.S_500_INTERNAL_SERVER_ERROR)
+        .entity(new ErrorResponse())
+        .headers(new HashMap<>())
+        .build();
+    Assert.assertNull(ResponseUtils.getEntitySchema(routingResult, errorResponse));
+  }
+
   @Test
   public void testContentTypeHeaderForStreamException()
   {
@@ -72,4 +72,27 @@ public class TestResourceMethodConfigProvider
     ResourceMethodConfig rmc = provider.apply(methodDescriptor);
     assertEquals(rmc.getTimeoutMs().getValue(), timeout);
   }
+
+  @Test
+  public void testBulkheadConfig() throws NoSuchMethodException
+  {
+    ResourceMethodConfigProvider provider = ResourceMethodConfigProvider.build(new RestLiMethodConfigBuilder()
+        .addMaxConcurrentRequests("*.*", 100)
+        .addMaxConcurrentRequests("statuses.FINDER-public_timeline", 10)
+        .addMaxQueuedRequests("statuses.*", 50)
+        .build());
+    Method method = StatusCollectionResource.class.getMethod("getPublicTimeline", PagingContext.class);
+    ResourceModel model = RestLiTestHelper.buildResourceModel(StatusCollectionResource.class);
+    ResourceMethodDescriptor methodDescriptor = ResourceMethodDescriptor.createForFinder(
+            method,
+            Collections.emptyList(),
+            "public_timeline",
+            null,
+            ResourceMethodDescriptor.InterfaceType.SYNC,
+            null);
+    model.addResourceMethodDescriptor(methodDescriptor);
+    ResourceMethodConfig rmc = provider.apply(methodDescriptor);
+    assertEquals(rmc.getMaxConcurrentRequests().getValue(), Integer.valueOf(10));
+    assertEquals(rmc.getMaxQueuedRequests().getValue(), Integer.valueOf(50));
+  }
 }
@@ -17,10 +17,12 @@
 package com.linkedin.restli.server.multiplexer;
 
 import com.google.common.collect.ImmutableMap;
+import com.linkedin.common.callback.Callback;
 import com.linkedin.common.callback.FutureCallback;
 import com.linkedin.data.ByteString;
 import com.linkedin.data.DataMap;
 import com.linkedin.data.codec.JacksonDataCodec;
+import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.data.template.StringMap;
 import com.linkedin.parseq.Engine;
 import com.linkedin.parseq.EngineBuilder;
@@ -45,6 +47,8 @@ import com.linkedin.restli.common.multiplexer.MultiplexedResponseContent;
 import com.linkedin.restli.internal.common.CookieUtil;
 import com.linkedin.restli.internal.common.DataMapConverter;
 import com.linkedin.restli.internal.server.response.ErrorResponseBuilder;
+import com.linkedin.restli.internal.server.response.RestLiResponse;
+import com.linkedin.restli.internal.server.response.RestLiResponseException;
 import com.linkedin.restli.server.RestLiServiceException;
 import java.io.IOException;
 import java.net.HttpCookie;
@@ -94,6 +98,8 @@ public class TestMultiplexedRequestHandlerImpl
 
   private static final String FOO_URL = "/foo";
   private static final String BAR_URL = "/bar";
+  private static final String ERROR_URL = "/error";
+  private static final String FAILING_ENTITY_URL = "/failingEntity";
 
   private static final IndividualBody FOO_JSON_BODY = fakeIndividualBody("foo");
   private static final IndividualBody BAR_JSON_BODY = fakeIndividualBody("bar");
@@ -803,6 +809,119 @@ public class TestMultiplexedRequestHandlerImpl
     verify(mockHandler);
   }
 
+  @Test(dataProvider = "multiplexerConfigurations")
+  public void testHandleRequestInProcess(MultiplexerRunMode multiplexerRunMode) throws Exception
+  {
+    SynchronousRequestHandler mockHandler = createMockHandler();
+    FakeInProcessRequestHandler inProcessHandler = new FakeInProcessRequestHandler();
+    MultiplexedRequestHandlerImpl multiplexer = createInProcessMultiplexer(mockHandler, inProcessHandler, multiplexerRunMode);
+    RequestContext requestContext = new RequestContext();
+
+    IndividualRequest individualRequest = fakeIndRequest(FOO_URL);
+    individualRequest.setMethod(HttpMethod.POST.name());
+    individualRequest.setBody(BAR_JSON_BODY);
+    RestRequest request = fakeMuxRestRequest(ImmutableMap.of("0", individualRequest));
+
+    // the request handler must not be called for requests handled in process
+    replay(mockHandler);
+
+    FutureCallback<RestResponse> callback = new FutureCallback<>();
+
+    multiplexer.handleRequest(request, requestContext, callback);
+
+    RestResponse muxRestResponse = callback.get();
+    RestResponse expectedMuxRestResponse = fakeMuxRestResponse(ImmutableMap.of(0, inProcessIndResponse(HttpStatus.S_200_OK, FOO_JSON_BODY)));
+
+    assertEquals(muxRestResponse, expectedMuxRestResponse);
+    assertEquals(inProcessHandler._requests.size(), 1);
+    assertTrue(inProcessHandler._requests.get(0).getEntity().isEmpty());
+    assertEquals(inProcessHandler._entities.get(0), BAR_JSON_BODY.data());
+
+    verify(mockHandler);
+  }
+
+  @Test(dataProvider = "multiplexerConfigurations")
+  public void testHandleRequestInProcessFallsBackToRequestHandler(MultiplexerRunMode multiplexerRunMode) throws Exception
+  {
+    SynchronousRequestHandler mockHandler = createMockHandler();
+    FakeInProcessRequestHandler inProcessHandler = new FakeInProcessRequestHandler();
+    MultiplexedRequestHandlerImpl multiplexer = createInProcessMultiplexer(mockHandler, inProcessHandler, multiplexerRunMode);
+    RequestContext requestContext = new RequestContext();
+
+    RestRequest request = fakeMuxRestRequest(ImmutableMap.of("0", fakeIndRequest(FOO_URL), "1", fakeIndRequest(BAR_URL)));
+
+    // set expectations
+    expect(mockHandler.handleRequestSync(fakeIndRestRequest(BAR_URL), requestContext)).andReturn(fakeIndRestResponse(BAR_ENTITY));
+
+    // switch into replay mode
+    replay(mockHandler);
+
+    FutureCallback<RestResponse> callback = new FutureCallback<>();
+
+    multiplexer.handleRequest(request, requestContext, callback);
+
+    RestResponse muxRestResponse = callback.get();
+    RestResponse expectedMuxRestResponse = fakeMuxRestResponse(ImmutableMap.of(
+        0, inProcessIndResponse(HttpStatus.S_200_OK, FOO_JSON_BODY),
+        1, fakeIndResponse(BAR_JSON_BODY)));
+
+    assertEquals(muxRestResponse, expectedMuxRestResponse);
+    assertEquals(inProcessHandler._requests.size(), 1);
+    assertNull(inProcessHandler._entities.get(0));
+
+    verify(mockHandler);
+  }
+
+  @Test(dataProvider = "multiplexerConfigurations")
+  public void testHandleRequestInProcessError(MultiplexerRunMode multiplexerRunMode) throws Exception
+  {
+    SynchronousRequestHandler mockHandler = createMockHandler();
+    MultiplexedRequestHandlerImpl multiplexer = createInProcessMultiplexer(mockHandler, new FakeInProcessRequestHandler(), multiplexerRunMode);
+    RequestContext requestContext = new RequestContext();
+
+    RestRequest request = fakeMuxRestRequest(ImmutableMap.of("0", fakeIndRequest(FOO_URL), "1", fakeIndRequest(ERROR_URL)));
+
+    replay(mockHandler);
+
+    FutureCallback<RestResponse> callback = new FutureCallback<>();
+
+    multiplexer.handleRequest(request, requestContext, callback);
+
+    RestResponse muxRestResponse = callback.get();
+    RestResponse expectedMuxRestResponse = fakeMuxRestResponse(ImmutableMap.of(
+        0, inProcessIndResponse(HttpStatus.S_200_OK, FOO_JSON_BODY),
+        1, inProcessIndResponse(HttpStatus.S_404_NOT_FOUND, BAR_JSON_BODY)));
+
+    assertEquals(muxRestResponse, expectedMuxRestResponse);
+
+    verify(mockHandler);
+  }
+
+  @Test(dataProvider = "multiplexerConfigurations")
+  public void testHandleRequestInProcessEntityFailure(MultiplexerRunMode multiplexerRunMode) throws Exception
+  {
+    SynchronousRequestHandler mockHandler = createMockHandler();
+    MultiplexedRequestHandlerImpl multiplexer = createInProcessMultiplexer(mockHandler, new FakeInProcessRequestHandler(), multiplexerRunMode);
+    RequestContext requestContext = new RequestContext();
+
+    RestRequest request = fakeMuxRestRequest(ImmutableMap.of("0", fakeIndRequest(FOO_URL), "1", fakeIndRequest(FAILING_ENTITY_URL)));
+
+    replay(mockHandler);
+
+    FutureCallback<RestResponse> callback = new FutureCallback<>();
+
+    multiplexer.handleRequest(request, requestContext, callback);
+
+    RestResponse muxRestResponse = callback.get();
+    RestResponse expectedMuxRestResponse = fakeMuxRestResponse(ImmutableMap.of(
+        0, inProcessIndResponse(HttpStatus.S_200_OK, FOO_JSON_BODY),
+        1, errorIndResponse()));
+
+    assertEquals(muxRestResponse, expectedMuxRestResponse);
+
+    verify(mockHandler);
+  }
+
   private static RestRequestBuilder muxRequestBuilder() throws URISyntaxException
   {
     return new RestRequestBuilder(new URI("/mux"));
@@ -853,6 +972,19 @@ public class TestMultiplexedRequestHandlerImpl
         multiplexerRunMode, new ErrorResponseBuilder());
   }
 
+  private static MultiplexedRequestHandlerImpl createInProcessMultiplexer(RestRequestHandler requestHandler,
+                                                                          InProcessRequestHandler inProcessRequestHandler,
+                                                                          MultiplexerRunMode multiplexerRunMode)
+  {
+    Engine engine = new EngineBuilder()
+      .setTaskExecutor(Executors.newFixedThreadPool(1))
+      .setTimerScheduler(Executors.newSingleThreadScheduledExecutor())
+      .build();
+
+    return new MultiplexedRequestHandlerImpl(requestHandler, engine, MAXIMUM_REQUESTS_NUMBER, Collections.<String>emptySet(), null,
+        multiplexerRunMode, new ErrorResponseBuilder(), inProcessRequestHandler);
+  }
+
   private static MultiplexedRequestHandlerImpl createMultiplexer(RestRequestHandler requestHandler, MultiplexerRunMode multiplexerRunMode)
   {
     return createMultiplexer(requestHandler, null, multiplexerRunMode);
@@ -891,6 +1023,16 @@ public class TestMultiplexedRequestHandlerImpl
     return individualResponse;
   }
 
+  private static IndividualResponse inProcessIndResponse(HttpStatus status, IndividualBody entity)
+  {
+    IndividualResponse individualResponse = new IndividualResponse();
+    individualResponse.setStatus(status.getCode());
+    individualResponse.setHeaders(new StringMap(Collections.singletonMap(RestConstants.HEADER_CONTENT_TYPE,
+        RestConstants.HEADER_VALUE_APPLICATION_JSON)));
+    individualResponse.setBody(entity);
+    return individualResponse;
+  }
+
   private static IndividualResponse errorIndResponse()
   {
     IndividualResponse individualResponse = new IndividualResponse();
@@ -962,4 +1104,56 @@ public class TestMultiplexedRequestHandlerImpl
       throw new RuntimeException(e);
     }
   }
+
+  /**
+   * Responds to requests to {@link #FOO_URL} with {@link #FOO_JSON_BODY} and fails requests to {@link #ERROR_URL} with
+   * {@link #BAR_JSON_BODY}. Requests to {@link #FAILING_ENTITY_URL} succeed with an entity that fails when read. Any
+   * other request is left to the {@link RestRequestHandler}.
+   */
+  private static class FakeInProcessRequestHandler implements InProcessRequestHandler
+  {
+    private final List<RestRequest> _requests = Collections.synchronizedList(new ArrayList<>());
+    private final List<DataMap> _entities = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public boolean shouldHandleInProcess(RestRequest request)
+    {
+      return !BAR_URL.equals(request.getURI().getPath());
+    }
+
+    @Override
+    public void handleRequestInProcess(RestRequest request, DataMap entity, RequestContext requestContext,
+        Callback<RestLiResponse> callback)
+    {
+      _requests.add(request);
+      _entities.add(entity);
+      Map<String, String> headers = Collections.singletonMap(RestConstants.HEADER_CONTENT_TYPE,
+          RestConstants.HEADER_VALUE_APPLICATION_JSON);
+      if (ERROR_URL.equals(request.getURI().getPath()))
+      {
+        RestLiResponse response = new RestLiResponse.Builder()
+            .status(HttpStatus.S_404_NOT_FOUND)
+            .entity(BAR_JSON_BODY)
+            .headers(headers)
+            .build();
+        callback.onError(new RestLiResponseException(new RuntimeException(), response));
+      }
+      else if (FAILING_ENTITY_URL.equals(request.getURI().getPath()))
+      {
+        RecordTemplate entity = new RecordTemplate(null, null)
+        {
+          @Override
+          public DataMap data()
+          {
+            throw new IllegalStateException();
+          }
+        };
+        callback.onSuccess(new RestLiResponse.Builder().entity(entity).headers(headers).build());
+      }
+      else
+      {
+        callback.onSuccess(new RestLiResponse.Builder().entity(FOO_JSON_BODY).headers(headers).build());
+      }
+    }
+  }
 }
@@ -28,6 +28,7 @@ import com.linkedin.restli.common.ProtocolVersion;
 import com.linkedin.restli.common.ResourceMethod;
 import com.linkedin.restli.common.RestConstants;
 import com.linkedin.restli.common.UpdateEntityStatus;
+import com.linkedin.restli.common.validation.RestLiDataValidator;
 import com.linkedin.restli.internal.common.AllProtocolVersions;
 import com.linkedin.restli.internal.server.filter.FilterResourceModelImpl;
 import com.linkedin.restli.internal.server.model.ResourceModel;
@@ -117,6 +118,23 @@ public class TestRestLiValidationFilter
     when(filterRequestContext.isReturnEntityMethod()).thenReturn(false);
   }
 
+  @Test
+  public void testRequestValidatorIsSharedByResourceMethod()
+  {
+    RestLiValidationFilter validationFilter = new RestLiValidationFilter();
+
+    when(filterRequestContext.getMethodType()).thenReturn(CREATE);
+    RestLiDataValidator createValidator = validationFilter.createRequestRestLiDataValidator(filterRequestContext);
+    Assert.assertSame(validationFilter.createRequestRestLiDataValidator(filterRequestContext), createValidator);
+
+    when(filterRequestContext.getMethodType()).thenReturn(UPDATE);
+    Assert.assertNotSame(validationFilter.createRequestRestLiDataValidator(filterRequestContext), createValidator);
+
+    when(filterRequestContext.getMethodType()).thenReturn(CREATE);
+    when(filterRequestContext.getFilterResourceModel()).thenReturn(new FilterResourceModelImpl(RestLiAnnotationReader.processResource(SimpleResource.class)));
+    Assert.assertNotSame(validationFilter.createRequestRestLiDataValidator(filterRequestContext), createValidator);
+  }
+
   /**
    * Ensures that the validation filter safely and correctly reacts to projections given a variety of resource types,
    * resource methods, and projection masks. This was motivated by a bug that caused an NPE in the validation filter
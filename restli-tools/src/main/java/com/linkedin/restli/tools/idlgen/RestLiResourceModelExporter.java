@@ -22,6 +22,7 @@ import com.linkedin.restli.internal.server.model.ResourceModel;
 import com.linkedin.restli.internal.server.model.ResourceModelEncoder;
 import com.linkedin.restli.internal.server.model.ResourceModelEncoder.DocsProvider;
 import com.linkedin.restli.internal.server.model.RestLiApiBuilder;
+import com.linkedin.restli.internal.server.model.RestLiResourceIndex;
 import com.linkedin.restli.restspec.ResourceSchema;
 import com.linkedin.restli.restspec.RestSpecCodec;
 import com.linkedin.restli.server.RestLiConfig;
@@ -29,9 +30,11 @@ import com.linkedin.restli.server.util.FileClassNameScanner;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -124,6 +127,36 @@ public class RestLiResourceModelExporter
                                 String outdir,
                                 List<DocsProvider> additionalDocProviders)
       throws IOException
+  {
+    return export(apiName, classpath, sourcePaths, resourcePackages, resourceClasses, outdir, additionalDocProviders, null);
+  }
+
+  /**
+   * @param apiName the name of the API
+   * @param classpath classpath to load the resources. this is purely for Javadoc Doclet {@link RestLiDoclet}
+   * @param sourcePaths paths to scan for resource Java source files. this is purely for Javadoc Doclet {@link RestLiDoclet}
+   *                    if both resourcePackages and resourceClasses is null, all classes defined in the directories will be scanned
+   * @param resourcePackages packages to scan for resources
+   * @param resourceClasses specific classes as resources
+   * @param outdir directory in which to output the IDL files
+   * @param additionalDocProviders names of additional classes in the classpath that implement DocsProvider, if empty,
+   *                      only javadoc will be supported.
+   * @param resourceIndexDir directory in which to output the resource index listing the exported resource classes,
+   *                         see {@link RestLiResourceIndex}. If null, no index is written.
+   * @return a result that includes collection of files generated and modified. Note: getSourceFiles() on the result
+   * will always return an empty List as the code generation operates on classpaths and the ClassLoader and not files.
+   * @throws IOException could be {@link java.io.FileNotFoundException} if unable to write the output file,
+   *                     otherwise, {@link IOException} if failure happened when writing the output file
+   */
+  public GeneratorResult export(String apiName,
+                                String[] classpath,
+                                String[] sourcePaths,
+                                String[] resourcePackages,
+                                String[] resourceClasses,
+                                String outdir,
+                                List<DocsProvider> additionalDocProviders,
+                                String resourceIndexDir)
+      throws IOException
   {
     final RestLiConfig config = new RestLiConfig();
     if (resourcePackages != null)
@@ -193,6 +226,12 @@ public class RestLiResourceModelExporter
 
     final GeneratorResult result = generateIDLFiles(apiName, outdir, rootResourceMap, docsProvider);
 
+    if (resourceIndexDir != null)
+    {
+      log.debug("Writing resource index...");
+      writeResourceIndex(resourceIndexDir, rootResourceMap);
+    }
+
     log.debug("Done!");
 
     return result;
@@ -282,6 +321,22 @@ public class RestLiResourceModelExporter
     return result;
   }
 
+  private static void writeResourceIndex(String resourceIndexDir, Map<String, ResourceModel> rootResourceMap)
+      throws IOException
+  {
+    final List<String> classNames = new ArrayList<>();
+    final Deque<ResourceModel> models = new ArrayDeque<>(rootResourceMap.values());
+    while (!models.isEmpty())
+    {
+      final ResourceModel model = models.pop();
+      classNames.add(model.getResourceClass().getName());
+      models.addAll(model.getSubResources());
+    }
+
+    final File indexFile = RestLiResourceIndex.write(new File(resourceIndexDir), classNames);
+    log.debug("Wrote resource index '" + indexFile + '\'');
+  }
+
   class Result implements GeneratorResult
   {
     private List<File> targetFiles = new ArrayList<>();
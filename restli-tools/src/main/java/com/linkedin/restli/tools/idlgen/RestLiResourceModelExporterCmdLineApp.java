@@ -56,6 +56,8 @@ public class RestLiResourceModelExporterCmdLineApp
                           .withDescription("Name of the API").create("name"));
     OPTIONS.addOption(OptionBuilder.withArgName("outdir").hasArg()
                           .withDescription("Directory in which to output the generated IDL files (default=current working dir)").create("outdir"));
+    OPTIONS.addOption(OptionBuilder.withArgName("resourceindexdir").hasArg()
+                          .withDescription("Directory in which to output the resource index listing the exported resource classes").create("resourceindexdir"));
     OPTIONS.addOption(OptionBuilder.withArgName("loadAdditionalDocProviders")
                           .withDescription("Will load any additional DocProviders if available on the classpath.")
                           .create("loadAdditionalDocProviders"));
@@ -77,7 +79,7 @@ public class RestLiResourceModelExporterCmdLineApp
   }
 
   /**
-   * @param args restliexporter -sourcepath sourcepath -resourcepackages packagenames [-name api_name] [-outdir outdir]
+   * @param args restliexporter -sourcepath sourcepath -resourcepackages packagenames [-name api_name] [-outdir outdir] [-resourceindexdir resourceindexdir]
    */
   public static void main(String[] args)
   {
@@ -99,7 +101,7 @@ public class RestLiResourceModelExporterCmdLineApp
       System.err.println("Invalid arguments: " + e.getMessage());
       final HelpFormatter formatter = new HelpFormatter();
       formatter.printHelp("restliexporter -sourcepath sourcepath [-resourcepackages packagenames] [-resourceclasses classnames]" +
-                              "[-name api_name] [-outdir outdir]", OPTIONS);
+                              "[-name api_name] [-outdir outdir] [-resourceindexdir resourceindexdir]", OPTIONS);
       System.exit(0);
     }
 
@@ -111,7 +113,8 @@ public class RestLiResourceModelExporterCmdLineApp
                                                cl.getOptionValues("resourcepackages"),
                                                cl.getOptionValues("resourceclasses"),
                                                cl.getOptionValue("outdir", "."),
-                                               AdditionalDocProvidersUtil.findDocProviders(log, cl.hasOption("loadAdditionalDocProviders")));
+                                               AdditionalDocProvidersUtil.findDocProviders(log, cl.hasOption("loadAdditionalDocProviders")),
+                                               cl.getOptionValue("resourceindexdir"));
     }
     catch (Throwable e)
     {